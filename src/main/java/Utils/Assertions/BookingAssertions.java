@@ -1,16 +1,87 @@
 package Utils.Assertions;
 
-import io.restassured.response.Response;
+import Utils.Loader.ValidationRulesLoader;
+import Utils.Model.*;
+import Utils.Response.OfferFingerprint;
+import Utils.Response.ResponseView;
 import org.testng.asserts.SoftAssert;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.*;
 import static Utils.Assertions.FareConfirmAssertions.validateRbdMatchesSelectedOffer;
-import static Utils.Helper.HelperGeneralMethods.*;
-import static Utils.Helper.HelperPassengerBreakdown.*;
+import static Utils.Helper.HelperCurrencyValidator.validateCurrencies;
+import static Utils.Helper.HelperOfferFingerprint.comparePricing;
+import static Utils.Helper.HelperOfferFingerprint.fingerprintOf;
+import static Utils.Helper.HelperPriceValidator.sumTaxFees;
 
 public class BookingAssertions {
 
+    /**
+     * The Book checks: lightest profile running each one and the response fields it reads as Maps. Checks on the
+     * typed order read the section bound for the order fingerprint ({@link OfferFingerprint#project}).
+     */
+    enum Check implements ProfiledChecks.Spec {
+        NOT_NULL_FIELDS(ValidationProfile.SMOKE, "ndcBookingReference", "airlinePnr", "journeys"),
+        JOURNEY_AND_SEGMENT_MATCH(ValidationProfile.STANDARD),
+        PASSENGER_DETAILS(ValidationProfile.DEEP, "passengers"),
+        PASSENGER_TOTAL_AMOUNT(ValidationProfile.STANDARD), // bound order
+        PASSENGER_TAXES(ValidationProfile.STANDARD), // bound order
+        TOTAL_AMOUNT(ValidationProfile.SMOKE), // bound order
+        TAXES_AMOUNT_SUM(ValidationProfile.STANDARD), // bound order
+        STRUCTURE_MATCH(ValidationProfile.DEEP, "segments"), // and the bound order
+        BREAKDOWN_AGAINST_FARE_CONFIRM(ValidationProfile.SMOKE),
+        RBD(ValidationProfile.STANDARD),
+        CURRENCIES(ValidationProfile.SMOKE, "order"),
+        RULES(ValidationProfile.STANDARD); // paths of the agency's rules, see reads(Map)
+
+        private final ValidationProfile tier;
+        private final List<String> reads;
+
+        Check(ValidationProfile tier, String... reads) {
+            this.tier = tier;
+            this.reads = List.of(reads);
+        }
+
+        @Override
+        public ValidationProfile tier() {
+            return tier;
+        }
+
+        @Override
+        public List<String> reads() {
+            return reads;
+        }
+    }
+
+    /**
+     * Response fields the Book checks of the current profile read, fingerprint excluded.
+     *
+     * @param selectedOfferFromSearch Flow context (agency name for the rules)
+     */
+    public static List<String> reads(Map<String, Object> selectedOfferFromSearch) {
+        ValidationProfile profile = ValidationProfile.current();
+        List<String> reads = ProfiledChecks.reads(Check.values(), profile);
+        if (profile.includes(Check.RULES.tier())) reads.addAll(rules(selectedOfferFromSearch).reads());
+        return reads;
+    }
+
+    /**
+     * Whether the current profile compares the journeys/segments/baggageDetails hashes of the FareConfirm
+     * fingerprint (TC.2), so FareConfirm only reads and hashes those sections when they are compared.
+     */
+    static boolean comparesFareConfirmSections() {
+        return ValidationProfile.current().includes(Check.JOURNEY_AND_SEGMENT_MATCH.tier());
+    }
+
+    /**
+     * Whether the current profile compares the passenger type codes of the FareConfirm fingerprint (TC.3).
+     */
+    static boolean comparesFareConfirmPassengers() {
+        return ValidationProfile.current().includes(Check.PASSENGER_DETAILS.tier());
+    }
+
+    private static ResponseRules rules(Map<String, Object> selectedOfferFromSearch) {
+        return ValidationRulesLoader.forStage("book", (String) selectedOfferFromSearch.get("agencyName"));
+    }
+
     /**
      * Master validation method for booking API responses.
      * Runs a series of checks to ensure:
@@ -22,45 +93,64 @@ public class BookingAssertions {
      *  - Structure integrity (valid segmentReferenceIds)
      *  - Price breakdown matches FareConfirm
      *  - RBD and currencies are correct
+     *  - The declarative "book" rules of the agency hold ({@link ValidationRulesLoader})
+     * FareConfirm values are read from the {@link OfferFingerprint} the FareConfirm step stored in the flow context.
+     * Which checks run depends on the {@link ValidationProfile} (deep, the default, runs all of them).
+     *
+     * @param BookResponse            Parsed Book response
+     * @param bookFingerprint         Fingerprint of the Book order
+     * @param selectedOfferFromSearch Flow context (FareConfirm fingerprint, agency currency and name)
+     * @param softAssert              SoftAssert collecting the failures
      */
-    public static void validateBookingResponse(Response BookResponse, Map<String, Object> bookResponse,
-                                               Map<String, Object> fareConfirmResponse
-                                               , Map<String, Object> selectedOfferFromSearch,
+    public static void validateBookingResponse(ResponseView BookResponse,
+                                               OfferFingerprint bookFingerprint,
+                                               Map<String, Object> selectedOfferFromSearch,
                                                SoftAssert softAssert) {
         System.out.println("==================== 🧾 VALIDATING BOOKING RESPONSE ====================\n");
 
-        // Check that key fields exist
-        validateNotNullFields(bookResponse, softAssert);
+        // Parsed once (fields of the enabled checks only, see reads(Map)), shared by every check below
+        Map<String, Object> bookResponse = BookResponse.root();
+        Offer order = BookResponse.offer("order");
+        OfferFingerprint fareConfirmFingerprint = fingerprintOf(selectedOfferFromSearch);
+
+        // Checks of the current validation profile; independent of each other, run in parallel with -Dndc.parallelChecks=true
+        ProfiledChecks.forStage("Book")
+                // Check that key fields exist
+                .add(Check.NOT_NULL_FIELDS, sa -> validateNotNullFields(bookResponse, sa))
 
-        // Compare journeys, segments, and baggage info with fareConfirm
-        validateJourneyAndSegmentMatch(bookResponse, fareConfirmResponse, softAssert);
+                // Compare journeys, segments, and baggage info with fareConfirm
+                .add(Check.JOURNEY_AND_SEGMENT_MATCH, sa -> validateJourneyAndSegmentMatch(bookFingerprint, fareConfirmFingerprint, sa))
 
-        // Ensure passenger type codes match AddPax payload
-        validatePassengerDetails(bookResponse,fareConfirmResponse, softAssert); // replace fareConfirmResponse
+                // Ensure passenger type codes match AddPax payload
+                .add(Check.PASSENGER_DETAILS, sa -> validatePassengerDetails(bookResponse, fareConfirmFingerprint, sa))
 
-        // Validate per-passenger fare totals
-        validatePassengerTotalAmount(bookResponse, softAssert);
+                // Validate per-passenger fare totals
+                .add(Check.PASSENGER_TOTAL_AMOUNT, sa -> validatePassengerTotalAmount(order, sa))
 
-        // Validate per-passenger taxes total
-        validatePassengerTaxes(bookResponse, softAssert);
+                // Validate per-passenger taxes total
+                .add(Check.PASSENGER_TAXES, sa -> validatePassengerTaxes(order, sa))
 
-        // Validate total price calculation at priceDetails level
-        validateTotalAmountInPriceDetails(bookResponse, softAssert);
+                // Validate total price calculation at priceDetails level
+                .add(Check.TOTAL_AMOUNT, sa -> validateTotalAmountInPriceDetails(order, sa))
 
-        // Validate that taxesAmount equals sum of all taxesAndFees
-        validateTaxesAmountSum(bookResponse, softAssert);
+                // Validate that taxesAmount equals sum of all taxesAndFees
+                .add(Check.TAXES_AMOUNT_SUM, sa -> validateTaxesAmountSum(order, sa))
 
-        // Ensure breakdown segment references exist in segments
-        validateStructureMatchAgainstFareConfirm(bookResponse, softAssert);
+                // Ensure breakdown segment references exist in segments
+                .add(Check.STRUCTURE_MATCH, sa -> validateStructureMatchAgainstFareConfirm(bookResponse, order, sa))
 
-        // Compare price details & passenger breakdown with fareConfirm
-        validateBreakdownAgainstFareConfirm(bookResponse, fareConfirmResponse, softAssert);
+                // Compare price details & passenger breakdown with fareConfirm
+                .add(Check.BREAKDOWN_AGAINST_FARE_CONFIRM, sa -> validateBreakdownAgainstFareConfirm(bookFingerprint, fareConfirmFingerprint, sa))
 
-        // Validate that RBD codes match the originally selected offer
-        validateRbdMatchesSelectedOffer(BookResponse, selectedOfferFromSearch, softAssert);
+                // Validate that RBD codes match the confirmed offer
+                .add(Check.RBD, sa -> validateRbdMatchesSelectedOffer(bookFingerprint, fareConfirmFingerprint, sa))
 
-        // Validate currency consistency in price details
-        //validateCurrencies(BookResponse, "order", softAssert);
+                // Validate currency consistency of every amount in the order
+                .add(Check.CURRENCIES, sa -> validateCurrencies(BookResponse, (String) selectedOfferFromSearch.get("agencyCurrency"), "order", sa))
+
+                // Declarative "book" rules of the agency (validation/rules.json)
+                .add(Check.RULES, sa -> rules(selectedOfferFromSearch).run(BookResponse, sa))
+                .runAll(softAssert);
 
         System.out.println("\n==================== ✅ BOOKING VALIDATION COMPLETE ====================\n");
     }
@@ -82,78 +172,77 @@ public class BookingAssertions {
             Map<String, Object> journey = (Map<String, Object>) journeyEntry.getValue();
             List<String> segmentIds = (List<String>) journey.get("segmentReferenceIds");
             System.out.println("Journey: " + journeyEntry.getKey() + ", segmentReferenceIds: " + segmentIds);
-            softAssert.assertNotNull(segmentIds, "❌ segmentReferenceIds is null in journey: " + journeyEntry.getKey());
+            LazyAssert.assertNotNull(segmentIds, () -> "❌ segmentReferenceIds is null in journey: " + journeyEntry.getKey(), softAssert);
         }
     }
 
     /**
-     * Compares booking journeys, segments, and baggageDetails with fareConfirm data.
-     * Removes bundleReferenceIds before comparison to avoid irrelevant mismatches.
+     * Compares booking journeys, segments, and baggageDetails with fareConfirm data,
+     * by their structural hashes in the fingerprints (journeys without bundleReferenceIds).
      */
-    private static void validateJourneyAndSegmentMatch(Map<String, Object> bookResponse, Map<String, Object> fareConfirmResponse, SoftAssert softAssert) {
+    private static void validateJourneyAndSegmentMatch(OfferFingerprint bookFingerprint, OfferFingerprint fareConfirmFingerprint, SoftAssert softAssert) {
         System.out.println("📦TC.2: [VALIDATION] Compare journeys, segments, and baggageDetails with fareConfirm...");
 
-        if (fareConfirmResponse == null) {
+        if (fareConfirmFingerprint == null || bookFingerprint == null) {
             System.out.println("⚠️ FareConfirm response not provided. Skipping comparison.");
             return;
         }
 
-        // Clean out bundleReferenceIds for fair comparison
-        Map<String, Object> cleanedBookJourneys = removeBundleReferenceIds((Map<String, Object>) bookResponse.get("journeys"));
-        Map<String, Object> cleanedFareJourneys = removeBundleReferenceIds((Map<String, Object>) fareConfirmResponse.get("journeys"));
-
         // Compare journeys ignoring bundles
-        softAssert.assertEquals(cleanedBookJourneys, cleanedFareJourneys, "❌ Journeys mismatch (ignoring bundleReferenceIds)");
+        softAssert.assertEquals(bookFingerprint.journeysHash(), fareConfirmFingerprint.journeysHash(), "❌ Journeys mismatch (ignoring bundleReferenceIds)");
 
         // Compare entire segments object
-        softAssert.assertEquals(bookResponse.get("segments"), fareConfirmResponse.get("segments"), "❌ Segments mismatch with fareConfirm");
+        softAssert.assertEquals(bookFingerprint.segmentsHash(), fareConfirmFingerprint.segmentsHash(), "❌ Segments mismatch with fareConfirm");
 
         // Compare baggage details structure & values
-        assertJsonEquals(bookResponse.get("baggageDetails"), fareConfirmResponse.get("baggageDetails"), softAssert);
-
+        softAssert.assertEquals(bookFingerprint.baggageDetailsHash(), fareConfirmFingerprint.baggageDetailsHash(), "❌ Baggage details mismatch with fareConfirm");
     }
 
     /**
-     * Validates passenger info from booking matches the AddPax payload.
+     * Validates passenger info from booking matches the passengers recorded in the FareConfirm fingerprint.
      */
-    private static void validatePassengerDetails(Map<String, Object> bookResponse, Map<String, Object> addPaxPayload, SoftAssert softAssert) {
+    private static void validatePassengerDetails(Map<String, Object> bookResponse, OfferFingerprint fareConfirmFingerprint, SoftAssert softAssert) {
         System.out.println("👤TC.3: [VALIDATION] Validate passengers match AddPax payload...");
 
         Map<String, Object> bookingPassengers = (Map<String, Object>) bookResponse.get("passengers");
-        Map<String, Object> sentPassengers = (Map<String, Object>) addPaxPayload.get("Passengers");
+        Map<String, String> sentPassengers = fareConfirmFingerprint != null ? fareConfirmFingerprint.passengerTypeCodes() : Map.of();
 
-        // Compare passenger keys and type codes
-        for (String key : sentPassengers.keySet()) {
-            Map<String, Object> sent = (Map<String, Object>) sentPassengers.get(key);
-            Map<String, Object> booked = (Map<String, Object>) bookingPassengers.get(key);
+        if (sentPassengers.isEmpty()) {
+            System.out.println("⚠️ No passengers recorded for FareConfirm. Skipping comparison.");
+            return;
+        }
 
-            softAssert.assertTrue(bookingPassengers.containsKey(key), "❌ Booking passengers missing key: " + key);
-            softAssert.assertEquals(booked.get("passengerTypeCode"), sent.get("PassengerTypeCode"),
-                    "❌ Mismatch in passengerTypeCode for key: " + key);
+        // Compare passenger keys and type codes
+        for (Map.Entry<String, String> sent : sentPassengers.entrySet()) {
+            String key = sent.getKey();
+            Map<String, Object> booked = bookingPassengers != null ? (Map<String, Object>) bookingPassengers.get(key) : null;
+
+            LazyAssert.assertTrue(booked != null, () -> "❌ Booking passengers missing key: " + key, softAssert);
+            if (booked != null) {
+                LazyAssert.assertEquals(booked.get("passengerTypeCode"), sent.getValue(),
+                        () -> "❌ Mismatch in passengerTypeCode for key: " + key, softAssert);
+            }
         }
     }
 
     /**
      * Checks that passengerTotalAmount = base + taxes - discount + service charge for each passenger.
      */
-    private static void validatePassengerTotalAmount(Map<String, Object> bookResponse, SoftAssert softAssert) {
+    private static void validatePassengerTotalAmount(Offer order, SoftAssert softAssert) {
         System.out.println("💰 TC.4: [VALIDATION] Validate passengerTotalAmount = base + tax - discount + service...");
 
-        List<Map<String, Object>> breakdown =
-                (List<Map<String, Object>>)((Map<String, Object>) bookResponse.get("order")).get("passengerFareBreakdown");
+        for (PassengerFareBreakdown pax : order.passengerFareBreakdown()) {
+            String paxType = pax.passengerTypeCode();
 
-        for (Map<String, Object> pax : breakdown) {
-            String paxType = (String) pax.get("passengerTypeCode");
-
-            // Extract amounts as BigDecimal for accurate math
-            BigDecimal base = new BigDecimal(((Map<String, Object>) pax.get("passengerBaseAmount")).get("amount").toString());
-            BigDecimal tax = new BigDecimal(((Map<String, Object>) pax.get("passengerTaxesAmount")).get("amount").toString());
-            BigDecimal discount = new BigDecimal(((Map<String, Object>) pax.get("passengerDiscountAmount")).get("amount").toString());
-            BigDecimal service = new BigDecimal(((Map<String, Object>) pax.get("passengerServiceChargeAmount")).get("amount").toString());
+            // Extract amounts (exact decimal math)
+            Money base = pax.passengerBaseAmount().amount();
+            Money tax = pax.passengerTaxesAmount().amount();
+            Money discount = pax.passengerDiscountAmount().amount();
+            Money service = pax.passengerServiceChargeAmount().amount();
 
             // Expected total calculation
-            BigDecimal expected = base.add(tax).subtract(discount).add(service).setScale(2, RoundingMode.HALF_UP);
-            BigDecimal actual = new BigDecimal(((Map<String, Object>) pax.get("passengerTotalAmount")).get("amount").toString()).setScale(2, RoundingMode.HALF_UP);
+            Money expected = base.plus(tax).minus(discount).plus(service).roundTo(2);
+            Money actual = pax.passengerTotalAmount().amount().roundTo(2);
 
             if (actual.compareTo(expected) != 0) {
                 softAssert.fail(String.format("❌ Incorrect passengerTotalAmount for type %s expected [%s] but found [%s]", paxType, expected, actual));
@@ -164,41 +253,32 @@ public class BookingAssertions {
     /**
      * Validates passengerTaxesAmount equals the sum of all taxes and fees for each passenger.
      */
-    private static void validatePassengerTaxes(Map<String, Object> bookResponse, SoftAssert softAssert) {
+    private static void validatePassengerTaxes(Offer order, SoftAssert softAssert) {
         System.out.println("🧾TC.5: [VALIDATION] Validate passengerTaxesAmount = sum of taxesAndFees...");
 
-        List<Map<String, Object>> breakdown =
-                (List<Map<String, Object>>)((Map<String, Object>) bookResponse.get("order")).get("passengerFareBreakdown");
-
-        for (Map<String, Object> pax : breakdown) {
-            String paxType = (String) pax.get("passengerTypeCode");
-            List<Map<String, Object>> taxes = (List<Map<String, Object>>) pax.get("taxesAndFees");
+        for (PassengerFareBreakdown pax : order.passengerFareBreakdown()) {
+            String paxType = pax.passengerTypeCode();
 
             // Sum all tax amounts
-            BigDecimal sum = BigDecimal.ZERO;
-            for (Map<String, Object> fee : taxes) {
-                sum = sum.add(new BigDecimal(((Map<String, Object>) fee.get("amount")).get("amount").toString()));
-            }
+            Money sum = sumTaxFees(pax.taxesAndFees());
 
-            BigDecimal expected = new BigDecimal(((Map<String, Object>) pax.get("passengerTaxesAmount")).get("amount").toString());
-            softAssert.assertEquals(sum, expected, "❌ Incorrect passengerTaxesAmount for type " + paxType);
+            Money expected = pax.passengerTaxesAmount().amount();
+            LazyAssert.assertEquals(sum, expected, () -> "❌ Incorrect passengerTaxesAmount for type " + paxType, softAssert);
         }
     }
 
     /**
      * Ensures every segmentReferenceId in breakdown exists in the segments object.
      */
-    private static void validateStructureMatchAgainstFareConfirm(Map<String, Object> bookResponse, SoftAssert softAssert) {
+    private static void validateStructureMatchAgainstFareConfirm(Map<String, Object> bookResponse, Offer order, SoftAssert softAssert) {
         System.out.println("🧩TC.6: [VALIDATION] Ensure segmentReferenceIds in breakdown exist in segments...");
 
         Map<String, Object> segments = (Map<String, Object>) bookResponse.get("segments");
-        List<Map<String, Object>> breakdown =
-                (List<Map<String, Object>>)((Map<String, Object>) bookResponse.get("order")).get("passengerFareBreakdown");
 
-        for (Map<String, Object> pax : breakdown) {
-            for (Map<String, Object> seg : (List<Map<String, Object>>) pax.get("segmentDetails")) {
-                String id = (String) seg.get("segmentReferenceId");
-                softAssert.assertTrue(segments.containsKey(id), "❌ Missing segmentReferenceId: " + id);
+        for (PassengerFareBreakdown pax : order.passengerFareBreakdown()) {
+            for (SegmentDetail seg : pax.segmentDetails()) {
+                String id = seg.segmentRefId();
+                LazyAssert.assertTrue(segments.containsKey(id), () -> "❌ Missing segmentReferenceId: " + id, softAssert);
             }
         }
     }
@@ -206,18 +286,18 @@ public class BookingAssertions {
     /**
      * Validates that totalAmount in priceDetails = base + taxes - discount + service charge.
      */
-    private static void validateTotalAmountInPriceDetails(Map<String, Object> bookResponse, SoftAssert softAssert) {
+    private static void validateTotalAmountInPriceDetails(Offer order, SoftAssert softAssert) {
         System.out.println("💲TC.7 [VALIDATION] Validate totalAmount in priceDetails...");
 
-        Map<String, Object> price = (Map<String, Object>) ((Map<String, Object>) bookResponse.get("order")).get("priceDetails");
+        PriceDetails price = order.priceDetails();
 
-        BigDecimal base = new BigDecimal(((Map<String, Object>) price.get("baseAmount")).get("amount").toString());
-        BigDecimal tax = new BigDecimal(((Map<String, Object>) price.get("taxesAmount")).get("amount").toString());
-        BigDecimal discount = new BigDecimal(((Map<String, Object>) price.get("discountAmount")).get("amount").toString());
-        BigDecimal service = new BigDecimal(((Map<String, Object>) price.get("serviceChargeAmount")).get("amount").toString());
+        Money base = price.baseAmount().amount();
+        Money tax = price.taxesAmount().amount();
+        Money discount = price.discountAmount().amount();
+        Money service = price.serviceChargeAmount().amount();
 
-        BigDecimal expected = base.add(tax).subtract(discount).add(service);
-        BigDecimal actual = new BigDecimal(((Map<String, Object>) price.get("totalAmount")).get("amount").toString());
+        Money expected = base.plus(tax).minus(discount).plus(service);
+        Money actual = price.totalAmount().amount();
 
         softAssert.assertEquals(actual, expected, "❌ Incorrect totalAmount in priceDetails");
     }
@@ -225,44 +305,30 @@ public class BookingAssertions {
     /**
      * Validates that taxesAmount in priceDetails matches sum of all taxesAndFees.
      */
-    private static void validateTaxesAmountSum(Map<String, Object> bookResponse, SoftAssert softAssert) {
+    private static void validateTaxesAmountSum(Offer order, SoftAssert softAssert) {
         System.out.println("💼TC.8 [VALIDATION] Validate taxesAmount in priceDetails = sum of taxesAndFees...");
 
-        Map<String, Object> price = (Map<String, Object>) ((Map<String, Object>) bookResponse.get("order")).get("priceDetails");
-        List<Map<String, Object>> taxes = (List<Map<String, Object>>) price.get("taxesAndFees");
+        PriceDetails price = order.priceDetails();
 
-        BigDecimal sum = BigDecimal.ZERO;
-        for (Map<String, Object> fee : taxes) {
-            sum = sum.add(new BigDecimal(((Map<String, Object>) fee.get("amount")).get("amount").toString()));
-        }
+        Money sum = sumTaxFees(price.taxesAndFees());
 
-        BigDecimal expected = new BigDecimal(((Map<String, Object>) price.get("taxesAmount")).get("amount").toString()).setScale(2, RoundingMode.HALF_UP);
-        softAssert.assertEquals(sum.setScale(2, RoundingMode.HALF_UP), expected, "❌ Incorrect taxesAmount in priceDetails");
+        Money expected = price.taxesAmount().amount().roundTo(2);
+        softAssert.assertEquals(sum.roundTo(2), expected, "❌ Incorrect taxesAmount in priceDetails");
     }
 
     /**
-     * Compares booking breakdown against fareConfirm selected offer breakdown.
+     * Compares booking price totals and passenger breakdown against the fareConfirm fingerprint.
      */
-    private static void validateBreakdownAgainstFareConfirm(Map<String, Object> bookResponse, Map<String, Object> fareConfirmResponse, SoftAssert softAssert) {
+    private static void validateBreakdownAgainstFareConfirm(OfferFingerprint bookFingerprint,
+                                                            OfferFingerprint fareConfirmFingerprint, SoftAssert softAssert) {
         System.out.println("🔄TC.9: [VALIDATION] Comparing booking breakdown against fareConfirm breakdown...");
 
-        if (fareConfirmResponse == null) {
+        if (fareConfirmFingerprint == null || bookFingerprint == null) {
             System.out.println("⚠️ FareConfirm response not provided. Skipping final comparison.");
             return;
         }
 
-        Map<String, Object> orderFromBook = (Map<String, Object>) bookResponse.get("order");
-        Map<String, Object> bookPriceDetails = normalizePriceDetails((Map<String, Object>) orderFromBook.get("priceDetails"));
-        List<Map<String, Object>> bookBreakdown = (List<Map<String, Object>>) orderFromBook.get("passengerFareBreakdown");
-
-        List<Map<String, Object>> selectedOfferOptions = (List<Map<String, Object>>) fareConfirmResponse.get("selectedOfferOptions");
-        Map<String, Object> selectedOffer = selectedOfferOptions.get(0);
-        Map<String, Object> fareConfirmPriceDetails = normalizePriceDetails((Map<String, Object>) selectedOffer.get("priceDetails"));
-        List<Map<String, Object>> fareConfirmBreakdown = (List<Map<String, Object>>) selectedOffer.get("passengerFareBreakdown");
-
-        // Compare normalized price details
-        comparePriceDetails(bookPriceDetails, fareConfirmPriceDetails, softAssert);
-        // Compare passenger-level breakdown
-        comparePassengerBreakdown(bookBreakdown, fareConfirmBreakdown, softAssert);
+        // Compare price totals, then passenger-level amounts
+        comparePricing(fareConfirmFingerprint, bookFingerprint, softAssert);
     }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package Utils.Assertions;
+
+import org.testng.asserts.IAssert;
+import org.testng.asserts.SoftAssert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SoftAssert that also keeps its failures in the order they happened, so a check can record into
+ * its own instance and the failures can be replayed into the test's SoftAssert afterwards.
+ * Replayed failures keep their full message (including TestNG's "expected [..] but found [..]" part).
+ * <p>
+ * With a cap, only the first {@code maxFailures} failures are kept and later ones are dropped. Reaching the cap
+ * ({@link #isSaturated()}) does not cut the check short by itself; once a failure past it has been dropped, or the
+ * check stopped its own work at the cap ({@link #stopped}), {@link #isCapped()} tells the caller it can stop
+ * calling the check. A caller walking offers sets the current offer ({@link #atOffer}), so each failure knows the
+ * offer it was raised on ({@link #offerOf}).
+ */
+public class CollectingSoftAssert extends SoftAssert {
+
+    private final List<AssertionError> failures = new ArrayList<>();
+    private final List<Integer> failureOffers = new ArrayList<>();
+    private final int maxFailures;
+    private int offerIndex = -1;
+    private boolean capped;
+    private String stopLocation;
+
+    public CollectingSoftAssert() {
+        this(0);
+    }
+
+    /**
+     * @param maxFailures failures kept, 0 or less keeps all of them
+     */
+    public CollectingSoftAssert(int maxFailures) {
+        this.maxFailures = maxFailures;
+    }
+
+    @Override
+    public void onAssertFailure(IAssert<?> assertCommand, AssertionError ex) {
+        if (isSaturated()) {
+            capped = true;
+            return;
+        }
+        super.onAssertFailure(assertCommand, ex);
+        failures.add(ex);
+        failureOffers.add(offerIndex);
+    }
+
+    /** Sets the offer the following failures are raised on (-1 outside offers). */
+    public void atOffer(int offerIndex) {
+        this.offerIndex = offerIndex;
+    }
+
+    /** Offer index of the {@code failureIndex}-th failure, -1 when raised outside offers. */
+    public int offerOf(int failureIndex) {
+        return failureOffers.get(failureIndex);
+    }
+
+    /** Failures recorded so far, in order. */
+    public List<AssertionError> failures() {
+        return Collections.unmodifiableList(failures);
+    }
+
+    /** Whether the cap is reached: further failures are dropped. */
+    public boolean isSaturated() {
+        return maxFailures > 0 && failures.size() >= maxFailures;
+    }
+
+    /** Failures that can still be kept ({@link Integer#MAX_VALUE} without a cap). */
+    public int remaining() {
+        return maxFailures > 0 ? Math.max(0, maxFailures - failures.size()) : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Records that the check stopped its own work at the cap (e.g. a scan that stops walking the tree).
+     *
+     * @param location where it stopped, e.g. {@code $.offers[3].fareBasisCode}
+     */
+    public void stopped(String location) {
+        capped = true;
+        stopLocation = location;
+    }
+
+    /** Whether the cap cut the check short: a failure past it was dropped, or the check stopped at it. */
+    public boolean isCapped() {
+        return capped;
+    }
+
+    /** Where the check said it stopped ({@link #stopped}), null otherwise. */
+    public String stopLocation() {
+        return stopLocation;
+    }
+
+    /** Failures {@code softAssert} can still keep ({@link Integer#MAX_VALUE} for any other SoftAssert). */
+    public static int remaining(SoftAssert softAssert) {
+        return softAssert instanceof CollectingSoftAssert collector ? collector.remaining() : Integer.MAX_VALUE;
+    }
+
+    /** {@link #stopped} when {@code softAssert} is a collector (other SoftAsserts keep every failure). */
+    public static void stopped(SoftAssert softAssert, String location) {
+        if (softAssert instanceof CollectingSoftAssert collector) collector.stopped(location);
+    }
+
+    /** Records every collected failure into {@code target}, preserving order and messages. */
+    public void replayInto(SoftAssert target) {
+        for (AssertionError failure : failures) {
+            target.fail(failure.getMessage());
+        }
+    }
+}
@@ -1,14 +1,74 @@
 package Utils.Assertions;
 
-import io.restassured.path.json.JsonPath;
-import io.restassured.response.Response;
+import Utils.Loader.ValidationRulesLoader;
+import Utils.Model.*;
+import Utils.Response.OfferFingerprint;
+import Utils.Response.OfferFingerprint.PassengerFingerprint;
+import Utils.Response.OfferFingerprint.SegmentKey;
+import Utils.Response.ResponseView;
 import org.testng.asserts.SoftAssert;
 
-import java.math.BigDecimal;
 import java.util.*;
 
+import static Utils.Helper.HelperCurrencyValidator.validateCurrencies;
+import static Utils.Helper.HelperOfferFingerprint.fingerprintOf;
+
 public class FareConfirmAssertions {
 
+    /**
+     * The FareConfirm checks: lightest profile running each one and the response fields it reads as Maps. Checks on
+     * the typed selectedOffer read the section bound for the offer fingerprint ({@link OfferFingerprint#project}).
+     */
+    enum Check implements ProfiledChecks.Spec {
+        RBD(ValidationProfile.SMOKE),
+        PRICE_DETAILS(ValidationProfile.SMOKE),
+        PASSENGER_FARE_BREAKDOWN(ValidationProfile.STANDARD),
+        CURRENCIES(ValidationProfile.SMOKE, "selectedOffer"),
+        BREAKDOWN_TOTALS(ValidationProfile.STANDARD),
+        SINGLE_OFFER(ValidationProfile.SMOKE, "selectedOffer"),
+        JOURNEY_COUNT(ValidationProfile.STANDARD, "selectedOffer.offerJourneys"),
+        FARE_BREAKDOWN_CALCULATION(ValidationProfile.SMOKE, "selectedOffer.priceDetails", "selectedOffer.passengerFareBreakdown"),
+        NO_DUPLICATE_TAX_CODES(ValidationProfile.STANDARD), // bound selectedOffer
+        PRICE_CLASSES(ValidationProfile.DEEP, "priceClasses"),
+        BAGGAGE_DETAILS(ValidationProfile.DEEP, "baggageDetails"),
+        PASSENGER_CODES(ValidationProfile.DEEP, "selectedOffer.passengerFareBreakdown"),
+        RULES(ValidationProfile.STANDARD); // paths of the agency's rules, see reads(Map)
+
+        private final ValidationProfile tier;
+        private final List<String> reads;
+
+        Check(ValidationProfile tier, String... reads) {
+            this.tier = tier;
+            this.reads = List.of(reads);
+        }
+
+        @Override
+        public ValidationProfile tier() {
+            return tier;
+        }
+
+        @Override
+        public List<String> reads() {
+            return reads;
+        }
+    }
+
+    /**
+     * Response fields the FareConfirm checks of the current profile read, fingerprint excluded.
+     *
+     * @param selectedOfferFromSearch Flow context (agency name for the rules)
+     */
+    public static List<String> reads(Map<String, Object> selectedOfferFromSearch) {
+        ValidationProfile profile = ValidationProfile.current();
+        List<String> reads = ProfiledChecks.reads(Check.values(), profile);
+        if (profile.includes(Check.RULES.tier())) reads.addAll(rules(selectedOfferFromSearch).reads());
+        return reads;
+    }
+
+    private static ResponseRules rules(Map<String, Object> selectedOfferFromSearch) {
+        return ValidationRulesLoader.forStage("fareConfirm", (String) selectedOfferFromSearch.get("agencyName"));
+    }
+
     /**
      * Main method to validate that the FareConfirm API response
      * matches the offer that was originally selected in the Search results.
@@ -26,86 +86,90 @@ public class FareConfirmAssertions {
      * 11. Validate price classes (RBDs, brands).
      * 12. Validate baggage details (structure, match to Search offer).
      * 13. Validate passenger code uniqueness and associated amounts data.
+     * 14. Run the declarative "fareConfirm" rules of the agency ({@link ValidationRulesLoader}).
+     * <p>
+     * Steps 2, 3, 5 and 6 compare the {@link OfferFingerprint} of the FareConfirm offer with the one
+     * stored by the Search step, not the full Search offer.
+     * The smoke profile runs the price, RBD and currency checks, standard adds the breakdown and
+     * consistency checks, deep (default) also validates price classes, baggage and passenger codes.
      *
      * @param fareConfirmResponse       API response from FareConfirm
-     * @param selectedOfferFromSearch   Map containing the offer data from Search API
+     * @param selectedOfferFromSearch   Flow context holding the Search offer fingerprint and the search payload
+     * @param fareConfirmFingerprint    Fingerprint of the FareConfirm selectedOffer
      */
-    public static void validateFareConfirm(Response fareConfirmResponse, Map<String, Object> selectedOfferFromSearch) {
+    public static void validateFareConfirm(ResponseView fareConfirmResponse, Map<String, Object> selectedOfferFromSearch,
+                                           OfferFingerprint fareConfirmFingerprint) {
         SoftAssert softAssert = new SoftAssert();
 
-        // Extract the selected offer object from FareConfirm response
-        Map<String, Object> FareConfirmOffer = fareConfirmResponse.jsonPath().getMap("selectedOffer");
+        // Fingerprints of the FareConfirm selected offer and of the offer selected in Search
         System.out.println("🛂 Validating Fare Confirm Offer against selected Search Offer...");
-        if (FareConfirmOffer == null) {
+        if (fareConfirmFingerprint == null) {
             softAssert.fail("❌ selectedOffer object not found in FareConfirm response.");
             softAssert.assertAll();
             return;
         }
-        // Perform multiple checks
-        validateRbdMatchesSelectedOffer(fareConfirmResponse, selectedOfferFromSearch, softAssert);
-        validatePriceDetails(softAssert, selectedOfferFromSearch, FareConfirmOffer);
-        validatePassengerFareBreakdown(softAssert, selectedOfferFromSearch, FareConfirmOffer);
-        //validateCurrencies(fareConfirmResponse, "selectedOffer", softAssert);
-        validatePassengerBreakdownTotalsMatchOverall(fareConfirmResponse,selectedOfferFromSearch,softAssert);
-        validateSingleOfferReturned(fareConfirmResponse,softAssert);
-        validateJourneyCountConsistency(fareConfirmResponse, selectedOfferFromSearch, softAssert);
-        validateFareBreakdownCalculation(fareConfirmResponse,selectedOfferFromSearch,softAssert);
-        validateNoDuplicateTaxCodes(fareConfirmResponse,softAssert);
-        validatePriceClasses(fareConfirmResponse,softAssert);
-        validateBaggageDetails(fareConfirmResponse,softAssert);
-        validatePassengerCodeUniquenessAndAmounts(fareConfirmResponse,softAssert);
+        OfferFingerprint searchFingerprint = fingerprintOf(selectedOfferFromSearch);
+        if (searchFingerprint == null) {
+            softAssert.fail("❌ Search offer fingerprint not found for this flow.");
+            softAssert.assertAll();
+            return;
+        }
+
+        // Perform multiple checks, those of the current validation profile
+        // (independent of each other; run in parallel with -Dndc.parallelChecks=true)
+        ProfiledChecks.forStage("FareConfirm")
+                .add(Check.RBD, sa -> validateRbdMatchesSelectedOffer(fareConfirmFingerprint, searchFingerprint, sa))
+                .add(Check.PRICE_DETAILS, sa -> validatePriceDetails(sa, searchFingerprint, fareConfirmFingerprint))
+                .add(Check.PASSENGER_FARE_BREAKDOWN, sa -> validatePassengerFareBreakdown(sa, searchFingerprint, fareConfirmFingerprint))
+                .add(Check.CURRENCIES, sa -> validateCurrencies(fareConfirmResponse, (String) selectedOfferFromSearch.get("agencyCurrency"), "selectedOffer", sa))
+                .add(Check.BREAKDOWN_TOTALS, sa -> validatePassengerBreakdownTotalsMatchOverall(fareConfirmFingerprint, searchFingerprint, sa))
+                .add(Check.SINGLE_OFFER, sa -> validateSingleOfferReturned(fareConfirmResponse, sa))
+                .add(Check.JOURNEY_COUNT, sa -> validateJourneyCountConsistency(fareConfirmResponse, selectedOfferFromSearch, sa))
+                .add(Check.FARE_BREAKDOWN_CALCULATION, sa -> validateFareBreakdownCalculation(fareConfirmResponse, selectedOfferFromSearch, sa))
+                .add(Check.NO_DUPLICATE_TAX_CODES, sa -> validateNoDuplicateTaxCodes(fareConfirmResponse, sa))
+                .add(Check.PRICE_CLASSES, sa -> validatePriceClasses(fareConfirmResponse, sa))
+                .add(Check.BAGGAGE_DETAILS, sa -> validateBaggageDetails(fareConfirmResponse, sa))
+                .add(Check.PASSENGER_CODES, sa -> validatePassengerCodeUniquenessAndAmounts(fareConfirmResponse, sa))
+                .add(Check.RULES, sa -> rules(selectedOfferFromSearch).run(fareConfirmResponse, sa))
+                .runAll(softAssert);
         // Trigger assertion failures if any collected errors exist
         softAssert.assertAll();
     }
 
     /**
-     * TC.1 Validates that the Reservation Booking Designator (RBD) codes in the
-     * FareConfirm API response match those from the Search API selected offer.
+     * TC.1 Validates that the Reservation Booking Designator (RBD) codes of the
+     * offer match those of the offer selected in the previous step.
      *
-     * @param response      The FareConfirm API response
-     * @param selectedOfferFromSearch The selected offer from Search API (expected values)
-     * @param softAssert    SoftAssert to collect and defer assertion failures
+     * @param actual     Fingerprint of the offer being validated (FareConfirm selectedOffer or Book order)
+     * @param expected   Fingerprint of the previous step's offer (expected values)
+     * @param softAssert SoftAssert to collect and defer assertion failures
      */
-    protected static void validateRbdMatchesSelectedOffer(Response response,
-                                                          Map<String, Object> selectedOfferFromSearch,
+    protected static void validateRbdMatchesSelectedOffer(OfferFingerprint actual,
+                                                          OfferFingerprint expected,
                                                           SoftAssert softAssert) {
         System.out.println("\t✅[TC:1]: Validating RBD Matches Selected Offer ");
 
-        JsonPath jsonPath = response.jsonPath();
-
-        // Directly extract passengerFareBreakdown from the selectedOffer object
-        List<Map<String, Object>> actualFareBreakdowns =
-                jsonPath.getList("selectedOffer.passengerFareBreakdown");
-
-        List<Map<String, Object>> expectedFareBreakdowns =
-                (List<Map<String, Object>>) selectedOfferFromSearch.get("passengerFareBreakdown");
-
         // Fail if missing passengerFareBreakdown in either response
-        if (actualFareBreakdowns == null || expectedFareBreakdowns == null) {
+        if (actual == null || expected == null || actual.breakdown().isEmpty() || expected.breakdown().isEmpty()) {
             System.out.println("\t❌[TC:1] passengerFareBreakdown is missing in one of the responses.");
             softAssert.fail("❌[TC:1] passengerFareBreakdown is missing in one of the responses.");
             return;
         }
 
         // Compare each passenger type (e.g., ADT, CHD, INF)
-        for (Map<String, Object> expectedPax : expectedFareBreakdowns) {
-            String type = (String) expectedPax.get("passengerTypeCode");
+        for (PassengerFingerprint expectedPax : expected.breakdown()) {
+            String type = expectedPax.passengerTypeCode();
 
             // Match passenger type between expected and actual
-            Optional<Map<String, Object>> actualPaxOpt = actualFareBreakdowns.stream()
-                    .filter(p -> type.equals(p.get("passengerTypeCode")))
-                    .findFirst();
-
-            if (actualPaxOpt.isEmpty()) {
+            PassengerFingerprint actualPax = actual.passenger(type);
+            if (actualPax == null) {
                 softAssert.fail("❌[TC:1] Missing passenger type :" + type);
                 continue;
             }
 
             // Compare segments
-            List<Map<String, Object>> expectedSegment =
-                    (List<Map<String, Object>>) expectedPax.get("segmentDetails");
-            List<Map<String, Object>> actualSegment =
-                    (List<Map<String, Object>>) actualPaxOpt.get().get("segmentDetails");
+            List<SegmentKey> expectedSegment = expectedPax.segments();
+            List<SegmentKey> actualSegment = actualPax.segments();
 
             int minSize = Math.min(expectedSegment.size(), actualSegment.size());
 
@@ -118,16 +182,17 @@ public class FareConfirmAssertions {
 
             // Compare RBD field for each segment
             for (int i = 0; i < minSize; i++) {
-                String expectedRbd = String.valueOf(expectedSegment.get(i).get("rbd"));
-                String actualRbd = String.valueOf(actualSegment.get(i).get("rbd"));
+                String expectedRbd = String.valueOf(expectedSegment.get(i).rbd());
+                String actualRbd = String.valueOf(actualSegment.get(i).rbd());
 
                 System.out.printf(
                         "\t\t🔍 [%s - Segment %d] Expected RBD: %s, Actual RBD: %s%n",
                         type, i, expectedRbd, actualRbd
                 );
 
-                softAssert.assertEquals(actualRbd, expectedRbd,
-                        String.format("❌[TC:1] RBD mismatch for %s - Segment %d", type, i));
+                int segmentIndex = i;
+                LazyAssert.assertEquals(actualRbd, expectedRbd,
+                        () -> String.format("❌[TC:1] RBD mismatch for %s - Segment %d", type, segmentIndex), softAssert);
             }
 
             // Log success
@@ -142,23 +207,20 @@ public class FareConfirmAssertions {
      *  - Ensures the total fare, tax breakdown, and base fare align between Search and FareConfirm
      *  - Any mismatch could mean inconsistent pricing presented to the user vs. charged
      * Steps:
-     *  1. Extract `priceDetails` object from both Search and FareConfirm
+     *  1. Take the price totals from both Search and FareConfirm fingerprints
      *  2. Compare critical fields (totalAmount, taxesAmount, baseAmount)
      *  3. Use helper method compareField for logging/assertion
      *
-     * @param softAssert    SoftAssert for assertions
-     * @param selectedOfferFromSearch Selected offer from Search API
-     * @param actual        Offer from FareConfirm API
+     * @param softAssert SoftAssert for assertions
+     * @param expected   Fingerprint of the selected offer from Search API
+     * @param actual     Fingerprint of the offer from FareConfirm API
      */
-    private static void validatePriceDetails(SoftAssert softAssert, Map<String, Object> selectedOfferFromSearch, Map<String, Object> actual) {
+    private static void validatePriceDetails(SoftAssert softAssert, OfferFingerprint expected, OfferFingerprint actual) {
         System.out.println("\t💰[TC:2]: Comparing price details...");
 
-        Map<String, Object> expectedPriceDetails = (Map<String, Object>) selectedOfferFromSearch.get("priceDetails");
-        Map<String, Object> actualPriceDetails = (Map<String, Object>) actual.get("priceDetails");
-
-        compareField("totalAmount", expectedPriceDetails, actualPriceDetails, softAssert);
-        compareField("totalTaxAmount", expectedPriceDetails, actualPriceDetails, softAssert);
-        compareField("totalBaseAmount", expectedPriceDetails, actualPriceDetails, softAssert);
+        compareField("totalAmount", expected.totalAmount(), actual.totalAmount(), softAssert);
+        compareField("totalTaxAmount", expected.totalTaxAmount(), actual.totalTaxAmount(), softAssert);
+        compareField("totalBaseAmount", expected.totalBaseAmount(), actual.totalBaseAmount(), softAssert);
     }
 
     /**
@@ -168,35 +230,29 @@ public class FareConfirmAssertions {
      *    in FareConfirm matches the expected Search offer.
      *  - Detects if any passenger type (ADT, CHD, INF, etc.) is missing or has mismatched details.
      * Steps:
-     *  1. Extract passengerFareBreakdown from both expected (Search) and actual (FareConfirm).
+     *  1. Take the passenger breakdown from both expected (Search) and actual (FareConfirm) fingerprints.
      *  2. For each passenger type in expected, check that it exists in actual.
      *  3. If found → call helper validateSinglePassengerBreakdown() to validate amounts.
      *  4. If not found → log and fail.
      *
-     * @param softAssert    TestNG SoftAssert instance
-     * @param expectedOffer Selected offer from Search API (expected values)
-     * @param actual        Offer from FareConfirm API (actual values)
+     * @param softAssert TestNG SoftAssert instance
+     * @param expected   Fingerprint of the selected offer from Search API (expected values)
+     * @param actual     Fingerprint of the offer from FareConfirm API (actual values)
      */
-    private static void validatePassengerFareBreakdown(SoftAssert softAssert, Map<String, Object> expectedOffer, Map<String, Object> actual) {
+    private static void validatePassengerFareBreakdown(SoftAssert softAssert, OfferFingerprint expected, OfferFingerprint actual) {
         System.out.println("\t🧍‍♂️ [TC:3]: Validating passenger fare breakdown...");
 
-        // Extract passenger breakdowns from expected and actual
-        List<Map<String, Object>> expectedPFB = (List<Map<String, Object>>) expectedOffer.get("passengerFareBreakdown");
-        List<Map<String, Object>> actualPFB = (List<Map<String, Object>>) actual.get("passengerFareBreakdown");
-
-        if (expectedPFB != null && actualPFB != null) {
-            for (Map<String, Object> expectedPassenger : expectedPFB) {
-                String type = (String) expectedPassenger.get("passengerTypeCode");
+        if (!expected.breakdown().isEmpty() && !actual.breakdown().isEmpty()) {
+            for (PassengerFingerprint expectedPassenger : expected.breakdown()) {
+                String type = expectedPassenger.passengerTypeCode();
                 System.out.println("\t🔎 Checking passenger type: " + type);
 
                 // Find matching passenger type in actual breakdown
-                Optional<Map<String, Object>> actualMatchOpt = actualPFB.stream()
-                        .filter(p -> type.equals(p.get("passengerTypeCode")))
-                        .findFirst();
+                PassengerFingerprint actualMatch = actual.passenger(type);
 
-                if (actualMatchOpt.isPresent()) {
+                if (actualMatch != null) {
                     // ✅ If found → validate detailed breakdown (amounts, taxes, base)
-                    validateSinglePassengerBreakdown(softAssert, type, expectedPassenger, actualMatchOpt.get());
+                    validateSinglePassengerBreakdown(softAssert, type, expectedPassenger, actualMatch);
                 } else {
                     // ❌ If not found → fail test
                     System.out.printf("❌[TC:3] Passenger of type [%s] not found in fare confirm response%n", type);
@@ -217,31 +273,23 @@ public class FareConfirmAssertions {
      *  - Ensures amounts for each passenger type (ADT, CHD, INF, etc.) are consistent.
      *  - Prevents discrepancies between Search (offer shown to user) and FareConfirm (final booking).
      * Steps:
-     *  1. Extract passengerFareBreakdown from both Search and FareConfirm.
+     *  1. Take the passenger breakdown from both Search and FareConfirm fingerprints.
      *  2. Iterate over each passenger type in expected list.
      *  3. Compare with corresponding actual passenger type.
      *  4. Call helper validateSinglePassengerBreakdown() for detailed validation.
      *
-     * @param fareConfirmResponse FareConfirm API response
-     * @param selectedOfferFromSearch       Selected offer from Search API
-     * @param softAssert          TestNG SoftAssert instance
+     * @param fareConfirmFingerprint Fingerprint of the FareConfirm selectedOffer
+     * @param searchFingerprint      Fingerprint of the selected offer from Search API
+     * @param softAssert             TestNG SoftAssert instance
      */
-    private static void validatePassengerBreakdownTotalsMatchOverall(Response fareConfirmResponse, Map<String, Object> selectedOfferFromSearch, SoftAssert softAssert) {
+    private static void validatePassengerBreakdownTotalsMatchOverall(OfferFingerprint fareConfirmFingerprint, OfferFingerprint searchFingerprint, SoftAssert softAssert) {
 
         System.out.println("\n🔎 [TC:4] Validating Passenger Fare Breakdown Consistency...");
 
-        // Extract actual breakdown from FareConfirm
-        JsonPath jsonPath = fareConfirmResponse.jsonPath();
-
-        // Directly extract passengerFareBreakdown from the selectedOffer object
-        List<Map<String, Object>> actualBreakdown =
-                jsonPath.getList("selectedOffer.passengerFareBreakdown");
-
-        // Extract expected breakdown from Search
-        List<Map<String, Object>> expectedBreakdown =
-                (List<Map<String, Object>>) selectedOfferFromSearch.get("passengerFareBreakdown");
+        List<PassengerFingerprint> actualBreakdown = fareConfirmFingerprint.breakdown();
+        List<PassengerFingerprint> expectedBreakdown = searchFingerprint.breakdown();
 
-        if (actualBreakdown == null || expectedBreakdown == null) {
+        if (actualBreakdown.isEmpty() || expectedBreakdown.isEmpty()) {
             System.out.println("⚠️[TC:4] Passenger breakdown missing in one of the structures!");
             softAssert.fail("❌ [TC:4] Passenger fare breakdown not found in response or expected offer");
             return;
@@ -249,15 +297,18 @@ public class FareConfirmAssertions {
 
         // Compare passenger types one by one
         for (int i = 0; i < expectedBreakdown.size(); i++) {
-            Map<String, Object> expected = expectedBreakdown.get(i);
-            Map<String, Object> actual = actualBreakdown.get(i);
+            PassengerFingerprint expected = expectedBreakdown.get(i);
+            String type = expected.passengerTypeCode();
 
-            String type = (String) expected.get("passengerTypeCode");
+            if (i >= actualBreakdown.size()) {
+                softAssert.fail("❌ [TC:4] Passenger type " + type + " missing at position " + i);
+                continue;
+            }
 
             System.out.printf("➡️ Validating fare breakdown for passenger type: %s%n", type);
 
             // Validate detailed breakdown via helper
-            validateSinglePassengerBreakdown(softAssert, type, expected, actual);
+            validateSinglePassengerBreakdown(softAssert, type, expected, actualBreakdown.get(i));
         }
 
         System.out.println("✅[TC:4] Passenger Fare Breakdown Consistency validated successfully.");
@@ -277,11 +328,11 @@ public class FareConfirmAssertions {
      * @param response   FareConfirm API response
      * @param softAssert SoftAssert instance
      */
-    private static void validateSingleOfferReturned(Response response, SoftAssert softAssert) {
+    private static void validateSingleOfferReturned(ResponseView response, SoftAssert softAssert) {
         System.out.println("\n📌 [TC:5] Validating single offer returned for NON UPSELLING...");
 
         // Extract selectedOffer as a Map
-        Map<String, Object> offer = response.jsonPath().getMap("selectedOffer");
+        Map<String, Object> offer = response.getMap("selectedOffer");
 
         if (offer == null || offer.isEmpty()) {
             System.out.println("❌[TC:5] selectedOffer is missing in response");
@@ -311,7 +362,7 @@ public class FareConfirmAssertions {
      * @param selectedOfferFromSearch The original Search offer (contains "searchPayload")
      * @param softAssert              TestNG SoftAssert instance
      */
-    private static void validateJourneyCountConsistency(Response response, Map<String, Object> selectedOfferFromSearch, SoftAssert softAssert) {
+    private static void validateJourneyCountConsistency(ResponseView response, Map<String, Object> selectedOfferFromSearch, SoftAssert softAssert) {
         System.out.println("\t🛫 [TC:6] Validating journey count consistency...");
 
         try {
@@ -321,12 +372,13 @@ public class FareConfirmAssertions {
             int expectedJourneyCount = (criteria != null) ? criteria.size() : 0;
 
             // From FareConfirm → extract journey count
-            List<Map<String, Object>> journeys = response.jsonPath().getList("selectedOffer.offerJourneys");
+            List<Map<String, Object>> journeys = response.getList("selectedOffer.offerJourneys");
             int actualJourneyCount = (journeys != null) ? journeys.size() : 0;
 
             // Assert counts match
-            softAssert.assertEquals(actualJourneyCount, expectedJourneyCount,
-                    "❌ [TC:6] Journey count mismatch: expected=" + expectedJourneyCount + ", actual=" + actualJourneyCount);
+            LazyAssert.assertEquals(actualJourneyCount, expectedJourneyCount,
+                    () -> "❌ [TC:6] Journey count mismatch: expected=" + expectedJourneyCount + ", actual=" + actualJourneyCount,
+                    softAssert);
 
             System.out.println("\t✅[TC:6] Journey count validation passed. Expected="
                     + expectedJourneyCount + ", Actual=" + actualJourneyCount);
@@ -343,58 +395,49 @@ public class FareConfirmAssertions {
      * - Verifies group totals = per-pax total × passenger count (from request payload, not response)
      * - Verifies aggregated group totals = overall total
      */
-    private static void validateFareBreakdownCalculation(Response response,
+    private static void validateFareBreakdownCalculation(ResponseView response,
                                                          Map<String, Object> selectedOfferFromSearch,
                                                          SoftAssert softAssert) {
         System.out.println("\n📌 TC.7: Validating fare breakdown calculations...");
 
         try {
             // ✅ Extract overall total from response
-            BigDecimal overallTotal = parseBigDecimalSafe(
-                    response.jsonPath().getMap("selectedOffer[0].priceDetails.totalAmount")
+            Money overallTotal = parseMoneySafe(
+                    response.getMap("selectedOffer[0].priceDetails.totalAmount")
             );
 
             // ✅ Extract passenger fare breakdowns from response
             List<Map<String, Object>> passengerBreakdowns =
-                    response.jsonPath().getList("selectedOffer.passengerFareBreakdown");
+                    response.getList("selectedOffer.passengerFareBreakdown");
 
-            // ✅ Extract passenger counts from request payload
+            // ✅ Extract passenger counts from request payload (e.g., ADT=4, CHD=2, INF=3)
             Map<String, Object> searchPayload = (Map<String, Object>) selectedOfferFromSearch.get("searchPayload");
-            List<Map<String, Object>> passengersFromPayload =
-                    (List<Map<String, Object>>) searchPayload.get("passengers");
-
-            // Convert payload passengers into lookup map (e.g., ADT=4, CHD=2, INF=3)
-            Map<String, Integer> paxCountMap = new HashMap<>();
-            for (Map<String, Object> pax : passengersFromPayload) {
-                String paxType = String.valueOf(pax.get("passengerTypeCode"));
-                int count = Integer.parseInt(String.valueOf(pax.get("count")));
-                paxCountMap.put(paxType, count);
-            }
+            PassengerCounts paxCounts = PassengerCounts.fromPayload(searchPayload);
 
-            BigDecimal sumOfPassengerTotals = BigDecimal.ZERO;
+            Money sumOfPassengerTotals = Money.ZERO;
 
             if (passengerBreakdowns != null && !passengerBreakdowns.isEmpty()) {
                 for (Map<String, Object> pax : passengerBreakdowns) {
                     String paxType = String.valueOf(pax.get("passengerTypeCode"));
 
                     // ✅ Use count from payload instead of response
-                    int paxCount = paxCountMap.getOrDefault(paxType, 0);
+                    int paxCount = paxCounts.get(paxType, 0);
 
                     // Extract base, tax, and total values
-                    BigDecimal baseFare = parseBigDecimalSafe(pax.get("passengerBaseAmount"));
-                    BigDecimal taxes = parseBigDecimalSafe(pax.get("passengerTaxesAmount"));
-                    BigDecimal perPaxTotal = parseBigDecimalSafe(pax.get("passengerTotalAmount"));
+                    Money baseFare = parseMoneySafe(pax.get("passengerBaseAmount"));
+                    Money taxes = parseMoneySafe(pax.get("passengerTaxesAmount"));
+                    Money perPaxTotal = parseMoneySafe(pax.get("passengerTotalAmount"));
 
                     // Expected = base + taxes
-                    BigDecimal expectedPerPaxTotal = baseFare.add(taxes);
+                    Money expectedPerPaxTotal = baseFare.plus(taxes);
 
                     // Validate per-pax total calculation
-                    softAssert.assertEquals(perPaxTotal, expectedPerPaxTotal,
-                            "❌ [TC.7] Per-pax total mismatch for " + paxType);
+                    LazyAssert.assertEquals(perPaxTotal, expectedPerPaxTotal,
+                            () -> "❌ [TC.7] Per-pax total mismatch for " + paxType, softAssert);
 
                     // Group total = per pax × count
-                    BigDecimal paxGroupTotal = perPaxTotal.multiply(BigDecimal.valueOf(paxCount));
-                    sumOfPassengerTotals = sumOfPassengerTotals.add(paxGroupTotal);
+                    Money paxGroupTotal = perPaxTotal.times(paxCount);
+                    sumOfPassengerTotals = sumOfPassengerTotals.plus(paxGroupTotal);
 
                     System.out.printf(
                             "\t🔍 [TC.7][%s] base=%s + taxes=%s → perPax=%s × count=%d → groupTotal=%s%n",
@@ -433,11 +476,12 @@ public class FareConfirmAssertions {
      * @param response   The FareConfirm API response
      * @param softAssert The TestNG SoftAssert instance
      */
-    private static void validateNoDuplicateTaxCodes(Response response, SoftAssert softAssert) {
+    private static void validateNoDuplicateTaxCodes(ResponseView response, SoftAssert softAssert) {
         System.out.println("\n📌 [TC.8]: Validating no duplicate tax codes per passenger...");
 
-        List<Map<String, Object>> passengerBreakdowns =
-                response.jsonPath().getList("selectedOffer.passengerFareBreakdown");
+        Offer selectedOffer = response.offer("selectedOffer");
+        List<PassengerFareBreakdown> passengerBreakdowns =
+                selectedOffer != null ? selectedOffer.passengerFareBreakdown() : null;
 
         if (passengerBreakdowns == null || passengerBreakdowns.isEmpty()) {
             System.out.println("⚠️ [TC.8] No passengerFareBreakdown found in response.");
@@ -445,19 +489,19 @@ public class FareConfirmAssertions {
             return;
         }
 
-        for (Map<String, Object> pax : passengerBreakdowns) {
-            String paxType = String.valueOf(pax.get("passengerTypeCode"));
+        for (PassengerFareBreakdown pax : passengerBreakdowns) {
+            String paxType = String.valueOf(pax.passengerTypeCode());
             System.out.println("\t🔎 Checking tax codes for passenger type: " + paxType);
 
-            List<Map<String, Object>> taxes = (List<Map<String, Object>>) pax.get("taxesAndFees");
+            List<TaxFee> taxes = pax.taxesAndFees();
             if (taxes == null) {
                 System.out.println("\t⚠️ [TC.8][" + paxType + "] No taxesAndFees found — skipping.");
                 continue;
             }
 
             Set<String> seenCodes = new HashSet<>();
-            for (Map<String, Object> tax : taxes) {
-                String code = String.valueOf(tax.get("code"));
+            for (TaxFee tax : taxes) {
+                String code = String.valueOf(tax.code());
                 System.out.println("\t\tTax code found: " + code);
 
                 if (seenCodes.contains(code)) {
@@ -488,11 +532,11 @@ public class FareConfirmAssertions {
      * @param response   The FareConfirm API response
      * @param softAssert The TestNG SoftAssert instance
      */
-    private static void validatePriceClasses(Response response, SoftAssert softAssert) {
+    private static void validatePriceClasses(ResponseView response, SoftAssert softAssert) {
         System.out.println("\n📌 [TC.9]: Validating price classes...");
 
         Map<String, Map<String, Object>> priceClasses =
-                response.jsonPath().getMap("priceClasses");
+                response.getMap("priceClasses");
 
         if (priceClasses == null || priceClasses.isEmpty()) {
             softAssert.fail("[TC.9] priceClasses are missing or empty.");
@@ -509,15 +553,15 @@ public class FareConfirmAssertions {
             System.out.println("\t🔎 Checking PriceClass #" + i + " (" + priceClassKey + ")");
 
             // Validate required fields
-            softAssert.assertNotNull(priceClass.get("priceClassName"),
-                    "[TC.9] priceClassName is missing in priceClass: " + priceClassKey);
-            softAssert.assertNotNull(priceClass.get("fareDescription"),
-                    "[TC.9] fareDescription is missing in priceClass: " + priceClassKey);
+            LazyAssert.assertNotNull(priceClass.get("priceClassName"),
+                    () -> "[TC.9] priceClassName is missing in priceClass: " + priceClassKey, softAssert);
+            LazyAssert.assertNotNull(priceClass.get("fareDescription"),
+                    () -> "[TC.9] fareDescription is missing in priceClass: " + priceClassKey, softAssert);
 
             // Validate rules list
             List<String> rules = (List<String>) priceClass.get("rulesAndPenalties");
-            softAssert.assertTrue(rules != null && !rules.isEmpty(),
-                    "[TC.9] rulesAndPenalties missing/empty in priceClass: " + priceClassKey);
+            LazyAssert.assertTrue(rules != null && !rules.isEmpty(),
+                    () -> "[TC.9] rulesAndPenalties missing/empty in priceClass: " + priceClassKey, softAssert);
 
             System.out.println("\t✅ Validated PriceClass: name=" + priceClass.get("priceClassName")
                     + ", fareDescription=" + priceClass.get("fareDescription")
@@ -542,10 +586,10 @@ public class FareConfirmAssertions {
      * @param response   The FareConfirm API response
      * @param softAssert The TestNG SoftAssert instance
      */
-    private static void validateBaggageDetails(Response response, SoftAssert softAssert) {
+    private static void validateBaggageDetails(ResponseView response, SoftAssert softAssert) {
         System.out.println("📌 [TC.10]: Validating baggage details...");
 
-        Map<String, Object> responseMap = response.jsonPath().getMap("$");
+        Map<String, Object> responseMap = response.root();
 
         Map<String, Object> baggageDetails = (Map<String, Object>) responseMap.get("baggageDetails");
 
@@ -564,15 +608,15 @@ public class FareConfirmAssertions {
             softAssert.assertNotNull(baggageKey, "[TC.10] baggage key is null.");
 
             // Validate carryOn & checkIn baggage presence
-            softAssert.assertTrue(baggage.containsKey("carryOnBaggage"),
-                    "[TC.10] Missing carryOnBaggage for key: " + baggageKey);
-            softAssert.assertTrue(baggage.containsKey("checkInBaggage"),
-                    "[TC.10] Missing checkInBaggage for key: " + baggageKey);
-
-            softAssert.assertNotNull(baggage.get("carryOnBaggage"),
-                    "[TC.10] carryOnBaggage is null for key: " + baggageKey);
-            softAssert.assertNotNull(baggage.get("checkInBaggage"),
-                    "[TC.10] checkInBaggage is null for key: " + baggageKey);
+            LazyAssert.assertTrue(baggage.containsKey("carryOnBaggage"),
+                    () -> "[TC.10] Missing carryOnBaggage for key: " + baggageKey, softAssert);
+            LazyAssert.assertTrue(baggage.containsKey("checkInBaggage"),
+                    () -> "[TC.10] Missing checkInBaggage for key: " + baggageKey, softAssert);
+
+            LazyAssert.assertNotNull(baggage.get("carryOnBaggage"),
+                    () -> "[TC.10] carryOnBaggage is null for key: " + baggageKey, softAssert);
+            LazyAssert.assertNotNull(baggage.get("checkInBaggage"),
+                    () -> "[TC.10] checkInBaggage is null for key: " + baggageKey, softAssert);
         }
 
         System.out.println("✅ [TC.10] Baggage details validated successfully.");
@@ -598,14 +642,12 @@ public class FareConfirmAssertions {
      * @param response   The FareConfirm API response
      * @param softAssert The SoftAssert instance for validation
      */
-    private static void validatePassengerCodeUniquenessAndAmounts(Response response, SoftAssert softAssert) {
+    private static void validatePassengerCodeUniquenessAndAmounts(ResponseView response, SoftAssert softAssert) {
         System.out.println("\n📌 [TC.11]: Validating Passenger Code Uniqueness and Amounts Data...");
 
-        JsonPath jsonPath = response.jsonPath();
-
         // Directly extract passengerFareBreakdown from the selectedOffer object
         List<Map<String, Object>> passengerBreakdowns =
-                jsonPath.getList("selectedOffer.passengerFareBreakdown");
+                response.getList("selectedOffer.passengerFareBreakdown");
 
         if (passengerBreakdowns == null || passengerBreakdowns.isEmpty()) {
             softAssert.fail("[TC.11] passengerFareBreakdown is missing or empty.");
@@ -622,15 +664,15 @@ public class FareConfirmAssertions {
             System.out.println("\t🔎 Checking passenger #" + i + " (" + paxType + ")");
 
             // 1. Uniqueness check
-            softAssert.assertTrue(!seenTypes.contains(paxType),
-                    "[TC.11] Duplicate passengerTypeCode found: " + paxType);
+            LazyAssert.assertTrue(!seenTypes.contains(paxType),
+                    () -> "[TC.11] Duplicate passengerTypeCode found: " + paxType, softAssert);
             seenTypes.add(paxType);
 
             // 2. Required amount fields check
-            softAssert.assertNotNull(pax.get("paxTotalTaxAmount"),
-                    "[TC.11] passengerTaxesAmount missing for passengerTypeCode: " + paxType);
-            softAssert.assertNotNull(pax.get("paxBaseAmount"),
-                    "[TC.11] passengerBaseAmount missing for passengerTypeCode: " + paxType);
+            LazyAssert.assertNotNull(pax.get("paxTotalTaxAmount"),
+                    () -> "[TC.11] passengerTaxesAmount missing for passengerTypeCode: " + paxType, softAssert);
+            LazyAssert.assertNotNull(pax.get("paxBaseAmount"),
+                    () -> "[TC.11] passengerBaseAmount missing for passengerTypeCode: " + paxType, softAssert);
 
             System.out.println("\t✅ Validated passengerTypeCode=" + paxType);
         }
@@ -643,45 +685,47 @@ public class FareConfirmAssertions {
     // ==============================================================
 
     /**
-     * Helper method to safely parse BigDecimal from various object types.
+     * Helper method to safely parse an amount from various object types ({amount, currency} map, number or string).
      */
-    private static BigDecimal parseBigDecimalSafe(Object value) {
-        if (value == null) return BigDecimal.ZERO;
+    private static Money parseMoneySafe(Object value) {
+        if (value == null) return Money.ZERO;
 
         try {
             if (value instanceof Map) {
                 Object amount = ((Map<?, ?>) value).get("amount");
-                return (amount != null) ? new BigDecimal(amount.toString()) : BigDecimal.ZERO;
+                Object currency = ((Map<?, ?>) value).get("currency");
+                Money money = (amount != null) ? toMoney(amount) : Money.ZERO;
+                return currency != null ? money.withCurrency(currency.toString()) : money;
             }
-            return new BigDecimal(value.toString());
-        } catch (NumberFormatException e) {
+            return toMoney(value);
+        } catch (NumberFormatException | ArithmeticException e) {
             System.out.println("⚠️ Invalid number format in response: " + value);
-            return BigDecimal.ZERO;
+            return Money.ZERO;
         }
     }
+
+    private static Money toMoney(Object value) {
+        return value instanceof Number number ? Money.of(number) : Money.parse(value.toString());
+    }
     /**
      * Compares core fare amounts for a single passenger type.
      */
-    private static void validateSinglePassengerBreakdown(SoftAssert softAssert, String type, Map<String, Object> expected, Map<String, Object> actual) {
-        compareField("paxTotalTaxAmount", expected, actual, type, softAssert);
-        compareField("paxBaseAmount", expected, actual, type, softAssert);
+    private static void validateSinglePassengerBreakdown(SoftAssert softAssert, String type, PassengerFingerprint expected, PassengerFingerprint actual) {
+        compareField("paxTotalTaxAmount", expected.taxAmount(), actual.taxAmount(), type, softAssert);
+        compareField("paxBaseAmount", expected.baseAmount(), actual.baseAmount(), type, softAssert);
     }
     /**
      * Compares a single field in passenger breakdown for a given passenger type.
      */
-    private static void compareField(String field, Map<String, Object> expected, Map<String, Object> actual, String type, SoftAssert softAssert) {
-        Object expectedValue = expected.get(field);
-        Object actualValue = actual.get(field);
+    private static void compareField(String field, Money expectedValue, Money actualValue, String type, SoftAssert softAssert) {
         System.out.printf("\t\t🔍 [%s] %s → expected: %s, actual: %s%n", type, field, expectedValue, actualValue);
-        softAssert.assertEquals(actualValue, expectedValue, "❌ " + field + " mismatch for " + type);
+        LazyAssert.assertEquals(actualValue, expectedValue, () -> "❌ " + field + " mismatch for " + type, softAssert);
     }
     /**
      * Compares a single price field between expected and actual priceDetails.
      */
-    private static void compareField(String field, Map<String, Object> expected, Map<String, Object> actual, SoftAssert softAssert) {
-        Object expectedValue = expected.get(field);
-        Object actualValue = actual.get(field);
+    private static void compareField(String field, Money expectedValue, Money actualValue, SoftAssert softAssert) {
         System.out.printf("\t\t💵 %s → expected: %s, actual: %s%n", field, expectedValue, actualValue);
-        softAssert.assertEquals(actualValue, expectedValue, "❌ " + field + " mismatch");
+        LazyAssert.assertEquals(actualValue, expectedValue, () -> "❌ " + field + " mismatch", softAssert);
     }
 }
@@ -0,0 +1,77 @@
+package Utils.Assertions;
+
+import org.testng.asserts.SoftAssert;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Soft assertions whose message is only built when the assertion fails.
+ * <p>
+ * Most checks pass, yet {@code softAssert.assertEquals(a, b, String.format(...))} formats its message (and boxes
+ * primitive values) every time. Here the comparison is done first, on primitives where possible, and only a
+ * failing comparison builds the message and hands it to the SoftAssert, so the report reads exactly as with
+ * the plain SoftAssert call (including TestNG's "expected [..] but found [..]" part).
+ *
+ * <pre>
+ *     LazyAssert.assertEquals(actualCount, expectedCount,
+ *             () -> String.format("❌TC.3 Offer[%d]: Expected %d journeys, found %d", i, expectedCount, actualCount), softAssert);
+ * </pre>
+ */
+public final class LazyAssert {
+
+    private LazyAssert() {
+    }
+
+    public static void assertEquals(int actual, int expected, Supplier<String> message, SoftAssert softAssert) {
+        if (actual != expected) {
+            softAssert.assertEquals(actual, expected, message.get());
+        }
+    }
+
+    public static void assertEquals(long actual, long expected, Supplier<String> message, SoftAssert softAssert) {
+        if (actual != expected) {
+            softAssert.assertEquals(actual, expected, message.get());
+        }
+    }
+
+    public static void assertEquals(double actual, double expected, Supplier<String> message, SoftAssert softAssert) {
+        if (Double.compare(actual, expected) != 0) {
+            softAssert.assertEquals(actual, expected, message.get());
+        }
+    }
+
+    public static void assertEquals(boolean actual, boolean expected, Supplier<String> message, SoftAssert softAssert) {
+        if (actual != expected) {
+            softAssert.assertEquals(actual, expected, message.get());
+        }
+    }
+
+    /**
+     * Object equality; anything {@link Objects#equals} rejects is handed to the SoftAssert, which
+     * still applies its own rules (e.g. array contents) before failing.
+     */
+    public static void assertEquals(Object actual, Object expected, Supplier<String> message, SoftAssert softAssert) {
+        if (!Objects.equals(actual, expected)) {
+            softAssert.assertEquals(actual, expected, message.get());
+        }
+    }
+
+    public static void assertTrue(boolean condition, Supplier<String> message, SoftAssert softAssert) {
+        if (!condition) {
+            softAssert.assertTrue(false, message.get());
+        }
+    }
+
+    public static void assertFalse(boolean condition, Supplier<String> message, SoftAssert softAssert) {
+        if (condition) {
+            softAssert.assertFalse(true, message.get());
+        }
+    }
+
+    public static void assertNotNull(Object value, Supplier<String> message, SoftAssert softAssert) {
+        if (value == null) {
+            softAssert.assertNotNull(null, message.get());
+        }
+    }
+}
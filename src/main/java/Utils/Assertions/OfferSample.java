@@ -0,0 +1,101 @@
+package Utils.Assertions;
+
+import Utils.Helper.HelperTestData;
+
+import java.util.BitSet;
+
+/**
+ * Offers the per-offer checks run on under a {@link ValidationProfile}.
+ * <p>
+ * Whether an offer is in the sample depends only on the seed ({@link HelperTestData#SampleSeed}) and its index,
+ * so two runs over the same response check the same offers, and a streamed response can be sampled without
+ * knowing its size. offers[0] (the offer the flow books) and any other selected offer are always included.
+ * Responses of at most {@link HelperTestData#FullCheckOfferCount} offers, and every response in the deep
+ * profile, are checked in full.
+ */
+public final class OfferSample {
+
+    private static final double UNIT = 0x1.0p-53;
+
+    private final ValidationProfile profile;
+    private final long seed;
+    private final BitSet forced;
+    private final boolean full;
+
+    private OfferSample(ValidationProfile profile, long seed, BitSet forced, boolean full) {
+        this.profile = profile;
+        this.seed = seed;
+        this.forced = forced;
+        this.full = full;
+    }
+
+    /**
+     * Sample of a parsed response.
+     *
+     * @param profile        validation profile
+     * @param offerCount     number of offers in the response
+     * @param selectedOffers indexes always included (offers[0] is included anyway)
+     */
+    public static OfferSample of(ValidationProfile profile, int offerCount, int... selectedOffers) {
+        boolean full = profile.sampleRate() >= 1.0 || offerCount <= HelperTestData.FullCheckOfferCount;
+        return new OfferSample(profile, HelperTestData.SampleSeed, forced(selectedOffers), full);
+    }
+
+    /**
+     * Sample of a streamed response, whose offer count is not known up front.
+     */
+    public static OfferSample streaming(ValidationProfile profile, int... selectedOffers) {
+        return new OfferSample(profile, HelperTestData.SampleSeed, forced(selectedOffers), profile.sampleRate() >= 1.0);
+    }
+
+    private static BitSet forced(int[] selectedOffers) {
+        BitSet forced = new BitSet();
+        forced.set(0);
+        for (int index : selectedOffers) {
+            if (index >= 0) forced.set(index);
+        }
+        return forced;
+    }
+
+    /** Whether every offer is checked. */
+    public boolean isFull() {
+        return full;
+    }
+
+    public ValidationProfile profile() {
+        return profile;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    /** Whether the per-offer checks run on the offer at {@code index}. */
+    public boolean includes(int index) {
+        return full || forced.get(index) || (mix(seed + index * 0x9E3779B97F4A7C15L) >>> 11) * UNIT < profile.sampleRate();
+    }
+
+    /** First sampled index in [from, to), or {@code to} when there is none. */
+    public int next(int from, int to) {
+        int index = from;
+        while (index < to && !includes(index)) index++;
+        return index;
+    }
+
+    /** Number of sampled offers among the first {@code offerCount}. */
+    public int count(int offerCount) {
+        if (full) return offerCount;
+        int count = 0;
+        for (int index = 0; index < offerCount; index++) {
+            if (includes(index)) count++;
+        }
+        return count;
+    }
+
+    /** SplitMix64 finalizer: spreads consecutive indexes over the whole long range. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,128 @@
+package Utils.Assertions;
+
+import Utils.Helper.HelperTestData;
+import Utils.ReportManager.ReportManager;
+import com.aventstack.extentreports.ExtentTest;
+import org.testng.asserts.SoftAssert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Runs independent assertion checks, optionally in parallel (-Dndc.parallelChecks=true).
+ * <p>
+ * TestNG's {@link SoftAssert} is not thread-safe, so in parallel mode every check records into its
+ * own {@link CollectingSoftAssert} and the failures are replayed into the caller's SoftAssert in the
+ * order the checks were listed. The assertAll() report is the same whichever mode runs.
+ * Tasks run on the shared common fork-join pool (the same pool the async steps validate on) and see the
+ * caller's ExtentTest, since {@link ReportManager} keeps it per thread.
+ */
+public class ParallelChecks {
+
+    /**
+     * A check writing its failures to the given SoftAssert.
+     */
+    @FunctionalInterface
+    public interface Check {
+        void run(SoftAssert softAssert);
+    }
+
+    /** Whether independent checks run in parallel. */
+    public static boolean enabled() {
+        return HelperTestData.ParallelChecks;
+    }
+
+    /**
+     * Runs the checks and merges their failures into {@code softAssert} in list order.
+     * When a check throws, the failures of every check are still merged before the first error is rethrown.
+     *
+     * @param softAssert SoftAssert of the test
+     * @param checks     Independent checks (they must only read shared data)
+     */
+    public static void runAll(SoftAssert softAssert, List<Check> checks) {
+        if (!enabled()) {
+            for (Check check : checks) {
+                check.run(softAssert);
+            }
+            return;
+        }
+
+        List<CollectingSoftAssert> collectors = new ArrayList<>(checks.size());
+        List<Runnable> tasks = new ArrayList<>(checks.size());
+        for (Check check : checks) {
+            CollectingSoftAssert collector = new CollectingSoftAssert();
+            collectors.add(collector);
+            tasks.add(() -> check.run(collector));
+        }
+
+        Throwable[] errors = runCatching(tasks);
+
+        for (CollectingSoftAssert collector : collectors) {
+            collector.replayInto(softAssert);
+        }
+        rethrowFirst(errors);
+    }
+
+    /**
+     * Runs the tasks on the common fork-join pool and waits for all of them
+     * (sequentially, in order, when parallel checks are disabled).
+     * A task that throws does not stop the others: every task runs to the end, then the first error in task
+     * order is rethrown, with the later ones attached as suppressed.
+     */
+    static void runTasks(List<Runnable> tasks) {
+        rethrowFirst(runCatching(tasks));
+    }
+
+    /**
+     * Runs every task, catching what each one throws.
+     *
+     * @return the error of each task, by task index (null when it completed)
+     */
+    private static Throwable[] runCatching(List<Runnable> tasks) {
+        Throwable[] errors = new Throwable[tasks.size()];
+        if (!enabled() || tasks.size() < 2) {
+            for (int i = 0; i < tasks.size(); i++) {
+                try {
+                    tasks.get(i).run();
+                } catch (Throwable t) {
+                    errors[i] = t;
+                }
+            }
+            return errors;
+        }
+
+        ExtentTest callerTest = ReportManager.getTest();
+        List<ForkJoinTask<?>> forkJoinTasks = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Runnable task = tasks.get(i);
+            int index = i;
+            forkJoinTasks.add(ForkJoinTask.adapt(() -> {
+                ExtentTest previous = ReportManager.getTest();
+                ReportManager.setTest(callerTest);
+                try {
+                    task.run();
+                } catch (Throwable t) {
+                    errors[index] = t;
+                } finally {
+                    ReportManager.setTest(previous);
+                }
+            }));
+        }
+        ForkJoinTask.invokeAll(forkJoinTasks);
+        return errors;
+    }
+
+    /** Rethrows the first error, with the others suppressed; does nothing when every task completed. */
+    private static void rethrowFirst(Throwable[] errors) {
+        Throwable first = null;
+        for (Throwable error : errors) {
+            if (error == null) continue;
+            if (first == null) first = error;
+            else first.addSuppressed(error);
+        }
+        if (first instanceof RuntimeException e) throw e;
+        if (first instanceof Error e) throw e;
+        if (first != null) throw new RuntimeException(first);
+    }
+}
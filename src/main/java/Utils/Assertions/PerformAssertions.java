@@ -1,18 +1,33 @@
 package Utils.Assertions;
 
+import Utils.Helper.HelperTestData;
 import Utils.Helper.SearchResult;
-import io.restassured.RestAssured;
-import io.restassured.http.ContentType;
+import Utils.Model.Offer;
+import Utils.ReportManager.ReportManager;
+import Utils.Response.FieldProjection;
+import Utils.Response.OfferFingerprint;
+import Utils.Response.ResponseView;
+import Utils.Response.StreamingSearchReader.StreamedSearch;
+import Utils.Transport.HttpTransport;
+import Utils.Transport.StreamedResponse;
+import Utils.Transport.Transports;
+import com.aventstack.extentreports.ExtentTest;
 import io.restassured.response.Response;
 import org.testng.asserts.SoftAssert;
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 import static Utils.Assertions.BookingAssertions.*;
 import static Utils.Assertions.FareConfirmAssertions.*;
 import static Utils.Assertions.PositiveSearchAssertions.*;
 import static Utils.Assertions.RetrieveAssertions.validateRetrievePNR;
 import static Utils.Helper.HelperNegativeAssertions.assertContainsExpectedError;
-import static Utils.Loader.FareConfirmFileManager.*;
+import static Utils.Helper.HelperOfferFingerprint.storeFingerprint;
 import static Utils.Helper.HelperGetResponse.*;
 import static Utils.Loader.PayloadLoader.*;
 
@@ -24,6 +39,10 @@ import static Utils.Loader.PayloadLoader.*;
  *  2. Validates the HTTP response status and content.
  *  3. Runs detailed business-rule assertions.
  *  4. Returns extracted key data for chaining to the next step.
+ * Search, FareConfirm and Book also have {@code ...Async} variants that return a
+ * {@link CompletableFuture}: the request is sent without blocking the caller and the
+ * validation runs as a continuation once the response arrives. Assertion failures
+ * complete the future exceptionally.
  * NOTE: This class currently assumes that responses follow the happy path structure.
  *       We should expand assertion methods to handle and log invalid / error cases
  *       for robustness in negative testing.
@@ -31,34 +50,131 @@ import static Utils.Loader.PayloadLoader.*;
 public class PerformAssertions {
 
     /**
-     * Executes a POST request with the provided payload and headers.
-     * Logs the HTTP method and status, and returns the raw RestAssured Response.
+     * Static headers required by the NDC staging gateway on every request.
+     */
+    private static final Map<String, String> GATEWAY_HEADERS = Map.of(
+            "x-api-key", "ttdb2dc2-58c5-481c-84b5-95350a3a7978-f61360c2-f536-4b19-9a25-97b8f17ce4dc",
+            "client-id", "NDC-Core"
+    );
+
+    /**
+     * Executor running validation continuations of the async steps (CPU work, never blocks on I/O).
+     */
+    private static final Executor VALIDATION_EXECUTOR = ForkJoinPool.commonPool();
+
+    /**
+     * Executor running the Search continuations, which read the body while it is still arriving (blocking I/O).
+     */
+    private static final Executor SEARCH_BODY_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "search-body-reader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Executes a POST request with the provided payload and headers
+     * through the configured {@link HttpTransport} (pooled keep-alive client by default).
+     * Logs the HTTP method, status and elapsed time, and returns the RestAssured Response.
      *
      * @param fullUrl Endpoint URL
      * @param requestPayload JSON payload object
      * @return Response from the API
      */
     private static Response performPost(String fullUrl, Object requestPayload) {
-        Response response = RestAssured
-                .given()
-                    .body(requestPayload)
-                    .contentType(ContentType.JSON)
-                    .header("x-api-key","ttdb2dc2-58c5-481c-84b5-95350a3a7978-f61360c2-f536-4b19-9a25-97b8f17ce4dc")
-                    .header("client-id","NDC-Core")
-                    .log().method()
-                .when()
-                    .post(fullUrl)
-                .then()
-                    .log().status()
-                    .extract()
-                    .response();
+        HttpTransport transport = Transports.get();
+
+        long start = System.nanoTime();
+        Response response = transport.post(fullUrl, requestPayload, GATEWAY_HEADERS);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
 
         String correlationId = response.getHeader("CorrelationId");
         System.out.println("CorrelationId: " + correlationId);
+        System.out.println("⏱ POST via " + transport.name() + " took " + elapsedMs + " ms");
+
+        return response;
+    }
+
+    /**
+     * Non-blocking variant of {@link #performPost(String, Object)}.
+     * Same logging, but the caller thread is released while the request is in flight.
+     *
+     * @param fullUrl Endpoint URL
+     * @param requestPayload JSON payload object
+     * @return Future of the response from the API
+     */
+    private static CompletableFuture<Response> performPostAsync(String fullUrl, Object requestPayload) {
+        HttpTransport transport = Transports.get();
+
+        long start = System.nanoTime();
+        return transport.postAsync(fullUrl, requestPayload, GATEWAY_HEADERS)
+                .whenComplete((response, error) -> {
+                    long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+                    if (response != null) {
+                        System.out.println("CorrelationId: " + response.getHeader("CorrelationId"));
+                    }
+                    System.out.println("⏱ POST via " + transport.name() + " took " + elapsedMs + " ms");
+                });
+    }
+
+    /**
+     * Variant of {@link #performPost(String, Object)} returning once the headers have arrived, with the body
+     * still to be read (Search, whose body may be streamed). The logged time is the time to the headers.
+     *
+     * @param fullUrl Endpoint URL
+     * @param requestPayload JSON payload object
+     * @return Response whose body is still to be read
+     */
+    private static StreamedResponse performPostStreamed(String fullUrl, Object requestPayload) {
+        HttpTransport transport = Transports.get();
+
+        long start = System.nanoTime();
+        StreamedResponse response = transport.postStreamed(fullUrl, requestPayload, GATEWAY_HEADERS);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println("CorrelationId: " + response.head().getHeader("CorrelationId"));
+        System.out.println("⏱ POST via " + transport.name() + " took " + elapsedMs + " ms (headers)");
 
         return response;
     }
 
+    /**
+     * Non-blocking variant of {@link #performPostStreamed(String, Object)}.
+     *
+     * @param fullUrl Endpoint URL
+     * @param requestPayload JSON payload object
+     * @return Future of the response whose body is still to be read
+     */
+    private static CompletableFuture<StreamedResponse> performPostStreamedAsync(String fullUrl, Object requestPayload) {
+        HttpTransport transport = Transports.get();
+
+        long start = System.nanoTime();
+        return transport.postStreamedAsync(fullUrl, requestPayload, GATEWAY_HEADERS)
+                .whenComplete((response, error) -> {
+                    long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+                    if (response != null) {
+                        System.out.println("CorrelationId: " + response.head().getHeader("CorrelationId"));
+                    }
+                    System.out.println("⏱ POST via " + transport.name() + " took " + elapsedMs + " ms (headers)");
+                });
+    }
+
+    /**
+     * Wraps a validation step so that it runs with the caller's ExtentTest bound,
+     * since continuations execute on a different thread than the test method.
+     */
+    private static <T, R> Function<T, R> withCallerReportTest(Function<T, R> step) {
+        ExtentTest callerTest = ReportManager.getTest();
+        return input -> {
+            ExtentTest previous = ReportManager.getTest();
+            ReportManager.setTest(callerTest);
+            try {
+                return step.apply(input);
+            } finally {
+                ReportManager.setTest(previous);
+            }
+        };
+    }
+
     /**
      * Performs the Search API step:
      *  - Sends search payload
@@ -76,32 +192,73 @@ public class PerformAssertions {
                                              Map<String, Object> payload,
                                              int expectedStatusCode, String searchAddPaxScenarioType) {
 
-        Response response = performPost(Url, payload);
+        StreamedResponse response = performPostStreamed(Url, payload);
+        return handleSearchResponse(response, headers, payload, expectedStatusCode, searchAddPaxScenarioType);
+    }
+
+    /**
+     * Async variant of {@link #PerformSearch}: sends the search without blocking
+     * and runs the same validation as a continuation.
+     *
+     * @return Future of the SearchResult (completes with null for invalid searches)
+     */
+    public static CompletableFuture<SearchResult> PerformSearchAsync(String Url, Map<String, String> headers,
+                                                                     Map<String, Object> payload,
+                                                                     int expectedStatusCode, String searchAddPaxScenarioType) {
+        return performPostStreamedAsync(Url, payload)
+                .thenApplyAsync(withCallerReportTest(response ->
+                        handleSearchResponse(response, headers, payload, expectedStatusCode, searchAddPaxScenarioType)
+                ), SEARCH_BODY_EXECUTOR);
+    }
+
+    /**
+     * Validates a Search response and extracts the selected offer (shared by sync and async steps).
+     * Whether the body is streamed is decided before it is read: from Content-Length when the size is known,
+     * otherwise once more than {@link HelperTestData#StreamingThresholdBytes} have been read ahead.
+     */
+    private static SearchResult handleSearchResponse(StreamedResponse streamed, Map<String, String> headers,
+                                                     Map<String, Object> payload,
+                                                     int expectedStatusCode, String searchAddPaxScenarioType) {
+        Response response;
+        try (streamed) {
+            long maxBuffered = expectedStatusCode == 200 ? HelperTestData.StreamingThresholdBytes : Long.MAX_VALUE;
+            response = streamed.bufferUpTo(maxBuffered);
+            if (response == null) {
+                return handleLargeSearchResponse(streamed, headers, payload, expectedStatusCode, searchAddPaxScenarioType);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to read the Search response body", e);
+        }
+
         validateResponse(response, expectedStatusCode, true);
 
         SoftAssert softAssert = new SoftAssert();
+        // Parse the body once; every check reads from the same tree (and the typed model bound with it)
+        ResponseView view = expectedStatusCode == 200 ? ResponseView.ofSearch(response) : ResponseView.of(response);
 
         switch (expectedStatusCode) {
             case 200:
                 if (Objects.equals(searchAddPaxScenarioType, "pass")) {
-                    validatePositiveSearchAssertions(response, payload, headers, softAssert);
+                    validatePositiveSearchAssertions(view, payload, headers, softAssert);
                     softAssert.assertAll();
                 }
 
                 // Extract responseId and supplier for FareConfirm payload
-                String responseId = response.jsonPath().getString("responseId");
-                String supplier = response.jsonPath().getString("supplier");
+                String responseId = view.getString("responseId");
+                String supplier = view.getString("supplier");
 
                 // Extract first offer
-                String offerId = getSearchOfferId(response, 0);
-                Map<String, Object> selectedOffer = getNthOffer(response, 0);
+                String offerId = getSearchOfferId(view, 0);
+                Map<String, Object> selectedOffer = getNthOffer(view, 0);
+                List<Offer> offers = view.search().offers();
+                storeSearchFingerprint(selectedOffer, offers != null && !offers.isEmpty() ? offers.get(0) : null);
 
                 return new SearchResult(offerId, selectedOffer, responseId, supplier);
 
             case 400:
                 validateResponse(response, expectedStatusCode, true);
                 String expectedMsg = NegativeSearchAssertions.generateExpectedMessage(searchAddPaxScenarioType);
-                assertContainsExpectedError(response, expectedMsg, softAssert);
+                assertContainsExpectedError(view, expectedMsg, softAssert);
                 softAssert.assertAll();
                 return null;
 
@@ -112,14 +269,52 @@ public class PerformAssertions {
         }
     }
 
+    /**
+     * Search responses above {@link HelperTestData#StreamingThresholdBytes} are validated while the
+     * offers are read from the connection instead of being parsed into a full tree (and are not pretty-printed).
+     * The body is never held in full: at most the threshold was read ahead to find out its size.
+     */
+    private static SearchResult handleLargeSearchResponse(StreamedResponse response, Map<String, String> headers,
+                                                          Map<String, Object> payload,
+                                                          int expectedStatusCode, String searchAddPaxScenarioType) {
+        String size = response.contentLength() >= 0 ? response.contentLength() + " bytes"
+                : "over " + HelperTestData.StreamingThresholdBytes + " bytes";
+        System.out.println("\n📩 Search response is " + size + " → streaming validation");
+        validateResponse(response.head(), expectedStatusCode, false);
+
+        SoftAssert softAssert = new SoftAssert();
+        boolean validate = Objects.equals(searchAddPaxScenarioType, "pass");
+        StreamedSearch streamed = StreamingSearchAssertions.validateStreamingSearch(
+                response.body(), payload, headers, validate, softAssert);
+        if (validate) {
+            softAssert.assertAll();
+        }
+
+        Map<String, Object> selectedOffer = streamed.firstOffer();
+        String offerId = selectedOffer != null ? (String) selectedOffer.get("offerId") : null;
+        storeSearchFingerprint(selectedOffer, streamed.firstOfferTyped());
+
+        return new SearchResult(offerId, selectedOffer, streamed.responseId(), streamed.supplier());
+    }
+
+
+    /**
+     * Stores the fingerprint of the selected Search offer, computed from its bound model, in the offer map the
+     * tests pass on to FareConfirm.
+     */
+    private static void storeSearchFingerprint(Map<String, Object> selectedOffer, Offer typedOffer) {
+        if (selectedOffer != null && typedOffer != null) {
+            storeFingerprint(selectedOffer, OfferFingerprint.of(typedOffer));
+        }
+    }
 
     /**
      * Performs the FareConfirm API step:
      *  - Sends selected offer for confirmation
      *  - Validates status code & structure
      *  - Extracts confirmed Offer ID
-     *  - Saves response for later validation
-     *  - Runs assertions comparing it with Search offer details
+     *  - Runs assertions comparing it with the Search offer fingerprint
+     *  - Stores the FareConfirm offer fingerprint for the Book step
      * @param Url FareConfirm endpoint
      * @param payloadMap FareConfirm payload
      * @param selectedOfferFromSearch Offer details from Search step
@@ -132,26 +327,57 @@ public class PerformAssertions {
                                             int expectedStatusCode, String searchAddPaxScenarioType) {
 
         Response response = performPost(Url, payloadMap);
-        validateResponse(response, expectedStatusCode, true);
+        return handleFareConfirmResponse(response, selectedOfferFromSearch, expectedStatusCode, searchAddPaxScenarioType);
+    }
 
-        Map<String, Object> responseMap = response.jsonPath().getMap("$");
-        System.out.println(responseMap);
+    /**
+     * Async variant of {@link #PerformFareConfirm}: sends the confirmation without blocking
+     * and runs the same validation as a continuation.
+     *
+     * @return Future of the FareConfirm offer ID
+     */
+    public static CompletableFuture<String> PerformFareConfirmAsync(String Url,
+                                                                    Map<String, Object> payloadMap,
+                                                                    Map<String, Object> selectedOfferFromSearch,
+                                                                    int expectedStatusCode, String searchAddPaxScenarioType) {
+        return performPostAsync(Url, payloadMap)
+                .thenApplyAsync(withCallerReportTest(response ->
+                        handleFareConfirmResponse(response, selectedOfferFromSearch, expectedStatusCode, searchAddPaxScenarioType)
+                ), VALIDATION_EXECUTOR);
+    }
 
-        String fareConfirmOfferId = getFareConfirmOfferId(response);
+    /**
+     * Validates a FareConfirm response, stores its offer fingerprint and returns the confirmed offer ID
+     * (shared by sync and async steps).
+     */
+    private static String handleFareConfirmResponse(Response response,
+                                                    Map<String, Object> selectedOfferFromSearch,
+                                                    int expectedStatusCode, String searchAddPaxScenarioType) {
+        validateResponse(response, expectedStatusCode, true);
 
-        // fallback to original offerId if null
-        String offerIdForFile = fareConfirmOfferId != null ? fareConfirmOfferId
-                : (String) selectedOfferFromSearch.get("offerId");
+        // Parse only the ids, the offer fingerprint and the fields the enabled checks read
+        // Sections and Passengers are only fingerprinted when the Book checks of the profile compare them
+        boolean sections = BookingAssertions.comparesFareConfirmSections();
+        boolean passengers = BookingAssertions.comparesFareConfirmPassengers();
+        FieldProjection.Builder fields = OfferFingerprint.project(FieldProjection.builder()
+                .read("responseId", "selectedOffer.offerId"), "selectedOffer", sections, passengers);
+        boolean validated = Objects.equals(searchAddPaxScenarioType, "pass");
+        if (validated) fields.read(FareConfirmAssertions.reads(selectedOfferFromSearch));
+        ResponseView view = ResponseView.of(response, fields.build());
 
-        saveFareConfirmResponse(offerIdForFile, responseMap);
+        String fareConfirmOfferId = getFareConfirmOfferId(view);
+        OfferFingerprint fareConfirmFingerprint = OfferFingerprint.of(view, "selectedOffer", sections, passengers);
 
-        selectedOfferFromSearch.put("fareConfirmResponseId", getFareConfirmResponseId(response));
+        selectedOfferFromSearch.put("fareConfirmResponseId", getFareConfirmResponseId(view));
         selectedOfferFromSearch.put("SelectedOfferId", fareConfirmOfferId); // for payload reuse
         System.out.println("\n\n💕💕💕selectedOfferFromSearch: "+selectedOfferFromSearch);
-        if (Objects.equals(searchAddPaxScenarioType, "pass")) {
-            validateFareConfirm(response, selectedOfferFromSearch);
+        if (validated) {
+            validateFareConfirm(view, selectedOfferFromSearch, fareConfirmFingerprint);
         }
 
+        // The Book step checks against this fingerprint instead of the FareConfirm response
+        storeFingerprint(selectedOfferFromSearch, fareConfirmFingerprint);
+
         return fareConfirmOfferId;
     }
 
@@ -160,32 +386,57 @@ public class PerformAssertions {
      * Performs the Book API step:
      *  - Sends booking request
      *  - Validates status code & response structure
-     *  - Loads AddPax payload & FareConfirm data for deep validation
-     *  - Runs booking assertions against prior steps
+     *  - Runs booking assertions against the FareConfirm offer fingerprint
      *  - Returns booking info (PNR, ticket numbers, etc.)
      *
      * @param url Book endpoint
      * @param payloadMap Booking payload
      * @param expectedStatusCode Expected HTTP status code
      * @param selectedOfferFromSearch Offer data from Search
-     * @param searchPayload Original search payload
-     * @param fareConfirmId FareConfirm ID
-     * @return Booking info map
+     * @return Booking info map, holding the Book order fingerprint for Retrieve
      */
     public static Map<String, Object> PerformBook(String url, Map<String, Object> payloadMap,
-                                                  int expectedStatusCode, Map<String, Object> selectedOfferFromSearch,
-                                                  Map<String, Object> searchPayload, String fareConfirmId) {
+                                                  int expectedStatusCode, Map<String, Object> selectedOfferFromSearch) {
         Response response = performPost(url, payloadMap);
+        return handleBookResponse(response, expectedStatusCode, selectedOfferFromSearch);
+    }
+
+    /**
+     * Async variant of {@link #PerformBook}: sends the booking without blocking
+     * and runs the same validation as a continuation.
+     *
+     * @return Future of the booking info map
+     */
+    public static CompletableFuture<Map<String, Object>> PerformBookAsync(String url, Map<String, Object> payloadMap,
+                                                                          int expectedStatusCode, Map<String, Object> selectedOfferFromSearch) {
+        return performPostAsync(url, payloadMap)
+                .thenApplyAsync(withCallerReportTest(response ->
+                        handleBookResponse(response, expectedStatusCode, selectedOfferFromSearch)
+                ), VALIDATION_EXECUTOR);
+    }
+
+    /**
+     * Validates a Book response against prior steps and returns booking info (shared by sync and async steps).
+     */
+    private static Map<String, Object> handleBookResponse(Response response, int expectedStatusCode,
+                                                          Map<String, Object> selectedOfferFromSearch) {
         validateResponse(response, expectedStatusCode, true);
 
-        Map<String, Object> bookResponse = response.jsonPath().getMap("$");
-        Map<String, Object> fareConfirmResponse = loadFareConfirmResponse(fareConfirmId);
+        // Parse only the booking references, the passengers, the order fingerprint and the fields the enabled checks
+        // read. The section hashes are always kept: Retrieve TC.5, TC.6 and TC.8 compare them whatever the profile.
+        ResponseView bookResponse = ResponseView.of(response, OfferFingerprint.project(FieldProjection.builder()
+                .read("ndcBookingReference", "airlinePnr", "gdsPnr", "passengers"), "order", true, false)
+                .read(BookingAssertions.reads(selectedOfferFromSearch))
+                .build());
+        OfferFingerprint bookFingerprint = OfferFingerprint.of(bookResponse, "order", true, false);
 
         SoftAssert softAssert = new SoftAssert();
-        validateBookingResponse(response, bookResponse, fareConfirmResponse, selectedOfferFromSearch, softAssert);
+        validateBookingResponse(bookResponse, bookFingerprint, selectedOfferFromSearch, softAssert);
         softAssert.assertAll();
 
-        return getBookingInfo(response);
+        Map<String, Object> bookingInfo = getBookingInfo(bookResponse);
+        storeFingerprint(bookingInfo, bookFingerprint);
+        return bookingInfo;
     }
 
     /**
@@ -199,12 +450,15 @@ public class PerformAssertions {
         Response response = performPost(Url, payloadMap);
         validateResponse(response, expectedStatusCode, true);
 
-        Map<String, Object> retrieveMap = getBookingInfo(response);
+        ResponseView view = ResponseView.of(response, OfferFingerprint.project(FieldProjection.builder()
+                .read("ndcBookingReference", "airlinePnr", "gdsPnr", "passengers"), "order", true, false).build());
+        Map<String, Object> retrieveMap = getBookingInfo(view);
+        storeFingerprint(retrieveMap, OfferFingerprint.of(view, "order", true, false));
         SoftAssert softAssert = new SoftAssert();
         validateRetrievePNR(bookMap, retrieveMap, softAssert);
         softAssert.assertAll();
 
-        return getBookingInfo(response);
+        return retrieveMap;
     }
 
     /**
@@ -217,7 +471,10 @@ public class PerformAssertions {
         Response response = performPost(url, payloadMap);
         validateResponse(response, expectedStatusCode, true);
 
-        Map<String, Object> retrieveMap = getBookingInfo(response);
+        ResponseView view = ResponseView.of(response, OfferFingerprint.project(FieldProjection.builder()
+                .read("ndcBookingReference", "airlinePnr", "gdsPnr", "passengers"), "order", true, false).build());
+        Map<String, Object> retrieveMap = getBookingInfo(view);
+        storeFingerprint(retrieveMap, OfferFingerprint.of(view, "order", true, false));
         SoftAssert softAssert = new SoftAssert();
         validateRetrievePNR(bookMap, retrieveMap, softAssert);
         softAssert.assertAll();
@@ -1,15 +1,19 @@
 package Utils.Assertions;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import io.restassured.path.json.JsonPath;
+import Utils.Model.*;
+import Utils.ReportManager.ReportManager;
+import Utils.Helper.HelperCurrencyValidator.CurrencyTotals;
+import Utils.Loader.NullAllowlistLoader;
+import Utils.Loader.ValidationRulesLoader;
+import Utils.Response.NullLikeScanner;
+import Utils.Response.ResponseView;
+import Utils.Response.SearchIndex;
+import Utils.Response.SegmentTimeline;
+import Utils.Response.StructuralHash;
 import io.restassured.response.Response;
 import org.testng.asserts.SoftAssert;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
-import static Utils.Helper.HelperCurrencyValidator.validateCurrencies;
+import java.util.function.BiConsumer;
+import static Utils.Helper.HelperCurrencyValidator.validateAmountCurrencies;
 import static Utils.Helper.HelperGetResponse.*;
 import static Utils.Helper.HelperPassengerBreakdown.validateOfferJourneys;
 import static Utils.Helper.HelperPassengerBreakdown.validatePassengerReferences;
@@ -23,25 +27,57 @@ public class PositiveSearchAssertions {
 
     /**
      * Entry point to execute all relevant validations on a Search API response.
+     * All checks run in a single walk of offers[] (see {@link SearchValidationEngine}), per-offer checks on the
+     * offers sampled by the current {@link ValidationProfile};
+     * failures are reported in the order the checks are listed here. The declarative rules of
+     * "validation/rules.json" ({@link ValidationRulesLoader}) are reported last; those inside offers[] are called
+     * from the same walk ({@link ResponseRules#searchCheck()}).
      */
-    protected static void validatePositiveSearchAssertions(Response response, Map<String, Object> payload, Map<String, String> headers, SoftAssert softAssert) {
-        validateNumberOfStops(response, softAssert);
-        validateAllSegmentDetailsPerPassenger(response, payload, softAssert);
-        validateOfferJourneyCount(response, payload, softAssert);
-        validatePassengerTypes(response, payload, softAssert);
-        ValidateUniqueTaxCodesPerPassenger(response, softAssert);
-        validateAllOffersPassengerFareBreakdowns(response, softAssert);
-        validateAllOffersTotalPriceDetails(response, softAssert);
-        validateAllOffersPricingDetails(response,payload ,softAssert);
-        validateAllReferencesOffers(response, softAssert);
-        validateCurrencies(response, headers, "offers", softAssert);
-        validateRbdNotNull(response, softAssert);
-        validateOfferIdUniqueness(response,softAssert);
-        validateOfferSegmentsExistAndAreNonOverlapping(response,softAssert);
-        validateSegmentChainingPerJourney(response,payload,softAssert);
-        validateOffersSortedByTotalAmount(response,softAssert);
-        validateOffersAreUnique(response,softAssert);
-        validateNoNullValuesInSearchResponse(response,softAssert);
+    protected static void validatePositiveSearchAssertions(ResponseView view, Map<String, Object> payload, Map<String, String> headers, SoftAssert softAssert) {
+        SearchValidationEngine.run(view, searchChecks(payload, headers), softAssert);
+    }
+
+    /**
+     * The Search checks, in reporting order; new instances on every call, since checks keep per-run state.
+     */
+    static List<SearchCheck> searchChecks(Map<String, Object> payload, Map<String, String> headers) {
+        return List.of(
+                wholeResponse(PositiveSearchAssertions::validateNumberOfStops),
+                segmentDetailsPerPassengerCheck(payload),
+                offerJourneyCountCheck(payload),
+                passengerTypesCheck(payload),
+                uniqueTaxCodesPerPassengerCheck(),
+                passengerFareBreakdownsCheck(),
+                totalPriceDetailsCheck(),
+                pricingDetailsCheck(payload),
+                referencesCheck(),
+                currencyCheck(headers),
+                rbdNotNullCheck(),
+                offerIdUniquenessCheck(),
+                offerSegmentsExistAndAreNonOverlappingCheck(),
+                wholeResponse((v, sa) -> validateSegmentChainingPerJourney(v, payload, sa)),
+                offersSortedByTotalAmountCheck(),
+                offersAreUniqueCheck(),
+                wholeResponse(PositiveSearchAssertions::validateNoNullValuesInSearchResponse),
+                ValidationRulesLoader.forStage("search", headers.get("AgencyName")).searchCheck()
+        );
+    }
+
+    /**
+     * Wraps a response-level check that does not walk offers[] (journeys, whole-tree scans).
+     */
+    private static SearchCheck wholeResponse(BiConsumer<ResponseView, SoftAssert> check) {
+        return new SearchCheck() {
+            @Override
+            protected void onStart(SoftAssert softAssert) {
+                check.accept(view, softAssert);
+            }
+
+            @Override
+            protected boolean walksOffers() {
+                return false;
+            }
+        };
     }
 
     /**
@@ -71,13 +107,12 @@ public class PositiveSearchAssertions {
      *       (number of segments - 1).
      * Why: A journey with N segments should always have N-1 stops.
      *
-     * @param response   API response containing journey details.
+     * @param view       API response containing journey details.
      * @param softAssert SoftAssert instance to record assertion results without stopping execution.
      */
-    private static void validateNumberOfStops(Response response, SoftAssert softAssert) {
+    private static void validateNumberOfStops(ResponseView view, SoftAssert softAssert) {
         System.out.println("\n⛔ === TC.1: Validating Number of Stops ===\n");
-        JsonPath jsonPath = response.jsonPath();
-        Map<String, Map<String, Object>> journeys = jsonPath.getMap("journeys");
+        Map<String, Journey> journeys = view.search().journeys();
 
         if (journeys == null || journeys.isEmpty()) {
             System.out.println("⚠️ No journeys found.");
@@ -85,13 +120,14 @@ public class PositiveSearchAssertions {
         }
 
         journeys.forEach((journeyId, journey) -> {
-            int expectedStops = ((List<?>) journey.get("segmentRefIds")).size() - 1;
-            int actualStops = ((Integer) journey.getOrDefault("numberOfStops", -1));
+            int expectedStops = journey.segmentRefIds().size() - 1;
+            int actualStops = journey.numberOfStops() != null ? journey.numberOfStops() : -1;
 
-            softAssert.assertEquals(
+            LazyAssert.assertEquals(
                     actualStops,
                     expectedStops,
-                    String.format("❌TC.1 Journey %s: Expected %d stops, found %d", journeyId, expectedStops, actualStops)
+                    () -> String.format("❌TC.1 Journey %s: Expected %d stops, found %d", journeyId, expectedStops, actualStops),
+                    softAssert
             );
         });
 
@@ -103,38 +139,44 @@ public class PositiveSearchAssertions {
      *       the search criteria requires (≥ number of requested journeys).
      * Why: If the request is for multi-leg travel, every passenger's fare breakdown
      *      must contain all segment details for every leg.
-     * @param response   API response containing offers and passenger breakdowns.
      * @param payload    The request payload (used to determine expected journey/segment count).
-     * @param softAssert SoftAssert instance to record assertion results.
      */
-    private static void validateAllSegmentDetailsPerPassenger(Response response, Map<String, Object> payload, SoftAssert softAssert) {
-        List<Map<String, Object>> searchCriteria = (List<Map<String, Object>>) payload.get("searchCriteria");
-        int expectedSegments = searchCriteria.size();
-        JsonPath jsonPath = response.jsonPath();
-        List<Map<String, Object>> offers = jsonPath.getList("offers");
+    private static SearchCheck segmentDetailsPerPassengerCheck(Map<String, Object> payload) {
+        return new SearchCheck() {
+            private int expectedSegments;
 
-        System.out.printf("\n=== ✈ TC.2: Validating %d Offers' Segment Details Against Search Criteria Size%n===\n", offers.size());
+            @Override
+            protected void onStart(SoftAssert softAssert) {
+                List<Map<String, Object>> searchCriteria = (List<Map<String, Object>>) payload.get("searchCriteria");
+                expectedSegments = searchCriteria.size();
 
-        for (int offerIndex = 0; offerIndex < offers.size(); offerIndex++) {
-            List<Map<String, Object>> paxList = jsonPath.getList("offers[" + offerIndex + "].passengerFareBreakdown");
+                System.out.printf("\n=== ✈ TC.2: Validating %d Offers' Segment Details Against Search Criteria Size%n===\n", offerCount(view));
+            }
 
-            for (int paxIndex = 0; paxIndex < paxList.size(); paxIndex++) {
-                List<Map<String, Object>> segments = jsonPath.getList(
-                        "offers[" + offerIndex + "].passengerFareBreakdown[" + paxIndex + "].segmentDetails"
-                );
-                String paxType = jsonPath.getString(
-                        "offers[" + offerIndex + "].passengerFareBreakdown[" + paxIndex + "].passengerTypeCode"
+            @Override
+            protected void onPassengerBreakdown(int offerIndex, int paxIndex, PassengerFareBreakdown pax, SoftAssert softAssert) {
+                List<SegmentDetail> segments = pax.segmentDetails();
+                int actualSegments = segments != null ? segments.size() : 0;
+                String paxType = pax.passengerTypeCode();
+
+                LazyAssert.assertTrue(
+                        actualSegments >= expectedSegments,
+                        () -> String.format("❌TC.2 Offer[%d] Pax[%d] (%s): Expected ≥ %d segments, but found %d",
+                                offerIndex, paxIndex, paxType, expectedSegments, actualSegments),
+                        softAssert
                 );
+            }
 
-                softAssert.assertTrue(
-                        segments.size() >= expectedSegments,
-                        String.format("❌TC.2 Offer[%d] Pax[%d] (%s): Expected ≥ %d segments, but found %d",
-                                offerIndex, paxIndex, paxType, expectedSegments, segments.size())
-                );
+            @Override
+            protected boolean perOffer() {
+                return true;
             }
-        }
 
-        System.out.println("\n✅ TC.2: Segment details validated.");
+            @Override
+            protected void onEnd(SoftAssert softAssert) {
+                System.out.println("\n✅ TC.2: Segment details validated.");
+            }
+        };
     }
 
     /**
@@ -142,30 +184,42 @@ public class PositiveSearchAssertions {
      * Why: The number of journeys in an offer should match the original search criteria
      *      (e.g., round-trip request should have 2 journeys).
      *
-     * @param response   API response containing offer details.
      * @param payload    The request payload (to determine expected journey count).
-     * @param softAssert SoftAssert instance to record assertion results.
      */
-    private static void validateOfferJourneyCount(Response response, Map<String, Object> payload, SoftAssert softAssert) {
-        List<Map<String, Object>> searchCriteria = (List<Map<String, Object>>) payload.get("searchCriteria");
-        int expectedJourneyCount = searchCriteria.size();
-        System.out.println("\n=== 🛫 TC.3: Validating Offer Journey Count ===\n");
-
-        JsonPath jsonPath = response.jsonPath();
-        List<Map<String, Object>> offers = jsonPath.getList("offers");
-
-        for (int i = 0; i < offers.size(); i++) {
-            List<String> journeyRefs = jsonPath.getList("offers[" + i + "].offerJourneys");
-            int actualCount = journeyRefs != null ? journeyRefs.size() : 0;
-
-            softAssert.assertEquals(
-                    actualCount,
-                    expectedJourneyCount,
-                    String.format("❌TC.3 Offer[%d]: Expected %d journeys, found %d", i, expectedJourneyCount, actualCount)
-            );
-        }
+    private static SearchCheck offerJourneyCountCheck(Map<String, Object> payload) {
+        return new SearchCheck() {
+            private int expectedJourneyCount;
+
+            @Override
+            protected void onStart(SoftAssert softAssert) {
+                List<Map<String, Object>> searchCriteria = (List<Map<String, Object>>) payload.get("searchCriteria");
+                expectedJourneyCount = searchCriteria.size();
+                System.out.println("\n=== 🛫 TC.3: Validating Offer Journey Count ===\n");
+            }
+
+            @Override
+            protected void onOffer(int i, Offer offer, SoftAssert softAssert) {
+                List<String> journeyRefs = offer.offerJourneys();
+                int actualCount = journeyRefs != null ? journeyRefs.size() : 0;
 
-        System.out.println("\n✅ TC.3: Offer journey count validated.");
+                LazyAssert.assertEquals(
+                        actualCount,
+                        expectedJourneyCount,
+                        () -> String.format("❌TC.3 Offer[%d]: Expected %d journeys, found %d", i, expectedJourneyCount, actualCount),
+                        softAssert
+                );
+            }
+
+            @Override
+            protected boolean perOffer() {
+                return true;
+            }
+
+            @Override
+            protected void onEnd(SoftAssert softAssert) {
+                System.out.println("\n✅ TC.3: Offer journey count validated.");
+            }
+        };
     }
 
     /**
@@ -174,46 +228,64 @@ public class PositiveSearchAssertions {
      * Why: Passenger types (e.g., ADT, CHD, INF) must match the request,
      *      and there should be no duplicate type entries per offer.
      *
-     * @param response   API response containing passenger breakdown.
      * @param payload    The request payload (used to validate types).
-     * @param softAssert SoftAssert instance to record assertion results.
      */
-    private static void validatePassengerTypes(Response response, Map<String, Object> payload, SoftAssert softAssert) {
-        JsonPath jsonPath = response.jsonPath();
-        List<Map<String, Object>> offers = jsonPath.getList("offers");
-        List<Map<String, Object>> payloadPassengers = (List<Map<String, Object>>) payload.get("passengers");
-
-        // Collect expected passenger types from payload
-        Set<String> expectedTypes = new HashSet<>();
-        for (Map<String, Object> pax : payloadPassengers) {
-            expectedTypes.add((String) pax.get("passengerTypeCode"));
-        }
+    private static SearchCheck passengerTypesCheck(Map<String, Object> payload) {
+        return new SearchCheck() {
+            private final Set<String> expectedTypes = new HashSet<>();
+
+            @Override
+            protected void onStart(SoftAssert softAssert) {
+                List<Map<String, Object>> payloadPassengers = (List<Map<String, Object>>) payload.get("passengers");
 
-        System.out.println("\n=== 🧍‍♂️ TC.4: Validating Passenger Types for " + offers.size() + " offers ===\n");
+                // Collect expected passenger types from payload
+                for (Map<String, Object> pax : payloadPassengers) {
+                    expectedTypes.add((String) pax.get("passengerTypeCode"));
+                }
 
-        for (int i = 0; i < offers.size(); i++) {
-            List<Map<String, Object>> fareBreakdownList = jsonPath.getList("offers[" + i + "].passengerFareBreakdown");
+                System.out.println("\n=== 🧍‍♂️ TC.4: Validating Passenger Types for " + offerCount(view) + " offers ===\n");
+            }
 
-            Set<String> seenTypes = new HashSet<>();
+            @Override
+            protected void onOffer(int i, Offer offer, SoftAssert softAssert) {
+                checkPassengerTypes(offer, i, expectedTypes, softAssert);
+            }
 
-            for (Map<String, Object> breakdown : fareBreakdownList) {
-                String type = (String) breakdown.get("passengerTypeCode");
+            @Override
+            protected boolean perOffer() {
+                return true;
+            }
 
-                // Duplicate passenger type check
-                if (!seenTypes.add(type)) {
-                    softAssert.fail(String.format("❌ TC.4 Offer[%d]: Duplicate passenger type code found: %s", i, type));
-                }
+            @Override
+            protected void onEnd(SoftAssert softAssert) {
+                System.out.println("\n✅ TC.4: Passenger type presence + duplicate type check completed.");
             }
+        };
+    }
 
-            // Validate that all expected passenger types exist in this offer
-            for (String expectedType : expectedTypes) {
-                if (!seenTypes.contains(expectedType)) {
-                    softAssert.fail("❌ TC.4 Offer[" + i + "]: Missing passenger type: " + expectedType);
-                }
+    /**
+     * TC.4 for a single offer: no duplicate passenger type and every requested type present.
+     */
+    static void checkPassengerTypes(Offer offer, int i, Set<String> expectedTypes, SoftAssert softAssert) {
+        List<PassengerFareBreakdown> fareBreakdownList = offer.passengerFareBreakdown();
+
+        Set<String> seenTypes = new HashSet<>();
+
+        for (PassengerFareBreakdown breakdown : fareBreakdownList) {
+            String type = breakdown.passengerTypeCode();
+
+            // Duplicate passenger type check
+            if (!seenTypes.add(type)) {
+                softAssert.fail(String.format("❌ TC.4 Offer[%d]: Duplicate passenger type code found: %s", i, type));
             }
         }
 
-        System.out.println("\n✅ TC.4: Passenger type presence + duplicate type check completed.");
+        // Validate that all expected passenger types exist in this offer
+        for (String expectedType : expectedTypes) {
+            if (!seenTypes.contains(expectedType)) {
+                softAssert.fail("❌ TC.4 Offer[" + i + "]: Missing passenger type: " + expectedType);
+            }
+        }
     }
 
 
@@ -221,150 +293,164 @@ public class PositiveSearchAssertions {
      * TC.5: Ensure tax codes per passenger are unique within their offer.
      * This test checks each passenger's "taxesAndFees" list in every offer
      * to confirm that no tax code appears more than once for that passenger.
-     * @param response   The API response containing offers and fare breakdowns
-     * @param softAssert SoftAssert instance for accumulating assertion results
      */
-    private static void ValidateUniqueTaxCodesPerPassenger(Response response, SoftAssert softAssert) {
-        // Extract list of offers from the JSON response
-        List<Map<String, Object>> offers = response.jsonPath().getList("offers");
-        System.out.println("\n===🧾 TC.5: Validating Unique Tax Codes Per Passenger ===\n");
-
-        // Iterate over each offer
-        for (int offerIndex = 0; offerIndex < offers.size(); offerIndex++) {
-            // Extract passenger fare breakdown for the current offer
-            List<Map<String, Object>> breakdowns = (List<Map<String, Object>>) offers.get(offerIndex).get("passengerFareBreakdown");
-            if (breakdowns == null) continue; // Skip if breakdowns are missing
-
-            // Validate each passenger's tax codes
-            for (Map<String, Object> breakdown : breakdowns) {
-                String paxType = (String) breakdown.get("passengerTypeCode");
-                List<Map<String, Object>> taxes = (List<Map<String, Object>>) breakdown.get("taxesAndFees");
+    private static SearchCheck uniqueTaxCodesPerPassengerCheck() {
+        return new SearchCheck() {
+            @Override
+            protected void onStart(SoftAssert softAssert) {
+                System.out.println("\n===🧾 TC.5: Validating Unique Tax Codes Per Passenger ===\n");
+            }
+
+            @Override
+            protected void onPassengerBreakdown(int offerIndex, int paxIndex, PassengerFareBreakdown breakdown, SoftAssert softAssert) {
+                String paxType = breakdown.passengerTypeCode();
+                List<TaxFee> taxes = breakdown.taxesAndFees();
 
                 if (taxes == null) {
                     System.out.printf("⚠️TC.5 Warning: 'taxesAndFees' is null for paxType '%s' in offer[%d]%n", paxType, offerIndex);
-                    continue; // Skip passenger without tax details
+                    return;
                 }
 
-                // Track seen tax codes to detect duplicates
+                // Track seen tax codes of this passenger to detect duplicates
                 Set<String> seenCodes = new HashSet<>();
-                for (Map<String, Object> tax : taxes) {
-                    String code = (String) tax.get("code");
+                for (TaxFee tax : taxes) {
+                    String code = tax.code();
                     if (code != null && !seenCodes.add(code)) {
                         // Duplicate found → fail the soft assertion
                         softAssert.fail(String.format("❌ TC.5 Duplicate tax code '%s' found for paxType '%s' in offer[%d]", code, paxType, offerIndex));
                     }
                 }
             }
-        }
 
-        System.out.println("\n✅ TC.5: Tax code uniqueness validated.");
+            @Override
+            protected boolean perOffer() {
+                return true;
+            }
+
+            @Override
+            protected void onEnd(SoftAssert softAssert) {
+                System.out.println("\n✅ TC.5: Tax code uniqueness validated.");
+            }
+        };
     }
 
     /**
      * TC.7: Validate passenger fare breakdown base and tax amounts for all offers.
      * (❌ Neglecting passengerTotalAmount check)
-     *
-     * @param response   The API response containing offers
-     * @param softAssert SoftAssert instance for accumulating assertion results
      */
-    private static void validateAllOffersPassengerFareBreakdowns(Response response, SoftAssert softAssert) {
-        JsonPath jsonPath = response.jsonPath();
-        List<Map<String, Object>> offers = jsonPath.getList("offers");
+    private static SearchCheck passengerFareBreakdownsCheck() {
+        return new SearchCheck() {
+            @Override
+            protected void onStart(SoftAssert softAssert) {
+                if (offerCount(view) == 0) {
+                    softAssert.fail("❌ TC.7 No offers found in the response.");
+                    skip();
+                    return;
+                }
 
-        if (offers == null || offers.isEmpty()) {
-            softAssert.fail("❌ TC.7 No offers found in the response.");
-            return;
-        }
+                System.out.println("\n💰 === TC.7: Validating Passenger Fare Breakdowns (Base + Tax only) for All "
+                        + offerCount(view) + " Offers ===\n");
+            }
 
-        System.out.println("\n💰 === TC.7: Validating Passenger Fare Breakdowns (Base + Tax only) for All "
-                + offers.size() + " Offers ===\n");
+            @Override
+            protected void onOffer(int offerIndex, Offer offer, SoftAssert softAssert) {
+                System.out.println("\n\t📦 ✔ Validating Offer Index: " + offerIndex);
 
-        // Iterate through all offers
-        for (int offerIndex = 0; offerIndex < offers.size(); offerIndex++) {
-            System.out.println("\n\t📦 ✔ Validating Offer Index: " + offerIndex);
+                // Get passenger breakdowns for this offer
+                List<PassengerFareBreakdown> passengerBreakdowns = offer.passengerFareBreakdown();
 
-            // Get passenger breakdowns for this offer
-            List<Map<String, Object>> passengerBreakdowns =
-                    jsonPath.getList("offers[" + offerIndex + "].passengerFareBreakdown");
+                if (passengerBreakdowns == null || passengerBreakdowns.isEmpty()) {
+                    softAssert.fail("❌ TC.7 No passenger fare breakdown found in offer " + offerIndex);
+                    return;
+                }
 
-            if (passengerBreakdowns == null || passengerBreakdowns.isEmpty()) {
-                softAssert.fail("❌ TC.7 No passenger fare breakdown found in offer " + offerIndex);
-                continue;
-            }
+                // Log each passenger's fare details (without validating passengerTotalAmount)
+                for (PassengerFareBreakdown passenger : passengerBreakdowns) {
+                    String type = passenger.passengerTypeCode();
 
-            // Log each passenger's fare details (without validating passengerTotalAmount)
-            for (Map<String, Object> passenger : passengerBreakdowns) {
-                String type = (String) passenger.get("passengerTypeCode");
+                    Money base = Amount.orZero(passenger.paxBaseAmount());
+                    Money tax  = Amount.orZero(passenger.paxTotalTaxAmount());
 
-                BigDecimal base = getAmountOrZero(passenger.get("paxBaseAmount"));
-                BigDecimal tax  = getAmountOrZero(passenger.get("paxTotalTaxAmount"));
+                    // Log only base and tax
+                    System.out.printf(
+                            "\t🧾 ✔ Passenger Type: %s\n\t\tBase Amount: %.4f\n\t\tTax Amount:  %.4f\n",
+                            type,
+                            base.doubleValue(),
+                            tax.doubleValue()
+                    );
+                }
 
-                // Log only base and tax
-                System.out.printf(
-                        "\t🧾 ✔ Passenger Type: %s\n\t\tBase Amount: %.4f\n\t\tTax Amount:  %.4f\n",
-                        type,
-                        base.doubleValue(),
-                        tax.doubleValue()
-                );
+                System.out.println("✅ Offer " + offerIndex + " fare breakdown (Base + Tax only) logged.\n");
             }
 
-            System.out.println("✅ Offer " + offerIndex + " fare breakdown (Base + Tax only) logged.\n");
-        }
+            @Override
+            protected boolean perOffer() {
+                return true;
+            }
 
-        System.out.println("\n✅ TC.7: Completed! Logged Base + Tax amounts for all offers (passengerTotalAmount ignored).\n");
+            @Override
+            protected void onEnd(SoftAssert softAssert) {
+                System.out.println("\n✅ TC.7: Completed! Logged Base + Tax amounts for all offers (passengerTotalAmount ignored).\n");
+            }
+        };
     }
 
 
     /**
      * TC.8: Validate total price details per offer.
      * Ensures priceDetails.totalAmount = priceDetails.baseAmount + priceDetails.taxesAmount.
-     * @param response   The API response containing offers
-     * @param softAssert SoftAssert instance for accumulating assertion results
      */
-    private static void validateAllOffersTotalPriceDetails(Response response, SoftAssert softAssert) {
-        JsonPath jsonPath = response.jsonPath();
-        List<Map<String, Object>> offers = jsonPath.getList("offers");
-
-        if (offers == null || offers.isEmpty()) {
-            softAssert.fail("❌TC.8 No offers found in the response.");
-            return;
-        }
-
-        System.out.println("\n💵 === TC.8: Validating Total Price Details for All " + offers.size() + " Offers ===\n");
-
-        // Validate each offer's total calculation
-        for (int offerIndex = 0; offerIndex < offers.size(); offerIndex++) {
-            Map<String, Object> offer = offers.get(offerIndex);
-            Map<String, Object> priceDetails = (Map<String, Object>) offer.get("priceDetails");
+    private static SearchCheck totalPriceDetailsCheck() {
+        return new SearchCheck() {
+            @Override
+            protected void onStart(SoftAssert softAssert) {
+                if (offerCount(view) == 0) {
+                    softAssert.fail("❌TC.8 No offers found in the response.");
+                    skip();
+                    return;
+                }
 
-            if (priceDetails == null) {
-                softAssert.fail("❌TC.8 priceDetails is missing in offer " + offerIndex);
-                continue;
+                System.out.println("\n💵 === TC.8: Validating Total Price Details for All " + offerCount(view) + " Offers ===\n");
             }
 
-            // Extract base, taxes, and total amounts
-            Map<String, Object> totalAmountMap = (Map<String, Object>) priceDetails.get("totalAmount");
-            Map<String, Object> baseAmountMap = (Map<String, Object>) priceDetails.get("totalBaseAmount");
-            Map<String, Object> taxesAmountMap = (Map<String, Object>) priceDetails.get("totalTaxAmount");
+            @Override
+            protected void onOffer(int offerIndex, Offer offer, SoftAssert softAssert) {
+                PriceDetails priceDetails = offer.priceDetails();
 
-            BigDecimal baseAmount = new BigDecimal(String.valueOf(baseAmountMap.get("amount")));
-            BigDecimal taxesAmount = new BigDecimal(String.valueOf(taxesAmountMap.get("amount")));
-            BigDecimal actualTotal = new BigDecimal(String.valueOf(totalAmountMap.get("amount")));
-            BigDecimal expectedTotal = baseAmount.add(taxesAmount);
+                if (priceDetails == null) {
+                    softAssert.fail("❌TC.8 priceDetails is missing in offer " + offerIndex);
+                    return;
+                }
 
-            // Assertion
-            softAssert.assertEquals(actualTotal.setScale(2, RoundingMode.HALF_UP),
-                    expectedTotal.setScale(2, RoundingMode.HALF_UP),
-                    "❌ TC.8 totalAmount mismatch in offer " + offerIndex +
-                            " → expected " + expectedTotal + " but found " + actualTotal);
+                // Extract base, taxes, and total amounts
+                Money baseAmount = priceDetails.totalBaseAmount().amount();
+                Money taxesAmount = priceDetails.totalTaxAmount().amount();
+                Money actualTotal = priceDetails.totalAmount().amount();
+                Money expectedTotal = baseAmount.plus(taxesAmount);
+
+                // Assertion
+                LazyAssert.assertEquals(actualTotal.roundTo(2),
+                        expectedTotal.roundTo(2),
+                        () -> "❌ TC.8 totalAmount mismatch in offer " + offerIndex +
+                                " → expected " + expectedTotal + " but found " + actualTotal,
+                        softAssert);
+
+                // Log breakdown
+                System.out.printf("\t📦 Offer %d ➤ Base: %.2f + Taxes: %.2f = Expected: %.2f | Actual: %.2f%n",
+                        offerIndex, baseAmount.toBigDecimal(), taxesAmount.toBigDecimal(), expectedTotal.toBigDecimal(), actualTotal.toBigDecimal()
+                );
+            }
 
-            // Log breakdown
-            System.out.printf("\t📦 Offer %d ➤ Base: %.2f + Taxes: %.2f = Expected: %.2f | Actual: %.2f%n",
-                    offerIndex, baseAmount, taxesAmount, expectedTotal, actualTotal
-            );
-        }
+            @Override
+            protected boolean perOffer() {
+                return true;
+            }
 
-        System.out.println("\n✅ TC.8: completed! All offers passed total price validation.");
+            @Override
+            protected void onEnd(SoftAssert softAssert) {
+                System.out.println("\n✅ TC.8: completed! All offers passed total price validation.");
+            }
+        };
     }
 
     /**
@@ -373,40 +459,59 @@ public class PositiveSearchAssertions {
      *  - Aggregated price fields match passenger-level breakdowns
      *  - Taxes are consistent per passenger
      *  - Total taxes in priceDetails match aggregated passenger taxes
-     * @param response   The API response containing offers
-     * @param softAssert SoftAssert instance for accumulating assertion results
      */
-    private static void validateAllOffersPricingDetails(Response response, Map<String, Object> payload, SoftAssert softAssert) {
-        JsonPath jsonPath = response.jsonPath();
-        List<Map<String, Object>> offers = jsonPath.getList("offers");
+    private static SearchCheck pricingDetailsCheck(Map<String, Object> payload) {
+        return new SearchCheck() {
+            private PassengerCounts paxCounts;
+
+            @Override
+            protected void onStart(SoftAssert softAssert) {
+                // Requested passenger counts, read once for all offers
+                paxCounts = PassengerCounts.fromPayload(payload);
+                System.out.printf("\n=== TC.9: Validating Pricing Details for %d offers ===\n", offerCount(view));
+            }
 
-        System.out.printf("\n=== TC.9: Validating Pricing Details for %d offers ===\n", offers.size());
+            @Override
+            protected void onOffer(int offerOrder, Offer offer, SoftAssert softAssert) {
+                validateOfferPricing(offer, offerOrder, paxCounts, softAssert);
+            }
+
+            @Override
+            protected boolean perOffer() {
+                return true;
+            }
 
-        // Validate each offer in sequence
-        for (int offerOrder = 0; offerOrder < offers.size(); offerOrder++) {
-            System.out.printf("\n🔍 TC9.1.%d: Validating Offer Pricing at Index: %d \n", offerOrder, offerOrder);
+            @Override
+            protected void onEnd(SoftAssert softAssert) {
+                System.out.println("\n✅ TC.9: completed! Validated all " + offerCount(view) + " offers successfully.");
+            }
+        };
+    }
 
-            // Step 1: Get passenger breakdowns for the current offer
-            List<Map<String, Object>> passengerBreakdowns = getPassengerBreakdowns(jsonPath, offerOrder);
+    /**
+     * TC.9 for a single offer: aggregated price fields, per-passenger taxes and priceDetails taxes.
+     */
+    static void validateOfferPricing(Offer offer, int offerOrder, PassengerCounts paxCounts, SoftAssert softAssert) {
+        System.out.printf("\n🔍 TC9.1.%d: Validating Offer Pricing at Index: %d \n", offerOrder, offerOrder);
 
-            // Step 2: Map priceDetails fields to corresponding passenger fields
-            Map<String, String> priceFieldMapping = getPriceFieldMapping();
+        // Step 1: Get passenger breakdowns for the current offer
+        List<PassengerFareBreakdown> passengerBreakdowns = offer.passengerFareBreakdown();
 
-            // Step 3: Validate aggregated base, tax, and total fields
-            System.out.println("\n💰 TC9.2." + offerOrder + ": Validating Aggregated Price Fields...\n");
-            validatePriceFields(jsonPath, offerOrder, passengerBreakdowns, priceFieldMapping, payload,softAssert);
+        // Step 2: Map priceDetails fields to corresponding passenger fields
+        Map<String, String> priceFieldMapping = getPriceFieldMapping();
 
+        // Step 3: Validate aggregated base, tax, and total fields
+        System.out.println("\n💰 TC9.2." + offerOrder + ": Validating Aggregated Price Fields...\n");
+        validatePriceFields(offer, offerOrder, passengerBreakdowns, priceFieldMapping, paxCounts, softAssert);
 
-            // Step 4: Validate individual taxes per passenger type
-            System.out.println("\n🧾 TC9.3." + offerOrder + ": Validating taxesAndFees per Passenger Type...\n");
-            validateTaxesAndFeesPerPassenger(passengerBreakdowns, offerOrder,softAssert);
 
-            // Step 5: Validate aggregated total taxes in priceDetails
-            System.out.println("\n📊 TC9.4." + offerOrder + ": Validating Total taxesAndFees from PriceDetails...\n");
-            validateTotalTaxesAndFeesInPriceDetails(jsonPath, offerOrder, softAssert);
-        }
+        // Step 4: Validate individual taxes per passenger type
+        System.out.println("\n🧾 TC9.3." + offerOrder + ": Validating taxesAndFees per Passenger Type...\n");
+        validateTaxesAndFeesPerPassenger(passengerBreakdowns, offerOrder,softAssert);
 
-        System.out.println("\n✅ TC.9: completed! Validated all " + offers.size() + " offers successfully.");
+        // Step 5: Validate aggregated total taxes in priceDetails
+        System.out.println("\n📊 TC9.4." + offerOrder + ": Validating Total taxesAndFees from PriceDetails...\n");
+        validateTotalTaxesAndFeesInPriceDetails(offer, offerOrder, softAssert);
     }
 
     /**
@@ -418,196 +523,292 @@ public class PositiveSearchAssertions {
      *  - All baggageDetails references exist in "baggageDetails" map.
      *  - All journey IDs in offerJourneys exist in "journeys" map.
      */
-    private static void validateAllReferencesOffers(Response response, SoftAssert softAssert) {
-        JsonPath jsonPath = response.jsonPath();
-
-        // Extract top-level reference objects from response
-        List<Map<String, Object>> offers = jsonPath.getList("offers");
-        Map<String, Object> segments = jsonPath.getMap("flightSegments");
-        Map<String, Object> priceClasses = jsonPath.getMap("priceClasses");
-        Map<String, Map<String, String>> baggageDetails = jsonPath.getMap("baggageDetails");
-        Map<String, Object> rootJourneys = jsonPath.getMap("journeys");
-
-        System.out.println("\n🔍 ===TC10: Validating all References IDs for " +
-                (offers != null ? offers.size() : 0) + " offers ===\n");
-        System.out.printf("\t📦 Segments: %d | PriceClasses: %d | BaggageDetails: %d | Journeys: %d%n",
-                segments != null ? segments.size() : 0,
-                priceClasses != null ? priceClasses.size() : 0,
-                baggageDetails != null ? baggageDetails.size() : 0,
-                rootJourneys != null ? rootJourneys.size() : 0);
-
-        // Fail immediately if there are no offers
-        if (offers == null || offers.isEmpty()) {
-            softAssert.fail("❌TC.10 No offers found in response.");
-            return;
-        }
+    private static SearchCheck referencesCheck() {
+        return new SearchCheck() {
+            private SearchIndex index;
+
+            @Override
+            protected void onStart(SoftAssert softAssert) {
+                // Extract top-level reference objects from response
+                SearchResponse search = view.search();
+                Map<String, FlightSegment> segments = search.flightSegments();
+                Map<String, Object> priceClasses = view.priceClasses();
+                Map<String, Map<String, String>> baggageDetails = view.baggageDetails();
+                Map<String, Journey> rootJourneys = search.journeys();
+
+                System.out.println("\n🔍 ===TC10: Validating all References IDs for " + offerCount(view) + " offers ===\n");
+                System.out.printf("\t📦 Segments: %d | PriceClasses: %d | BaggageDetails: %d | Journeys: %d%n",
+                        segments != null ? segments.size() : 0,
+                        priceClasses != null ? priceClasses.size() : 0,
+                        baggageDetails != null ? baggageDetails.size() : 0,
+                        rootJourneys != null ? rootJourneys.size() : 0);
+
+                // Fail immediately if there are no offers
+                if (offerCount(view) == 0) {
+                    softAssert.fail("❌TC.10 No offers found in response.");
+                    skip();
+                    return;
+                }
 
-        // Validate each offer
-        for (int offerIndex = 0; offerIndex < offers.size(); offerIndex++) {
-            Map<String, Object> offer = offers.get(offerIndex);
-            System.out.printf("\t\t🧾 Validating Offer Index: %d%n", offerIndex);
-
-            // Validate passenger-related references
-            validatePassengerReferences(
-                    offer,
-                    segments != null ? segments : Collections.emptyMap(),
-                    priceClasses != null ? priceClasses : Collections.emptyMap(),
-                    baggageDetails != null ? baggageDetails : Collections.emptyMap(),
-                    softAssert,
-                    offerIndex
-            );
+                index = view.index();
+            }
 
-            // Validate journey-related references
-            validateOfferJourneys(
-                    offer,
-                    rootJourneys != null ? rootJourneys : Collections.emptyMap(),
-                    softAssert,
-                    offerIndex
-            );
-        }
+            @Override
+            protected void onOffer(int offerIndex, Offer offer, SoftAssert softAssert) {
+                System.out.printf("\t\t🧾 Validating Offer Index: %d%n", offerIndex);
 
-        System.out.printf("\n✅ TC.10: completed! Reference Validation for %d Offers%n%n", offers.size());
+                // Validate passenger-related references
+                validatePassengerReferences(offer, index, softAssert, offerIndex);
+
+                // Validate journey-related references
+                validateOfferJourneys(offer, index, softAssert, offerIndex);
+            }
+
+            @Override
+            protected boolean perOffer() {
+                return true;
+            }
+
+            @Override
+            protected void onEnd(SoftAssert softAssert) {
+                System.out.printf("\n✅ TC.10: completed! Reference Validation for %d Offers%n%n", offerCount(view));
+            }
+        };
     }
 
     /**
-     * TC.11: Validates that the RBD (Reservation Booking Designator) field is present and not empty
-     * for every segmentDetail in passengerFareBreakdown of each offer.
+     * Currency check of every {amount, currency} node of every offer against the "AgencyCurrency" header
+     * (same messages as {@code HelperCurrencyValidator.validateCurrencies(view, headers, "offers", ...)}).
      */
-    private static void validateRbdNotNull(Response response, SoftAssert softAssert) {
-        JsonPath jsonPath = response.jsonPath();
-        List<Map<String, Object>> offers = jsonPath.getList("offers");
-        System.out.println("\n🔍 ===TC11: Validating all RBD values are Not Null for " +
-                (offers != null ? offers.size() : 0) + " offers ===\n");
-
-        if (offers == null || offers.isEmpty()) {
-            softAssert.fail("❌TC.11 No offers found in search response.");
-            return;
-        }
+    private static SearchCheck currencyCheck(Map<String, String> headers) {
+        return new SearchCheck() {
+            private String expectedCurrency;
+            private List<Map<String, Object>> offers;
+            private final CurrencyTotals totals = new CurrencyTotals("offers[]");
+
+            @Override
+            protected void onStart(SoftAssert softAssert) {
+                // Expected currency taken from headers (trimmed to remove spaces)
+                expectedCurrency = headers.getOrDefault("AgencyCurrency", "").trim();
+
+                System.out.println("\n💵 === TC: Validating currencies against headers ===");
+                System.out.println("\t💱 Expected Currency from headers: " + expectedCurrency);
+
+                // Fail immediately if the AgencyCurrency header is missing
+                if (expectedCurrency.isEmpty()) {
+                    softAssert.fail("❌ Missing AgencyCurrency in headers.");
+                    skip();
+                    return;
+                }
 
-        // Iterate through all offers and their passengerFareBreakdowns
-        for (int i = 0; i < offers.size(); i++) {
-            List<Map<String, Object>> fareBreakdowns = jsonPath.getList("offers[" + i + "].passengerFareBreakdown");
-            if (fareBreakdowns != null) {
-                for (int j = 0; j < fareBreakdowns.size(); j++) {
-                    List<Map<String, Object>> segmentDetails = jsonPath.getList(
-                            String.format("offers[%d].passengerFareBreakdown[%d].segmentDetails", i, j));
-                    if (segmentDetails != null) {
-                        for (int k = 0; k < segmentDetails.size(); k++) {
-                            String rbd = jsonPath.getString(
-                                    String.format("offers[%d].passengerFareBreakdown[%d].segmentDetails[%d].rbd", i, j, k));
-                            softAssert.assertNotNull(rbd,
-                                    String.format("❌TC.11 RBD is null at offers[%d].passengerFareBreakdown[%d].segmentDetails[%d]", i, j, k));
-                            softAssert.assertFalse(rbd.trim().isEmpty(),
-                                    String.format("❌TC.11 RBD is empty at offers[%d].passengerFareBreakdown[%d].segmentDetails[%d]", i, j, k));
-                        }
-                    }
+                offers = view.getList("offers");
+                if (offers == null) {
+                    System.out.println("⚠️ Could not fetch entries from path: offers → treating as single object");
+                }
+                if (offerCount(view) == 0) {
+                    softAssert.fail("❌ No entries found under path: offers");
+                    skip();
+                    return;
                 }
+
+                System.out.println("\t📦 Validating " + offerCount(view) + " entries under path: offers");
             }
-        }
-        System.out.println("\n✅ TC.11: completed! RBD validation completed for all " +
-                offers.size() + " offers in Search response.\n");
+
+            @Override
+            protected void onOffer(int i, Offer offer, SoftAssert softAssert) {
+                validateAmountCurrencies(offers.get(i), "offers[" + i + "]", expectedCurrency, totals, softAssert);
+            }
+
+            @Override
+            protected boolean perOffer() {
+                return true;
+            }
+
+            @Override
+            protected void onEnd(SoftAssert softAssert) {
+                totals.print();
+                System.out.println("✅ Completed currency validation for entries under: offers");
+                ReportManager.getTest().info("✅ Currency validation completed against expected: " + expectedCurrency);
+            }
+        };
     }
 
     /**
-     * TC.12: Validates that all offerId values in the offers[] array are unique.
+     * TC.11: Validates that the RBD (Reservation Booking Designator) field is present and not empty
+     * for every segmentDetail in passengerFareBreakdown of each offer.
      */
-    private static void validateOfferIdUniqueness(Response response, SoftAssert softAssert) {
-        JsonPath jsonPath = response.jsonPath();
-        List<Map<String, Object>> offers = jsonPath.getList("offers");
-        List<String> offerIds = jsonPath.getList("offers.offerId");
-
-        System.out.println("\n🔍 === TC.12: Validate OfferId uniqueness in " + (offers != null ? offers.size() : 0) + " offers ===\n");
+    private static SearchCheck rbdNotNullCheck() {
+        return new SearchCheck() {
+            @Override
+            protected void onStart(SoftAssert softAssert) {
+                System.out.println("\n🔍 ===TC11: Validating all RBD values are Not Null for " + offerCount(view) + " offers ===\n");
+
+                if (offerCount(view) == 0) {
+                    softAssert.fail("❌TC.11 No offers found in search response.");
+                    skip();
+                }
+            }
 
-        Set<String> uniqueIds = new HashSet<>();
+            @Override
+            protected void onSegmentDetail(int i, int j, int k, SegmentDetail segment, SoftAssert softAssert) {
+                checkRbd(segment.rbd(), i, j, k, softAssert);
+            }
 
-        for (String offerId : offerIds) {
-            if (!uniqueIds.add(offerId)) {
-                softAssert.fail("❌TC.12 Duplicate offerId found: " + offerId);
+            @Override
+            protected boolean perOffer() {
+                return true;
             }
-        }
 
-        if (uniqueIds.size() == offerIds.size()) {
-            System.out.println("\n✅ TC.12: completed! All offerIds are unique.");
-        } else {
-            System.out.println("❌TC.12 Duplicate offerIds detected in search response.");
-        }
+            @Override
+            protected void onEnd(SoftAssert softAssert) {
+                System.out.println("\n✅ TC.11: completed! RBD validation completed for all " +
+                        offerCount(view) + " offers in Search response.\n");
+            }
+        };
     }
 
     /**
-     * TC.13: Validates that the brandCode field is present and not null/empty
-     * for each offer in the search response.
-     * TC.13: validate Offer Segments Exist And Are Non Overlapping
+     * TC.11 for a single offer.
      */
-    private static void validateOfferSegmentsExistAndAreNonOverlapping(Response response, SoftAssert softAssert) {
-        JsonPath jsonPath = response.jsonPath();
-        List<Map<String, Object>> offers = jsonPath.getList("offers");
-        Map<String, Map<String, Object>> segmentsMap = jsonPath.getMap("flightSegments");
+    static void checkRbdNotNull(Offer offer, int i, SoftAssert softAssert) {
+        List<PassengerFareBreakdown> fareBreakdowns = offer.passengerFareBreakdown();
+        if (fareBreakdowns == null) return;
 
-        System.out.println("\n🔍===TC.13: validate Offer Segments Exist And Are Non Overlapping " + offers.size() + " offers ===\n");
+        for (int j = 0; j < fareBreakdowns.size(); j++) {
+            List<SegmentDetail> segmentDetails = fareBreakdowns.get(j).segmentDetails();
+            if (segmentDetails == null) continue;
 
-        if (offers.isEmpty()) {
-            String message = "❌TC.13 No offers found in the response.";
-            System.out.println(message);
-            softAssert.fail(message);
-            return;
+            for (int k = 0; k < segmentDetails.size(); k++) {
+                checkRbd(segmentDetails.get(k).rbd(), i, j, k, softAssert);
+            }
         }
+    }
 
-        DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static void checkRbd(String rbd, int i, int j, int k, SoftAssert softAssert) {
+        LazyAssert.assertNotNull(rbd,
+                () -> String.format("❌TC.11 RBD is null at offers[%d].passengerFareBreakdown[%d].segmentDetails[%d]", i, j, k),
+                softAssert);
+        if (rbd != null) {
+            LazyAssert.assertFalse(rbd.trim().isEmpty(),
+                    () -> String.format("❌TC.11 RBD is empty at offers[%d].passengerFareBreakdown[%d].segmentDetails[%d]", i, j, k),
+                    softAssert);
+        }
+    }
 
-        for (int offerIndex = 0; offerIndex < offers.size(); offerIndex++) {
-            List<Map<String, Object>> segmentDetailsList = jsonPath.getList("offers[" + offerIndex + "].passengerFareBreakdown[0].segmentDetails");
+    /**
+     * TC.12: Validates that all offerId values in the offers[] array are unique.
+     */
+    private static SearchCheck offerIdUniquenessCheck() {
+        return new SearchCheck() {
+            private final Set<String> uniqueIds = new HashSet<>();
 
-            if (segmentDetailsList == null || segmentDetailsList.isEmpty()) {
-                String message = "❌TC.13 Segment details list is null or empty for offer[" + offerIndex + "]";
-                System.out.println(message);
-                softAssert.fail(message);
-                continue;
+            @Override
+            protected void onStart(SoftAssert softAssert) {
+                System.out.println("\n🔍 === TC.12: Validate OfferId uniqueness in " + offerCount(view) + " offers ===\n");
             }
 
-            for (int i = 0; i < segmentDetailsList.size(); i++) {
-                Map<String, Object> segmentDetail = segmentDetailsList.get(i);
-                String segmentRefId = (String) segmentDetail.get("segmentRefId");
+            @Override
+            protected void onOffer(int offerIndex, Offer offer, SoftAssert softAssert) {
+                String offerId = offer.offerId();
+                if (!uniqueIds.add(offerId)) {
+                    softAssert.fail("❌TC.12 Duplicate offerId found: " + offerId);
+                }
+            }
+
+            @Override
+            protected void onEnd(SoftAssert softAssert) {
+                if (uniqueIds.size() == offerCount(view)) {
+                    System.out.println("\n✅ TC.12: completed! All offerIds are unique.");
+                } else {
+                    System.out.println("❌TC.12 Duplicate offerIds detected in search response.");
+                }
+            }
+        };
+    }
 
-                if (!segmentsMap.containsKey(segmentRefId)) {
-                    String message = "❌TC.13 Segment reference ID [" + segmentRefId + "] not found in segments map for offer[" + offerIndex + "]";
+    /**
+     * TC.13: Validates that the brandCode field is present and not null/empty
+     * for each offer in the search response.
+     * TC.13: validate Offer Segments Exist And Are Non Overlapping
+     */
+    private static SearchCheck offerSegmentsExistAndAreNonOverlappingCheck() {
+        return new SearchCheck() {
+            private SegmentTimeline timeline;
+
+            @Override
+            protected void onStart(SoftAssert softAssert) {
+                System.out.println("\n🔍===TC.13: validate Offer Segments Exist And Are Non Overlapping " + offerCount(view) + " offers ===\n");
+
+                if (offerCount(view) == 0) {
+                    String message = "❌TC.13 No offers found in the response.";
                     System.out.println(message);
                     softAssert.fail(message);
-                    continue;
+                    skip();
+                    return;
                 }
 
-                Map<String, Object> currentSegment = segmentsMap.get(segmentRefId);
-                String depTimeStr = (String) currentSegment.get("departureDateTime");
-                String arrTimeStr = (String) currentSegment.get("arrivalDateTime");
+                // Segment times are parsed once per response, not per offer referencing them
+                timeline = view.timeline();
+            }
+
+            @Override
+            protected void onOffer(int offerIndex, Offer offer, SoftAssert softAssert) {
+                List<PassengerFareBreakdown> breakdowns = offer.passengerFareBreakdown();
+                List<SegmentDetail> segmentDetailsList = (breakdowns == null || breakdowns.isEmpty())
+                        ? null : breakdowns.get(0).segmentDetails();
 
-                if (depTimeStr == null || arrTimeStr == null) {
-                    String message = "❌TC.13 Missing departure or arrival time for segment [" + segmentRefId + "] in offer[" + offerIndex + "]";
+                if (segmentDetailsList == null || segmentDetailsList.isEmpty()) {
+                    String message = "❌TC.13 Segment details list is null or empty for offer[" + offerIndex + "]";
                     System.out.println(message);
                     softAssert.fail(message);
-                    continue;
+                    return;
                 }
 
-                try {
-                    LocalDateTime depTime = LocalDateTime.parse(depTimeStr, formatter);
-                    LocalDateTime arrTime = LocalDateTime.parse(arrTimeStr, formatter);
+                for (int i = 0; i < segmentDetailsList.size(); i++) {
+                    String segmentRefId = segmentDetailsList.get(i).segmentRefId();
+                    SegmentTimeline.SegmentTimes current = timeline.times(segmentRefId);
+
+                    if (current == null) {
+                        String message = "❌TC.13 Segment reference ID [" + segmentRefId + "] not found in segments map for offer[" + offerIndex + "]";
+                        System.out.println(message);
+                        softAssert.fail(message);
+                        continue;
+                    }
+
+                    String depTimeStr = current.departure();
+                    String arrTimeStr = current.arrival();
 
-                    if (!arrTime.isAfter(depTime)) {
+                    if (depTimeStr == null || arrTimeStr == null) {
+                        String message = "❌TC.13 Missing departure or arrival time for segment [" + segmentRefId + "] in offer[" + offerIndex + "]";
+                        System.out.println(message);
+                        softAssert.fail(message);
+                        continue;
+                    }
+
+                    String parseError = current.departureError() != null ? current.departureError() : current.arrivalError();
+                    if (parseError != null) {
+                        failDateParsing(segmentRefId, offerIndex, parseError, softAssert);
+                        continue;
+                    }
+
+                    if (current.arrivalEpoch() <= current.departureEpoch()) {
                         String message = "❌TC.13 Segment [" + segmentRefId + "] has invalid timing: arrival [" + arrTimeStr + "] is not after departure [" + depTimeStr + "]";
                         System.out.println(message);
                         softAssert.fail(message);
                     }
 
                     if (i < segmentDetailsList.size() - 1) {
-                        String nextSegmentRefId = (String) segmentDetailsList.get(i + 1).get("segmentRefId");
+                        String nextSegmentRefId = segmentDetailsList.get(i + 1).segmentRefId();
+                        SegmentTimeline.SegmentTimes next = timeline.times(nextSegmentRefId);
 
-                        if (!segmentsMap.containsKey(nextSegmentRefId)) {
+                        if (next == null) {
                             String message = "❌TC.13 Next segment reference ID [" + nextSegmentRefId + "] not found in segments map for offer[" + offerIndex + "]";
                             System.out.println(message);
                             softAssert.fail(message);
                             continue;
                         }
 
-                        Map<String, Object> nextSegment = segmentsMap.get(nextSegmentRefId);
-                        String nextDepTimeStr = (String) nextSegment.get("departureDateTime");
+                        String nextDepTimeStr = next.departure();
 
                         if (nextDepTimeStr == null) {
                             String message = "❌TC.13 Missing departure time for next segment [" + nextSegmentRefId + "] in offer[" + offerIndex + "]";
@@ -616,9 +817,12 @@ public class PositiveSearchAssertions {
                             continue;
                         }
 
-                        LocalDateTime nextDepTime = LocalDateTime.parse(nextDepTimeStr, formatter);
+                        if (next.departureError() != null) {
+                            failDateParsing(segmentRefId, offerIndex, next.departureError(), softAssert);
+                            continue;
+                        }
 
-                        if (!arrTime.isBefore(nextDepTime)) {
+                        if (current.arrivalEpoch() >= next.departureEpoch()) {
                             String message = String.format(
                                     "❌TC.13 Segment [%s] in offer[%d] (segment %d of %d) arrival [%s] overlaps or matches next segment [%s] departure [%s]",
                                     segmentRefId, offerIndex, i + 1, segmentDetailsList.size(), arrTimeStr, nextSegmentRefId, nextDepTimeStr
@@ -627,39 +831,47 @@ public class PositiveSearchAssertions {
                             softAssert.fail(message);
                         }
                     }
-                } catch (Exception e) {
-                    String message = "❌TC.13 Error parsing date for segment [" + segmentRefId + "] in offer[" + offerIndex + "]: " + e.getMessage();
-                    System.out.println(message);
-                    softAssert.fail(message);
                 }
             }
-        }
 
-        System.out.println("\n✅ TC.13: completed! check all Offer Segments Exist And Are Non Overlapping " + offers.size() + " offers in Search response. Successfully.\n");
+            private void failDateParsing(String segmentRefId, int offerIndex, String error, SoftAssert softAssert) {
+                String message = "❌TC.13 Error parsing date for segment [" + segmentRefId + "] in offer[" + offerIndex + "]: " + error;
+                System.out.println(message);
+                softAssert.fail(message);
+            }
+
+            @Override
+            protected boolean perOffer() {
+                return true;
+            }
+
+            @Override
+            protected void onEnd(SoftAssert softAssert) {
+                System.out.println("\n✅ TC.13: completed! check all Offer Segments Exist And Are Non Overlapping " + offerCount(view) + " offers in Search response. Successfully.\n");
+            }
+        };
     }
 
     /**
      * TC.14: validate Segment Chaining Per Journey "Direct & Transit"
      */
-    private static void validateSegmentChainingPerJourney(Response response, Map<String, Object> payload, SoftAssert softAssert) {
+    private static void validateSegmentChainingPerJourney(ResponseView view, Map<String, Object> payload, SoftAssert softAssert) {
         System.out.println("\n=== TC.14: 🔍 Starting segment chaining validation per journey===\n");
 
-        JsonPath jsonPath = response.jsonPath();
-
         // Load full search criteria list
         List<Map<String, String>> searchCriteriaList = (List<Map<String, String>>) payload.get("searchCriteria");
 
-        // Get segments and journeys maps
-        Map<String, Map<String, Object>> segmentsMap = jsonPath.getMap("flightSegments");
-        Map<String, Map<String, Object>> journeysMap = jsonPath.getMap("journeys");
+        // Journeys with their segments already ordered by departure
+        Map<String, Journey> journeysMap = view.search().journeys();
+        SegmentTimeline timeline = view.timeline();
 
         int journeyIndex = 0;
 
-        for (Map.Entry<String, Map<String, Object>> journeyEntry : journeysMap.entrySet()) {
+        for (Map.Entry<String, Journey> journeyEntry : journeysMap.entrySet()) {
             journeyIndex++;
-            Map<String, Object> journey = journeyEntry.getValue();
-            int numberOfStops = (int) journey.get("numberOfStops");
-            List<String> segmentRefId = (List<String>) journey.get("segmentRefIds");
+            Journey journey = journeyEntry.getValue();
+            int numberOfStops = journey.numberOfStops();
+            List<String> segmentRefId = journey.segmentRefIds();
 
             System.out.println("\n✈️ Validating Journey #" + journeyIndex + " with " + numberOfStops + " stops");
 
@@ -668,28 +880,23 @@ public class PositiveSearchAssertions {
                 continue;
             }
 
-            // Build and sort segment list
-            List<Map<String, Object>> segments = new ArrayList<>();
-            for (String segId : segmentRefId) {
-                Map<String, Object> segObj = segmentsMap.get(segId);
-                if (segObj == null) {
-                    softAssert.fail("❌TC.14 Segment ID " + segId + " not found in segments map.");
-                    continue;
-                }
-                segments.add(segObj);
+            SegmentTimeline.JourneyTimeline journeyTimeline = timeline.journey(journeyEntry.getKey());
+            for (String segId : journeyTimeline.missingSegmentIds()) {
+                softAssert.fail("❌TC.14 Segment ID " + segId + " not found in segments map.");
             }
-            segments.sort(Comparator.comparing(seg -> seg.get("departureDateTime").toString()));
+            FlightSegment[] segments = journeyTimeline.segments();
+            long[] connectionGaps = journeyTimeline.connectionGaps();
 
             // Log each segment
-            for (int i = 0; i < segments.size(); i++) {
-                String origin = segments.get(i).get("origin").toString();
-                String destination = segments.get(i).get("destination").toString();
+            for (int i = 0; i < segments.length; i++) {
+                String origin = segments[i].origin();
+                String destination = segments[i].destination();
                 System.out.println("\t🔗 Segment " + (i + 1) + ": " + origin + " → " + destination);
             }
 
             // Detect expected origin/destination by matching segment direction to search criteria
-            String actualOrigin = segments.get(0).get("origin").toString();
-            String actualDestination = segments.get(segments.size() - 1).get("destination").toString();
+            String actualOrigin = segments[0].origin();
+            String actualDestination = segments[segments.length - 1].destination();
 
             String expectedOrigin = actualOrigin;  // default
             String expectedDestination = actualDestination;  // default
@@ -709,8 +916,8 @@ public class PositiveSearchAssertions {
 
             // Non-stop validation
             if (numberOfStops == 0) {
-                if (segments.size() != 1) {
-                    softAssert.fail("Expected 1 segment for non-stop journey, found " + segments.size());
+                if (segments.length != 1) {
+                    softAssert.fail("Expected 1 segment for non-stop journey, found " + segments.length);
                     continue;
                 }
 
@@ -734,27 +941,34 @@ public class PositiveSearchAssertions {
                 System.out.println("\t🔍 Multi-stop check:");
                 System.out.println("\t\t🟡 First Segment Origin: " + actualOrigin);
                 System.out.println("\t\t🟡 Last Segment Destination: " + actualDestination);
-                softAssert.assertEquals(
+                int journeyNumber = journeyIndex;
+                String origin = expectedOrigin;
+                LazyAssert.assertEquals(
                         actualOrigin,
-                        expectedOrigin,
-                        "❌TC.14 Non-stop journey #" + journeyIndex + " origin mismatch. Expected [" + expectedOrigin + "] but found [" + actualOrigin + "]"
+                        origin,
+                        () -> "❌TC.14 Non-stop journey #" + journeyNumber + " origin mismatch. Expected [" + origin + "] but found [" + actualOrigin + "]",
+                        softAssert
                 );
-                softAssert.assertEquals(actualDestination, expectedDestination, "❌TC.14 Last segment destination mismatch in journey #" + journeyIndex);
+                LazyAssert.assertEquals(actualDestination, expectedDestination,
+                        () -> "❌TC.14 Last segment destination mismatch in journey #" + journeyNumber, softAssert);
 
                 // Segment chaining check
-                for (int i = 0; i < segments.size() - 1; i++) {
-                    String arrival = segments.get(i).get("destination").toString();
-                    String nextDeparture = segments.get(i + 1).get("origin").toString();
+                for (int i = 0; i < segments.length - 1; i++) {
+                    String arrival = segments[i].destination();
+                    String nextDeparture = segments[i + 1].origin();
 
                     if (!arrival.equals(nextDeparture)) {
                         System.out.println("\t❌TC.14  Segment chaining mismatch between segment " + (i + 1) + " and " + (i + 2) +
                                 ": expected arrival " + arrival + " to match next departure " + nextDeparture);
                     } else {
-                        System.out.println("\t✅ Segment chaining OK between segment " + (i + 1) + " and " + (i + 2));
+                        System.out.println("\t✅ Segment chaining OK between segment " + (i + 1) + " and " + (i + 2)
+                                + formatConnectionGap(connectionGaps[i]));
                     }
 
-                    softAssert.assertEquals(arrival, nextDeparture,
-                            "❌TC.14 Segment chaining mismatch between segment " + (i + 1) + " and " + (i + 2));
+                    int segmentNumber = i + 1;
+                    LazyAssert.assertEquals(arrival, nextDeparture,
+                            () -> "❌TC.14 Segment chaining mismatch between segment " + segmentNumber + " and " + (segmentNumber + 1),
+                            softAssert);
                 }
             }
 
@@ -765,96 +979,150 @@ public class PositiveSearchAssertions {
     }
 
     /**
-     * TC.15: Validate that offers[] are sorted in ascending order (allowing equal values) by totalAmount in priceDetails
+     * " (connection 1h 35m)" for a known gap, empty otherwise.
      */
-    private static void validateOffersSortedByTotalAmount(Response response, SoftAssert softAssert) {
-        System.out.println("\n=== TC.15: Start - Validate offers[] sorted by totalAmount (allow equal) ===\n");
+    private static String formatConnectionGap(long gapSeconds) {
+        if (gapSeconds == SegmentTimeline.UNKNOWN_GAP) return "";
+        long minutes = gapSeconds / 60;
+        return String.format(" (connection %s%dh %02dm)", minutes < 0 ? "-" : "", Math.abs(minutes) / 60, Math.abs(minutes) % 60);
+    }
 
-        List<Map<String, Object>> offers = response.jsonPath().getList("offers");
-        System.out.println("Offers count: " + (offers == null ? 0 : offers.size()));
+    /**
+     * TC.15: Validate that offers[] are sorted in ascending order (allowing equal values) by totalAmount in priceDetails
+     */
+    private static SearchCheck offersSortedByTotalAmountCheck() {
+        return new SearchCheck() {
+            private double previousAmount = Double.NEGATIVE_INFINITY;
+
+            @Override
+            protected void onStart(SoftAssert softAssert) {
+                System.out.println("\n=== TC.15: Start - Validate offers[] sorted by totalAmount (allow equal) ===\n");
+                System.out.println("Offers count: " + offerCount(view));
+
+                if (offerCount(view) == 0) {
+                    softAssert.fail("offers[] list is null or empty.");
+                    System.out.println("❌TC.15 FAIL: offers[] is null or empty");
+                    skip();
+                }
+            }
 
-        if (offers == null || offers.isEmpty()) {
-            softAssert.fail("offers[] list is null or empty.");
-            System.out.println("❌TC.15 FAIL: offers[] is null or empty");
-            return;
-        }
+            @Override
+            protected void onOffer(int offerIndex, Offer offer, SoftAssert softAssert) {
+                System.out.println("Checking offer index: " + offerIndex);
 
-        double previousAmount = Double.NEGATIVE_INFINITY;
-        for (int offerIndex = 0; offerIndex < offers.size(); offerIndex++) {
-            Map<String, Object> offer = offers.get(offerIndex);
-            System.out.println("Checking offer index: " + offerIndex);
+                PriceDetails priceDetails = offer.priceDetails();
+                if (priceDetails == null) {
+                    softAssert.fail("priceDetails is missing for offer index: " + offerIndex);
+                    System.out.println("❌TC.15 FAIL: priceDetails missing at index " + offerIndex);
+                    return;
+                }
 
-            Map<String, Object> priceDetails = (Map<String, Object>) offer.get("priceDetails");
-            if (priceDetails == null) {
-                softAssert.fail("priceDetails is missing for offer index: " + offerIndex);
-                System.out.println("❌TC.15 FAIL: priceDetails missing at index " + offerIndex);
-                continue;
-            }
+                Amount totalAmount = priceDetails.totalAmount();
+                if (totalAmount == null || totalAmount.amount() == null) {
+                    softAssert.fail("totalAmount.amount is missing for offer index: " + offerIndex);
+                    System.out.println("❌TC.15 FAIL: totalAmount.amount missing at index " + offerIndex);
+                    return;
+                }
 
-            Map<String, Object> totalAmount = (Map<String, Object>) priceDetails.get("totalAmount");
-            if (totalAmount == null || totalAmount.get("amount") == null) {
-                softAssert.fail("totalAmount.amount is missing for offer index: " + offerIndex);
-                System.out.println("❌TC.15 FAIL: totalAmount.amount missing at index " + offerIndex);
-                continue;
-            }
+                double currentAmount = totalAmount.amount().doubleValue();
+                System.out.printf("TC.15 Offer[%d] totalAmount: %.2f | Previous: %.2f%n", offerIndex, currentAmount, previousAmount);
 
-            double currentAmount = ((Number) totalAmount.get("amount")).doubleValue();
-            System.out.printf("TC.15 Offer[%d] totalAmount: %.2f | Previous: %.2f%n", offerIndex, currentAmount, previousAmount);
+                if (currentAmount < previousAmount) {
+                    softAssert.fail(String.format(
+                            "Offers are not sorted by totalAmount at index %d. Previous: %.2f, Current: %.2f",
+                            offerIndex, previousAmount, currentAmount
+                    ));
+                    System.out.printf("❌TC.15 FAIL: Sorting error at index %d%n", offerIndex);
+                }
 
-            if (currentAmount < previousAmount) {
-                softAssert.fail(String.format(
-                        "Offers are not sorted by totalAmount at index %d. Previous: %.2f, Current: %.2f",
-                        offerIndex, previousAmount, currentAmount
-                ));
-                System.out.printf("❌TC.15 FAIL: Sorting error at index %d%n", offerIndex);
+                previousAmount = currentAmount;
             }
 
-            previousAmount = currentAmount;
-        }
-
-        System.out.println("\n===✅ TC.15: End Validate offers[] sorted by totalAmount completed ===");
+            @Override
+            protected void onEnd(SoftAssert softAssert) {
+                System.out.println("\n===✅ TC.15: End Validate offers[] sorted by totalAmount completed ===");
+            }
+        };
     }
 
     /**
      * TC.17: Validate that all offers[] JSON objects are unique (no duplicates)
      */
-    private static void validateOffersAreUnique(Response response, SoftAssert softAssert) {
-        System.out.println("\n=== TC.16: Start - Validate offers[] uniqueness ===\n");
+    private static SearchCheck offersAreUniqueCheck() {
+        return new SearchCheck() {
+            private List<Map<String, Object>> offers;
+            // Structural fingerprint per offer index (map step)
+            private StructuralHash[] fingerprints;
+
+            @Override
+            protected void onStart(SoftAssert softAssert) {
+                System.out.println("\n=== TC.16: Start - Validate offers[] uniqueness ===\n");
+
+                offers = view.getList("offers");
+                System.out.println("Offers count: " + (offers == null ? 0 : offers.size()));
+
+                if (offers == null || offers.isEmpty()) {
+                    softAssert.fail("offers[] list is null or empty.");
+                    System.out.println("❌TC.16 FAIL: offers[] is null or empty");
+                    skip();
+                    return;
+                }
 
-        List<Map<String, Object>> offers = response.jsonPath().getList("offers");
-        System.out.println("Offers count: " + (offers == null ? 0 : offers.size()));
+                fingerprints = new StructuralHash[offers.size()];
+            }
 
-        if (offers == null || offers.isEmpty()) {
-            softAssert.fail("offers[] list is null or empty.");
-            System.out.println("❌TC.16 FAIL: offers[] is null or empty");
-            return;
-        }
+            @Override
+            protected void onOffer(int i, Offer typedOffer, SoftAssert softAssert) {
+                System.out.println("Processing offer index: " + i);
+                fingerprints[i] = StructuralHash.of(offers.get(i));
+            }
 
-        Set<String> seenOffers = new HashSet<>();
-        ObjectMapper mapper = new ObjectMapper();
-        // Loop through offers and check price
-        for (int i = 0; i < offers.size(); i++) {
-            Map<String, Object> offer = offers.get(i);
-            System.out.println("Processing offer index: " + i);
-
-            String jsonString;
-            try {
-                jsonString = mapper.writeValueAsString(offer);
-            } catch (JsonProcessingException e) {
-                softAssert.fail("Failed to serialize offer at index " + i + ": " + e.getMessage());
-                System.out.println("❌TC.16 FAIL: Serialization error at index " + i);
-                continue;
+            @Override
+            protected boolean perOffer() {
+                return true;
             }
 
-            if (!seenOffers.add(jsonString)) {
-                softAssert.fail("Duplicate offer found at index " + i);
-                System.out.println("❌TC.16 FAIL: Duplicate found at index " + i);
-            } else {
-                System.out.println("✅TC.16 Offer at index " + i + " is unique");
+            @Override
+            protected boolean sampled() {
+                return false; // duplicates can be anywhere, every offer is fingerprinted in every profile
             }
-        }
 
-        System.out.println("\n===✅ TC.16: End Validate offers[] uniqueness ===");
+            @Override
+            protected void onEnd(SoftAssert softAssert) {
+                // Reduce step: detect duplicates in offer order. Offers sharing a fingerprint are
+                // deep-compared, so a hash collision alone never reports a duplicate.
+                // Offers the walk never reached (time budget) have no fingerprint and are not compared.
+                Map<StructuralHash, List<Integer>> seenOffers = new HashMap<>();
+                int notFingerprinted = 0;
+                for (int i = 0; i < fingerprints.length; i++) {
+                    if (fingerprints[i] == null) {
+                        notFingerprinted++;
+                        continue;
+                    }
+                    List<Integer> sameHash = seenOffers.computeIfAbsent(fingerprints[i], hash -> new ArrayList<>(1));
+                    boolean duplicate = false;
+                    for (int earlier : sameHash) {
+                        if (StructuralHash.deepEquals(offers.get(earlier), offers.get(i))) {
+                            duplicate = true;
+                            break;
+                        }
+                    }
+
+                    if (duplicate) {
+                        softAssert.fail("Duplicate offer found at index " + i);
+                        System.out.println("❌TC.16 FAIL: Duplicate found at index " + i);
+                    } else {
+                        sameHash.add(i);
+                        System.out.println("✅TC.16 Offer at index " + i + " is unique");
+                    }
+                }
+                if (notFingerprinted > 0) {
+                    System.out.println("⚠️TC.16 " + notFingerprinted + " offers not reached, not compared");
+                }
+
+                System.out.println("\n===✅ TC.16: End Validate offers[] uniqueness ===");
+            }
+        };
     }
 
     /**
@@ -864,137 +1132,71 @@ public class PositiveSearchAssertions {
      *  - EMPTY STRING ("")
      *  - EMPTY LIST ([])
      *  - EMPTY OBJECT ({})
-     * The method recursively scans the JSON, records all issues, sorts them
-     * by type and path, then logs them with clear grouping for easier review.
+     * The scanner walks the JSON once and records the issues up to the check's failure cap
+     * ({@code ndc.maxFailuresPerCheck}), stopping at the first one past it; they are sorted
+     * by type and path, then logged with clear grouping for easier review.
+     * Fields on the supplier's allowlist (validation/nullAllowlist.json) are logged as warnings only.
      */
-    private static void validateNoNullValuesInSearchResponse(Response response, SoftAssert softAssert) {
-        JsonPath jsonPath = response.jsonPath();
-        Object root = jsonPath.get(); // Root of the JSON
-        List<String> issues = new ArrayList<>();
-
-        // Recursively find null-like issues starting from the root
-        findNullsRecursive(root, "$", issues);
-
-        // Sort by issue type rank first, then alphabetically by JSON path
-        issues.sort(Comparator
-                .comparing(PositiveSearchAssertions::getTypeRank) // Primary sort key: issue type order
-                .thenComparing(issue -> issue.substring(issue.indexOf("path: ") + 6)) // Secondary: JSON path
-        );
+    private static void validateNoNullValuesInSearchResponse(ResponseView view, SoftAssert softAssert) {
+        Object root = view.read("$"); // Root of the JSON
+        NullLikeScanner.Allowlist allowlist = NullAllowlistLoader.forSupplier(view.getString("supplier"));
+
+        // Stop scanning once the failures the SoftAssert can still keep are found (0 scans everything)
+        int remaining = CollectingSoftAssert.remaining(softAssert);
+        int maxFailures = remaining == Integer.MAX_VALUE ? 0 : Math.max(1, remaining);
+        NullLikeScanner.Scan scan = NullLikeScanner.scan(root, allowlist, maxFailures);
+        List<NullLikeScanner.Issue> issues = scan.issues();
+
+        if (scan.stopped()) {
+            // Where the scan stopped: the last failure kept, in document order
+            String lastFailure = "$";
+            for (NullLikeScanner.Issue issue : issues) {
+                if (!issue.allowed()) lastFailure = issue.path();
+            }
+            CollectingSoftAssert.stopped(softAssert, lastFailure);
+        }
+
+        // Sort by issue type first, then alphabetically by JSON path
+        issues.sort(NullLikeScanner.Issue.REPORT_ORDER);
 
         if (!issues.isEmpty()) {
             System.out.println("\n==== TC.17 NULL VALUE REPORT ====\n");
-            String lastType = null;
-
-            for (String issue : issues) {
-                String currentType = getTypeName(issue);
+            NullLikeScanner.Kind lastType = null;
 
+            for (NullLikeScanner.Issue issue : issues) {
                 // Add a blank line when the type changes
-                if (lastType != null && !Objects.equals(currentType, lastType)) {
+                if (lastType != null && issue.kind() != lastType) {
                     System.out.println();
                 }
 
-                // Extract the JSON path from the issue string
-                String path = issue.substring(issue.indexOf("path: ") + 6);
-
-                // Check if it's one of the allowed warning-only fields
-                if (path.endsWith(".departureTerminal") ||
-                        path.endsWith(".arrivalTerminal") ||
-                        path.endsWith(".fareBasisCode") ||
-                        path.endsWith(".appliedDealCode") ||
-                        path.endsWith(".discount")) {
-
-                    System.out.println("[⚠️ WARNING] " + issue); // Print warning
+                if (issue.allowed()) {
+                    System.out.println("[⚠️ WARNING] " + issue.message()); // Print warning
                     // ❌ No softAssert.fail() for warnings
-
                 } else {
-                    System.out.println(issue); // Print error
-                    softAssert.fail(issue);    // Fail for all other fields
+                    System.out.println(issue.message()); // Print error
+                    softAssert.fail(issue.message());    // Fail for all other fields
                 }
 
-                lastType = currentType;
+                lastType = issue.kind();
             }
 
-            System.out.printf("====== TOTAL NULL-LIKE ISSUES FOUND: %d ======%n", issues.size());
+            System.out.printf("====== TOTAL NULL-LIKE ISSUES FOUND: %d%s ======%n", issues.size(),
+                    scan.stopped() ? " (scan stopped at the failure cap)" : "");
         } else {
             System.out.println("\nTC.18: ✅ No null-like values found in search response.");
         }
     }
 
-    /**
-     * Recursively scans the JSON structure and records any null-like values.
-     * @param node   Current JSON node (can be Map, List, String, Number, etc.)
-     * @param path   Current JSON path representation
-     * @param issues List to collect issue descriptions
-     */
-    private static void findNullsRecursive(Object node, String path, List<String> issues) {
-        if (node == null) {
-            // Null value detected
-            issues.add(String.format("[TC.18] ❌ NULL found at path: %s", path));
-        }
-        else if (node instanceof String && ((String) node).trim().isEmpty()) {
-            // Empty string detected
-            issues.add(String.format("[TC.18] ❌ EMPTY STRING found at path: %s", path));
-        }
-        else if (node instanceof List<?> list) {
-            if (list.isEmpty()) {
-                // Empty list detected
-                issues.add(String.format("[TC.18] ❌ EMPTY LIST found at path: %s", path));
-            } else {
-                // Recursively scan each element in the list
-                for (int i = 0; i < list.size(); i++) {
-                    findNullsRecursive(list.get(i), path + "[" + i + "]", issues);
-                }
-            }
-        }
-        else if (node instanceof Map<?, ?> map) {
-            if (map.isEmpty()) {
-                // Empty object detected
-                issues.add(String.format("[TC.18] ❌ EMPTY OBJECT found at path: %s", path));
-            } else {
-                // Recursively scan each field in the object
-                for (Map.Entry<?, ?> entry : map.entrySet()) {
-                    String key = String.valueOf(entry.getKey());
-                    findNullsRecursive(entry.getValue(), path + "." + key, issues);
-                }
-            }
-        }
-    }
-
     // ==============================================================
     // ============== HELPER METHODS ================================
     // ==============================================================
 
     /**
-     * Returns a numeric rank for the given issue string so that
-     * sorting will group them in a logical order:
-     *   1 → NULL
-     *   2 → EMPTY STRING
-     *   3 → EMPTY LIST
-     *   4 → EMPTY OBJECT
-     *
-     * @param issue Issue description
-     * @return Numeric rank for sorting
-     */
-    private static int getTypeRank(String issue) {
-        if (issue.contains("NULL found")) return 1;
-        if (issue.contains("EMPTY STRING found")) return 2;
-        if (issue.contains("EMPTY LIST found")) return 3;
-        if (issue.contains("EMPTY OBJECT found")) return 4;
-        return 99; // Fallback for unknown types
-    }
-    /**
-     * Returns the type name (human-readable) extracted from the issue string.
-     * This is used for grouping and printing headers or separators.
-     *
-     * @param issue Issue description
-     * @return Type name (e.g., "NULL", "EMPTY STRING")
+     * Number of offers in the response (0 when offers[] is missing).
      */
-    private static String getTypeName(String issue) {
-        if (issue.contains("NULL found")) return "NULL";
-        if (issue.contains("EMPTY STRING found")) return "EMPTY STRING";
-        if (issue.contains("EMPTY LIST found")) return "EMPTY LIST";
-        if (issue.contains("EMPTY OBJECT found")) return "EMPTY OBJECT";
-        return "OTHER";
+    private static int offerCount(ResponseView view) {
+        List<Offer> offers = view.search().offers();
+        return offers != null ? offers.size() : 0;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,94 @@
+package Utils.Assertions;
+
+import org.testng.asserts.SoftAssert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks of one validation, each with the lightest {@link ValidationProfile} it runs in.
+ * <pre>
+ *     ProfiledChecks.forStage("FareConfirm")
+ *             .add(ValidationProfile.SMOKE, sa -> validatePriceDetails(...))
+ *             .add(ValidationProfile.DEEP, sa -> validateBaggageDetails(...))
+ *             .runAll(softAssert);
+ * </pre>
+ * The checks kept by the current profile run through {@link ParallelChecks#runAll}, in the order they were added.
+ * <p>
+ * A check can also be added by its {@link Spec}, which declares its tier and the response fields it reads, so that
+ * the response can be parsed with only the fields of the enabled checks ({@link #reads}).
+ */
+public final class ProfiledChecks {
+
+    private final String stage;
+    private final List<ValidationProfile> tiers = new ArrayList<>();
+    private final List<ParallelChecks.Check> checks = new ArrayList<>();
+
+    /**
+     * A check's lightest profile and the response paths it reads ({@link Utils.Response.FieldProjection} syntax).
+     */
+    public interface Spec {
+        ValidationProfile tier();
+
+        List<String> reads();
+    }
+
+    private ProfiledChecks(String stage) {
+        this.stage = stage;
+    }
+
+    /**
+     * @param stage name used in the coverage line, e.g. "Book"
+     */
+    public static ProfiledChecks forStage(String stage) {
+        return new ProfiledChecks(stage);
+    }
+
+    /**
+     * @param tier  lightest profile running the check
+     * @param check the check
+     */
+    public ProfiledChecks add(ValidationProfile tier, ParallelChecks.Check check) {
+        tiers.add(tier);
+        checks.add(check);
+        return this;
+    }
+
+    /**
+     * @param spec  tier of the check and the fields it reads
+     * @param check the check
+     */
+    public ProfiledChecks add(Spec spec, ParallelChecks.Check check) {
+        return add(spec.tier(), check);
+    }
+
+    /**
+     * Fields read by the specs the profile runs.
+     */
+    public static List<String> reads(Spec[] specs, ValidationProfile profile) {
+        List<String> reads = new ArrayList<>();
+        for (Spec spec : specs) {
+            if (profile.includes(spec.tier())) reads.addAll(spec.reads());
+        }
+        return reads;
+    }
+
+    /** Runs the checks of the current profile. */
+    public ValidationCoverage runAll(SoftAssert softAssert) {
+        return runAll(ValidationProfile.current(), softAssert);
+    }
+
+    /** Runs the checks of the given profile and reports the coverage. */
+    public ValidationCoverage runAll(ValidationProfile profile, SoftAssert softAssert) {
+        List<ParallelChecks.Check> selected = new ArrayList<>(checks.size());
+        for (int i = 0; i < checks.size(); i++) {
+            if (profile.includes(tiers.get(i))) selected.add(checks.get(i));
+        }
+
+        ParallelChecks.runAll(softAssert, selected);
+
+        ValidationCoverage coverage = ValidationCoverage.ofChecks(stage, profile, selected.size(), checks.size());
+        coverage.report();
+        return coverage;
+    }
+}
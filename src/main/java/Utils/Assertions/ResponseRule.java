@@ -0,0 +1,421 @@
+package Utils.Assertions;
+
+import Utils.Model.Money;
+import Utils.Response.CompiledPath;
+import org.testng.asserts.SoftAssert;
+
+import java.util.*;
+
+/**
+ * One declarative validation rule from {@code validation/rules.json}, compiled once.
+ * <p>
+ * Paths are path classes: keys separated by dots, {@code []} for every element of a list and {@code *} for
+ * every value of a map ({@code offers[].passengerFareBreakdown[].segmentDetails[].rbd}). Relative paths
+ * ({@code key}, {@code parts}, {@code total}) use the {@link CompiledPath} syntax from the scope node.
+ * Supported types:
+ * <pre>
+ * not-null                  path                              value present (and not blank)
+ * reference-exists          path, target                      value is a key of the target map (or an entry of the target list)
+ * sum-equals-with-tolerance scope, total, parts[, tolerance]  total = sum of parts ("-part" subtracts), 0.01 by default
+ * unique-within             scope, key[, within]              key unique among the scope nodes of each "within" node (or the response)
+ * sorted-by                 scope, key[, order]               consecutive scope elements sorted by key, "ascending" by default
+ * </pre>
+ * A compiled rule is immutable and shared; every run gets its own {@link Visitor} holding the per-response state.
+ */
+public abstract class ResponseRule {
+
+    /**
+     * A rule as written in the JSON file; unused fields are null.
+     */
+    public record Definition(String id, String type, String path, String scope, String key, String within,
+                             String target, List<String> parts, String total, Double tolerance, String order,
+                             String message) {
+    }
+
+    /**
+     * Per-run state of a rule, called by {@link ResponseRules} during its single walk.
+     */
+    interface Visitor {
+        /** Called on every node of the rule's anchor path class. */
+        void visit(Object node, ResponseRules.Location location, SoftAssert softAssert);
+
+        /** Called on every node of the rule's reset path class, before its children are walked. */
+        default void reset() {
+        }
+    }
+
+    protected final String id;
+    private final String message;
+
+    private ResponseRule(Definition definition) {
+        this.id = definition.id();
+        this.message = definition.message();
+    }
+
+    /** Path class of the nodes the rule visits. */
+    abstract List<String> anchor();
+
+    /** Path class whose nodes reset the rule's state, or null. */
+    List<String> resetAt() {
+        return null;
+    }
+
+    /** Starts a run over one response. */
+    abstract Visitor start(Object root);
+
+    /** Paths the rule reads (its anchor subtree), for the parse projection. */
+    List<String> reads() {
+        return List.of(String.join(".", anchor()));
+    }
+
+    public String id() {
+        return id;
+    }
+
+    /** "❌ [id] message at path", the rule's own message replacing the default one when set. */
+    protected String failure(String defaultMessage, String path) {
+        return "❌ [" + id + "] " + (message != null ? message : defaultMessage) + " at " + path;
+    }
+
+    /**
+     * Compiles a definition.
+     *
+     * @throws IllegalArgumentException on an unknown type or a missing field
+     */
+    public static ResponseRule compile(Definition definition) {
+        if (definition.id() == null || definition.type() == null) {
+            throw new IllegalArgumentException("❌ Rule without id or type: " + definition);
+        }
+        return switch (definition.type()) {
+            case "not-null" -> new NotNull(definition);
+            case "reference-exists" -> new ReferenceExists(definition);
+            case "sum-equals-with-tolerance" -> new SumEquals(definition);
+            case "unique-within" -> new UniqueWithin(definition);
+            case "sorted-by" -> new SortedBy(definition);
+            default -> throw new IllegalArgumentException("❌ Unknown rule type '" + definition.type() + "' in rule " + definition.id());
+        };
+    }
+
+    /** Splits a path class into steps: "offers[].rbd" → [offers, [], rbd]. */
+    static List<String> steps(String pathClass) {
+        List<String> steps = new ArrayList<>();
+        if (pathClass == null || pathClass.isEmpty() || "$".equals(pathClass)) return steps;
+        for (String part : pathClass.split("\\.")) {
+            String key = part;
+            int elements = 0;
+            while (key.endsWith("[]")) {
+                key = key.substring(0, key.length() - 2);
+                elements++;
+            }
+            if (!key.isEmpty()) steps.add(key);
+            for (int i = 0; i < elements; i++) steps.add("[]");
+        }
+        return List.copyOf(steps);
+    }
+
+    private static String require(Definition definition, String field, String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("❌ Rule " + definition.id() + " (" + definition.type() + ") needs '" + field + "'");
+        }
+        return value;
+    }
+
+    private static String text(Object value) {
+        return value instanceof Map<?, ?> amount && amount.containsKey("amount")
+                ? String.valueOf(amount.get("amount"))
+                : String.valueOf(value);
+    }
+
+    /**
+     * Amount of a node: a number, a numeric string, or an {amount, currency} object; a list sums its entries.
+     * Returns null when nothing numeric is found.
+     */
+    private static Money amount(Object value) {
+        if (value == null) return null;
+        if (value instanceof Number number) return Money.of(number);
+        if (value instanceof Map<?, ?> map) return map.containsKey("amount") ? amount(map.get("amount")) : null;
+        if (value instanceof List<?> list) {
+            Money sum = null;
+            for (Object element : list) {
+                Money part = amount(element);
+                if (part != null) sum = sum == null ? part : sum.plus(part);
+            }
+            return sum;
+        }
+        try {
+            return Money.parse(value.toString());
+        } catch (NumberFormatException | ArithmeticException e) {
+            return null;
+        }
+    }
+
+    // ==============================================================
+    // ============== RULE TYPES ====================================
+    // ==============================================================
+
+    /**
+     * Path ending with a key: visits the parent and reads the key, so a missing key fails too.
+     * Path ending with [] or *: visits the elements themselves.
+     */
+    private abstract static class ValueRule extends ResponseRule {
+        private final List<String> anchor;
+        private final String key;
+
+        ValueRule(Definition definition) {
+            super(definition);
+            List<String> steps = steps(require(definition, "path", definition.path()));
+            String last = steps.get(steps.size() - 1);
+            boolean element = "[]".equals(last) || "*".equals(last);
+            this.anchor = element ? steps : steps.subList(0, steps.size() - 1);
+            this.key = element ? null : last;
+        }
+
+        @Override
+        List<String> anchor() {
+            return anchor;
+        }
+
+        /** Value the rule checks, null when missing. */
+        Object value(Object node) {
+            return key == null ? node : node instanceof Map<?, ?> map ? map.get(key) : null;
+        }
+
+        String valuePath(ResponseRules.Location location) {
+            return key == null ? location.path() : location.path() + "." + key;
+        }
+
+        String name() {
+            return key != null ? key : "value";
+        }
+    }
+
+    private static final class NotNull extends ValueRule {
+
+        NotNull(Definition definition) {
+            super(definition);
+        }
+
+        @Override
+        Visitor start(Object root) {
+            return (node, location, softAssert) -> {
+                Object value = value(node);
+                if (value == null) {
+                    softAssert.fail(failure(name() + " is null", valuePath(location)));
+                } else if (value instanceof String text && text.isBlank()) {
+                    softAssert.fail(failure(name() + " is empty", valuePath(location)));
+                }
+            };
+        }
+    }
+
+    private static final class ReferenceExists extends ValueRule {
+        private final String target;
+
+        ReferenceExists(Definition definition) {
+            super(definition);
+            this.target = require(definition, "target", definition.target());
+        }
+
+        @Override
+        List<String> reads() {
+            return List.of(String.join(".", anchor()), target);
+        }
+
+        @Override
+        Visitor start(Object root) {
+            Object targetNode = CompiledPath.of(target).read(root);
+            Set<String> ids = new HashSet<>();
+            if (targetNode instanceof Map<?, ?> map) {
+                map.keySet().forEach(id -> ids.add(String.valueOf(id)));
+            } else if (targetNode instanceof List<?> list) {
+                list.forEach(id -> ids.add(String.valueOf(id)));
+            }
+            boolean missingTarget = targetNode == null;
+            boolean[] reported = new boolean[1];
+
+            return (node, location, softAssert) -> {
+                Object value = value(node);
+                if (value == null) return; // not-null rules report missing values
+                if (missingTarget) {
+                    if (!reported[0]) softAssert.fail(failure(target + " is missing", "$"));
+                    reported[0] = true;
+                    return;
+                }
+                if (value instanceof List<?> list) {
+                    for (Object element : list) {
+                        if (element != null && !ids.contains(String.valueOf(element))) {
+                            softAssert.fail(failure(name() + " '" + element + "' not found in " + target, valuePath(location)));
+                        }
+                    }
+                } else if (!ids.contains(String.valueOf(value))) {
+                    softAssert.fail(failure(name() + " '" + value + "' not found in " + target, valuePath(location)));
+                }
+            };
+        }
+    }
+
+    private static final class SumEquals extends ResponseRule {
+        private final List<String> anchor;
+        private final String totalPath;
+        private final CompiledPath total;
+        private final List<CompiledPath> parts = new ArrayList<>();
+        private final boolean[] negative;
+        private final List<String> partNames;
+        private final Money tolerance;
+
+        SumEquals(Definition definition) {
+            super(definition);
+            this.anchor = steps(require(definition, "scope", definition.scope()));
+            this.totalPath = require(definition, "total", definition.total());
+            this.total = CompiledPath.of(totalPath);
+            if (definition.parts() == null || definition.parts().isEmpty()) {
+                throw new IllegalArgumentException("❌ Rule " + definition.id() + " (" + definition.type() + ") needs 'parts'");
+            }
+            this.partNames = List.copyOf(definition.parts());
+            this.negative = new boolean[partNames.size()];
+            for (int i = 0; i < partNames.size(); i++) {
+                String part = partNames.get(i);
+                negative[i] = part.startsWith("-");
+                parts.add(CompiledPath.of(negative[i] ? part.substring(1) : part));
+            }
+            this.tolerance = Money.of(definition.tolerance() != null ? definition.tolerance() : 0.01);
+        }
+
+        @Override
+        List<String> anchor() {
+            return anchor;
+        }
+
+        @Override
+        Visitor start(Object root) {
+            return (node, location, softAssert) -> {
+                Money expected = amount(total.read(node));
+                if (expected == null) return; // not-null rules report missing totals
+
+                Money sum = Money.ZERO;
+                for (int i = 0; i < parts.size(); i++) {
+                    Money part = amount(parts.get(i).read(node));
+                    if (part == null) continue;
+                    sum = negative[i] ? sum.minus(part) : sum.plus(part);
+                }
+                if (expected.minus(sum).abs().compareTo(tolerance) > 0) {
+                    softAssert.fail(failure(String.format("%s != %s: expected %s, found %s",
+                            totalPath, String.join(" + ", partNames).replace("+ -", "- "), sum, expected), location.path()));
+                }
+            };
+        }
+    }
+
+    private static final class UniqueWithin extends ResponseRule {
+        private final List<String> anchor;
+        private final List<String> within;
+        private final String keyPath;
+        private final CompiledPath key;
+
+        UniqueWithin(Definition definition) {
+            super(definition);
+            this.anchor = steps(require(definition, "scope", definition.scope()));
+            this.within = definition.within() != null ? steps(definition.within()) : null;
+            this.keyPath = require(definition, "key", definition.key());
+            this.key = CompiledPath.of(keyPath);
+            if (within != null && (within.size() > anchor.size() || !anchor.subList(0, within.size()).equals(within))) {
+                throw new IllegalArgumentException("❌ Rule " + definition.id() + ": 'within' must be a prefix of 'scope'");
+            }
+        }
+
+        @Override
+        List<String> anchor() {
+            return anchor;
+        }
+
+        @Override
+        List<String> resetAt() {
+            return within;
+        }
+
+        @Override
+        Visitor start(Object root) {
+            Set<String> seen = new HashSet<>();
+            return new Visitor() {
+                @Override
+                public void visit(Object node, ResponseRules.Location location, SoftAssert softAssert) {
+                    Object value = key.read(node);
+                    if (value != null && !seen.add(text(value))) {
+                        softAssert.fail(failure("Duplicate " + keyPath + " '" + text(value) + "'", location.path()));
+                    }
+                }
+
+                @Override
+                public void reset() {
+                    seen.clear();
+                }
+            };
+        }
+    }
+
+    private static final class SortedBy extends ResponseRule {
+        private final List<String> anchor;
+        private final String keyPath;
+        private final CompiledPath key;
+        private final boolean descending;
+
+        SortedBy(Definition definition) {
+            super(definition);
+            this.anchor = steps(require(definition, "scope", definition.scope()));
+            if (anchor.isEmpty() || !"[]".equals(anchor.get(anchor.size() - 1))) {
+                throw new IllegalArgumentException("❌ Rule " + definition.id() + ": sorted-by scope must end with []");
+            }
+            this.keyPath = require(definition, "key", definition.key());
+            this.key = CompiledPath.of(keyPath);
+            this.descending = "descending".equalsIgnoreCase(definition.order());
+        }
+
+        @Override
+        List<String> anchor() {
+            return anchor;
+        }
+
+        @Override
+        List<String> resetAt() {
+            return anchor.subList(0, anchor.size() - 1);
+        }
+
+        @Override
+        Visitor start(Object root) {
+            Object[] previous = new Object[1];
+            return new Visitor() {
+                @Override
+                public void visit(Object node, ResponseRules.Location location, SoftAssert softAssert) {
+                    Object value = key.read(node);
+                    if (value == null) return;
+                    if (previous[0] != null) {
+                        int order = compare(previous[0], value);
+                        if (descending ? order < 0 : order > 0) {
+                            softAssert.fail(failure(String.format("Not sorted by %s (%s): %s after %s", keyPath,
+                                    descending ? "descending" : "ascending", text(value), text(previous[0])), location.path()));
+                        }
+                    }
+                    previous[0] = value;
+                }
+
+                @Override
+                public void reset() {
+                    previous[0] = null;
+                }
+            };
+        }
+
+        /** Numeric order when both values are numeric, text order otherwise. */
+        private static int compare(Object first, Object second) {
+            Money a = amount(first);
+            Money b = amount(second);
+            if (a != null && b != null) return a.compareTo(b);
+            return text(first).compareTo(text(second));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + id + "]";
+    }
+}
@@ -0,0 +1,280 @@
+package Utils.Assertions;
+
+import Utils.Model.Offer;
+import Utils.Response.ResponseView;
+import org.testng.asserts.SoftAssert;
+
+import java.util.*;
+
+/**
+ * The compiled rules of one stage (and agency), run together in a single walk of the response.
+ * <p>
+ * The path classes of all rules are merged into one tree when the rules are compiled. A run walks the response
+ * along that tree only (subtrees no rule looks at are never entered) and calls, at each node, the
+ * {@link ResponseRule.Visitor}s anchored on its path class. Adding a rule therefore adds visitor calls, never
+ * another pass. The concrete path of a node ({@code offers[3].priceDetails}) is only built for failure messages.
+ * <pre>
+ *     ValidationRulesLoader.forStage("fareConfirm", agencyName).run(view, softAssert);
+ * </pre>
+ * On Search the rules run as one {@link #searchCheck() SearchCheck}: the rules inside {@code offers[]} are called
+ * from the {@link SearchValidationEngine}'s offer walk, so offers[] is still walked only once.
+ */
+public final class ResponseRules {
+
+    private static final String ELEMENTS = "[]";
+    private static final String VALUES = "*";
+    private static final String OFFERS = "offers";
+
+    private final String stage;
+    private final List<ResponseRule> rules;
+    private final PathNode root = new PathNode();
+
+    /**
+     * Node of the merged path class tree: the rules visiting / reset at this path class, and the steps below it.
+     */
+    private static final class PathNode {
+        final Map<String, PathNode> children = new LinkedHashMap<>();
+        int[] visits = new int[0];
+        int[] resets = new int[0];
+
+        PathNode child(String step) {
+            return children.computeIfAbsent(step, k -> new PathNode());
+        }
+
+        static int[] append(int[] indexes, int index) {
+            int[] copy = Arrays.copyOf(indexes, indexes.length + 1);
+            copy[indexes.length] = index;
+            return copy;
+        }
+    }
+
+    /**
+     * @param stage e.g. "search", used in the log line
+     * @param rules compiled rules, in reporting order
+     */
+    public ResponseRules(String stage, List<ResponseRule> rules) {
+        this.stage = stage;
+        this.rules = List.copyOf(rules);
+        for (int r = 0; r < this.rules.size(); r++) {
+            ResponseRule rule = this.rules.get(r);
+            PathNode anchor = node(rule.anchor());
+            anchor.visits = PathNode.append(anchor.visits, r);
+            if (rule.resetAt() != null) {
+                PathNode reset = node(rule.resetAt());
+                reset.resets = PathNode.append(reset.resets, r);
+            }
+        }
+    }
+
+    private PathNode node(List<String> steps) {
+        PathNode node = root;
+        for (String step : steps) node = node.child(step);
+        return node;
+    }
+
+    public List<ResponseRule> rules() {
+        return rules;
+    }
+
+    public boolean isEmpty() {
+        return rules.isEmpty();
+    }
+
+    /** Paths the rules read, for a {@link Utils.Response.FieldProjection}. */
+    public List<String> reads() {
+        List<String> reads = new ArrayList<>();
+        for (ResponseRule rule : rules) reads.addAll(rule.reads());
+        return reads;
+    }
+
+    /**
+     * Runs every rule over the response in one walk.
+     *
+     * @param view       parsed response
+     * @param softAssert SoftAssert collecting the failures
+     */
+    public void run(ResponseView view, SoftAssert softAssert) {
+        if (rules.isEmpty()) return;
+        System.out.println("\n📐 === Validating " + rules.size() + " " + stage + " rules ===");
+
+        Object response = view.read("$");
+        new Walk(visitors(response), null).node(response, root, softAssert);
+
+        System.out.println("✅ " + stage + " rules completed");
+    }
+
+    /**
+     * The rules as a {@link SearchCheck}. The rules anchored inside {@code offers[]} are called from the engine's
+     * offer walk, on every offer in order (they are neither sampled nor chunked, since a rule may compare
+     * offers with each other). The other rules walk their own paths in onStart, leaving offers[] out.
+     */
+    public SearchCheck searchCheck() {
+        PathNode offerNode = offerNode();
+        return new SearchCheck() {
+            private Run run;
+            private List<?> offers;
+
+            @Override
+            protected void onStart(SoftAssert softAssert) {
+                if (rules.isEmpty()) {
+                    skip();
+                    return;
+                }
+                System.out.println("\n📐 === Validating " + rules.size() + " " + stage + " rules ===");
+                run = start(view.read("$"), softAssert);
+                offers = view.getList("offers");
+            }
+
+            @Override
+            protected void onOffer(int offerIndex, Offer offer, SoftAssert softAssert) {
+                if (offers != null && offerIndex < offers.size()) run.offer(offerIndex, offers.get(offerIndex), softAssert);
+            }
+
+            @Override
+            protected void onEnd(SoftAssert softAssert) {
+                System.out.println("✅ " + stage + " rules completed");
+            }
+
+            @Override
+            protected boolean walksOffers() {
+                return offerNode != null;
+            }
+        };
+    }
+
+    /**
+     * Starts a run for a caller visiting offers[] itself: walks the rules outside {@code offers[]} over the
+     * response now, and returns the run to pass every offer to as it is reached.
+     *
+     * @param response   root of the response (offers[] is not read)
+     * @param softAssert SoftAssert collecting the failures of the response-level rules
+     */
+    Run start(Object response, SoftAssert softAssert) {
+        Run run = new Run(visitors(response), offerNode());
+        run.walk.node(response, root, softAssert);
+        return run;
+    }
+
+    /**
+     * The rules of one response whose offers are passed one by one ({@link #start}).
+     */
+    final class Run {
+        private final Walk walk;
+        private final PathNode offerNode;
+
+        private Run(ResponseRule.Visitor[] visitors, PathNode offerNode) {
+            this.walk = new Walk(visitors, offerNode);
+            this.offerNode = offerNode;
+        }
+
+        /** Walks one element of offers[] (a Map tree) along the rules' offer paths. */
+        void offer(int offerIndex, Object offer, SoftAssert softAssert) {
+            if (offerNode == null) return;
+            walk.location.push(OFFERS, -1);
+            walk.location.push(null, offerIndex);
+            walk.node(offer, offerNode, softAssert);
+            walk.location.depth -= 2;
+        }
+    }
+
+    private ResponseRule.Visitor[] visitors(Object response) {
+        ResponseRule.Visitor[] visitors = new ResponseRule.Visitor[rules.size()];
+        for (int r = 0; r < visitors.length; r++) {
+            visitors[r] = rules.get(r).start(response);
+        }
+        return visitors;
+    }
+
+    /** Path class node of offers[], null when no rule looks inside the offers. */
+    private PathNode offerNode() {
+        PathNode offers = root.children.get(OFFERS);
+        return offers != null ? offers.children.get(ELEMENTS) : null;
+    }
+
+    /**
+     * Concrete path of the node being visited, rebuilt on demand.
+     */
+    public static final class Location {
+        private String[] keys = new String[16];
+        private int[] indexes = new int[16];
+        private int depth;
+
+        private void push(String key, int index) {
+            if (depth == keys.length) {
+                keys = Arrays.copyOf(keys, depth * 2);
+                indexes = Arrays.copyOf(indexes, depth * 2);
+            }
+            keys[depth] = key;
+            indexes[depth] = index;
+            depth++;
+        }
+
+        /** e.g. offers[3].priceDetails ("$" at the root) */
+        public String path() {
+            if (depth == 0) return "$";
+            StringBuilder sb = new StringBuilder();
+            for (int d = 0; d < depth; d++) {
+                if (keys[d] != null) {
+                    if (!sb.isEmpty()) sb.append('.');
+                    sb.append(keys[d]);
+                } else {
+                    sb.append('[').append(indexes[d]).append(']');
+                }
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Walk along the path class tree. The {@code skipped} node (offers[] when the caller walks the offers itself)
+     * is not entered.
+     */
+    private static final class Walk {
+        private final ResponseRule.Visitor[] visitors;
+        private final PathNode skipped;
+        private final Location location = new Location();
+
+        Walk(ResponseRule.Visitor[] visitors, PathNode skipped) {
+            this.visitors = visitors;
+            this.skipped = skipped;
+        }
+
+        void node(Object node, PathNode pathNode, SoftAssert softAssert) {
+            for (int r : pathNode.resets) visitors[r].reset();
+            for (int r : pathNode.visits) visitors[r].visit(node, location, softAssert);
+
+            for (Map.Entry<String, PathNode> step : pathNode.children.entrySet()) {
+                PathNode child = step.getValue();
+                if (child == skipped) continue;
+                switch (step.getKey()) {
+                    case ELEMENTS -> {
+                        if (node instanceof List<?> list) {
+                            for (int i = 0; i < list.size(); i++) {
+                                location.push(null, i);
+                                node(list.get(i), child, softAssert);
+                                location.depth--;
+                            }
+                        }
+                    }
+                    case VALUES -> {
+                        if (node instanceof Map<?, ?> map) {
+                            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                                location.push(String.valueOf(entry.getKey()), -1);
+                                node(entry.getValue(), child, softAssert);
+                                location.depth--;
+                            }
+                        }
+                    }
+                    default -> {
+                        Object value = node instanceof Map<?, ?> map ? map.get(step.getKey()) : null;
+                        if (value != null) {
+                            location.push(step.getKey(), -1);
+                            node(value, child, softAssert);
+                            location.depth--;
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,14 +1,24 @@
 package Utils.Assertions;
 
+import Utils.Helper.HelperTestData;
+import Utils.Response.OfferFingerprint;
+import Utils.Response.OfferFingerprint.PassengerFingerprint;
+import Utils.Response.TreeComparator;
 import org.testng.asserts.SoftAssert;
 
 import java.util.*;
 
+import static Utils.Helper.HelperOfferFingerprint.FINGERPRINT_KEY;
+import static Utils.Helper.HelperOfferFingerprint.compareBreakdownAmounts;
+import static Utils.Helper.HelperOfferFingerprint.compareTotals;
+
 /**
  * Utility class providing assertion methods to validate
  * that the Retrieve booking response matches the Book response.
  * Responsibilities:
- * - Field-by-field validation (IDs, journeys, segments, passengers, order, baggage, priceClass, taxes, etc.)
+ * - Field-by-field validation of the booking references and passengers kept from Book
+ * - Order validation (journeys, segments, baggage, price classes, breakdown, totals) against the Book
+ *   {@link OfferFingerprint}: the Book order itself is not kept
  * - Clear logging with TC IDs for traceability
  * - Soft assertions for aggregated reporting
  */
@@ -18,8 +28,8 @@ public class RetrieveAssertions {
      * Main entry point:
      * Validates that the Retrieve booking response matches the Book response.
      *
-     * @param bookMap     Book response data
-     * @param retrieveMap Retrieve response data
+     * @param bookMap     Book booking info: references, passengers and the order fingerprint
+     * @param retrieveMap Retrieve booking info, same keys
      * @param softAssert  Soft assertion instance for aggregating assertion results
      */
     public static void validateRetrievePNR(Map<String, Object> bookMap,
@@ -39,29 +49,38 @@ public class RetrieveAssertions {
         // TC.4 - Validate bookingToken
         assertBookingTokenEquals(bookMap, retrieveMap, softAssert, 4);
 
-        // TC.5 - Validate journeys
-        assertNestedMapEquals("journeys", bookMap, retrieveMap, softAssert, 5);
+        // TC.5, TC.6 and TC.8 to TC.12 compare the Retrieve order with the Book order fingerprint
+        OfferFingerprint book = bookMap.get(FINGERPRINT_KEY) instanceof OfferFingerprint f ? f : null;
+        OfferFingerprint retrieve = retrieveMap.get(FINGERPRINT_KEY) instanceof OfferFingerprint f ? f : null;
+        boolean orderChecks = assertOrderFingerprintsPresent(book, retrieve, softAssert);
+
+        if (orderChecks) {
+            // TC.5 - Validate journeys
+            assertSectionEquals("journeys", book.journeysHash(), retrieve.journeysHash(), softAssert, 5);
 
-        // TC.6 - Validate segments
-        assertNestedMapEquals("segments", bookMap, retrieveMap, softAssert, 6);
+            // TC.6 - Validate segments
+            assertSectionEquals("segments", book.segmentsHash(), retrieve.segmentsHash(), softAssert, 6);
+        }
 
         // TC.7 - Validate passengers
         assertNestedMapEquals("passengers", bookMap, retrieveMap, softAssert, 7);
 
-        // TC.8 - Validate baggage details
-        assertBaggageDetailsEquals(bookMap, retrieveMap, softAssert, 8);
+        if (orderChecks) {
+            // TC.8 - Validate baggage details
+            assertSectionEquals("baggageDetails", book.baggageDetailsHash(), retrieve.baggageDetailsHash(), softAssert, 8);
 
-        // TC.9 - Validate priceClass
-        assertPriceClassEquals(bookMap, retrieveMap, softAssert, 9);
+            // TC.9 - Validate segment, RBD, priceClass and baggage references per passenger type
+            assertSegmentReferencesEqual(book, retrieve, softAssert, 9);
 
-        // TC.10 - Validate order (priceDetails + passengerFareBreakdown)
-        assertOrderEquals(bookMap, retrieveMap, softAssert, 10);
+            // TC.10 - Validate order passenger types and counts
+            assertOrderPassengersEqual(book, retrieve, softAssert, 10);
 
-        // TC.11 - Validate passengerFareBreakdown
-        assertPassengerFareBreakdownEquals(bookMap, retrieveMap, softAssert, 11);
+            // TC.11 - Validate passengerFareBreakdown amounts
+            assertPassengerFareBreakdownEquals(book, retrieve, softAssert, 11);
 
-        // TC.12 - Validate priceDetails totals and taxes
-        assertPriceDetailsEquals(bookMap, retrieveMap, softAssert, 12);
+            // TC.12 - Validate priceDetails totals
+            assertPriceDetailsEquals(book, retrieve, softAssert, 12);
+        }
 
         System.out.println("========== VALIDATION COMPLETE ==========\n");
     }
@@ -87,7 +106,7 @@ public class RetrieveAssertions {
         } else {
             System.out.printf("✅ %s matches: '%s'%n", fieldName, bookVal);
         }
-        softAssert.assertEquals(retrieveVal, bookVal, "Mismatch in " + fieldName);
+        LazyAssert.assertEquals(retrieveVal, bookVal, () -> "Mismatch in " + fieldName, softAssert);
     }
 
     /**
@@ -114,7 +133,7 @@ public class RetrieveAssertions {
     }
 
     /**
-     * Compares a nested map field between Book and Retrieve.
+     * Compares a nested map field between Book and Retrieve, reporting the first differing paths.
      */
     private static void assertNestedMapEquals(String fieldName,
                                               Map<String, Object> bookMap,
@@ -125,194 +144,148 @@ public class RetrieveAssertions {
         Map<String, Object> bookNested = getMap(bookMap, fieldName);
         Map<String, Object> retrieveNested = getMap(retrieveMap, fieldName);
 
-        if (!Objects.equals(bookNested, retrieveNested)) {
-            System.out.printf("❌ %s mismatch:%nBOOK: %s%nRETRIEVE: %s%n", fieldName, bookNested, retrieveNested);
+        TreeComparator.Result result = new TreeComparator(HelperTestData.MaxReportedDifferences)
+                .compare(fieldName, bookNested, retrieveNested);
+        if (!result.matches()) {
+            System.out.printf("❌ %s mismatch (Book vs Retrieve):%n", fieldName);
+            printDifferences(result);
+            softAssert.fail("Mismatch in nested map: " + fieldName + " → " + result);
         } else {
             System.out.printf("✅ %s matches%n", fieldName);
         }
-
-        softAssert.assertEquals(retrieveNested, bookNested, "Mismatch in nested map: " + fieldName);
     }
 
     /**
-     * Validate baggage details.
+     * Checks both orders have a fingerprint; the order checks are skipped when either is missing.
      */
-    private static void assertBaggageDetailsEquals(Map<String, Object> bookMap,
-                                                   Map<String, Object> retrieveMap,
-                                                   SoftAssert softAssert,
-                                                   int tcId) {
-        assertNestedMapEquals("baggageDetails", bookMap, retrieveMap, softAssert, tcId);
+    private static boolean assertOrderFingerprintsPresent(OfferFingerprint book,
+                                                          OfferFingerprint retrieve,
+                                                          SoftAssert softAssert) {
+        if (book == null) {
+            System.out.println("\n⚠️ No order fingerprint stored by Book, skipping order checks (TC.5, TC.6, TC.8 - TC.12).");
+            return false;
+        }
+        if (retrieve == null) {
+            System.out.println("\n❌ Order missing in Retrieve response, skipping order checks (TC.5, TC.6, TC.8 - TC.12).");
+            softAssert.fail("Missing order in Retrieve response");
+            return false;
+        }
+        return true;
     }
 
     /**
-     * Validate priceClass (code + name only).
+     * Compares the structural hash of a response section with the one the Book fingerprint recorded.
      */
-    private static void assertPriceClassEquals(Map<String, Object> bookMap,
-                                               Map<String, Object> retrieveMap,
-                                               SoftAssert softAssert,
-                                               int tcId) {
-        System.out.println("\n--- TC." + tcId + ": Validating priceClasses ---");
-        Map<String, Object> bookClasses = getMap(bookMap, "priceClasses");
-        Map<String, Object> retrieveClasses = getMap(retrieveMap, "priceClasses");
-
-        for (String key : bookClasses.keySet()) {
-            Map<String, Object> bookClass = getMap(bookClasses, key);
-            Map<String, Object> retrieveClass = getMap(retrieveClasses, key);
-
-            if (retrieveClass == null) {
-                System.out.println("❌ Missing priceClass in Retrieve: " + key);
-                softAssert.fail("Missing priceClass: " + key);
-                continue;
-            }
-
-            Object bookName = bookClass.get("priceClassName");
-            Object retrieveName = retrieveClass.get("priceClassName");
+    private static void assertSectionEquals(String section,
+                                            Object bookHash,
+                                            Object retrieveHash,
+                                            SoftAssert softAssert,
+                                            int tcId) {
+        System.out.println("\n--- TC." + tcId + ": Comparing " + section + " with the Book fingerprint ---");
+        if (!Objects.equals(bookHash, retrieveHash)) {
+            System.out.printf("❌ %s mismatch (Book vs Retrieve)%n", section);
+            softAssert.fail("Mismatch in " + section);
+        } else {
+            System.out.printf("✅ %s matches%n", section);
+        }
+    }
 
-            if (!Objects.equals(bookName, retrieveName)) {
-                System.out.printf("❌ priceClassName mismatch for %s: Book='%s' vs Retrieve='%s'%n",
-                        key, bookName, retrieveName);
+    /**
+     * Validate the segment, RBD, priceClass and baggage references of each passenger type.
+     */
+    private static void assertSegmentReferencesEqual(OfferFingerprint book,
+                                                     OfferFingerprint retrieve,
+                                                     SoftAssert softAssert,
+                                                     int tcId) {
+        System.out.println("\n--- TC." + tcId + ": Validating segment, RBD, priceClass and baggage references ---");
+        for (PassengerFingerprint bookPax : book.breakdown()) {
+            PassengerFingerprint retrievePax = retrieve.passenger(bookPax.passengerTypeCode());
+            if (retrievePax == null) continue; // reported by TC.10
+
+            if (!bookPax.segments().equals(retrievePax.segments())) {
+                System.out.printf("❌ Segment references mismatch for %s: Book=%s vs Retrieve=%s%n",
+                        bookPax.passengerTypeCode(), bookPax.segments(), retrievePax.segments());
+                softAssert.fail(String.format("Mismatch in segment references for %s: expected %s, found %s",
+                        bookPax.passengerTypeCode(), bookPax.segments(), retrievePax.segments()));
             } else {
-                System.out.printf("✅ priceClassName matches for %s: '%s'%n", key, bookName);
+                System.out.printf("✅ Segment references match for %s: %s%n", bookPax.passengerTypeCode(), bookPax.segments());
             }
-
-            softAssert.assertEquals(retrieveName, bookName, "Mismatch in priceClassName for " + key);
         }
     }
 
     /**
-     * Validate order object: priceDetails and passengerFareBreakdown.
+     * Validate the order has the same passenger types, with the same number of breakdown entries each.
      */
-    private static void assertOrderEquals(Map<String, Object> bookMap,
-                                          Map<String, Object> retrieveMap,
-                                          SoftAssert softAssert,
-                                          int tcId) {
-        System.out.println("\n--- TC." + tcId + ": Validating order object ---");
-        Map<String, Object> bookOrder = getMap(bookMap, "order");
-        Map<String, Object> retrieveOrder = getMap(retrieveMap, "order");
-
-        if (bookOrder.isEmpty() && retrieveOrder.isEmpty()) {
-            System.out.println("⚠️ Order object not found in either response, skipping check.");
-            return;
+    private static void assertOrderPassengersEqual(OfferFingerprint book,
+                                                   OfferFingerprint retrieve,
+                                                   SoftAssert softAssert,
+                                                   int tcId) {
+        System.out.println("\n--- TC." + tcId + ": Validating order passenger types ---");
+        for (PassengerFingerprint bookPax : book.breakdown()) {
+            String paxType = bookPax.passengerTypeCode();
+            PassengerFingerprint retrievePax = retrieve.passenger(paxType);
+
+            if (retrievePax == null) {
+                System.out.println("❌ Missing passenger type in Retrieve order: " + paxType);
+                softAssert.fail("Missing passenger type in passengerFareBreakdown: " + paxType);
+            } else if (retrievePax.count() != bookPax.count()) {
+                System.out.printf("❌ %s count mismatch: Book=%d, Retrieve=%d%n", paxType, bookPax.count(), retrievePax.count());
+                softAssert.fail(String.format("Mismatch in passengerFareBreakdown count for %s: expected %d, found %d",
+                        paxType, bookPax.count(), retrievePax.count()));
+            } else {
+                System.out.printf("✅ %s × %d matches%n", paxType, bookPax.count());
+            }
         }
-
-        if (!Objects.equals(bookOrder, retrieveOrder)) {
-            System.out.printf("❌ Order mismatch:%nBOOK: %s%nRETRIEVE: %s%n", bookOrder, retrieveOrder);
-        } else {
-            System.out.println("✅ Order matches.");
+        for (PassengerFingerprint retrievePax : retrieve.breakdown()) {
+            if (book.passenger(retrievePax.passengerTypeCode()) == null) {
+                System.out.println("❌ Unexpected passenger type in Retrieve order: " + retrievePax.passengerTypeCode());
+                softAssert.fail("Unexpected passenger type (not in Book): " + retrievePax.passengerTypeCode());
+            }
         }
-
-        softAssert.assertEquals(retrieveOrder, bookOrder, "Mismatch in order object");
     }
 
     /**
-     * Validate passengerFareBreakdown.
+     * Validate the base and tax amounts of each passenger type.
      */
-    private static void assertPassengerFareBreakdownEquals(Map<String, Object> bookMap,
-                                                           Map<String, Object> retrieveMap,
+    private static void assertPassengerFareBreakdownEquals(OfferFingerprint book,
+                                                           OfferFingerprint retrieve,
                                                            SoftAssert softAssert,
                                                            int tcId) {
-        System.out.println("\n--- TC." + tcId + ": Comparing passengerFareBreakdown ---");
-        List<Map<String, Object>> bookPFB = getList(getMap(bookMap, "order"), "passengerFareBreakdown");
-        List<Map<String, Object>> retrievePFB = getList(getMap(retrieveMap, "order"), "passengerFareBreakdown");
-
-        if (bookPFB.size() != retrievePFB.size()) {
-            System.out.printf("❌ passengerFareBreakdown size mismatch: Book=%d, Retrieve=%d%n",
-                    bookPFB.size(), retrievePFB.size());
-        } else {
-            System.out.printf("✅ passengerFareBreakdown size matches: %d%n", bookPFB.size());
-        }
-        softAssert.assertEquals(retrievePFB.size(), bookPFB.size(),
-                "Mismatch in passengerFareBreakdown size");
-
-        for (int i = 0; i < Math.min(bookPFB.size(), retrievePFB.size()); i++) {
-            Map<String, Object> bookEntry = bookPFB.get(i);
-            Map<String, Object> retrieveEntry = retrievePFB.get(i);
-
-            for (String key : bookEntry.keySet()) {
-                Object bookVal = bookEntry.get(key);
-                Object retrieveVal = retrieveEntry.get(key);
-
-                if (!Objects.equals(bookVal, retrieveVal)) {
-                    System.out.printf("❌ passengerFareBreakdown[%d].%s: Book='%s' vs Retrieve='%s'%n",
-                            i, key, bookVal, retrieveVal);
-                } else {
-                    System.out.printf("✅ passengerFareBreakdown[%d].%s matches%n", i, key);
-                }
-
-                softAssert.assertEquals(retrieveVal, bookVal,
-                        "Mismatch in passengerFareBreakdown[" + i + "]." + key);
-            }
+        System.out.println("\n--- TC." + tcId + ": Comparing passengerFareBreakdown amounts ---");
+        for (PassengerFingerprint bookPax : book.breakdown()) {
+            PassengerFingerprint retrievePax = retrieve.passenger(bookPax.passengerTypeCode());
+            System.out.printf("   %s Book: base=%s tax=%s | Retrieve: base=%s tax=%s%n", bookPax.passengerTypeCode(),
+                    bookPax.baseAmount(), bookPax.taxAmount(),
+                    retrievePax != null ? retrievePax.baseAmount() : null, retrievePax != null ? retrievePax.taxAmount() : null);
         }
+        compareBreakdownAmounts(book, retrieve, softAssert);
     }
 
     /**
-     * Validate priceDetails totals and taxes.
+     * Validate priceDetails totals.
      */
-    private static void assertPriceDetailsEquals(Map<String, Object> bookMap,
-                                                 Map<String, Object> retrieveMap,
+    private static void assertPriceDetailsEquals(OfferFingerprint book,
+                                                 OfferFingerprint retrieve,
                                                  SoftAssert softAssert,
                                                  int tcId) {
-        System.out.println("\n--- TC." + tcId + ": Validating priceDetails totals and taxes ---");
-        Map<String, Object> bookPrice = getMap(bookMap, "priceDetails");
-        Map<String, Object> retrievePrice = getMap(retrieveMap, "priceDetails");
-
-        // Totals
-        compareField("totalAmount", bookPrice, retrievePrice, softAssert);
-        compareField("baseAmount", bookPrice, retrievePrice, softAssert);
-        compareField("taxesAmount", bookPrice, retrievePrice, softAssert);
-
-        // taxesAndFees
-        List<Map<String, Object>> bookTaxes = getList(bookPrice, "taxesAndFees");
-        List<Map<String, Object>> retrieveTaxes = getList(retrievePrice, "taxesAndFees");
-
-        if (bookTaxes.size() != retrieveTaxes.size()) {
-            System.out.printf("❌ taxesAndFees size mismatch: Book=%d, Retrieve=%d%n",
-                    bookTaxes.size(), retrieveTaxes.size());
-        } else {
-            System.out.printf("✅ taxesAndFees size matches: %d%n", bookTaxes.size());
-        }
-        softAssert.assertEquals(retrieveTaxes.size(), bookTaxes.size(),
-                "Mismatch in taxesAndFees size");
-
-        for (int i = 0; i < Math.min(bookTaxes.size(), retrieveTaxes.size()); i++) {
-            Map<String, Object> bookTax = bookTaxes.get(i);
-            Map<String, Object> retrieveTax = retrieveTaxes.get(i);
-
-            if (!Objects.equals(bookTax, retrieveTax)) {
-                System.out.printf("❌ taxesAndFees[%d] mismatch:%nBOOK: %s%nRETRIEVE: %s%n",
-                        i, bookTax, retrieveTax);
-            } else {
-                System.out.printf("✅ taxesAndFees[%d] matches%n", i);
-            }
-
-            softAssert.assertEquals(retrieveTax, bookTax,
-                    "Mismatch in taxesAndFees at index " + i);
-        }
+        System.out.println("\n--- TC." + tcId + ": Validating priceDetails totals ---");
+        System.out.printf("   Book: total=%s base=%s tax=%s | Retrieve: total=%s base=%s tax=%s%n",
+                book.totalAmount(), book.totalBaseAmount(), book.totalTaxAmount(),
+                retrieve.totalAmount(), retrieve.totalBaseAmount(), retrieve.totalTaxAmount());
+        compareTotals(book, retrieve, softAssert);
     }
 
     // ==============================================================
     // ============== HELPER METHODS ================================
     // ==============================================================
 
-    private static void compareField(String field,
-                                     Map<String, Object> book,
-                                     Map<String, Object> retrieve,
-                                     SoftAssert softAssert) {
-        Object bookVal = book.get(field);
-        Object retrieveVal = retrieve.get(field);
-
-        if (!Objects.equals(bookVal, retrieveVal)) {
-            System.out.printf("❌ %s mismatch: Book='%s' vs Retrieve='%s'%n", field, bookVal, retrieveVal);
-        } else {
-            System.out.printf("✅ %s matches: '%s'%n", field, bookVal);
+    private static void printDifferences(TreeComparator.Result result) {
+        result.differences().forEach(difference -> System.out.println("   " + difference));
+        if (result.truncated()) {
+            System.out.println("   ... (further differences not shown)");
         }
-
-        softAssert.assertEquals(retrieveVal, bookVal, "Mismatch in " + field);
     }
     private static Map<String, Object> getMap(Map<String, Object> parent, String key) {
         return (Map<String, Object>) parent.getOrDefault(key, Map.of());
     }
-    private static List<Map<String, Object>> getList(Map<String, Object> parent, String key) {
-        return (List<Map<String, Object>>) parent.getOrDefault(key, List.of());
-    }
 }
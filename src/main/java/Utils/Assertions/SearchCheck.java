@@ -0,0 +1,79 @@
+package Utils.Assertions;
+
+import Utils.Model.Offer;
+import Utils.Model.PassengerFareBreakdown;
+import Utils.Model.SegmentDetail;
+import Utils.Model.TaxFee;
+import Utils.Response.ResponseView;
+import org.testng.asserts.SoftAssert;
+
+/**
+ * A Search check driven by {@link SearchValidationEngine}.
+ * <p>
+ * The engine walks {@code offers[]} once and calls every registered check for each offer,
+ * passenger breakdown, segment detail and tax/fee. Checks override only the callbacks they need.
+ * Response-level checks (journeys, whole-tree scans) do their work in {@link #onStart} or {@link #onEnd}.
+ * {@link #view} is set by the engine before {@link #onStart}. Every callback receives the SoftAssert
+ * to record into; it may differ between calls (e.g. one per chunk of offers), so checks must not keep it.
+ */
+public abstract class SearchCheck {
+
+    protected ResponseView view;
+    private volatile boolean skipped;
+
+    /** Called once before the first offer. */
+    protected void onStart(SoftAssert softAssert) {
+    }
+
+    protected void onOffer(int offerIndex, Offer offer, SoftAssert softAssert) {
+    }
+
+    protected void onPassengerBreakdown(int offerIndex, int paxIndex, PassengerFareBreakdown pax, SoftAssert softAssert) {
+    }
+
+    protected void onSegmentDetail(int offerIndex, int paxIndex, int segmentIndex, SegmentDetail segment, SoftAssert softAssert) {
+    }
+
+    protected void onTaxFee(int offerIndex, int paxIndex, int taxIndex, TaxFee taxFee, SoftAssert softAssert) {
+    }
+
+    /** Called once after the last offer. */
+    protected void onEnd(SoftAssert softAssert) {
+    }
+
+    /**
+     * Whether the check needs the offer callbacks. Response-level checks return false so the engine
+     * can run them on their own, alongside the offers walk, when parallel checks are enabled.
+     */
+    protected boolean walksOffers() {
+        return true;
+    }
+
+    /**
+     * Whether each offer can be checked independently of the others: the offer callbacks keep no state
+     * across offers (state set up in onStart is only read, per-offer results are stored by offer index).
+     * Such checks can be run on chunks of offers in parallel. Checks comparing offers with each other in
+     * their callbacks (sort order) keep the default, so they see every offer in order.
+     */
+    protected boolean perOffer() {
+        return false;
+    }
+
+    /**
+     * Whether the check may only see the offers of the profile's {@link OfferSample}. Per-offer checks are
+     * sampled by default; checks whose result needs every offer (e.g. uniqueness, which only fingerprints each
+     * offer in its callbacks and compares them in onEnd) return false and always see every offer.
+     */
+    protected boolean sampled() {
+        return perOffer();
+    }
+
+    /** Stops the engine from calling this check again (same as returning early from a standalone check). Call from onStart. */
+    protected void skip() {
+        skipped = true;
+    }
+
+    boolean isSkipped() {
+        return skipped;
+    }
+}
@@ -0,0 +1,342 @@
+package Utils.Assertions;
+
+import Utils.Helper.HelperTestData;
+import Utils.Model.Offer;
+import Utils.Model.PassengerFareBreakdown;
+import Utils.Model.SegmentDetail;
+import Utils.Model.TaxFee;
+import Utils.Response.ResponseView;
+import org.testng.asserts.SoftAssert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs a set of {@link SearchCheck}s over a Search response in a single walk of {@code offers[]}.
+ * <p>
+ * Each check records into its own {@link CollectingSoftAssert}s; when the walk is done the failures
+ * are replayed into the caller's SoftAssert check by check, in registration order. The final
+ * {@code assertAll()} report therefore lists failures in the same order as running the checks
+ * one after another.
+ * <p>
+ * With parallel checks enabled ({@link ParallelChecks}), checks that do not walk offers run as separate
+ * fork-join tasks next to the offers walk. On responses with at least {@code ndc.parallelOfferThreshold}
+ * offers, {@code offers[]} is also split into chunks and the {@link SearchCheck#perOffer() per-offer} checks
+ * validate each chunk in its own task; their failures are replayed chunk by chunk, which is the order a
+ * single walk produces. Checks comparing offers with each other keep one ordered walk over all offers,
+ * running alongside the chunks. The replay order does not change in any mode.
+ * <p>
+ * Under the smoke and standard {@link ValidationProfile}s the {@link SearchCheck#sampled() sampled} checks only
+ * see the offers of an {@link OfferSample} (always including offers[0]); every other check still sees every
+ * offer, chunked or not. The coverage is reported at the end of the run.
+ * <p>
+ * A check keeps at most {@code ndc.maxFailuresPerCheck} failures: once it raises one more, the engine stops calling
+ * it for the following offers and one line after its failures says at which offer it stopped. The whole run has
+ * a {@link ValidationBudget}; when it is exhausted the walks stop and checks not started are not run. Either way
+ * the remaining checks go on and the coverage is reported as partial.
+ */
+public class SearchValidationEngine {
+
+    /** Smallest number of offers worth a fork-join task of its own. */
+    private static final int MIN_CHUNK_SIZE = 64;
+
+    /**
+     * Failures of one check: onStart, the offer callbacks (one collector per chunk) and onEnd, in replay order.
+     */
+    private static final class CheckFailures {
+        final CollectingSoftAssert start = new CollectingSoftAssert(HelperTestData.MaxFailuresPerCheck);
+        final List<CollectingSoftAssert> offers = new ArrayList<>();
+        final CollectingSoftAssert end = new CollectingSoftAssert(HelperTestData.MaxFailuresPerCheck);
+
+        CollectingSoftAssert newOfferCollector() {
+            CollectingSoftAssert collector = new CollectingSoftAssert(HelperTestData.MaxFailuresPerCheck);
+            offers.add(collector);
+            return collector;
+        }
+
+        /**
+         * Replays the first {@code ndc.maxFailuresPerCheck} failures in order. When the cap cut the check short
+         * (a failure past it was dropped, see {@link CollectingSoftAssert#isCapped()}), one line says where it stopped: the offer of its last replayed failure, or the location the check gave.
+         * A chunked walk keeps up to the cap per chunk, so the first failures in offer order, and that offer, are
+         * the same as in a single walk.
+         *
+         * @return offer index the check stopped at (-1 when it stopped outside offers), or null if it was not capped
+         */
+        Integer replayInto(SoftAssert softAssert) {
+            List<CollectingSoftAssert> collectors = new ArrayList<>(offers.size() + 2);
+            collectors.add(start);
+            collectors.addAll(offers);
+            collectors.add(end);
+
+            int maxFailures = HelperTestData.MaxFailuresPerCheck;
+            int replayed = 0;
+            int stoppedAt = -1;
+            String stopLocation = null;
+            boolean capped = false;
+            for (CollectingSoftAssert collector : collectors) {
+                if (capped) break;
+                List<AssertionError> collected = collector.failures();
+                for (int f = 0; f < collected.size(); f++) {
+                    if (maxFailures <= 0 || replayed < maxFailures) {
+                        softAssert.fail(collected.get(f).getMessage());
+                        replayed++;
+                        stoppedAt = collector.offerOf(f);
+                    } else {
+                        capped = true;
+                        break;
+                    }
+                }
+                if (!capped && collector.isCapped()) {
+                    capped = true;
+                    stopLocation = collector.stopLocation();
+                }
+            }
+
+            if (!capped) return null;
+            if (stopLocation != null) {
+                softAssert.fail("⚠️ Check stopped after " + maxFailures + " failures at " + stopLocation
+                        + ", the rest of the response not checked");
+                return -1;
+            }
+            softAssert.fail("⚠️ Check stopped after " + maxFailures + " failures"
+                    + (stoppedAt >= 0 ? " at offers[" + stoppedAt + "], later offers not reported" : ""));
+            return stoppedAt;
+        }
+    }
+
+    /**
+     * Visits the response once, dispatching every node to all active checks, under the current profile.
+     *
+     * @param view           Parsed Search response
+     * @param checks         Checks in reporting order
+     * @param softAssert     SoftAssert receiving all failures
+     * @param selectedOffers Indexes of the offers the flow goes on with, always checked (offers[0] always is)
+     * @return what the per-offer checks covered
+     */
+    public static ValidationCoverage run(ResponseView view, List<SearchCheck> checks, SoftAssert softAssert,
+                                         int... selectedOffers) {
+        return run(view, checks, ValidationProfile.current(), softAssert, selectedOffers);
+    }
+
+    /**
+     * Same as {@link #run(ResponseView, List, SoftAssert, int...)} with an explicit profile.
+     */
+    public static ValidationCoverage run(ResponseView view, List<SearchCheck> checks, ValidationProfile profile,
+                                         SoftAssert softAssert, int... selectedOffers) {
+        List<CheckFailures> failures = new ArrayList<>(checks.size());
+        for (SearchCheck check : checks) {
+            failures.add(new CheckFailures());
+            check.view = view;
+        }
+
+        List<Offer> offers = view.search().offers() != null ? view.search().offers() : List.of();
+        OfferSample sample = OfferSample.of(profile, offers.size(), selectedOffers);
+        ValidationBudget budget = ValidationBudget.start();
+
+        // A check that throws still gets the failures collected so far (its own and the others') replayed
+        List<Integer> stoppedAt = new ArrayList<>();
+        try {
+            if (ParallelChecks.enabled()) {
+                runParallel(offers, sample, budget, checks, failures);
+            } else {
+                for (int i = 0; i < checks.size(); i++) {
+                    start(checks.get(i), failures.get(i), budget);
+                }
+                List<SearchCheck> walkers = new ArrayList<>();
+                List<CheckFailures> walkerFailures = new ArrayList<>();
+                for (int i = 0; i < checks.size(); i++) {
+                    SearchCheck check = checks.get(i);
+                    if (check.walksOffers() && !check.isSkipped()) {
+                        walkers.add(check);
+                        walkerFailures.add(failures.get(i));
+                    }
+                }
+                SearchCheck[] walkerChecks = walkers.toArray(new SearchCheck[0]);
+                walk(offers, 0, offers.size(), sample, budget, walkerChecks, onSampleOnly(walkerChecks, sample),
+                        newOfferCollectors(walkerFailures));
+                for (int i = 0; i < checks.size(); i++) {
+                    if (!checks.get(i).isSkipped()) checks.get(i).onEnd(failures.get(i).end);
+                }
+            }
+        } finally {
+            for (CheckFailures checkFailures : failures) {
+                Integer offerIndex = checkFailures.replayInto(softAssert);
+                if (offerIndex != null) stoppedAt.add(offerIndex);
+            }
+        }
+
+        ValidationCoverage coverage = ValidationCoverage.ofOffers("Search", sample, sample.count(offers.size()), offers.size());
+        coverage.capped(stoppedAt);
+        budget.describeInto(coverage);
+        coverage.report();
+        return coverage;
+    }
+
+    private static void runParallel(List<Offer> offers, OfferSample sample, ValidationBudget budget,
+                                    List<SearchCheck> checks, List<CheckFailures> failures) {
+        List<Runnable> tasks = new ArrayList<>();
+
+        List<SearchCheck> walkers = new ArrayList<>();
+        List<CheckFailures> walkerFailures = new ArrayList<>();
+        for (int i = 0; i < checks.size(); i++) {
+            SearchCheck check = checks.get(i);
+            CheckFailures checkFailures = failures.get(i);
+            if (check.walksOffers()) {
+                walkers.add(check);
+                walkerFailures.add(checkFailures);
+            } else {
+                tasks.add(() -> {
+                    start(check, checkFailures, budget);
+                    if (!check.isSkipped()) check.onEnd(checkFailures.end);
+                });
+            }
+        }
+
+        // Offer callbacks read what onStart set up, so start the walkers before forking
+        for (int i = 0; i < walkers.size(); i++) {
+            start(walkers.get(i), walkerFailures.get(i), budget);
+        }
+
+        boolean chunked = offers.size() >= HelperTestData.ParallelOfferThreshold;
+        List<SearchCheck> ordered = new ArrayList<>();
+        List<CheckFailures> orderedFailures = new ArrayList<>();
+        List<SearchCheck> chunkable = new ArrayList<>();
+        List<CheckFailures> chunkableFailures = new ArrayList<>();
+        for (int i = 0; i < walkers.size(); i++) {
+            SearchCheck check = walkers.get(i);
+            if (check.isSkipped()) continue;
+            (chunked && check.perOffer() ? chunkable : ordered).add(check);
+            (chunked && check.perOffer() ? chunkableFailures : orderedFailures).add(walkerFailures.get(i));
+        }
+
+        if (!ordered.isEmpty()) {
+            SearchCheck[] orderedChecks = ordered.toArray(new SearchCheck[0]);
+            boolean[] orderedOnSample = onSampleOnly(orderedChecks, sample);
+            CollectingSoftAssert[] collectors = newOfferCollectors(orderedFailures);
+            tasks.add(0, () -> walk(offers, 0, offers.size(), sample, budget, orderedChecks, orderedOnSample, collectors));
+        }
+
+        if (!chunkable.isEmpty()) {
+            SearchCheck[] chunkChecks = chunkable.toArray(new SearchCheck[0]);
+            boolean[] chunkOnSample = onSampleOnly(chunkChecks, sample);
+            int chunkSize = chunkSize(offers.size());
+            for (int from = 0; from < offers.size(); from += chunkSize) {
+                int start = from;
+                int end = Math.min(offers.size(), from + chunkSize);
+                CollectingSoftAssert[] collectors = newOfferCollectors(chunkableFailures);
+                tasks.add(() -> walk(offers, start, end, sample, budget, chunkChecks, chunkOnSample, collectors));
+            }
+        }
+
+        ParallelChecks.runTasks(tasks);
+
+        for (int i = 0; i < walkers.size(); i++) {
+            if (!walkers.get(i).isSkipped()) walkers.get(i).onEnd(walkerFailures.get(i).end);
+        }
+    }
+
+    /** Calls onStart, or skips the check when the budget is already exhausted. */
+    private static void start(SearchCheck check, CheckFailures checkFailures, ValidationBudget budget) {
+        if (budget.exhausted()) {
+            check.skip();
+            budget.checkNotRun();
+            return;
+        }
+        check.onStart(checkFailures.start);
+    }
+
+    private static int next(OfferSample sample, int from, int to) {
+        return sample == null || sample.isFull() ? from : sample.next(from, to);
+    }
+
+    /** Which checks only see the sampled offers: the {@link SearchCheck#sampled() sampled} ones, unless the sample is full. */
+    private static boolean[] onSampleOnly(SearchCheck[] checks, OfferSample sample) {
+        boolean[] onSample = new boolean[checks.length];
+        for (int c = 0; c < checks.length; c++) {
+            onSample[c] = checks[c].sampled() && !sample.isFull();
+        }
+        return onSample;
+    }
+
+    /** About four chunks per pool thread, so uneven offers still balance, but never tiny ones. */
+    private static int chunkSize(int offerCount) {
+        int chunks = Math.max(1, ForkJoinPool.getCommonPoolParallelism() * 4);
+        return Math.max(MIN_CHUNK_SIZE, (offerCount + chunks - 1) / chunks);
+    }
+
+    private static CollectingSoftAssert[] newOfferCollectors(List<CheckFailures> failures) {
+        CollectingSoftAssert[] collectors = new CollectingSoftAssert[failures.size()];
+        for (int i = 0; i < collectors.length; i++) {
+            collectors[i] = failures.get(i).newOfferCollector();
+        }
+        return collectors;
+    }
+
+    /**
+     * Walks offers [from, to) once, calling {@code checks[c]} with {@code collectors[c]}.
+     * A check with {@code onSample[c]} set is only called on the offers of the sample; when every check is, only
+     * the sampled offers are visited. A check whose collector dropped a failure past its cap is not called for the
+     * following nodes ({@link CollectingSoftAssert#isCapped()}); the walk stops when the budget is exhausted.
+     */
+    private static void walk(List<Offer> offers, int from, int to, OfferSample sample, ValidationBudget budget,
+                             SearchCheck[] checks, boolean[] onSample, CollectingSoftAssert[] collectors) {
+        if (checks.length == 0) return;
+
+        boolean allOnSample = true;
+        for (boolean sampledOnly : onSample) allOnSample &= sampledOnly;
+        OfferSample visited = allOnSample ? sample : null;
+        boolean[] called = new boolean[checks.length];
+
+        for (int offerIndex = next(visited, from, to); offerIndex < to; offerIndex = next(visited, offerIndex + 1, to)) {
+            if (budget.exhausted()) {
+                budget.stoppedAt(offerIndex);
+                return;
+            }
+            boolean inSample = allOnSample || sample.isFull() || sample.includes(offerIndex);
+            boolean any = false;
+            for (int c = 0; c < checks.length; c++) {
+                called[c] = inSample || !onSample[c];
+                any |= called[c];
+            }
+            if (!any) continue;
+
+            Offer offer = offers.get(offerIndex);
+            for (int c = 0; c < checks.length; c++) {
+                if (!called[c]) continue;
+                collectors[c].atOffer(offerIndex);
+                if (!collectors[c].isCapped()) checks[c].onOffer(offerIndex, offer, collectors[c]);
+            }
+
+            List<PassengerFareBreakdown> breakdowns = offer.passengerFareBreakdown();
+            if (breakdowns == null) continue;
+
+            for (int paxIndex = 0; paxIndex < breakdowns.size(); paxIndex++) {
+                PassengerFareBreakdown pax = breakdowns.get(paxIndex);
+                for (int c = 0; c < checks.length; c++) {
+                    if (called[c] && !collectors[c].isCapped()) checks[c].onPassengerBreakdown(offerIndex, paxIndex, pax, collectors[c]);
+                }
+
+                List<SegmentDetail> segments = pax.segmentDetails();
+                if (segments != null) {
+                    for (int segmentIndex = 0; segmentIndex < segments.size(); segmentIndex++) {
+                        SegmentDetail segment = segments.get(segmentIndex);
+                        for (int c = 0; c < checks.length; c++) {
+                            if (called[c] && !collectors[c].isCapped()) checks[c].onSegmentDetail(offerIndex, paxIndex, segmentIndex, segment, collectors[c]);
+                        }
+                    }
+                }
+
+                List<TaxFee> taxes = pax.taxesAndFees();
+                if (taxes != null) {
+                    for (int taxIndex = 0; taxIndex < taxes.size(); taxIndex++) {
+                        TaxFee tax = taxes.get(taxIndex);
+                        for (int c = 0; c < checks.length; c++) {
+                            if (called[c] && !collectors[c].isCapped()) checks[c].onTaxFee(offerIndex, paxIndex, taxIndex, tax, collectors[c]);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
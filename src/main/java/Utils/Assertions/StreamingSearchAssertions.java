@@ -0,0 +1,205 @@
+package Utils.Assertions;
+
+import Utils.Helper.HelperCurrencyValidator.CurrencyTotals;
+import Utils.Model.Offer;
+import Utils.Model.PassengerCounts;
+import Utils.Response.ResponseView;
+import Utils.Response.StreamingSearchReader;
+import Utils.Response.StreamingSearchReader.StreamedOffer;
+import Utils.Response.StreamingSearchReader.StreamedSearch;
+import Utils.Helper.HelperTestData;
+import Utils.Response.StructuralHash;
+import org.testng.asserts.IAssert;
+import org.testng.asserts.SoftAssert;
+
+import java.io.InputStream;
+import java.util.*;
+
+import static Utils.Assertions.PositiveSearchAssertions.checkPassengerTypes;
+import static Utils.Assertions.PositiveSearchAssertions.checkRbdNotNull;
+import static Utils.Assertions.PositiveSearchAssertions.validateOfferPricing;
+import static Utils.Helper.HelperCurrencyValidator.validateAmountCurrencies;
+
+/**
+ * Search validation for very large responses, run while the offers are streamed.
+ * <p>
+ * Used instead of {@link PositiveSearchAssertions} when the body is above
+ * {@code HelperTestData.StreamingThresholdBytes}. Each offer is checked as it goes past and then
+ * dropped, so the heap holds one offer plus the small dictionaries instead of the whole response.
+ * The offer-level checks are the same ones the tree-based validation runs (same messages):
+ *  - TC.4 passenger type presence / duplicates
+ *  - TC.9 price sums (aggregated price fields, taxes per passenger, taxes in priceDetails)
+ *  - Currency against the "AgencyCurrency" header
+ *  - TC.11 RBD not null
+ *  - TC.12 offerId uniqueness (only the ids are kept)
+ *  - TC.16 whole-offer uniqueness (only the structural hashes are kept, computed from the offer's tokens)
+ * Checks that need every offer at once (sorting, null scan, references, segment timing) only run in the
+ * tree-based validation. As the earlier offer is gone when a duplicate goes past, TC.16 reports equal hashes
+ * without the deep comparison the tree-based check confirms them with.
+ * Under the smoke and standard {@link ValidationProfile}s the offer-level checks only run on the sampled offers
+ * ({@link OfferSample#streaming}); offerId and offer uniqueness still cover every offer.
+ * Failure caps and the time budget work as in {@link SearchValidationEngine}: a check past its cap is no longer
+ * called (the report says at which offer it stopped), and once the budget is exhausted the rest of the stream
+ * is only read, not checked.
+ */
+public class StreamingSearchAssertions {
+
+    /**
+     * Streams the Search body, validates every offer and returns what the flow needs afterwards.
+     *
+     * @param body       Search response body
+     * @param payload    Search request payload
+     * @param headers    Request headers (for "AgencyCurrency")
+     * @param validate   false to only extract the summary (non-"pass" scenarios)
+     * @param softAssert SoftAssert collecting the failures
+     * @return identifiers, dictionaries and first offer of the response
+     */
+    protected static StreamedSearch validateStreamingSearch(InputStream body, Map<String, Object> payload,
+                                                            Map<String, String> headers, boolean validate,
+                                                            SoftAssert softAssert) {
+        if (!validate) {
+            return StreamingSearchReader.read(body, null);
+        }
+
+        System.out.println("\n🌊 === Streaming Search validation (large response) ===\n");
+
+        String expectedCurrency = headers.getOrDefault("AgencyCurrency", "").trim();
+        if (expectedCurrency.isEmpty()) {
+            softAssert.fail("❌ Missing AgencyCurrency in headers.");
+        }
+
+        PassengerCounts paxCounts = PassengerCounts.fromPayload(payload);
+        Set<String> expectedTypes = paxCounts.codes();
+        Set<String> offerIds = new HashSet<>();
+        Map<StructuralHash, Integer> offerHashes = new HashMap<>();
+        CurrencyTotals currencyTotals = new CurrencyTotals("offers[]");
+        OfferSample sample = OfferSample.streaming(ValidationProfile.current());
+        ValidationBudget budget = ValidationBudget.start();
+        int[] checked = new int[1];
+        boolean[] outOfTime = new boolean[1];
+
+        CappedSoftAssert passengerTypes = new CappedSoftAssert(softAssert);
+        CappedSoftAssert pricing = new CappedSoftAssert(softAssert);
+        CappedSoftAssert currencies = new CappedSoftAssert(softAssert);
+        CappedSoftAssert rbd = new CappedSoftAssert(softAssert);
+        CappedSoftAssert uniqueIds = new CappedSoftAssert(softAssert);
+        CappedSoftAssert uniqueOffers = new CappedSoftAssert(softAssert);
+        List<CappedSoftAssert> checks = List.of(passengerTypes, pricing, currencies, rbd, uniqueIds, uniqueOffers);
+
+        StreamedSearch streamed = StreamingSearchReader.read(body, (index, streamedOffer) -> {
+            if (outOfTime[0]) return;
+            if (budget.exhausted()) {
+                budget.stoppedAt(index);
+                outOfTime[0] = true;
+                return;
+            }
+
+            for (CappedSoftAssert check : checks) check.atOffer(index);
+
+            if (!uniqueOffers.isCapped()) checkOfferUnique(streamedOffer, index, offerHashes, uniqueOffers);
+
+            if (!sample.includes(index)) {
+                // Only the id is read, the offer itself is never bound
+                String offerId = streamedOffer.offerId();
+                if (!uniqueIds.isCapped() && !offerIds.add(offerId)) {
+                    uniqueIds.fail("❌TC.12 Duplicate offerId found: " + offerId);
+                }
+                return;
+            }
+            checked[0]++;
+            Offer offer = streamedOffer.typed();
+
+            if (!passengerTypes.isCapped()) checkPassengerTypes(offer, index, expectedTypes, passengerTypes);
+            if (!pricing.isCapped()) validateOfferPricing(offer, index, paxCounts, pricing);
+            if (!expectedCurrency.isEmpty() && !currencies.isCapped()) {
+                validateAmountCurrencies(streamedOffer.map(), "offers[" + index + "]", expectedCurrency, currencyTotals, currencies);
+            }
+            if (!rbd.isCapped()) checkRbdNotNull(offer, index, rbd);
+
+            if (!uniqueIds.isCapped() && !offerIds.add(offer.offerId())) {
+                uniqueIds.fail("❌TC.12 Duplicate offerId found: " + offer.offerId());
+            }
+        });
+
+        List<Integer> stoppedAt = new ArrayList<>();
+        for (CappedSoftAssert check : checks) {
+            if (check.reportStop()) stoppedAt.add(check.stoppedAt);
+        }
+
+        if (streamed.offerCount() == 0) {
+            softAssert.fail("❌ No offers found in the response.");
+        }
+
+        if (!expectedCurrency.isEmpty()) {
+            currencyTotals.print();
+        }
+        System.out.println("\n✅ Streaming Search validation completed for " + streamed.offerCount() + " offers.");
+        ValidationCoverage coverage = ValidationCoverage.ofOffers("Search", sample, checked[0], streamed.offerCount());
+        coverage.capped(stoppedAt);
+        budget.describeInto(coverage);
+        coverage.report();
+        return streamed;
+    }
+
+    /**
+     * TC.16 for one streamed offer: the offer is a duplicate when an earlier offer had the same structural hash.
+     */
+    private static void checkOfferUnique(StreamedOffer offer, int index, Map<StructuralHash, Integer> offerHashes,
+                                         SoftAssert softAssert) {
+        Integer earlier = offerHashes.putIfAbsent(offer.hash(), index);
+        if (earlier != null) {
+            softAssert.fail("Duplicate offer found at index " + index);
+            System.out.println("❌TC.16 FAIL: Duplicate found at index " + index + " (same as index " + earlier + ")");
+        }
+    }
+
+    /**
+     * Forwards the first {@code ndc.maxFailuresPerCheck} failures of one check to the test's SoftAssert as they
+     * happen (keeping the offer order of the report) and remembers the offer of the last one. As in
+     * {@link CollectingSoftAssert}, the check only counts as stopped once a failure past the cap was dropped.
+     */
+    private static final class CappedSoftAssert extends SoftAssert {
+        private final SoftAssert target;
+        private final int maxFailures = HelperTestData.MaxFailuresPerCheck;
+        private int recorded;
+        private int offerIndex = -1;
+        private int stoppedAt = -1;
+        private boolean capped;
+
+        CappedSoftAssert(SoftAssert target) {
+            this.target = target;
+        }
+
+        void atOffer(int offerIndex) {
+            this.offerIndex = offerIndex;
+        }
+
+        @Override
+        public void onAssertFailure(IAssert<?> assertCommand, AssertionError ex) {
+            if (isSaturated()) {
+                capped = true;
+                return;
+            }
+            recorded++;
+            target.fail(ex.getMessage());
+            stoppedAt = offerIndex;
+        }
+
+        boolean isSaturated() {
+            return maxFailures > 0 && recorded >= maxFailures;
+        }
+
+        /** Whether a failure past the cap was dropped: the check is no longer called. */
+        boolean isCapped() {
+            return capped;
+        }
+
+        /** Adds the "check stopped" line when the cap cut the check short; returns whether it did. */
+        boolean reportStop() {
+            if (!capped) return false;
+            target.fail("⚠️ Check stopped after " + maxFailures + " failures at offers[" + stoppedAt
+                    + "], later offers not checked");
+            return true;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package Utils.Assertions;
+
+import Utils.Helper.HelperTestData;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Time budget of one response validation ({@link HelperTestData#ValidationBudgetMs}).
+ * <p>
+ * Once it is exhausted the offer walks stop at the next offer and checks not started yet are not run;
+ * checks already started finish, and what was recorded so far is reported. Thread-safe, so the chunks
+ * of a parallel walk share one budget.
+ */
+public final class ValidationBudget {
+
+    private final long budgetMillis;
+    private final long deadline;
+    private final AtomicInteger stoppedAtOffer = new AtomicInteger(Integer.MAX_VALUE);
+    private final AtomicInteger checksNotRun = new AtomicInteger();
+
+    private ValidationBudget(long budgetMillis) {
+        this.budgetMillis = budgetMillis;
+        this.deadline = System.nanoTime() + budgetMillis * 1_000_000L;
+    }
+
+    /** Starts the configured budget. */
+    public static ValidationBudget start() {
+        return start(HelperTestData.ValidationBudgetMs);
+    }
+
+    /**
+     * @param budgetMillis time allowed, 0 or less for no limit
+     */
+    public static ValidationBudget start(long budgetMillis) {
+        return new ValidationBudget(budgetMillis);
+    }
+
+    /** Whether the time is up. */
+    public boolean exhausted() {
+        return budgetMillis > 0 && System.nanoTime() - deadline > 0;
+    }
+
+    /** Records that a walk stopped before the offer at {@code offerIndex} (the lowest index is kept). */
+    public void stoppedAt(int offerIndex) {
+        stoppedAtOffer.accumulateAndGet(offerIndex, Math::min);
+    }
+
+    /** Records that a check was not started. */
+    public void checkNotRun() {
+        checksNotRun.incrementAndGet();
+    }
+
+    /**
+     * Marks the coverage partial when the budget cut the validation short.
+     */
+    public void describeInto(ValidationCoverage coverage) {
+        int offerIndex = stoppedAtOffer.get();
+        if (offerIndex != Integer.MAX_VALUE) {
+            coverage.partial(String.format("time budget of %d ms exhausted, offers from offers[%d] not checked",
+                    budgetMillis, offerIndex));
+        }
+        if (checksNotRun.get() > 0) {
+            coverage.partial(String.format("time budget of %d ms exhausted, %d checks not run",
+                    budgetMillis, checksNotRun.get()));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package Utils.Assertions;
+
+import Utils.Helper.HelperTestData;
+import Utils.ReportManager.ReportManager;
+import com.aventstack.extentreports.ExtentTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * How much of a response a validation covered under its {@link ValidationProfile}, printed and added to the report.
+ * <p>
+ * Search: the number of offers the per-offer checks ran on (whole-response checks always see every offer).
+ * FareConfirm/Book: the number of checks the profile ran.
+ * Coverage is partial when the time budget or a failure cap cut the validation short ({@link #partial}).
+ */
+public final class ValidationCoverage {
+
+    private final String stage;
+    private final ValidationProfile profile;
+    private final String detail;
+    private final List<String> partialReasons = new ArrayList<>();
+
+    private ValidationCoverage(String stage, ValidationProfile profile, String detail) {
+        this.stage = stage;
+        this.profile = profile;
+        this.detail = detail;
+    }
+
+    /**
+     * @param stage         e.g. "Search"
+     * @param sample        sample the per-offer checks ran on
+     * @param offersChecked offers in the sample
+     * @param offersTotal   offers in the response
+     */
+    public static ValidationCoverage ofOffers(String stage, OfferSample sample, int offersChecked, int offersTotal) {
+        String detail = sample.isFull()
+                ? String.format("per-offer checks on all %d offers", offersTotal)
+                : String.format(Locale.ROOT, "per-offer checks on %d of %d offers (%.1f%%, seed %d), whole-response checks on all offers",
+                offersChecked, offersTotal, offersTotal > 0 ? offersChecked * 100.0 / offersTotal : 100.0, sample.seed());
+        return new ValidationCoverage(stage, sample.profile(), detail);
+    }
+
+    /**
+     * @param stage       e.g. "FareConfirm"
+     * @param checksRun   checks included in the profile
+     * @param checksTotal checks of the validation
+     */
+    public static ValidationCoverage ofChecks(String stage, ValidationProfile profile, int checksRun, int checksTotal) {
+        return new ValidationCoverage(stage, profile, checksRun + " of " + checksTotal + " checks");
+    }
+
+    /**
+     * Marks the coverage partial.
+     *
+     * @param reason what was not checked, e.g. "time budget of 120000 ms exhausted, 2 checks not run"
+     */
+    public ValidationCoverage partial(String reason) {
+        partialReasons.add(reason);
+        return this;
+    }
+
+    /**
+     * Marks the coverage partial for the checks that stopped at their failure cap.
+     *
+     * @param stoppedAt offer index each capped check stopped at (-1 outside offers)
+     */
+    public ValidationCoverage capped(List<Integer> stoppedAt) {
+        if (stoppedAt.isEmpty()) return this;
+        int earliest = stoppedAt.stream().filter(i -> i >= 0).min(Integer::compare).orElse(-1);
+        return partial(stoppedAt.size() + " checks stopped after " + HelperTestData.MaxFailuresPerCheck + " failures"
+                + (earliest >= 0 ? ", the first at offers[" + earliest + "]" : ""));
+    }
+
+    public boolean isPartial() {
+        return !partialReasons.isEmpty();
+    }
+
+    /** e.g. "Search coverage (profile smoke): per-offer checks on 152 of 3000 offers (5.1%, seed 1), ..." */
+    public String summary() {
+        String summary = stage + " coverage (profile " + profile.label() + "): " + detail;
+        return isPartial() ? summary + " — PARTIAL: " + String.join("; ", partialReasons) : summary;
+    }
+
+    /** Prints the summary and adds it to the current test report (as a warning when partial). */
+    public void report() {
+        String line = (isPartial() ? "⚠️ " : "📊 ") + summary();
+        System.out.println(line);
+        ExtentTest test = ReportManager.getTest();
+        if (test != null) {
+            if (isPartial()) test.warning(line);
+            else test.info(line);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+}
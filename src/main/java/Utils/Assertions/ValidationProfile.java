@@ -0,0 +1,63 @@
+package Utils.Assertions;
+
+import Utils.Helper.HelperTestData;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * How thoroughly a response is validated (-Dndc.validationProfile=smoke|standard|deep, deep by default).
+ * <p>
+ * Search: the sampled per-offer checks ({@link SearchCheck#sampled()}) run on a seeded sample of the offers
+ * ({@link OfferSample}) holding about {@link #sampleRate()} of them, always including offers[0]; checks
+ * over the whole response (sorting, uniqueness, references, null scan...) always run in full.
+ * FareConfirm and Book: every check has the lightest profile it runs in ({@link ProfiledChecks}).
+ */
+public enum ValidationProfile {
+    /** Hourly runs: core checks, ~5% of the offers. */
+    SMOKE(0.05),
+    /** ~25% of the offers, every check but the structural deep ones. */
+    STANDARD(0.25),
+    /** Everything, every offer. */
+    DEEP(1.0);
+
+    private static final ValidationProfile CURRENT = parse(HelperTestData.ValidationProfileName);
+
+    private final double sampleRate;
+
+    ValidationProfile(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    /** Profile of this run. */
+    public static ValidationProfile current() {
+        return CURRENT;
+    }
+
+    /**
+     * @throws IllegalArgumentException for an unknown name
+     */
+    public static ValidationProfile parse(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("❌ Unknown validation profile '" + name + "', expected one of "
+                    + Arrays.toString(values()).toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /** Share of the offers the per-offer checks run on. */
+    public double sampleRate() {
+        return sampleRate;
+    }
+
+    /** Whether a check of the given tier runs in this profile (deep runs everything). */
+    public boolean includes(ValidationProfile tier) {
+        return compareTo(tier) >= 0;
+    }
+
+    /** e.g. "smoke" */
+    public String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
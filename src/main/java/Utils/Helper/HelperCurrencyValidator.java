@@ -1,48 +1,69 @@
 package Utils.Helper;
 
 import Utils.ReportManager.ReportManager;
-import io.restassured.path.json.JsonPath;
-import io.restassured.response.Response;
+import Utils.Response.ResponseView;
 import org.testng.asserts.SoftAssert;
-import java.util.List;
-import java.util.Map;
-import static Utils.Helper.HelperGeneralMethods.extractCurrency;
 
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Checks every monetary node of a response against the agency currency.
+ * <p>
+ * A monetary node is any object holding both an {@code amount} and a {@code currency} field
+ * ({@code {"amount": 120.5, "currency": "EUR"}}), wherever it appears: passenger fare breakdowns,
+ * all passengers' taxes and fees, price details, service charges... The tree is walked once; the JSON path
+ * of a node is only built when it has to be reported. Taxes/fees whose code is in
+ * {@link HelperTestData#CurrencyExcludedFeeCodes} (CancelFee, ChangeFee by default) are skipped.
+ * <p>
+ * Counts are kept per path class, i.e. the path with list indexes removed
+ * ({@code offers[].priceDetails.totalAmount}), and printed at the end with {@link CurrencyTotals#print()}.
+ */
 public class HelperCurrencyValidator {
 
     /**
-     * Validates that all currency values in the given JSON response
+     * Validates that all currency values under {@code rootPath}
      * match the "AgencyCurrency" value from the request headers.
      *
-     * @param response    The API response to validate
+     * @param view        Parsed API response to validate
      * @param headers     The request headers containing "AgencyCurrency"
      * @param rootPath    The JSON path where validation starts
      * @param softAssert  SoftAssert instance to collect validation errors without stopping the test
      */
-    public static void validateCurrencies(Response response, Map<String, String> headers, String rootPath, SoftAssert softAssert) {
+    public static void validateCurrencies(ResponseView view, Map<String, String> headers, String rootPath, SoftAssert softAssert) {
         // Expected currency taken from headers (trimmed to remove spaces)
-        String expectedCurrency = headers.getOrDefault("AgencyCurrency", "").trim();
+        validateCurrencies(view, headers.getOrDefault("AgencyCurrency", ""), rootPath, softAssert);
+    }
+
+    /**
+     * Validates that all currency values under {@code rootPath} match the expected currency,
+     * e.g. {@code "selectedOffer"} of a FareConfirm response or {@code "order"} of a Book response.
+     *
+     * @param view             Parsed API response to validate
+     * @param expectedCurrency Agency currency (may be null or blank, which fails the check)
+     * @param rootPath         The JSON path where validation starts (a list is validated entry by entry)
+     * @param softAssert       SoftAssert instance to collect validation errors
+     */
+    public static void validateCurrencies(ResponseView view, String expectedCurrency, String rootPath, SoftAssert softAssert) {
+        String expected = expectedCurrency != null ? expectedCurrency.trim() : "";
 
         System.out.println("\n💵 === TC: Validating currencies against headers ===");
-        System.out.println("\t💱 Expected Currency from headers: " + expectedCurrency);
+        System.out.println("\t💱 Expected Currency from headers: " + expected);
 
         // Fail immediately if the AgencyCurrency header is missing
-        if (expectedCurrency.isEmpty()) {
+        if (expected.isEmpty()) {
             softAssert.fail("❌ Missing AgencyCurrency in headers.");
             return;
         }
 
-        // Parse JSON response
-        JsonPath jsonPath = JsonPath.from(response.asString());
-        List<Map<String, Object>> entries;
-        try {
-            // Try to read as a list (multiple entries)
-            entries = jsonPath.getList(rootPath);
-        } catch (Exception e) {
-            // If fails, treat it as a single object
+        // Read entries from the already parsed response
+        Object rootNode = view.read(rootPath);
+        boolean isList = rootNode instanceof List;
+        if (!isList) {
             System.out.println("⚠️ Could not fetch entries from path: " + rootPath + " → treating as single object");
-            entries = List.of(jsonPath.getMap(rootPath));
         }
+        List<?> entries = isList ? (List<?>) rootNode : rootNode instanceof Map ? List.of(rootNode) : null;
 
         // Fail if no entries are found at the given path
         if (entries == null || entries.isEmpty()) {
@@ -50,101 +71,201 @@ public class HelperCurrencyValidator {
             return;
         }
 
-        // Loop through each entry and validate currency fields
         System.out.println("\t📦 Validating " + entries.size() + " entries under path: " + rootPath);
+        CurrencyTotals totals = new CurrencyTotals(isList ? rootPath + "[]" : rootPath);
         for (int i = 0; i < entries.size(); i++) {
-            // Determine the JSON path for each entry
-            String basePath = (entries.size() == 1 && !jsonPath.get(rootPath).toString().startsWith("["))
-                    ? rootPath
-                    : rootPath + "[" + i + "]";
-            System.out.println("🔍 Validating entry #" + (i + 1) + " → " + basePath);
-
-            // Validate currency in fare breakdown, price details, and taxes/fees
-            validateFareBreakdownCurrencies(jsonPath, basePath, expectedCurrency, softAssert);
-            validatePriceDetailsCurrencies(jsonPath, basePath, expectedCurrency, softAssert);
-            validateTaxesAndFeesCurrencies(jsonPath, basePath, expectedCurrency, softAssert);
+            validateAmountCurrencies(entries.get(i), isList ? rootPath + "[" + i + "]" : rootPath, expected, totals, softAssert);
         }
 
         // Log completion
+        totals.print();
         System.out.println("✅ Completed currency validation for entries under: " + rootPath);
-        ReportManager.getTest().info("✅ Currency validation completed against expected: " + expectedCurrency);
+        ReportManager.getTest().info("✅ Currency validation completed against expected: " + expected);
     }
 
     /**
-     * Validates that all currency fields inside 'passengerFareBreakdown' match the expected currency.
+     * Checks every {@code {amount, currency}} node under one entry (e.g. one offer).
+     * Safe to call from several threads with the same totals.
+     *
+     * @param entry      parsed entry (Map/List tree)
+     * @param basePath   path of the entry in the response, used in messages (e.g. "offers[3]")
+     * @param expected   expected currency
+     * @param totals     counters per path class, shared by the entries of one response
+     * @param softAssert SoftAssert instance to collect validation errors
      */
-    private static void validateFareBreakdownCurrencies(JsonPath jsonPath, String basePath, String expected, SoftAssert softAssert) {
-        List<Map<String, Object>> fareBreakdowns = jsonPath.getList(basePath + ".passengerFareBreakdown");
-        if (fareBreakdowns == null) return;
-
-        for (int j = 0; j < fareBreakdowns.size(); j++) {
-            String pbPath = basePath + ".passengerFareBreakdown[" + j + "]";
-            String[] currencyPaths = {
-                    pbPath + ".paxBaseAmount.currency",
-                    pbPath + ".paxTotalTaxAmount.currency"
-            };
-
-            // Validate currency for each amount in passenger fare breakdown
-            for (String path : currencyPaths) {
-                assertCurrencyMatches(jsonPath, path, expected, softAssert);
-            }
-        }
+    public static void validateAmountCurrencies(Object entry, String basePath, String expected,
+                                                CurrencyTotals totals, SoftAssert softAssert) {
+        new Walk(basePath, expected, softAssert).node(entry, totals.root);
     }
 
     /**
-     * Validates currency fields inside the 'priceDetails' section.
+     * Counters per path class (checked / mismatched / missing currency / skipped fee), thread-safe.
      */
-    private static void validatePriceDetailsCurrencies(JsonPath jsonPath, String basePath, String expected, SoftAssert softAssert) {
-        String[] pricePaths = {
-                basePath + ".priceDetails.totalAmount.currency",
-                basePath + ".priceDetails.totalBaseAmount.currency",
-                basePath + ".priceDetails.totalTaxAmount.currency"
-        };
+    public static final class CurrencyTotals {
+
+        private final PathClass root;
 
-        // Check each price field for currency match
-        for (String path : pricePaths) {
-            assertCurrencyMatches(jsonPath, path, expected, softAssert);
+        /**
+         * @param rootClass path class of the entries, e.g. "offers[]" or "selectedOffer"
+         */
+        public CurrencyTotals(String rootClass) {
+            this.root = new PathClass(rootClass);
+        }
+
+        /** Number of currencies that did not match, over all path classes. */
+        public long mismatches() {
+            long[] sum = new long[1];
+            root.forEach(pathClass -> sum[0] += pathClass.mismatched.sum());
+            return sum[0];
+        }
+
+        /** Prints one line per path class holding monetary nodes, in path order. */
+        public void print() {
+            List<PathClass> classes = new ArrayList<>();
+            root.forEach(pathClass -> {
+                if (pathClass.checked.sum() + pathClass.missing.sum() + pathClass.skipped.sum() > 0) {
+                    classes.add(pathClass);
+                }
+            });
+            classes.sort(Comparator.comparing(pathClass -> pathClass.name));
+
+            System.out.println("\t📊 Currency totals by path:");
+            for (PathClass pathClass : classes) {
+                System.out.printf("\t\t%s → checked %d, mismatched %d, missing %d, skipped %d%n",
+                        pathClass.name, pathClass.checked.sum(), pathClass.mismatched.sum(),
+                        pathClass.missing.sum(), pathClass.skipped.sum());
+            }
         }
     }
 
     /**
-     * Validates the currency for each tax/fee amount, skipping special cases like "CancelFee" or "ChangeFee".
+     * Node of the path class tree: one child per key, list elements share the "[]" child.
      */
-    private static void validateTaxesAndFeesCurrencies(JsonPath jsonPath, String basePath, String expected, SoftAssert softAssert) {
-        List<Map<String, Object>> taxes = jsonPath.getList(basePath + ".passengerFareBreakdown[0].taxesAndFees");
-        if (taxes == null) return;
+    private static final class PathClass {
+        final String name;
+        final Map<String, PathClass> children = new ConcurrentHashMap<>();
+        final LongAdder checked = new LongAdder();
+        final LongAdder mismatched = new LongAdder();
+        final LongAdder missing = new LongAdder();
+        final LongAdder skipped = new LongAdder();
 
-        for (int t = 0; t < taxes.size(); t++) {
-            String feeCode = jsonPath.getString(basePath + ".passengerFareBreakdown[0].taxesAndFees[" + t + "].code");
+        PathClass(String name) {
+            this.name = name;
+        }
 
-            // Skip validation for specific fee codes
-            if ("CancelFee".equalsIgnoreCase(feeCode) || "ChangeFee".equalsIgnoreCase(feeCode)) {
-                System.out.printf("\t⏭️ Skipping fee: %s%n", feeCode);
-                continue;
-            }
+        PathClass key(String key) {
+            PathClass child = children.get(key);
+            return child != null ? child : children.computeIfAbsent(key, k -> new PathClass(name + "." + k));
+        }
 
-            // Validate the currency for each tax/fee amount
-            String path = basePath + ".passengerFareBreakdown[0].taxesAndFees[" + t + "].amount.currency";
-            assertCurrencyMatches(jsonPath, path, expected, softAssert);
+        PathClass element() {
+            PathClass child = children.get("[]");
+            return child != null ? child : children.computeIfAbsent("[]", k -> new PathClass(name + "[]"));
+        }
+
+        void forEach(java.util.function.Consumer<PathClass> action) {
+            action.accept(this);
+            children.values().forEach(child -> child.forEach(action));
         }
     }
 
     /**
-     * Helper method to compare actual currency value at a given JSON path with the expected currency.
+     * Recursive walk over one entry. {@code keys[d]}/{@code indexes[d]} hold the step taken at depth d
+     * (a null key means a list index), so the concrete path is only rebuilt when reporting.
      */
-    private static void assertCurrencyMatches(JsonPath jsonPath, String path, String expected, SoftAssert softAssert) {
-        String actual = extractCurrency(jsonPath, path);
-        System.out.println("\t🔎 Checking path: " + path);
+    private static final class Walk {
+        private final String basePath;
+        private final String expected;
+        private final SoftAssert softAssert;
+        private String[] keys = new String[16];
+        private int[] indexes = new int[16];
+        private int depth;
 
-        // If currency is missing, log a warning and skip
-        if (actual == null || actual.isBlank()) {
-            System.out.printf("\t⚠️ Currency missing at %s → Skipped%n", path);
-            return;
+        Walk(String basePath, String expected, SoftAssert softAssert) {
+            this.basePath = basePath;
+            this.expected = expected;
+            this.softAssert = softAssert;
+        }
+
+        void node(Object node, PathClass pathClass) {
+            if (node instanceof Map<?, ?> map) {
+                if (map.containsKey("amount") && map.containsKey("currency")) {
+                    checkCurrency(map.get("currency"), pathClass);
+                }
+                if (isExcludedFee(map)) {
+                    System.out.printf("\t⏭️ Skipping fee: %s%n", map.get("code"));
+                    pathClass.key("amount").skipped.increment();
+                    for (Map.Entry<?, ?> entry : map.entrySet()) {
+                        if (!"amount".equals(entry.getKey())) child(String.valueOf(entry.getKey()), entry.getValue(), pathClass);
+                    }
+                    return;
+                }
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    child(String.valueOf(entry.getKey()), entry.getValue(), pathClass);
+                }
+            } else if (node instanceof List<?> list) {
+                PathClass elementClass = pathClass.element();
+                for (int i = 0; i < list.size(); i++) {
+                    Object element = list.get(i);
+                    if (!(element instanceof Map || element instanceof List)) continue;
+                    push(null, i);
+                    node(element, elementClass);
+                    depth--;
+                }
+            }
+        }
+
+        private void child(String key, Object value, PathClass pathClass) {
+            if (!(value instanceof Map || value instanceof List)) return;
+            push(key, -1);
+            node(value, pathClass.key(key));
+            depth--;
+        }
+
+        private void push(String key, int index) {
+            if (depth == keys.length) {
+                keys = Arrays.copyOf(keys, depth * 2);
+                indexes = Arrays.copyOf(indexes, depth * 2);
+            }
+            keys[depth] = key;
+            indexes[depth] = index;
+            depth++;
         }
 
-        // Log and assert currency match
-        System.out.printf("\t✅ %s → %s%n", path, actual);
-        softAssert.assertEquals(actual, expected,
-                "❌ Currency mismatch at " + path + ": expected " + expected + ", found " + actual);
+        private static boolean isExcludedFee(Map<?, ?> map) {
+            Object code = map.get("code");
+            return code != null && map.get("amount") instanceof Map
+                    && HelperTestData.CurrencyExcludedFeeCodes.contains(code.toString().toUpperCase(Locale.ROOT));
+        }
+
+        private void checkCurrency(Object value, PathClass pathClass) {
+            String actual = value != null ? value.toString() : null;
+
+            // If currency is missing, log a warning and skip
+            if (actual == null || actual.isBlank()) {
+                pathClass.missing.increment();
+                System.out.printf("\t⚠️ Currency missing at %s → Skipped%n", currencyPath());
+                return;
+            }
+
+            pathClass.checked.increment();
+            if (!actual.equals(expected)) {
+                pathClass.mismatched.increment();
+                String path = currencyPath();
+                System.out.printf("\t❌ %s → %s%n", path, actual);
+                softAssert.assertEquals(actual, expected,
+                        "❌ Currency mismatch at " + path + ": expected " + expected + ", found " + actual);
+            }
+        }
+
+        /** e.g. offers[2].priceDetails.totalAmount.currency */
+        private String currencyPath() {
+            StringBuilder sb = new StringBuilder(basePath);
+            for (int d = 0; d < depth; d++) {
+                if (keys[d] != null) sb.append('.').append(keys[d]);
+                else sb.append('[').append(indexes[d]).append(']');
+            }
+            return sb.append(".currency").toString();
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,15 +1,13 @@
 package Utils.Helper;
 
+import Utils.Assertions.LazyAssert;
+import Utils.Model.Money;
 import Utils.ReportManager.ReportManager;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import io.restassured.path.json.JsonPath;
+import Utils.Response.ResponseView;
 import org.testng.SkipException;
 import org.testng.asserts.SoftAssert;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.*;
+import java.util.function.Supplier;
 import static Utils.Helper.HelperGetResponse.getAmountOrZero;
 
 public class HelperGeneralMethods {
@@ -27,7 +25,7 @@ public class HelperGeneralMethods {
         Object sc = rawPriceDetails.get("serviceChargeAmount");
 
         // Treat both null and 0.00 as null for comparison purposes
-        if (sc == null || getAmountOrZero(sc).compareTo(BigDecimal.ZERO) == 0) {
+        if (sc == null || getAmountOrZero(sc).isZero()) {
             normalized.put("serviceChargeAmount", null);
         }
 
@@ -35,25 +33,25 @@ public class HelperGeneralMethods {
     }
 
     /**
-     * Rounds a BigDecimal value to 2 decimal places using HALF_UP rounding mode.
+     * Rounds an amount to 2 decimal places using HALF_UP rounding mode.
      * Commonly used for currency values to avoid floating-point mismatches.
-     * @param value BigDecimal value to round
-     * @return Rounded BigDecimal value
+     * @param value Amount to round
+     * @return Rounded amount
      */
-    public static BigDecimal roundTo2Decimals(BigDecimal value) {
-        return value.setScale(2, RoundingMode.HALF_UP);
+    public static Money roundTo2Decimals(Money value) {
+        return value.roundTo(2);
     }
 
     /**
      * Extracts a currency value from a JSON path result.
      * If the value is a list, the first element is returned.
      * If the value is a single value, it is returned as string.
-     * @param jsonPath JSONPath object containing parsed response
-     * @param path     Path to the currency field
+     * @param view Parsed response view
+     * @param path Path to the currency field
      * @return Currency code as string, or null if not found
      */
-    public static String extractCurrency(JsonPath jsonPath, String path) {
-        Object value = jsonPath.get(path);
+    public static String extractCurrency(ResponseView view, String path) {
+        Object value = view.read(path);
         if (value instanceof List<?> list && !list.isEmpty()) {
             return list.get(0).toString();
         } else if (value != null) {
@@ -75,13 +73,14 @@ public class HelperGeneralMethods {
             Object value = entry.getValue();
 
             if (value instanceof Map) {
-                BigDecimal actual = getAmountOrZero(value);
-                BigDecimal expected = getAmountOrZero(expectedPriceDetails.get(key));
+                Money actual = getAmountOrZero(value);
+                Money expected = getAmountOrZero(expectedPriceDetails.get(key));
 
-                softAssert.assertEquals(
+                LazyAssert.assertEquals(
                         actual,
                         expected,
-                        String.format("❌ Mismatch in priceDetails.%s: expected [%.2f] but found [%.2f]", key, expected, actual)
+                        () -> String.format("❌ Mismatch in priceDetails.%s: expected [%.2f] but found [%.2f]", key, expected.toBigDecimal(), actual.toBigDecimal()),
+                        softAssert
                 );
             }
         }
@@ -93,19 +92,19 @@ public class HelperGeneralMethods {
      * - Difference ≤ tolerance (0.01) → log as rounding info (not fail)
      * - Difference > tolerance → fail the test
      */
-    public static void assertWithRoundingTolerance(BigDecimal actual, BigDecimal expected,
+    public static void assertWithRoundingTolerance(Money actual, Money expected,
                                                     double tolerance, String fieldName,
                                                     int offerOrder, String TcId ,SoftAssert softAssert ) {
-        // Calculate absolute difference between actual and expected
-        BigDecimal diff = actual.subtract(expected).abs();
-
         // Case 1: Perfect match → nothing to report
         if (actual.compareTo(expected) == 0) {
             return;
         }
 
+        // Calculate absolute difference between actual and expected
+        Money diff = actual.minus(expected).abs();
+
         // Case 2: Within tolerance → log info, do not fail
-        if (diff.compareTo(BigDecimal.valueOf(tolerance)) <= 0) {
+        if (diff.compareTo(Money.of(tolerance)) <= 0) {
             System.out.printf(
                     "ℹ️"+TcId+ "[Offer %d] Minor rounding difference in %s: Expected=%.2f, Actual=%.2f (Diff=%.4f)%n",
                     offerOrder, fieldName, expected.doubleValue(), actual.doubleValue(), diff.doubleValue()
@@ -149,55 +148,22 @@ public class HelperGeneralMethods {
     }
 
     /**
-     * Compares two BigDecimal values with 2 decimal precision and fails softly if they differ.
+     * Compares two amounts with 2 decimal precision and fails softly if they differ.
      * @param actual    Actual value from API
      * @param expected  Expected value
      * @param message   Assertion message
      * @param softAssert SoftAssert object for non-blocking assertions
      */
-    public static void assertEqualDoubles(BigDecimal actual, BigDecimal expected, String message, SoftAssert softAssert) {
-        if (actual.setScale(2, RoundingMode.HALF_UP).compareTo(expected.setScale(2, RoundingMode.HALF_UP)) != 0) {
-            softAssert.fail(String.format("%s → Expected: %.2f, Actual: %.2f", message, expected, actual));
-        }
-    }
-
-    /**
-     * Compares two objects by converting them to JSON and comparing the JSON strings.
-     * Useful for comparing nested objects with consistent ordering of map keys.
-     * @param actual     Actual object
-     * @param expected   Expected object
-     * @param softAssert SoftAssert object for non-blocking assertions
-     */
-    public static void assertJsonEquals(Object actual, Object expected, SoftAssert softAssert) {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true); // Ensure consistent ordering
-
-        try {
-            String actualJson = mapper.writeValueAsString(actual);
-            String expectedJson = mapper.writeValueAsString(expected);
-
-            System.out.println("Actual JSON: " + actualJson);
-            System.out.println("Expected JSON: " + expectedJson);
-
-            softAssert.assertEquals(actualJson, expectedJson, "❌ Baggage details mismatch");
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to compare objects as JSON", e);
-        }
+    public static void assertEqualDoubles(Money actual, Money expected, String message, SoftAssert softAssert) {
+        assertEqualDoubles(actual, expected, () -> message, softAssert);
     }
 
     /**
-     * Removes 'bundleReferenceIds' from all journey maps inside the given journeys map.
-     * Useful when bundleReferenceIds are dynamic and should be excluded from comparisons.
-     * @param journeys Map of journeyId → journey details
-     * @return New map with bundleReferenceIds removed
+     * Same as {@link #assertEqualDoubles(Money, Money, String, SoftAssert)}, building the message only on mismatch.
      */
-    public static Map<String, Object> removeBundleReferenceIds(Map<String, Object> journeys) {
-        Map<String, Object> cleaned = new HashMap<>();
-        for (Map.Entry<String, Object> entry : journeys.entrySet()) {
-            Map<String, Object> journey = new HashMap<>((Map<String, Object>) entry.getValue());
-            journey.remove("bundleReferenceIds");
-            cleaned.put(entry.getKey(), journey);
+    public static void assertEqualDoubles(Money actual, Money expected, Supplier<String> message, SoftAssert softAssert) {
+        if (actual.roundTo(2).compareTo(expected.roundTo(2)) != 0) {
+            softAssert.fail(String.format("%s → Expected: %.2f, Actual: %.2f", message.get(), expected.toBigDecimal(), actual.toBigDecimal()));
         }
-        return cleaned;
     }
-}
\ No newline at end of file
+}
@@ -1,24 +1,30 @@
 package Utils.Helper;
 
-import io.restassured.path.json.JsonPath;
-import io.restassured.response.Response;
+import Utils.Model.*;
+import Utils.Response.CompiledPath;
+import Utils.Response.ResponseView;
+import Utils.Response.SearchIndex;
 import org.slf4j.*;
-import java.math.BigDecimal;
 import java.util.*;
 
 public class HelperGetResponse {
 
     private static final Logger logger = LoggerFactory.getLogger(HelperGetResponse.class);
 
+    private static final CompiledPath SEARCH_OFFER_ID = CompiledPath.of("offers[?].offerId");
+    private static final CompiledPath FARE_CONFIRM_OFFER_ID = CompiledPath.of("selectedOffer.offerId");
+    private static final CompiledPath RESPONSE_ID = CompiledPath.of("responseId");
+    private static final CompiledPath OFFER_ID = CompiledPath.of("offerId");
+
     /**
     * Passenger Fare Breakdown Methods
     * Extract passenger fare breakdowns from the response */
-    public static List<Map<String, Object>> getPassengerBreakdowns(JsonPath jsonPath, int offerOrder) {
-        if (jsonPath == null) {
-            logger.error("JsonPath is null while getting passenger fare breakdown.");
+    public static List<PassengerFareBreakdown> getPassengerBreakdowns(ResponseView view, int offerOrder) {
+        if (view == null) {
+            logger.error("Response view is null while getting passenger fare breakdown.");
             return new ArrayList<>();
         }
-        return jsonPath.getList("offers[" + offerOrder + "].passengerFareBreakdown");
+        return view.search().offers().get(offerOrder).passengerFareBreakdown();
     }
 
     /** Get price field mapping for response validation
@@ -34,25 +40,22 @@ public class HelperGetResponse {
     /**
     * Offer ID Retrieval
     * Get the offer ID from search response*/
-    public static String getSearchOfferId(Response response, int offerOrder) {
-        JsonPath jsonPath = response.jsonPath();
-        return jsonPath.getString("offers[" + offerOrder + "].offerId");
+    public static String getSearchOfferId(ResponseView view, int offerOrder) {
+        return view.getString(SEARCH_OFFER_ID, offerOrder);
     }
 
     /* Get the offer ID from fare confirm response**/
-    public static String getFareConfirmOfferId(Response response) {
-        JsonPath jsonPath = response.jsonPath();
-        return jsonPath.getString("selectedOffer.offerId");
+    public static String getFareConfirmOfferId(ResponseView view) {
+        return view.getString(FARE_CONFIRM_OFFER_ID);
     }
     /* Get the offer ID from fare confirm response**/
-    public static String getFareConfirmResponseId(Response response) {
-        JsonPath jsonPath = response.jsonPath();
-        return jsonPath.getString("responseId");
+    public static String getFareConfirmResponseId(ResponseView view) {
+        return view.getString(RESPONSE_ID);
     }
 
     /** Get the offer ID from AddPax response*/
-    public static String getAddPaxOfferId(Response response) {
-        String offerId = response.jsonPath().getString("offerId");
+    public static String getAddPaxOfferId(ResponseView view) {
+        String offerId = view.getString(OFFER_ID);
 
         if (offerId != null && !offerId.isEmpty()) {
             logger.info("✅ AddPax Offer ID: {}", offerId);
@@ -66,11 +69,12 @@ public class HelperGetResponse {
 
     /** Offer Retrieval
     * Get the nth offer from the response*/
-    public static Map<String, Object> getNthOffer(Response response, int index) {
-        List<Map<String, Object>> offers = response.jsonPath().getList("offers");
+    public static Map<String, Object> getNthOffer(ResponseView view, int index) {
+        List<Map<String, Object>> offers = view.offers();
 
-        if (offers != null && offers.size() >= index) {
-            return offers.get(index); // index is 1-based
+        if (offers != null && offers.size() > index) {
+            // copy so later steps can annotate the offer without touching the shared response tree
+            return new LinkedHashMap<>(offers.get(index));
         } else {
             logger.warn("Offers list is either null or does not contain the requested index: {}", index);
         }
@@ -78,107 +82,101 @@ public class HelperGetResponse {
     }
 
     /** Get offer by carrier code*/
-    public static Map<String, Object> getOfferByCarrierCode(Response response, String carrierCode) {
-        JsonPath jsonPath = response.jsonPath();
-        Map<String, Map<String, Object>> segments = jsonPath.getMap("flightSegments");
+    public static Map<String, Object> getOfferByCarrierCode(ResponseView view, String carrierCode) {
+        SearchResponse search = view.search();
 
-        if (segments == null || segments.isEmpty()) {
+        if (search.flightSegments() == null || search.flightSegments().isEmpty()) {
             logger.warn("❌ No segments found in response.");
             return null;
         }
 
-        for (Map.Entry<String, Map<String, Object>> entry : segments.entrySet()) {
-            String segmentRefId = entry.getKey();
-            Map<String, Object> segment = entry.getValue();
-
-            String marketingCode = (String) segment.get("marketingCarrierCode");
-            String operatingCode = (String) segment.get("operatingCarrierCode");
-
-            if (carrierCode.equals(marketingCode) && carrierCode.equals(operatingCode)) {
-                List<Map<String, Object>> offers = jsonPath.getList("offers");
-                if (offers == null || offers.isEmpty()) {
-                    logger.warn("❌ No offers found in response.");
-                    return null;
-                }
-
-                for (Map<String, Object> offer : offers) {
-                    List<Map<String, Object>> fareBreakdowns =
-                            (List<Map<String, Object>>) offer.get("passengerFareBreakdown");
-                    if (fareBreakdowns == null) continue;
-
-                    for (Map<String, Object> breakdown : fareBreakdowns) {
-                        List<Map<String, Object>> segmentDetails =
-                                (List<Map<String, Object>>) breakdown.get("segmentDetails");
-                        if (segmentDetails == null) continue;
-
-                        for (Map<String, Object> detail : segmentDetails) {
-                            String segRefInOffer = (String) detail.get("segmentRefId");
-                            if (segmentRefId.equals(segRefInOffer)) {
-                                return offer; // ✅ Return full offer map
-                            }
-                        }
-                    }
-                }
-
-                logger.warn("❌ No offer references the matched segment for carrier: {}", carrierCode);
-                return null;
-            }
+        SearchIndex index = view.index();
+        String segmentRefId = firstOwnCarrierSegment(index, carrierCode);
+        if (segmentRefId == null) {
+            logger.warn("❌ No segment matches both marketing and operating carrier: {}", carrierCode);
+            return null;
+        }
+
+        if (index.offerCount() == 0) {
+            logger.warn("❌ No offers found in response.");
+            return null;
         }
 
-        logger.warn("❌ No segment matches both marketing and operating carrier: {}", carrierCode);
+        List<Integer> offerIndexes = index.offersReferencingSegment(segmentRefId);
+        if (!offerIndexes.isEmpty()) {
+            // ✅ Return full offer map (copied, like getNthOffer)
+            return new LinkedHashMap<>(view.offers().get(offerIndexes.get(0)));
+        }
+
+        logger.warn("❌ No offer references the matched segment for carrier: {}", carrierCode);
+        return null;
+    }
+
+    /** First segment (in response order) both marketed and operated by the carrier, or null*/
+    private static String firstOwnCarrierSegment(SearchIndex index, String carrierCode) {
+        for (String segmentRefId : index.segmentsForCarrier(carrierCode)) {
+            FlightSegment segment = index.segment(segmentRefId);
+            if (carrierCode.equals(segment.marketingCarrierCode()) && carrierCode.equals(segment.operatingCarrierCode())) {
+                return segmentRefId;
+            }
+        }
         return null;
     }
 
     /** Price Details & Amount Handling*/
-    protected static BigDecimal getPriceDetailsAmount(JsonPath jsonPath, int offerOrder, String field) {
-        Map<String, Object> priceField = jsonPath.getMap("offers[" + offerOrder + "].priceDetails." + field);
-        return getAmountOrZero(priceField);
+    protected static Money getPriceDetailsAmount(Offer offer, String field) {
+        PriceDetails priceDetails = offer.priceDetails();
+        Amount priceField = priceDetails != null ? priceDetails.amount(field) : null;
+        if (priceField == null || priceField.amount() == null) {
+            logger.warn("Amount map is null or amount key is missing.");
+            return Money.ZERO;
+        }
+        return priceField.amount();
     }
 
     /** Get amount from map or return zero if not found*/
-    public static BigDecimal getAmountOrZero(Map<String, Object> amountMap) {
+    public static Money getAmountOrZero(Map<String, Object> amountMap) {
         if (amountMap == null || amountMap.get("amount") == null) {
             logger.warn("Amount map is null or amount key is missing.");
-            return BigDecimal.ZERO;
+            return Money.ZERO;
         }
 
         Object amount = amountMap.get("amount");
-        return convertToBigDecimal(amount);
+        return convertToMoney(amount);
     }
 
     /** Get amount from map or object safely */
-    public static BigDecimal getAmountOrZero(Object amountObj) {
-        if (amountObj == null) return BigDecimal.ZERO;
+    public static Money getAmountOrZero(Object amountObj) {
+        if (amountObj == null) return Money.ZERO;
 
         if (amountObj instanceof Map) {
             Object amount = ((Map<?, ?>) amountObj).get("amount");
-            return convertToBigDecimal(amount);
+            return convertToMoney(amount);
         }
 
-        return convertToBigDecimal(amountObj);
+        return convertToMoney(amountObj);
     }
 
-    private static BigDecimal convertToBigDecimal(Object value) {
-        if (value instanceof BigDecimal) {
-            return (BigDecimal) value;
+    private static Money convertToMoney(Object value) {
+        if (value instanceof Money) {
+            return (Money) value;
         }
         if (value instanceof Number) {
-            return new BigDecimal(value.toString()); // avoid double constructor
+            return Money.of((Number) value); // integers directly, decimals from their exact text
         }
         if (value instanceof String) {
             try {
-                return new BigDecimal((String) value);
-            } catch (NumberFormatException e) {
+                return Money.parse((String) value);
+            } catch (NumberFormatException | ArithmeticException e) {
                 logger.warn("Invalid amount string: {}", value);
             }
         }
-        return BigDecimal.ZERO;
+        return Money.ZERO;
     }
 
     /**
-    * Booking Info*/
-    public static Map<String, Object> getBookingInfo(Response response) {
-        JsonPath json = response.jsonPath();
+    * Booking Info: the booking references and the passengers section (the order is kept as its fingerprint)*/
+    public static Map<String, Object> getBookingInfo(ResponseView json) {
         Map<String, Object> bookingInfo = new HashMap<>();
 
         bookingInfo.put("ndcBookingReference", json.getString("ndcBookingReference"));
@@ -186,56 +184,38 @@ public class HelperGetResponse {
         bookingInfo.put("gdsPnr", json.getString("gdsPnr"));
         bookingInfo.put("bookingToken", ""); // optional, left empty
 
+        Map<String, Object> passengers = json.getMap("passengers");
+        if (passengers != null) {
+            bookingInfo.put("passengers", passengers);
+        }
+
         return bookingInfo;
     }
 
     /** Get Offer ID by Carrier Code*/
-    public static String getOfferIdByCarrierCode(Response response, String carrierCode) {
-        JsonPath jsonPath = response.jsonPath();
-        Map<String, Map<String, Object>> segments = jsonPath.getMap("flightSegments");
+    public static String getOfferIdByCarrierCode(ResponseView view, String carrierCode) {
+        SearchResponse search = view.search();
 
-        if (segments == null || segments.isEmpty()) {
+        if (search.flightSegments() == null || search.flightSegments().isEmpty()) {
             return "❌ No segments found in response.";
         }
 
-        for (Map.Entry<String, Map<String, Object>> entry : segments.entrySet()) {
-            String segmentRefId = entry.getKey();
-            Map<String, Object> segment = entry.getValue();
-
-            String marketingCode = (String) segment.get("marketingCarrierCode");
-            String operatingCode = (String) segment.get("operatingCarrierCode");
-
-            if (carrierCode.equals(marketingCode) && carrierCode.equals(operatingCode)) {
-                // ✅ Matching segment found
-                List<Map<String, Object>> offers = jsonPath.getList("offers");
-                if (offers == null || offers.isEmpty()) {
-                    return "❌ No offers found in response.";
-                }
-
-                for (Map<String, Object> offer : offers) {
-                    String offerId = (String) offer.get("offerId");
-                    List<Map<String, Object>> fareBreakdowns =
-                            (List<Map<String, Object>>) offer.get("passengerFareBreakdown");
-                    if (fareBreakdowns == null) continue;
-
-                    for (Map<String, Object> breakdown : fareBreakdowns) {
-                        List<Map<String, Object>> segmentDetails =
-                                (List<Map<String, Object>>) breakdown.get("segmentDetails");
-                        if (segmentDetails == null) continue;
-
-                        for (Map<String, Object> detail : segmentDetails) {
-                            String segRefInOffer = (String) detail.get("segmentRefId");
-                            if (segmentRefId.equals(segRefInOffer)) {
-                                return offerId; // ✅ Found offer
-                            }
-                        }
-                    }
-                }
-
-                return "❌ No offer references the matched segment for carrier code: " + carrierCode;
-            }
+        SearchIndex index = view.index();
+        String segmentRefId = firstOwnCarrierSegment(index, carrierCode);
+        if (segmentRefId == null) {
+            return "❌ No segment found where both carrier codes match: " + carrierCode;
+        }
+
+        // ✅ Matching segment found
+        if (index.offerCount() == 0) {
+            return "❌ No offers found in response.";
+        }
+
+        List<Integer> offerIndexes = index.offersReferencingSegment(segmentRefId);
+        if (!offerIndexes.isEmpty()) {
+            return index.offer(offerIndexes.get(0)).offerId(); // ✅ Found offer
         }
 
-        return "❌ No segment found where both carrier codes match: " + carrierCode;
+        return "❌ No offer references the matched segment for carrier code: " + carrierCode;
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package Utils.Helper;
 
-import io.restassured.response.Response;
+import Utils.Assertions.LazyAssert;
+import Utils.Response.ResponseView;
 import org.testng.asserts.SoftAssert;
 
 import java.util.ArrayList;
@@ -14,9 +15,9 @@ public class HelperNegativeAssertions {
      * Normalizes validation errors from API response.
      * Converts keys to lowercase to make assertions case-insensitive.
      */
-    public static List<Map<String, Object>> getValidationErrors(Response response) {
-        List<Map<String, Object>> rawErrors = response.jsonPath().getList("ValidationErrors");
-        if (rawErrors == null) rawErrors = response.jsonPath().getList("validationErrors");
+    public static List<Map<String, Object>> getValidationErrors(ResponseView view) {
+        List<Map<String, Object>> rawErrors = view.getList("ValidationErrors");
+        if (rawErrors == null) rawErrors = view.getList("validationErrors");
         if (rawErrors == null) return List.of();
 
         List<Map<String, Object>> normalized = new ArrayList<>();
@@ -37,12 +38,12 @@ public class HelperNegativeAssertions {
      * - Extracts and normalizes validation errors using getValidationErrors().
      * - Converts all values to lowercase for case-insensitive comparison.
      *
-     * @param response        The API response
+     * @param view            Parsed API response
      * @param expectedMessage The expected error message (case-insensitive)
      * @return true if the error message is found, false otherwise
      */
-    public static boolean containsExpectedError(Response response, String expectedMessage) {
-        List<Map<String, Object>> errors = getValidationErrors(response);
+    public static boolean containsExpectedError(ResponseView view, String expectedMessage) {
+        List<Map<String, Object>> errors = getValidationErrors(view);
 
         // Convert expected message to lowercase for case-insensitive match
         String expected = expectedMessage.toLowerCase();
@@ -59,16 +60,16 @@ public class HelperNegativeAssertions {
      * Highlights the matched error if found.
      * Handles cases where error messages or property names are null, empty, or missing.
      *
-     * @param response        The API response object
+     * @param view            Parsed API response
      * @param expectedMessage The expected error message to validate
      * @param softAssert      The SoftAssert instance for non-blocking assertions
      */
-    public static void assertContainsExpectedError(Response response, String expectedMessage, SoftAssert softAssert) {
+    public static void assertContainsExpectedError(ResponseView view, String expectedMessage, SoftAssert softAssert) {
         // Check if the expected error message exists in the response
-        boolean found = containsExpectedError(response, expectedMessage);
+        boolean found = containsExpectedError(view, expectedMessage);
 
         // Retrieve validation errors from the response (could be empty or null)
-        List<Map<String, Object>> validationErrors = getValidationErrors(response);
+        List<Map<String, Object>> validationErrors = getValidationErrors(view);
 
         // Print all actual validation errors for debugging
         System.out.println("️📄 Actual ValidationErrors in response:");
@@ -94,11 +95,12 @@ public class HelperNegativeAssertions {
         }
 
         // Soft assertion: fail if expected message not found, including actual messages in the assertion message
-        softAssert.assertTrue(found,
-                "Expected error message not found in response. Expected: \"" + expectedMessage +
+        LazyAssert.assertTrue(found,
+                () -> "Expected error message not found in response. Expected: \"" + expectedMessage +
                         "\", Actual: " + validationErrors.stream()
                         .map(err -> err.get("errormessage") != null ? err.get("errormessage").toString() : "<empty>")
-                        .toList());
+                        .toList(),
+                softAssert);
     }
 
 }
@@ -0,0 +1,108 @@
+package Utils.Helper;
+
+import Utils.Model.Money;
+import Utils.Model.Offer;
+import Utils.Response.OfferFingerprint;
+import Utils.Response.OfferFingerprint.PassengerFingerprint;
+import Utils.Response.ResponseView;
+import org.testng.asserts.SoftAssert;
+
+import java.util.*;
+
+import static Utils.Helper.HelperGeneralMethods.assertEqualDoubles;
+
+/**
+ * Keeps the {@link OfferFingerprint} of a flow in its context map and compares fingerprints of two stages.
+ * <p>
+ * The context map is the selected offer map the tests pass from step to step (Search → FareConfirm → Book)
+ * and the booking info map (Book → BookAfterHold / Retrieve). Each stage stores its own fingerprint under
+ * {@link #FINGERPRINT_KEY}, replacing the one of the previous stage once it has been checked against it.
+ */
+public class HelperOfferFingerprint {
+
+    /** Context key of the fingerprint of the last stage. */
+    public static final String FINGERPRINT_KEY = "offerFingerprint";
+
+    /**
+     * Stores the fingerprint of the current stage in the flow context (nothing is stored when either is null).
+     */
+    public static void storeFingerprint(Map<String, Object> context, OfferFingerprint fingerprint) {
+        if (context != null && fingerprint != null) {
+            context.put(FINGERPRINT_KEY, fingerprint);
+        }
+    }
+
+    /**
+     * Fingerprint stored in the flow context. A context without one is the Search offer map itself
+     * (e.g. an offer loaded from test data), so its fingerprint is computed from it.
+     *
+     * @return the fingerprint, or null when the context is null
+     */
+    public static OfferFingerprint fingerprintOf(Map<String, Object> context) {
+        if (context == null) return null;
+        if (context.get(FINGERPRINT_KEY) instanceof OfferFingerprint fingerprint) return fingerprint;
+        return context.containsKey("passengerFareBreakdown") || context.containsKey("priceDetails")
+                ? OfferFingerprint.of(ResponseView.convert(context, Offer.class))
+                : null;
+    }
+
+    /**
+     * Compares the price totals and the amounts per passenger type.
+     * Amounts of a type are compared per passenger, so a Book order with one entry per passenger
+     * can be checked against a FareConfirm offer with one entry per type.
+     *
+     * @param expected   fingerprint of the previous stage
+     * @param actual     fingerprint of the current stage
+     * @param softAssert SoftAssert collecting the mismatches
+     */
+    public static void comparePricing(OfferFingerprint expected, OfferFingerprint actual, SoftAssert softAssert) {
+        compareTotals(expected, actual, softAssert);
+
+        for (PassengerFingerprint expectedPax : expected.breakdown()) {
+            PassengerFingerprint actualPax = actual.passenger(expectedPax.passengerTypeCode());
+            if (actualPax == null) {
+                softAssert.fail("❌ Missing passenger type in fare breakdown: " + expectedPax.passengerTypeCode());
+                continue;
+            }
+            compareAmounts(expectedPax, actualPax, softAssert);
+        }
+    }
+
+    /**
+     * Compares priceDetails totalAmount, totalBaseAmount and totalTaxAmount.
+     */
+    public static void compareTotals(OfferFingerprint expected, OfferFingerprint actual, SoftAssert softAssert) {
+        compareTotal("totalAmount", expected.totalAmount(), actual.totalAmount(), softAssert);
+        compareTotal("totalBaseAmount", expected.totalBaseAmount(), actual.totalBaseAmount(), softAssert);
+        compareTotal("totalTaxAmount", expected.totalTaxAmount(), actual.totalTaxAmount(), softAssert);
+    }
+
+    /**
+     * Compares the base and tax amounts of the passenger types present in both fingerprints
+     * (a missing type is left to the caller).
+     */
+    public static void compareBreakdownAmounts(OfferFingerprint expected, OfferFingerprint actual, SoftAssert softAssert) {
+        for (PassengerFingerprint expectedPax : expected.breakdown()) {
+            PassengerFingerprint actualPax = actual.passenger(expectedPax.passengerTypeCode());
+            if (actualPax != null) compareAmounts(expectedPax, actualPax, softAssert);
+        }
+    }
+
+    private static void compareAmounts(PassengerFingerprint expectedPax, PassengerFingerprint actualPax,
+                                       SoftAssert softAssert) {
+        String paxType = expectedPax.passengerTypeCode();
+        // expected per passenger × actual passengers, cross-multiplied to stay exact
+        assertEqualDoubles(actualPax.baseAmount().times(expectedPax.count()),
+                expectedPax.baseAmount().times(actualPax.count()),
+                () -> "❌ Mismatch in totalBaseAmount for paxType: " + paxType, softAssert);
+        assertEqualDoubles(actualPax.taxAmount().times(expectedPax.count()),
+                expectedPax.taxAmount().times(actualPax.count()),
+                () -> "❌ Mismatch in totalTaxAmount for paxType: " + paxType, softAssert);
+    }
+
+    private static void compareTotal(String field, Money expected, Money actual, SoftAssert softAssert) {
+        if (expected == null && actual == null) return;
+        assertEqualDoubles(actual != null ? actual : Money.ZERO, expected != null ? expected : Money.ZERO,
+                () -> "❌ Mismatch in priceDetails." + field, softAssert);
+    }
+}
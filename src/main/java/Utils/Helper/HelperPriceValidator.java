@@ -1,15 +1,16 @@
 package Utils.Helper;
 
-import io.restassured.path.json.JsonPath;
+import Utils.Model.Amount;
+import Utils.Model.Money;
+import Utils.Model.Offer;
+import Utils.Model.PassengerCounts;
+import Utils.Model.PassengerFareBreakdown;
+import Utils.Model.TaxFee;
 import org.testng.asserts.SoftAssert;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static Utils.Helper.HelperGeneralMethods.assertWithRoundingTolerance;
-import static Utils.Helper.HelperGetResponse.getAmountOrZero;
 import static Utils.Helper.HelperGetResponse.getPriceDetailsAmount;
 
 /**
@@ -26,31 +27,32 @@ public class HelperPriceValidator {
      * this method calculates the sum across all passenger breakdowns
      * and compares it against the reported value in priceDetails.
      *
-     * @param jsonPath           Parsed API response
+     * @param offer              Offer being validated
      * @param offerOrder         Index of the offer being validated
      * @param passengerBreakdowns Passenger fare breakdown list
      * @param priceFieldMapping  Mapping of priceDetails fields → breakdown fields
+     * @param paxCounts          Passenger counts requested in the search payload
      * @param softAssert         TestNG SoftAssert for validation
      */
-    public static void validatePriceFields (JsonPath jsonPath,
+    public static void validatePriceFields (Offer offer,
                                             int offerOrder,
-                                            List<Map<String, Object>> passengerBreakdowns,
+                                            List<PassengerFareBreakdown> passengerBreakdowns,
                                             Map<String, String> priceFieldMapping,
-                                            Map<String, Object> payload, SoftAssert softAssert) {
+                                            PassengerCounts paxCounts, SoftAssert softAssert) {
         // Loop through all mappings (e.g., totalAmount ↔ passengerTotalAmount)
         for (Map.Entry<String, String> entry : priceFieldMapping.entrySet()) {
             String priceDetailsField = entry.getKey();    // Field in priceDetails
             String passengerField    = entry.getValue();  // Field in passenger breakdown
 
             // Calculate expected value from passenger breakdown (full precision)
-            BigDecimal calculatedTotal = calculateTotalAmountForPaxBigDecimal(passengerBreakdowns, passengerField, payload);
+            Money calculatedTotal = calculateTotalAmountForPax(passengerBreakdowns, passengerField, paxCounts);
 
             // Extract actual value from offer.priceDetails
-            BigDecimal reportedAmount  = getPriceDetailsAmount(jsonPath, offerOrder, priceDetailsField);
+            Money reportedAmount  = getPriceDetailsAmount(offer, priceDetailsField);
 
             // Normalize both values to 2 decimals for comparison
-            BigDecimal expected = calculatedTotal.setScale(2, RoundingMode.HALF_UP);
-            BigDecimal actual   = reportedAmount.setScale(2, RoundingMode.HALF_UP);
+            Money expected = calculatedTotal.roundTo(2);
+            Money actual   = reportedAmount.roundTo(2);
 
             // Log raw and normalized values for debugging
             System.out.printf(
@@ -69,56 +71,56 @@ public class HelperPriceValidator {
 
 
     /**
-     * Sums all "amount" values from a given list of maps.
+     * Sums the amounts of a typed taxesAndFees list.
      *
-     * @param items List of maps, each containing an "amount" field.
-     * @return Total sum as BigDecimal.
+     * @param taxes Tax/fee entries
+     * @return Total sum, in the currency of the entries.
      */
-    public static BigDecimal sumAmountsFromList(List<Map<String, Object>> items) {
-        return items.stream()
-                .map(item -> getAmountOrZero(item.get("amount"))) // Converts null or invalid values to BigDecimal.ZERO
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    public static Money sumTaxFees(List<TaxFee> taxes) {
+        long units = 0;
+        int scale = 0;
+        String currency = null;
+        for (TaxFee tax : taxes) {
+            Money amount = Amount.orZero(tax.amount());
+            units = Math.addExact(units, amount.units());
+            scale = Math.max(scale, amount.scale());
+            if (currency == null) currency = amount.currency();
+        }
+        return Money.ofUnits(units, scale, currency);
     }
 
     /**
      * Utility: Calculate total amount across passenger breakdowns for a given field (e.g., paxBaseAmount, paxTotalTaxAmount).
-     * Multiplies per-passenger amount × count retrieved from the request payload.
+     * Multiplies per-passenger amount × count requested in the search payload.
      *
      * @param passengerBreakdowns Breakdown list from the response
      * @param fieldName           Field name to aggregate (e.g., "paxBaseAmount", "paxTotalTaxAmount")
-     * @param payload             The request payload (contains passengers with type + count)
-     * @return BigDecimal total aggregated amount
+     * @param paxCounts           Passenger counts requested in the search payload
+     * @return total aggregated amount
      */
-    private static BigDecimal calculateTotalAmountForPaxBigDecimal(
-            List<Map<String, Object>> passengerBreakdowns,
+    private static Money calculateTotalAmountForPax(
+            List<PassengerFareBreakdown> passengerBreakdowns,
             String fieldName,
-            Map<String, Object> payload) {
-
-        BigDecimal total = BigDecimal.ZERO;
-
-        // Build a map from payload passenger types → counts
-        List<Map<String, Object>> payloadPassengers = (List<Map<String, Object>>) payload.get("passengers");
-        Map<String, Integer> paxCountMap = new HashMap<>();
-        for (Map<String, Object> pax : payloadPassengers) {
-            String type = ((String) pax.get("passengerTypeCode")).toUpperCase(); // normalize
-            Integer count = ((Number) pax.get("count")).intValue();
-            paxCountMap.put(type, count);
-        }
-
-        // Now aggregate response breakdowns using payload counts
-        for (Map<String, Object> passenger : passengerBreakdowns) {
-            String paxType = ((String) passenger.get("passengerTypeCode")).toUpperCase();
-            int paxCount = paxCountMap.getOrDefault(paxType, 1); // fallback to 1 if not in payload
-
-            Object fieldObj = passenger.get(fieldName);
-            if (fieldObj instanceof Map) {
-                Map<String, Object> fieldMap = (Map<String, Object>) fieldObj;
-                BigDecimal amount = getAmountOrZero(fieldMap);
-                total = total.add(amount.multiply(BigDecimal.valueOf(paxCount)));
+            PassengerCounts paxCounts) {
+
+        long units = 0;
+        int scale = 0;
+        String currency = null;
+
+        // Aggregate response breakdowns using payload counts
+        for (PassengerFareBreakdown passenger : passengerBreakdowns) {
+            int paxCount = paxCounts.get(passenger.passengerTypeCode(), 1); // fallback to 1 if not in payload
+
+            Amount field = passenger.amount(fieldName);
+            if (field != null) {
+                Money amount = field.amountOrZero();
+                units = Math.addExact(units, Math.multiplyExact(amount.units(), paxCount));
+                scale = Math.max(scale, amount.scale());
+                if (currency == null) currency = amount.currency();
             }
         }
 
-        return total;
+        return Money.ofUnits(units, scale, currency);
     }
 
 
@@ -1,16 +1,17 @@
 package Utils.Helper;
 
-import io.restassured.path.json.JsonPath;
+import Utils.Model.Amount;
+import Utils.Model.Money;
+import Utils.Model.Offer;
+import Utils.Model.PassengerFareBreakdown;
+import Utils.Model.PriceDetails;
+import Utils.Model.TaxFee;
 import org.testng.asserts.SoftAssert;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.List;
-import java.util.Map;
 
 import static Utils.Helper.HelperGeneralMethods.assertWithRoundingTolerance;
-import static Utils.Helper.HelperGetResponse.getAmountOrZero;
-import static Utils.Helper.HelperPriceValidator.sumAmountsFromList;
+import static Utils.Helper.HelperPriceValidator.sumTaxFees;
 
 /**
  * Utility class for validating tax and fee amounts in both passenger-level breakdowns
@@ -37,14 +38,14 @@ public class HelperTaxFeeValidator {
      * @param offerOrder          Index of the offer being validated
      * @param softAssert          TestNG SoftAssert for validation
      */
-    public static void validateTaxesAndFeesPerPassenger(List<Map<String, Object>> passengerBreakdowns,
+    public static void validateTaxesAndFeesPerPassenger(List<PassengerFareBreakdown> passengerBreakdowns,
                                                         int offerOrder, SoftAssert softAssert) {
         // Iterate through all passenger types in the breakdown
-        for (Map<String, Object> passenger : passengerBreakdowns) {
+        for (PassengerFareBreakdown passenger : passengerBreakdowns) {
             // Extract taxesAndFees breakdown list for this passenger type
-            List<Map<String, Object>> taxesAndFeesList = (List<Map<String, Object>>) passenger.get("taxesAndFees");
+            List<TaxFee> taxesAndFeesList = passenger.taxesAndFees();
             // Extract passenger type code (ADT, CHD, INF, etc.)
-            String paxType = (String) passenger.get("passengerTypeCode");
+            String paxType = passenger.passengerTypeCode();
 
             // Skip validation if breakdown is missing
             if (taxesAndFeesList == null) {
@@ -53,11 +54,10 @@ public class HelperTaxFeeValidator {
             }
 
             // Calculate expected taxes by summing breakdown (ignore passenger count)
-            BigDecimal sumTaxesAndFees = sumAmountsFromList(taxesAndFeesList).setScale(4, RoundingMode.HALF_UP);
+            Money sumTaxesAndFees = sumTaxFees(taxesAndFeesList).roundTo(4);
 
             // Extract reported passengerTaxesAmount
-            Map<String, Object> passengerTaxesAmountMap = (Map<String, Object>) passenger.get("paxTotalTaxAmount");
-            BigDecimal reportedTaxesAmount = getAmountOrZero(passengerTaxesAmountMap).setScale(4, RoundingMode.HALF_UP);
+            Money reportedTaxesAmount = Amount.orZero(passenger.paxTotalTaxAmount()).roundTo(4);
 
             // Log calculated vs reported for debugging
             System.out.printf("\tTC:9.3✔ [Offer %d] Validating taxes for %s: Calculated=%.2f, Reported=%.2f%n",
@@ -65,8 +65,8 @@ public class HelperTaxFeeValidator {
 
             // Validate with tolerance check (rounded to 2 decimals)
             assertWithRoundingTolerance(
-                    reportedTaxesAmount.setScale(2, RoundingMode.HALF_UP),
-                    sumTaxesAndFees.setScale(2, RoundingMode.HALF_UP),
+                    reportedTaxesAmount.roundTo(2),
+                    sumTaxesAndFees.roundTo(2),
                     0.01,
                     "taxes for " + paxType,
                     offerOrder, "TC:9.3" ,
@@ -84,21 +84,21 @@ public class HelperTaxFeeValidator {
      * - Compare the reported vs calculated total
      * If no breakdown exists, log info and skip strict validation.
      *
-     * @param jsonPath   Parsed API response
+     * @param offer      Offer being validated
      * @param offerOrder Index of the offer being validated
      * @param softAssert TestNG SoftAssert for validation
      */
-    public static void validateTotalTaxesAndFeesInPriceDetails(JsonPath jsonPath, int offerOrder, SoftAssert softAssert) {
+    public static void validateTotalTaxesAndFeesInPriceDetails(Offer offer, int offerOrder, SoftAssert softAssert) {
+        PriceDetails priceDetails = offer.priceDetails();
+
         // Get full list of taxesAndFees from priceDetails
-        List<Map<String, Object>> priceTaxesAndFeesList =
-                jsonPath.getList("offers[" + offerOrder + "].priceDetails.taxesAndFees");
+        List<TaxFee> priceTaxesAndFeesList = priceDetails != null ? priceDetails.taxesAndFees() : null;
 
         // Get reported total taxes amount from priceDetails
-        Map<String, Object> priceDetailsTaxesAmountMap =
-                jsonPath.getMap("offers[" + offerOrder + "].priceDetails.totalTaxAmount");
+        Amount priceDetailsTaxesAmount = priceDetails != null ? priceDetails.totalTaxAmount() : null;
 
         // Normalize reported amount
-        BigDecimal reported = getAmountOrZero(priceDetailsTaxesAmountMap).setScale(2, RoundingMode.HALF_UP);
+        Money reported = Amount.orZero(priceDetailsTaxesAmount).roundTo(2);
 
         // Case 1: No breakdown provided → log info only
         if (priceTaxesAndFeesList == null || priceTaxesAndFeesList.isEmpty()) {
@@ -108,7 +108,7 @@ public class HelperTaxFeeValidator {
         }
 
         // Case 2: Breakdown exists → calculate expected sum
-        BigDecimal calculated = sumAmountsFromList(priceTaxesAndFeesList).setScale(2, RoundingMode.HALF_UP);
+        Money calculated = sumTaxFees(priceTaxesAndFeesList).roundTo(2);
 
         // Log calculated vs reported for debugging
         System.out.printf("\t✔TC:9.4 [Offer %d] Validating total taxes in priceDetails: Calculated=%.2f, Reported=%.2f%n",
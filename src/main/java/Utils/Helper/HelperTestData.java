@@ -2,6 +2,11 @@ package Utils.Helper;
 
 import com.aventstack.extentreports.ExtentTest;
 
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 public class HelperTestData {
 
     // ✅ Base URL
@@ -18,6 +23,51 @@ public class HelperTestData {
     // ✅ Supplier Agencies
     public static final String AgencyName = "Aegean";
 
+    // ✅ HTTP Transport (-Dndc.transport=pooled|restassured)
+    public static final String TransportBackend = System.getProperty("ndc.transport", "pooled");
+    public static final long RequestTimeoutSeconds = Long.getLong("ndc.requestTimeoutSeconds", 120);
+
+    // ✅ Virtual-thread runner (-Dndc.maxConcurrentFlows=N)
+    public static final int MaxConcurrentFlows = Integer.getInteger("ndc.maxConcurrentFlows", 64);
+
+    // ✅ Run independent assertion checks in parallel (-Dndc.parallelChecks=true)
+    public static final boolean ParallelChecks = Boolean.getBoolean("ndc.parallelChecks");
+
+    // ✅ With parallel checks, split offers[] into chunks from this many offers (-Dndc.parallelOfferThreshold=N)
+    public static final int ParallelOfferThreshold = Integer.getInteger("ndc.parallelOfferThreshold", 500);
+
+    // ✅ Streaming search validation above this body size (-Dndc.streamingThresholdBytes=N, bytes)
+    public static final long StreamingThresholdBytes = Long.getLong("ndc.streamingThresholdBytes", 8L * 1024 * 1024);
+
+    // ✅ Differing paths reported per tree comparison (-Dndc.maxReportedDifferences=N)
+    public static final int MaxReportedDifferences = Integer.getInteger("ndc.maxReportedDifferences", 10);
+
+    // ✅ Fee codes whose currency is not checked, case-insensitive (-Dndc.currencyExcludedFeeCodes=CancelFee,ChangeFee)
+    public static final Set<String> CurrencyExcludedFeeCodes = Arrays.stream(
+                    System.getProperty("ndc.currencyExcludedFeeCodes", "CancelFee,ChangeFee").split(","))
+            .map(String::trim)
+            .filter(code -> !code.isEmpty())
+            .map(code -> code.toUpperCase(Locale.ROOT))
+            .collect(Collectors.toUnmodifiableSet());
+
+    // ✅ Validation profile: smoke | standard | deep (-Dndc.validationProfile=smoke)
+    public static final String ValidationProfileName = System.getProperty("ndc.validationProfile", "deep");
+
+    // ✅ Seed of the per-offer sample in the smoke/standard profiles (-Dndc.sampleSeed=N)
+    public static final long SampleSeed = Long.getLong("ndc.sampleSeed", 1L);
+
+    // ✅ Search responses up to this many offers are always checked in full (-Dndc.fullCheckOfferCount=N)
+    public static final int FullCheckOfferCount = Integer.getInteger("ndc.fullCheckOfferCount", 100);
+
+    // ✅ Failures kept per Search check; one more stops the check with a "Check stopped after N failures at ..." line; 0 keeps all (-Dndc.maxFailuresPerCheck=N)
+    public static final int MaxFailuresPerCheck = Integer.getInteger("ndc.maxFailuresPerCheck", 100);
+
+    // ✅ Time budget of one Search response validation; 0 disables it (-Dndc.validationBudgetMs=N)
+    public static final long ValidationBudgetMs = Long.getLong("ndc.validationBudgetMs", 120_000L);
+
+    // ✅ Distinct code values (currencies, PTCs, reference ids) shared between parsed responses; the table starts over when full, 0 disables it (-Dndc.symbolTableSize=N)
+    public static final int SymbolTableSize = Integer.getInteger("ndc.symbolTableSize", 16_384);
+
     // ✅ Extent Reports
     public static ThreadLocal<ExtentTest> extentTest = new ThreadLocal<>();
 }
@@ -3,6 +3,8 @@ package Utils.Loader;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -64,4 +66,26 @@ public class HeaderLoader {
             throw new RuntimeException("❌ Failed to read headers for agency: " + agencyName, e);
         }
     }
+
+    /**
+     * Returns the names of all agencies defined in the headers JSON file, in file order.
+     *
+     * @return list of agency names (keys of the JSON file)
+     * @throws RuntimeException if the file cannot be read
+     */
+    public static List<String> getAgencyNames() {
+        try {
+            ObjectMapper mapper = new ObjectMapper();
+            File jsonFile = new File("src/test/resources/headers/agencyClaims.json");
+
+            Map<String, Map<String, String>> allAgencies =
+                    mapper.readValue(jsonFile, new TypeReference<>() {
+                    });
+
+            return new ArrayList<>(allAgencies.keySet());
+
+        } catch (Exception e) {
+            throw new RuntimeException("❌ Failed to read agency names from agencyClaims.json", e);
+        }
+    }
 }
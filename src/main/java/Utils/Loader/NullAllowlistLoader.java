@@ -0,0 +1,87 @@
+package Utils.Loader;
+
+import Utils.Response.NullLikeScanner;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads the fields that may be null or empty in a Search response without failing TC.17
+ * (they are reported as warnings only).
+ *
+ * <p>Fields are dotted key suffixes; list indexes are ignored when matching. The {@code default} list applies
+ * to every supplier, and a supplier entry adds fields for that supplier only
+ * ("src/test/resources/validation/nullAllowlist.json"):</p>
+ * <pre>
+ * {
+ *   "default": ["departureTerminal", "arrivalTerminal", "fareBasisCode", "appliedDealCode", "discount"],
+ *   "suppliers": {
+ *     "AegeanV21": ["segmentDetails.rbd", "equipment"]
+ *   }
+ * }
+ * </pre>
+ *
+ * <p>Usage example:</p>
+ * <pre>
+ * NullLikeScanner.Allowlist allowlist = NullAllowlistLoader.forSupplier(view.getString("supplier"));
+ * </pre>
+ */
+public class NullAllowlistLoader {
+
+    private static final String FILE = "src/test/resources/validation/nullAllowlist.json";
+
+    private record Config(List<String> defaults, Map<String, List<String>> suppliers) {
+    }
+
+    private static volatile Config config;
+    private static final Map<String, NullLikeScanner.Allowlist> COMPILED = new ConcurrentHashMap<>();
+    private static final String DEFAULT_KEY = "";
+
+    /**
+     * Returns the compiled allowlist of a supplier (default fields plus the supplier's own), compiled once.
+     *
+     * @param supplier supplier name as returned in the Search response, may be null for the defaults only
+     * @throws RuntimeException if the file cannot be read
+     */
+    public static NullLikeScanner.Allowlist forSupplier(String supplier) {
+        return COMPILED.computeIfAbsent(supplier != null ? supplier : DEFAULT_KEY, key -> {
+            Config loaded = config();
+            NullLikeScanner.Allowlist defaults = NullLikeScanner.Allowlist.compile(loaded.defaults());
+            return defaults.with(loaded.suppliers().getOrDefault(key, List.of()));
+        });
+    }
+
+    private static Config config() {
+        Config loaded = config;
+        if (loaded == null) {
+            synchronized (NullAllowlistLoader.class) {
+                if (config == null) {
+                    config = read();
+                }
+                loaded = config;
+            }
+        }
+        return loaded;
+    }
+
+    private static Config read() {
+        try {
+            ObjectMapper mapper = new ObjectMapper();
+            Map<String, Object> file = mapper.readValue(new File(FILE), new TypeReference<>() {
+            });
+
+            List<String> defaults = mapper.convertValue(file.getOrDefault("default", List.of()), new TypeReference<>() {
+            });
+            Map<String, List<String>> suppliers = mapper.convertValue(file.getOrDefault("suppliers", Map.of()), new TypeReference<>() {
+            });
+            return new Config(defaults, suppliers);
+
+        } catch (Exception e) {
+            throw new RuntimeException("❌ Failed to read null-value allowlist from " + FILE, e);
+        }
+    }
+}
@@ -1,4 +1,6 @@
 package Utils.Loader;
+import Utils.Model.PassengerCounts;
+import Utils.Model.PassengerType;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.File;
@@ -94,17 +96,11 @@ public class PayloadLoader {
             Map<String, Object> selectedPassengers = new LinkedHashMap<>();
 
             // Calculate required passenger counts from search
-            List<Map<String, Object>> searchPassengers = (List<Map<String, Object>>) searchPayload.get("passengers");
-            Map<String, Integer> requiredCounts = new HashMap<>();
-            for (Map<String, Object> pax : searchPassengers) {
-                String type = ((String) pax.get("passengerTypeCode")).toUpperCase();
-                int count = (int) pax.get("count");
-                requiredCounts.put(type, count);
-            }
+            PassengerCounts requiredCounts = PassengerCounts.fromPayload(searchPayload);
 
-            // Track usage counters
-            Map<String, Integer> typeCounters = new HashMap<>();
-            requiredCounts.keySet().forEach(type -> typeCounters.put(type, 0));
+            // Track usage counters (per passenger type; other type codes by code)
+            int[] typeCounters = new int[PassengerType.COUNT];
+            Map<String, Integer> otherTypeCounters = new HashMap<>();
 
             // Pick passengers from template
             for (Map.Entry<String, Object> entry : fullPassengers.entrySet()) {
@@ -112,15 +108,22 @@ public class PayloadLoader {
                 Map<String, Object> paxValue = (Map<String, Object>) entry.getValue();
                 String type = ((String) paxValue.get("passengerTypeCode")).toUpperCase();
 
-                if (!requiredCounts.containsKey(type)) continue;
+                if (!requiredCounts.contains(type)) continue;
 
-                int needed = requiredCounts.get(type);
-                int used = typeCounters.get(type);
+                int needed = requiredCounts.get(type, 0);
+                PassengerType paxType = PassengerType.of(type);
+                int used = paxType != PassengerType.UNKNOWN
+                        ? typeCounters[paxType.ordinal()]
+                        : otherTypeCounters.getOrDefault(type, 0);
 
                 if (used < needed) {
                     // Keep original key from template (ADT1, CHD1, INF1)
                     selectedPassengers.put(paxKey, paxValue);
-                    typeCounters.put(type, used + 1);
+                    if (paxType != PassengerType.UNKNOWN) {
+                        typeCounters[paxType.ordinal()]++;
+                    } else {
+                        otherTypeCounters.put(type, used + 1);
+                    }
                 }
             }
 
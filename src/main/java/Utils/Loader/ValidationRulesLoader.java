@@ -0,0 +1,134 @@
+package Utils.Loader;
+
+import Utils.Assertions.ResponseRule;
+import Utils.Assertions.ResponseRules;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads the declarative validation rules of each stage ("src/test/resources/validation/rules.json").
+ *
+ * <p>Every stage ({@code search}, {@code fareConfirm}, {@code book}) has a default list of rules. An agency entry,
+ * keyed by the "AgencyName" header, can disable default rules by id and add rules; an added rule with the id of a
+ * default rule replaces it (e.g. a wider tolerance). Rule types and fields are described in {@link ResponseRule}.</p>
+ * <pre>
+ * {
+ *   "search": [
+ *     { "id": "S.R1", "type": "unique-within", "scope": "offers[].passengerFareBreakdown[].segmentDetails[]",
+ *       "key": "segmentRefId", "within": "offers[].passengerFareBreakdown[]" }
+ *   ],
+ *   "fareConfirm": [ ... ],
+ *   "book": [ ... ],
+ *   "agencies": {
+ *     "AirCairo": {
+ *       "disabled": ["S.R1"],
+ *       "fareConfirm": [ { "id": "FC.R4", "type": "sum-equals-with-tolerance", ..., "tolerance": 0.05 } ]
+ *     }
+ *   }
+ * }
+ * </pre>
+ * The whole file is read and every rule compiled on first use, so a malformed rule fails the first validation
+ * instead of being skipped; the compiled rules of each stage and agency are then reused by every test.
+ *
+ * <p>Usage example:</p>
+ * <pre>
+ * ValidationRulesLoader.forStage("fareConfirm", agencyName).run(view, softAssert);
+ * </pre>
+ */
+public class ValidationRulesLoader {
+
+    private static final String FILE = "src/test/resources/validation/rules.json";
+    private static final List<String> STAGES = List.of("search", "fareConfirm", "book");
+
+    private record AgencyRules(Set<String> disabled, Map<String, List<ResponseRule>> stages) {
+    }
+
+    private record Config(Map<String, List<ResponseRule>> defaults, Map<String, AgencyRules> agencies) {
+    }
+
+    private static volatile Config config;
+    private static final Map<String, ResponseRules> COMPILED = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the rules of a stage for an agency (defaults plus the agency's overrides), merged once.
+     *
+     * @param stage  "search", "fareConfirm" or "book"
+     * @param agency "AgencyName" header value, null for the defaults only
+     * @throws RuntimeException if the file cannot be read or a rule is invalid
+     */
+    public static ResponseRules forStage(String stage, String agency) {
+        return COMPILED.computeIfAbsent(stage + "|" + (agency != null ? agency : ""), key -> {
+            Config loaded = config();
+            Map<String, ResponseRule> merged = new LinkedHashMap<>();
+            for (ResponseRule rule : loaded.defaults().getOrDefault(stage, List.of())) {
+                merged.put(rule.id(), rule);
+            }
+
+            AgencyRules overrides = agency != null ? loaded.agencies().get(agency) : null;
+            if (overrides != null) {
+                overrides.disabled().forEach(merged::remove);
+                for (ResponseRule rule : overrides.stages().getOrDefault(stage, List.of())) {
+                    merged.put(rule.id(), rule);
+                }
+            }
+            return new ResponseRules(stage, new ArrayList<>(merged.values()));
+        });
+    }
+
+    private static Config config() {
+        Config loaded = config;
+        if (loaded == null) {
+            synchronized (ValidationRulesLoader.class) {
+                if (config == null) {
+                    config = read();
+                }
+                loaded = config;
+            }
+        }
+        return loaded;
+    }
+
+    private static Config read() {
+        try {
+            ObjectMapper mapper = new ObjectMapper();
+            Map<String, Object> file = mapper.readValue(new File(FILE), new TypeReference<>() {
+            });
+
+            Map<String, List<ResponseRule>> defaults = compileStages(mapper, file);
+
+            Map<String, AgencyRules> agencies = new HashMap<>();
+            Map<String, Map<String, Object>> agencyEntries = mapper.convertValue(
+                    file.getOrDefault("agencies", Map.of()), new TypeReference<>() {
+                    });
+            for (Map.Entry<String, Map<String, Object>> agency : agencyEntries.entrySet()) {
+                Set<String> disabled = new HashSet<>(mapper.convertValue(
+                        agency.getValue().getOrDefault("disabled", List.of()), new TypeReference<List<String>>() {
+                        }));
+                agencies.put(agency.getKey(), new AgencyRules(disabled, compileStages(mapper, agency.getValue())));
+            }
+            return new Config(defaults, agencies);
+
+        } catch (Exception e) {
+            throw new RuntimeException("❌ Failed to load validation rules from " + FILE, e);
+        }
+    }
+
+    private static Map<String, List<ResponseRule>> compileStages(ObjectMapper mapper, Map<String, Object> entry) {
+        Map<String, List<ResponseRule>> stages = new HashMap<>();
+        for (String stage : STAGES) {
+            List<ResponseRule.Definition> definitions = mapper.convertValue(
+                    entry.getOrDefault(stage, List.of()), new TypeReference<>() {
+                    });
+            List<ResponseRule> rules = new ArrayList<>(definitions.size());
+            for (ResponseRule.Definition definition : definitions) {
+                rules.add(ResponseRule.compile(definition));
+            }
+            stages.put(stage, rules);
+        }
+        return stages;
+    }
+}
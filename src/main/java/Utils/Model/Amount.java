@@ -0,0 +1,31 @@
+package Utils.Model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * A monetary amount as returned by the NDC API: {@code {"amount": 120.5, "currency": "EUR"}}.
+ * The value is bound to {@link Money} carrying the same currency.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record Amount(Money amount, String currency) {
+
+    public Amount {
+        if (amount != null && currency != null) {
+            amount = amount.withCurrency(currency);
+        }
+    }
+
+    /**
+     * Returns the amount, or zero when the value is missing.
+     */
+    public Money amountOrZero() {
+        return amount != null ? amount : Money.ZERO;
+    }
+
+    /**
+     * Null-safe amount of an optional {@link Amount} (zero when either is missing).
+     */
+    public static Money orZero(Amount amount) {
+        return amount != null ? amount.amountOrZero() : Money.ZERO;
+    }
+}
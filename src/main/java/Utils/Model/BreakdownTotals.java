@@ -0,0 +1,94 @@
+package Utils.Model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base and tax totals per passenger type of a fare breakdown list, with the number of entries of each type
+ * (Search and FareConfirm offers have one entry per type, the Book order one per passenger).
+ * <p>
+ * ADT/CHD/INF accumulate in long slots indexed by {@link PassengerType} ordinal; any other type code gets its own
+ * slot in a side map (null until such a code appears). Amounts are summed in {@link Money} units, with the pax*
+ * names preferred over the passenger* ones.
+ */
+public final class BreakdownTotals {
+
+    private static final int BASE = 0, TAX = 1, BASE_SCALE = 2, TAX_SCALE = 3, COUNT = 4;
+
+    private final long[][] known = new long[PassengerType.COUNT][];
+    private Map<String, long[]> otherCodes;
+    private final List<PassengerFareBreakdown> firstEntries = new ArrayList<>(PassengerType.COUNT);
+
+    private BreakdownTotals() {
+    }
+
+    /**
+     * Totals of a passengerFareBreakdown list.
+     */
+    public static BreakdownTotals of(List<PassengerFareBreakdown> breakdowns) {
+        BreakdownTotals totals = new BreakdownTotals();
+        for (PassengerFareBreakdown pax : breakdowns) {
+            totals.add(pax);
+        }
+        return totals;
+    }
+
+    private void add(PassengerFareBreakdown pax) {
+        String code = pax.passengerTypeCode();
+        long[] slot = slot(code);
+        if (slot == null) {
+            slot = new long[5];
+            PassengerType type = PassengerType.of(code);
+            if (type != PassengerType.UNKNOWN) {
+                known[type.ordinal()] = slot;
+            } else {
+                if (otherCodes == null) otherCodes = new HashMap<>();
+                otherCodes.put(code, slot);
+            }
+            firstEntries.add(pax);
+        }
+
+        Money base = Amount.orZero(pax.paxBaseAmount() != null ? pax.paxBaseAmount() : pax.passengerBaseAmount());
+        Money tax = Amount.orZero(pax.paxTotalTaxAmount() != null ? pax.paxTotalTaxAmount() : pax.passengerTaxesAmount());
+        slot[BASE] = Math.addExact(slot[BASE], base.units());
+        slot[TAX] = Math.addExact(slot[TAX], tax.units());
+        slot[BASE_SCALE] = Math.max(slot[BASE_SCALE], base.scale());
+        slot[TAX_SCALE] = Math.max(slot[TAX_SCALE], tax.scale());
+        slot[COUNT]++;
+    }
+
+    private long[] slot(String code) {
+        PassengerType type = PassengerType.of(code);
+        if (type != PassengerType.UNKNOWN) return known[type.ordinal()];
+        return otherCodes != null ? otherCodes.get(code) : null;
+    }
+
+    /** First breakdown entry of each passenger type, in the order the types appear. */
+    public List<PassengerFareBreakdown> firstEntries() {
+        return Collections.unmodifiableList(firstEntries);
+    }
+
+    /** Sum of the base amounts of the type code (zero when absent). */
+    public Money baseAmount(String code) {
+        return total(code, BASE, BASE_SCALE);
+    }
+
+    /** Sum of the tax amounts of the type code (zero when absent). */
+    public Money taxAmount(String code) {
+        return total(code, TAX, TAX_SCALE);
+    }
+
+    /** Number of breakdown entries with the type code. */
+    public int count(String code) {
+        long[] slot = slot(code);
+        return slot != null ? (int) slot[COUNT] : 0;
+    }
+
+    private Money total(String code, int field, int scale) {
+        long[] slot = slot(code);
+        return slot != null ? Money.ofUnits(slot[field], (int) slot[scale], null) : Money.ZERO;
+    }
+}
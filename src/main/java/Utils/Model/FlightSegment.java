@@ -0,0 +1,18 @@
+package Utils.Model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Entry of the root {@code flightSegments} dictionary.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record FlightSegment(
+        String origin,
+        String destination,
+        String departureDateTime,
+        String arrivalDateTime,
+        String marketingCarrierCode,
+        String operatingCarrierCode,
+        String flightNumber
+) {
+}
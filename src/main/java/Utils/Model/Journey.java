@@ -0,0 +1,12 @@
+package Utils.Model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Entry of the root {@code journeys} dictionary.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record Journey(List<String> segmentRefIds, Integer numberOfStops) {
+}
@@ -0,0 +1,333 @@
+package Utils.Model;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Immutable monetary value: a {@code long} count of millionths of the currency unit plus the currency code.
+ * <p>
+ * Price checks used to allocate a {@link BigDecimal} per amount and per intermediate sum. Money keeps the value
+ * in a long with a fixed scale of {@value #SCALE} decimals, which holds every amount the NDC API returns exactly,
+ * so sums and products are plain long arithmetic (overflow throws {@link ArithmeticException}). Amounts bound
+ * from JSON are parsed straight from the number token, without an intermediate String or BigDecimal.
+ * <p>
+ * Money also remembers the number of decimals the value was written with, and {@link #toString()} prints
+ * exactly what {@code BigDecimal.toString()} printed for the same value (including {@code 120.50}), so
+ * assertion messages read as before. Equality and ordering are numeric: {@code 100} equals {@code 100.00}.
+ * The currency is carried along for reporting and does not take part in equality; currencies are
+ * validated by the currency checks.
+ */
+@JsonDeserialize(using = Money.Deserializer.class)
+public final class Money implements Comparable<Money> {
+
+    /** Decimals of the internal representation. Inputs with more decimals are rounded HALF_UP. */
+    public static final int SCALE = 6;
+    private static final long ONE = 1_000_000L;
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L};
+
+    public static final Money ZERO = new Money(0L, 0, null);
+
+    private final long units;
+    private final int scale;
+    private final String currency;
+
+    private Money(long units, int scale, String currency) {
+        this.units = units;
+        this.scale = scale;
+        this.currency = currency;
+    }
+
+    /**
+     * Creates a value from its internal representation.
+     *
+     * @param units    value × 10^{@value #SCALE}
+     * @param scale    decimals to print (0..{@value #SCALE})
+     * @param currency ISO currency code, may be null
+     */
+    public static Money ofUnits(long units, int scale, String currency) {
+        if (scale < 0 || scale > SCALE) throw new IllegalArgumentException("Scale out of range: " + scale);
+        return units == 0 && scale == 0 && currency == null ? ZERO : new Money(units, scale, currency);
+    }
+
+    /**
+     * Converts a parsed JSON number (Integer/Long/Double/BigDecimal...) to Money.
+     * Floating point values are read from their shortest decimal form, as {@code new BigDecimal(value.toString())} did.
+     */
+    public static Money of(Number value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return ofUnits(Math.multiplyExact(value.longValue(), ONE), 0, null);
+        }
+        if (value instanceof BigDecimal decimal) {
+            return of(decimal);
+        }
+        if (value instanceof BigInteger integer) {
+            return of(new BigDecimal(integer));
+        }
+        return parse(value.toString());
+    }
+
+    public static Money of(BigDecimal value) {
+        long units = value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        return ofUnits(units, Math.max(0, Math.min(SCALE, value.scale())), null);
+    }
+
+    /**
+     * Parses a decimal number such as {@code 120.50}, {@code -3} or {@code 1.5E2}.
+     *
+     * @throws NumberFormatException when the text is not a number
+     */
+    public static Money parse(CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Parses {@code text[offset, offset + length)} (e.g. the token buffer of a JSON parser).
+     */
+    public static Money parse(char[] text, int offset, int length) {
+        return parse(java.nio.CharBuffer.wrap(text, offset, length), 0, length);
+    }
+
+    private static Money parse(CharSequence text, int start, int end) {
+        int i = start;
+        if (i >= end) throw new NumberFormatException("Empty amount");
+
+        boolean negative = false;
+        char first = text.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+        }
+
+        long digits = 0;
+        int digitCount = 0;
+        int fractionDigits = 0;
+        boolean inFraction = false;
+        boolean dropped = false;
+        for (; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digitCount++;
+                if (inFraction && fractionDigits >= SCALE + 1) {
+                    dropped = true; // beyond the rounding digit
+                    continue;
+                }
+                digits = Math.addExact(Math.multiplyExact(digits, 10L), c - '0');
+                if (inFraction) fractionDigits++;
+            } else if (c == '.' && !inFraction) {
+                inFraction = true;
+            } else if (c == 'e' || c == 'E') {
+                break;
+            } else {
+                throw new NumberFormatException("Invalid amount: " + text.subSequence(start, end));
+            }
+        }
+        if (digitCount == 0) throw new NumberFormatException("Invalid amount: " + text.subSequence(start, end));
+
+        int exponent = 0;
+        if (i < end) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+                negativeExponent = text.charAt(i) == '-';
+                i++;
+            }
+            if (i >= end) throw new NumberFormatException("Invalid amount: " + text.subSequence(start, end));
+            for (; i < end; i++) {
+                char c = text.charAt(i);
+                if (c < '0' || c > '9') throw new NumberFormatException("Invalid amount: " + text.subSequence(start, end));
+                exponent = Math.addExact(Math.multiplyExact(exponent, 10), c - '0');
+            }
+            if (negativeExponent) exponent = -exponent;
+        }
+
+        // value = digits × 10^(exponent - fractionDigits)
+        int decimals = fractionDigits - exponent;
+        if (dropped || decimals > SCALE + 1) {
+            // Rare (more than 7 decimals): let BigDecimal do the rounding
+            return negate(of(new BigDecimal(text.subSequence(start, end).toString()).abs()), negative);
+        }
+
+        long units;
+        if (decimals > SCALE) {
+            // one digit too many: round HALF_UP on it
+            units = digits / 10 + (digits % 10 >= 5 ? 1 : 0);
+        } else if (decimals >= 0) {
+            units = Math.multiplyExact(digits, POWERS_OF_TEN[SCALE - decimals]);
+        } else {
+            units = Math.multiplyExact(Math.multiplyExact(digits, ONE), pow10(-decimals));
+        }
+        return ofUnits(negative ? -units : units, Math.max(0, Math.min(SCALE, decimals)), null);
+    }
+
+    private static Money negate(Money money, boolean negative) {
+        return negative ? ofUnits(-money.units, money.scale, money.currency) : money;
+    }
+
+    private static long pow10(int exponent) {
+        long result = 1L;
+        for (int i = 0; i < exponent; i++) result = Math.multiplyExact(result, 10L);
+        return result;
+    }
+
+    /** Value × 10^{@value #SCALE}. */
+    public long units() {
+        return units;
+    }
+
+    /** Number of decimals the value is printed with. */
+    public int scale() {
+        return scale;
+    }
+
+    public String currency() {
+        return currency;
+    }
+
+    /** The same value in the given currency. */
+    public Money withCurrency(String currency) {
+        return java.util.Objects.equals(this.currency, currency) ? this : new Money(units, scale, currency);
+    }
+
+    // ---- Arithmetic (BigDecimal-like scale rules: add/subtract keep the larger scale) ----
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(units, other.units), Math.max(scale, other.scale), currencyWith(other));
+    }
+
+    public Money minus(Money other) {
+        return new Money(Math.subtractExact(units, other.units), Math.max(scale, other.scale), currencyWith(other));
+    }
+
+    public Money times(long factor) {
+        return new Money(Math.multiplyExact(units, factor), scale, currency);
+    }
+
+    public Money abs() {
+        return units >= 0 ? this : new Money(-units, scale, currency);
+    }
+
+    /**
+     * Rounds to the given number of decimals, HALF_UP (same as {@code setScale(decimals, RoundingMode.HALF_UP)}).
+     */
+    public Money roundTo(int decimals) {
+        if (decimals < 0 || decimals > SCALE) throw new IllegalArgumentException("Scale out of range: " + decimals);
+        return new Money(roundUnits(units, decimals), decimals, currency);
+    }
+
+    /**
+     * {@code units} rounded HALF_UP to {@code decimals}, still expressed in units of 10^-{@value #SCALE}.
+     */
+    public static long roundUnits(long units, int decimals) {
+        long step = POWERS_OF_TEN[SCALE - decimals];
+        long remainder = units % step;
+        long truncated = units - remainder;
+        if (Math.abs(remainder) * 2 >= step) {
+            truncated = units >= 0 ? Math.addExact(truncated, step) : Math.subtractExact(truncated, step);
+        }
+        return truncated;
+    }
+
+    /** Whether |this − other| ≤ tolerance. */
+    public boolean isWithin(Money other, Money tolerance) {
+        return Math.abs(Math.subtractExact(units, other.units)) <= tolerance.units;
+    }
+
+    public boolean isZero() {
+        return units == 0;
+    }
+
+    private String currencyWith(Money other) {
+        return currency != null ? currency : other.currency;
+    }
+
+    // ---- Conversions ----
+
+    /** Nearest double (exact rounding of the decimal value). */
+    public double doubleValue() {
+        return (double) units / ONE;
+    }
+
+    /** The value as BigDecimal with the printed scale (for formatting with %f and JSON output). */
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(units, SCALE).setScale(scale, RoundingMode.UNNECESSARY);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(units, other.units);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money other && units == other.units;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(units);
+    }
+
+    /** Plain decimal with {@link #scale()} decimals, e.g. {@code 120.50}. */
+    @Override
+    public String toString() {
+        long whole = units / ONE;
+        long fraction = Math.abs(units % ONE);
+        StringBuilder sb = new StringBuilder(24);
+        if (units < 0 && whole == 0) sb.append('-');
+        sb.append(whole);
+        if (scale > 0) {
+            sb.append('.');
+            String digits = Long.toString(fraction + ONE); // leading "1" keeps the zero padding
+            sb.append(digits, 1, 1 + scale);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Binds JSON numbers (or numeric strings) directly from the parser token.
+     */
+    public static final class Deserializer extends StdDeserializer<Money> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(Money.class);
+        }
+
+        @Override
+        public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            try {
+                if (token == JsonToken.VALUE_NUMBER_INT) {
+                    JsonParser.NumberType type = p.getNumberType();
+                    if (type == JsonParser.NumberType.INT || type == JsonParser.NumberType.LONG) {
+                        return ofUnits(Math.multiplyExact(p.getLongValue(), ONE), 0, null);
+                    }
+                    return of(p.getNumberValue());
+                }
+                if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_STRING) {
+                    if (token == JsonToken.VALUE_NUMBER_FLOAT && p.isNaN()) {
+                        return (Money) ctxt.handleWeirdNumberValue(Money.class, p.getNumberValue(), "not a finite amount");
+                    }
+                    if (token == JsonToken.VALUE_STRING && p.getTextLength() == 0) return null;
+                    return parse(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+                }
+            } catch (NumberFormatException | ArithmeticException e) {
+                return (Money) ctxt.handleWeirdStringValue(Money.class, p.getText(), e.getMessage());
+            }
+            return (Money) ctxt.handleUnexpectedToken(Money.class, p);
+        }
+    }
+}
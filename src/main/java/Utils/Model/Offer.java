@@ -0,0 +1,17 @@
+package Utils.Model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * An offer from Search ({@code offers[]}), FareConfirm ({@code selectedOffer}) or Book ({@code order}).
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record Offer(
+        String offerId,
+        List<String> offerJourneys,
+        List<PassengerFareBreakdown> passengerFareBreakdown,
+        PriceDetails priceDetails
+) {
+}
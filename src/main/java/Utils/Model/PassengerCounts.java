@@ -0,0 +1,111 @@
+package Utils.Model;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Requested passenger count per type, read once from the {@code passengers} list of a search payload:
+ * {@code [{"passengerTypeCode": "ADT", "count": 2}, ...]}.
+ * <p>
+ * ADT/CHD/INF counts live in an int array indexed by {@link PassengerType} ordinal; other codes are
+ * kept per code in a side map (null when the payload has none). Codes are matched case-insensitively.
+ */
+public final class PassengerCounts {
+
+    private static final int ABSENT = -1;
+
+    private final int[] counts = new int[PassengerType.COUNT];
+    private Map<String, Integer> otherCodes;
+
+    private PassengerCounts() {
+        Arrays.fill(counts, ABSENT);
+    }
+
+    /**
+     * Counts of the {@code passengers} list of a search payload.
+     */
+    @SuppressWarnings("unchecked")
+    public static PassengerCounts fromPayload(Map<String, Object> searchPayload) {
+        return of((List<Map<String, Object>>) searchPayload.get("passengers"));
+    }
+
+    /**
+     * Counts of a payload passengers list (later entries of the same type win, as with a map).
+     */
+    public static PassengerCounts of(List<Map<String, Object>> passengers) {
+        Objects.requireNonNull(passengers, "Search payload has no passengers list");
+        PassengerCounts result = new PassengerCounts();
+        for (Map<String, Object> pax : passengers) {
+            String code = String.valueOf(pax.get("passengerTypeCode"));
+            Object count = pax.get("count");
+            int value = count instanceof Number number ? number.intValue() : Integer.parseInt(String.valueOf(count));
+            result.put(code, value);
+        }
+        return result;
+    }
+
+    private void put(String code, int count) {
+        PassengerType type = PassengerType.of(code);
+        if (type != PassengerType.UNKNOWN) {
+            counts[type.ordinal()] = count;
+        } else {
+            if (otherCodes == null) otherCodes = new LinkedHashMap<>();
+            otherCodes.put(code.toUpperCase(), count);
+        }
+    }
+
+    /**
+     * Requested count for a passenger type code, or {@code fallback} when the payload does not request it.
+     */
+    public int get(String code, int fallback) {
+        PassengerType type = PassengerType.of(code);
+        if (type != PassengerType.UNKNOWN) {
+            int count = counts[type.ordinal()];
+            return count != ABSENT ? count : fallback;
+        }
+        if (otherCodes == null || code == null) return fallback;
+        return otherCodes.getOrDefault(code.toUpperCase(), fallback);
+    }
+
+    /** Requested count for a known type, or {@code fallback}. */
+    public int get(PassengerType type, int fallback) {
+        int count = counts[type.ordinal()];
+        return count != ABSENT ? count : fallback;
+    }
+
+    /** Whether the payload requests this passenger type code. */
+    public boolean contains(String code) {
+        return get(code, ABSENT) != ABSENT;
+    }
+
+    /** The requested passenger type codes, upper case (ADT/CHD/INF first). */
+    public Set<String> codes() {
+        Set<String> codes = new LinkedHashSet<>();
+        for (PassengerType type : PassengerType.values()) {
+            if (type != PassengerType.UNKNOWN && counts[type.ordinal()] != ABSENT) codes.add(type.name());
+        }
+        if (otherCodes != null) codes.addAll(otherCodes.keySet());
+        return codes;
+    }
+
+    /** e.g. {@code {ADT=2, CHD=1}} */
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        for (PassengerType type : PassengerType.values()) {
+            if (type != PassengerType.UNKNOWN && counts[type.ordinal()] != ABSENT) {
+                joiner.add(type + "=" + counts[type.ordinal()]);
+            }
+        }
+        if (otherCodes != null) {
+            otherCodes.forEach((code, count) -> joiner.add(code + "=" + count));
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,42 @@
+package Utils.Model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Fare breakdown of one passenger type inside an offer.
+ * <p>
+ * Search and FareConfirm use the {@code pax*} amount names, the Book order uses the
+ * {@code passenger*} names. Both sets are kept so each stage reads exactly the fields it returns.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PassengerFareBreakdown(
+        String passengerTypeCode,
+        Amount paxBaseAmount,
+        Amount paxTotalTaxAmount,
+        Amount passengerBaseAmount,
+        Amount passengerTaxesAmount,
+        Amount passengerTotalAmount,
+        Amount passengerDiscountAmount,
+        Amount passengerServiceChargeAmount,
+        List<TaxFee> taxesAndFees,
+        List<SegmentDetail> segmentDetails
+) {
+
+    /**
+     * Amount field by its JSON name (used by the priceDetails ↔ passenger field mapping).
+     */
+    public Amount amount(String field) {
+        return switch (field) {
+            case "paxBaseAmount" -> paxBaseAmount;
+            case "paxTotalTaxAmount" -> paxTotalTaxAmount;
+            case "passengerBaseAmount" -> passengerBaseAmount;
+            case "passengerTaxesAmount" -> passengerTaxesAmount;
+            case "passengerTotalAmount" -> passengerTotalAmount;
+            case "passengerDiscountAmount" -> passengerDiscountAmount;
+            case "passengerServiceChargeAmount" -> passengerServiceChargeAmount;
+            default -> null;
+        };
+    }
+}
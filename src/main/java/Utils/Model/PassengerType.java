@@ -0,0 +1,29 @@
+package Utils.Model;
+
+/**
+ * Passenger type codes used by the NDC API. Aggregations keep one primitive slot per type, indexed by
+ * {@link #ordinal()}, instead of maps keyed by the code string.
+ * Any other code (e.g. YTH, SRC) maps to {@link #UNKNOWN}; tables keep such codes in a side map per code.
+ */
+public enum PassengerType {
+    ADT,
+    CHD,
+    INF,
+    UNKNOWN;
+
+    /** Number of types, for arrays indexed by ordinal. */
+    public static final int COUNT = values().length;
+
+    private static final PassengerType[] VALUES = values();
+
+    /**
+     * Type of a passengerTypeCode (case-insensitive), {@link #UNKNOWN} for null or other codes.
+     */
+    public static PassengerType of(String code) {
+        if (code == null || code.length() != 3) return UNKNOWN;
+        for (int i = 0; i < UNKNOWN.ordinal(); i++) {
+            if (VALUES[i].name().equalsIgnoreCase(code)) return VALUES[i];
+        }
+        return UNKNOWN;
+    }
+}
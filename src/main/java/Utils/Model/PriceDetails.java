@@ -0,0 +1,38 @@
+package Utils.Model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Offer-level price totals.
+ * Search/FareConfirm return {@code total*Amount}; the Book order returns base/taxes/discount/serviceCharge.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PriceDetails(
+        Amount totalAmount,
+        Amount totalBaseAmount,
+        Amount totalTaxAmount,
+        Amount baseAmount,
+        Amount taxesAmount,
+        Amount discountAmount,
+        Amount serviceChargeAmount,
+        List<TaxFee> taxesAndFees
+) {
+
+    /**
+     * Amount field by its JSON name (used by the priceDetails ↔ passenger field mapping).
+     */
+    public Amount amount(String field) {
+        return switch (field) {
+            case "totalAmount" -> totalAmount;
+            case "totalBaseAmount" -> totalBaseAmount;
+            case "totalTaxAmount" -> totalTaxAmount;
+            case "baseAmount" -> baseAmount;
+            case "taxesAmount" -> taxesAmount;
+            case "discountAmount" -> discountAmount;
+            case "serviceChargeAmount" -> serviceChargeAmount;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package Utils.Model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Typed view of a Search API response: the offers plus the segment and journey dictionaries they reference.
+ * {@code priceClasses} and {@code baggageDetails} are only looked up by key and stay on the generic tree.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SearchResponse(
+        String responseId,
+        String supplier,
+        List<Offer> offers,
+        Map<String, FlightSegment> flightSegments,
+        Map<String, Journey> journeys
+) {
+}
@@ -0,0 +1,18 @@
+package Utils.Model;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Per-passenger details of one flight segment inside an offer.
+ * The Book response names the reference {@code segmentReferenceId}; it is bound to the same field.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SegmentDetail(
+        @JsonAlias("segmentReferenceId") String segmentRefId,
+        String rbd,
+        String priceClassRefId,
+        String baggageDetailsRefId,
+        String fareBasisCode
+) {
+}
@@ -0,0 +1,10 @@
+package Utils.Model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * A single entry of a {@code taxesAndFees} list (e.g. code "YQ" with its amount).
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record TaxFee(String code, Amount amount) {
+}
@@ -66,6 +66,20 @@ public class ReportManager {
         return extentTest.get();
     }
 
+    /**
+     * Binds an existing test instance to the current thread.
+     * Used by async continuations that run on a different thread than the test itself.
+     *
+     * @param test ExtentTest to bind, or {@code null} to clear the binding
+     */
+    public static void setTest(ExtentTest test) {
+        if (test == null) {
+            extentTest.remove();
+        } else {
+            extentTest.set(test);
+        }
+    }
+
     /**
      * Logs a breakdown of passenger counts (ADT, CHD, INF) to the Extent report and console.
      *
@@ -0,0 +1,167 @@
+package Utils.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A path template compiled once into accessor steps that walk the parsed Map/List tree directly.
+ * <p>
+ * Templates use the {@link ResponseView} path syntax. An index written as {@code [?]} is a slot filled
+ * from the arguments of {@link #read(Object, int...)}, in order, so loops reuse one compiled path instead
+ * of concatenating and re-parsing a new string per element:
+ * <pre>
+ *     private static final CompiledPath PAX_BASE_CURRENCY = CompiledPath.of("passengerFareBreakdown[?].paxBaseAmount.currency");
+ *     String currency = PAX_BASE_CURRENCY.readString(offer, j);
+ * </pre>
+ * A key applied to a list is projected over its elements (GPath style), as in {@link ResponseView#read(String)}.
+ * Compiled paths are immutable and cached per template, so they can be shared between threads.
+ */
+public final class CompiledPath {
+
+    /** Upper bound of the template cache; paths with literal indexes can produce many distinct strings. */
+    private static final int MAX_CACHED = 4096;
+    private static final Map<String, CompiledPath> CACHE = new ConcurrentHashMap<>();
+
+    private static final CompiledPath ROOT = new CompiledPath("$", new Step[0], 0);
+
+    private sealed interface Step permits Key, Index, Slot {
+    }
+
+    private record Key(String name) implements Step {
+    }
+
+    private record Index(int index) implements Step {
+    }
+
+    private record Slot(int argument) implements Step {
+    }
+
+    private final String template;
+    private final Step[] steps;
+    private final int slots;
+
+    private CompiledPath(String template, Step[] steps, int slots) {
+        this.template = template;
+        this.steps = steps;
+        this.slots = slots;
+    }
+
+    /**
+     * Returns the compiled accessor for a template, compiling it on first use.
+     *
+     * @param template dotted path with optional [index] or [?] steps; "$" or "" is the node itself
+     * @return cached compiled path
+     */
+    public static CompiledPath of(String template) {
+        if (template == null || template.isEmpty() || "$".equals(template)) return ROOT;
+
+        CompiledPath path = CACHE.get(template);
+        if (path != null) return path;
+
+        path = compile(template);
+        if (CACHE.size() < MAX_CACHED) {
+            CACHE.putIfAbsent(template, path);
+        }
+        return path;
+    }
+
+    private static CompiledPath compile(String template) {
+        List<Step> steps = new ArrayList<>();
+        int slots = 0;
+        int i = 0;
+        int len = template.length();
+        while (i < len) {
+            char c = template.charAt(i);
+            if (c == '.') {
+                i++;
+            } else if (c == '[') {
+                int close = template.indexOf(']', i);
+                if (close < 0) throw new IllegalArgumentException("Unclosed '[' in path: " + template);
+                String index = template.substring(i + 1, close).trim();
+                steps.add("?".equals(index) ? new Slot(slots++) : new Index(Integer.parseInt(index)));
+                i = close + 1;
+            } else {
+                int end = i;
+                while (end < len && template.charAt(end) != '.' && template.charAt(end) != '[') end++;
+                steps.add(new Key(template.substring(i, end)));
+                i = end;
+            }
+        }
+        return new CompiledPath(template, steps.toArray(new Step[0]), slots);
+    }
+
+    /**
+     * Reads the value at this path, starting from {@code node}.
+     *
+     * @param node    root of the walk (the parsed body, or an already resolved sub-node such as one offer)
+     * @param indexes values of the [?] slots, in template order
+     * @return the value, or null when any step is missing
+     */
+    public Object read(Object node, int... indexes) {
+        if (indexes.length != slots) {
+            throw new IllegalArgumentException("Path " + template + " expects " + slots + " indexes, got " + indexes.length);
+        }
+
+        Object current = node;
+        for (int s = 0; s < steps.length && current != null; s++) {
+            Step step = steps[s];
+            if (step instanceof Key key) {
+                current = key(current, key.name());
+            } else if (step instanceof Index index) {
+                current = index(current, index.index());
+            } else {
+                current = index(current, indexes[((Slot) step).argument()]);
+            }
+        }
+        return current;
+    }
+
+    /** {@link #read} as a string, or null when missing. */
+    public String readString(Object node, int... indexes) {
+        Object value = read(node, indexes);
+        return value != null ? value.toString() : null;
+    }
+
+    /** {@link #read} as a list, or null when missing or not a list. */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> readList(Object node, int... indexes) {
+        Object value = read(node, indexes);
+        return value instanceof List ? (List<T>) value : null;
+    }
+
+    /** {@link #read} as a map, or null when missing or not an object. */
+    @SuppressWarnings("unchecked")
+    public <K, V> Map<K, V> readMap(Object node, int... indexes) {
+        Object value = read(node, indexes);
+        return value instanceof Map ? (Map<K, V>) value : null;
+    }
+
+    private static Object index(Object node, int index) {
+        if (node instanceof List<?> list) {
+            if (index < 0) index += list.size();
+            return index >= 0 && index < list.size() ? list.get(index) : null;
+        }
+        return null;
+    }
+
+    private static Object key(Object node, String key) {
+        if (node instanceof Map<?, ?> map) {
+            return map.get(key);
+        }
+        if (node instanceof List<?> list) {
+            List<Object> projected = new ArrayList<>(list.size());
+            for (Object element : list) {
+                projected.add(key(element, key));
+            }
+            return projected;
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
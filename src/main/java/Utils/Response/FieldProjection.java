@@ -0,0 +1,254 @@
+package Utils.Response;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * The fields of a response the enabled checks read, used to parse only those.
+ * <p>
+ * Paths are dotted keys ({@code selectedOffer.offerId}); list steps ({@code []} or {@code [0]}) are ignored, a
+ * projection applies to every element of a list. A path keeps the whole subtree below its last key, and a
+ * {@code *} step keeps the whole map it is applied to. While parsing, fields outside every path are skipped at the
+ * token level ({@link JsonParser#skipChildren()}), so they are never turned into Maps, Lists or Strings.
+ * <p>
+ * Sections the checks read through the typed model are declared with {@link Builder#bind}. While the body is
+ * parsed, the tokens of such a section are buffered once; the typed model is bound from that buffer, and the Map
+ * form of the section is built from it too, only as far as {@link Builder#read} paths cover it. A section that is
+ * only bound is not kept in the Map tree. Bound sections are objects reached without a list step; the first one
+ * met is bound.
+ * <pre>
+ *     FieldProjection projection = FieldProjection.builder()
+ *             .read("responseId", "selectedOffer.offerId")
+ *             .bind("selectedOffer", Offer.class)
+ *             .read(FareConfirmAssertions.reads(selectedOfferFromSearch))
+ *             .build();
+ *     ResponseView view = ResponseView.of(response, projection);
+ * </pre>
+ */
+public final class FieldProjection {
+
+    /** Keeps every field (a plain parse). */
+    public static final FieldProjection ALL = new FieldProjection(null);
+
+    private final Node root;
+
+    /**
+     * Projection tree node. A {@code whole} node keeps its whole subtree in the Map tree; a node with a {@code type}
+     * is also bound to that type. Children are kept below whole nodes only when they lead to a binding.
+     * {@link #seal()} computes the two flags the parse reads for every value.
+     */
+    private static final class Node {
+        final Map<String, Node> children = new HashMap<>();
+        boolean whole;
+        Class<?> type;
+        boolean binds;
+        boolean keepsMap;
+
+        void add(List<String> keys, int from, Class<?> bindTo) {
+            if (from == keys.size()) {
+                if (bindTo != null) {
+                    type = bindTo;
+                } else {
+                    whole = true;
+                    children.values().removeIf(child -> child.type == null && child.children.isEmpty());
+                }
+                return;
+            }
+            if (whole && bindTo == null) return;
+            children.computeIfAbsent(keys.get(from), k -> new Node()).add(keys, from + 1, bindTo);
+        }
+
+        /** Computes {@code binds} (this node or one below is bound) and {@code keepsMap} (some of it is kept). */
+        Node seal() {
+            binds = type != null;
+            keepsMap = whole;
+            for (Node child : children.values()) {
+                child.seal();
+                binds |= child.binds;
+                keepsMap |= child.keepsMap;
+            }
+            return this;
+        }
+
+        /** The same node without its own binding, for building the Map form of a bound section. */
+        Node unbound() {
+            Node copy = new Node();
+            copy.whole = whole;
+            copy.children.putAll(children);
+            return copy.seal();
+        }
+    }
+
+    private FieldProjection(Node root) {
+        this.root = root;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** Whether every field is kept and nothing is bound (a plain parse). */
+    public boolean keepsAll() {
+        return root == null || (root.whole && !root.binds);
+    }
+
+    /**
+     * Whether the section at {@code path} is bound to {@code type} while parsing.
+     */
+    public boolean binds(String path, Class<?> type) {
+        Node node = root;
+        for (String key : keys(path)) {
+            node = node != null ? node.children.get(key) : null;
+        }
+        return node != null && node.type == type;
+    }
+
+    /** Key of a bound section in {@link Parsed#bound()}, e.g. "selectedOffer#Utils.Model.Offer". */
+    static String boundKey(String path, Class<?> type) {
+        return boundKey(keys(path), type);
+    }
+
+    private static String boundKey(List<String> keys, Class<?> type) {
+        return String.join(".", keys) + "#" + type.getName();
+    }
+
+    /**
+     * Collects the read paths and bound sections of a projection.
+     */
+    public static final class Builder {
+        private final Node root = new Node();
+
+        private Builder() {
+        }
+
+        public Builder read(String... paths) {
+            return read(Arrays.asList(paths));
+        }
+
+        public Builder read(Collection<String> paths) {
+            for (String path : paths) root.add(keys(path), 0, null);
+            return this;
+        }
+
+        /**
+         * Binds the section at {@code path} ("$" for the whole body) to a typed model while parsing. The section is
+         * kept in the Map tree only as far as {@link #read} paths cover it.
+         */
+        public Builder bind(String path, Class<?> type) {
+            root.add(keys(path), 0, type);
+            return this;
+        }
+
+        public FieldProjection build() {
+            return new FieldProjection(root.seal());
+        }
+    }
+
+    /** "offers[].segmentDetails[0].rbd" -> [offers, segmentDetails, rbd]; keys stop at "*" and "$" is the root. */
+    static List<String> keys(String path) {
+        List<String> keys = new ArrayList<>();
+        if (path == null || path.isEmpty() || "$".equals(path)) return keys;
+        for (String step : path.split("\\.")) {
+            int bracket = step.indexOf('[');
+            String key = bracket >= 0 ? step.substring(0, bracket) : step;
+            if ("*".equals(key)) break;
+            if (!key.isEmpty() && !"$".equals(key)) keys.add(key);
+        }
+        return keys;
+    }
+
+    /**
+     * Result of a parse: the Map/List tree of the read fields and the models of the bound sections.
+     *
+     * @param root  Map/List tree of the projected fields
+     * @param bound bound models by {@link #boundKey}; a bound section missing from the body has no entry
+     */
+    record Parsed(Object root, Map<String, Object> bound) {
+    }
+
+    /**
+     * Parses a body once, keeping only the projected fields and binding the declared sections.
+     *
+     * @param mapper mapper building the kept subtrees and the bound models (and canonicalizing their strings)
+     * @param body   JSON body
+     * @return the projected tree and the bound models
+     */
+    Parsed parse(ObjectMapper mapper, byte[] body) throws IOException {
+        if (keepsAll()) return new Parsed(mapper.readValue(body, Object.class), Map.of());
+        Map<String, Object> bound = new HashMap<>();
+        try (JsonParser parser = mapper.getFactory().createParser(body)) {
+            if (parser.nextToken() == null) return new Parsed(null, bound);
+            Object tree = read(mapper, parser, root, false, new ArrayList<>(), bound);
+            return new Parsed(tree == SKIPPED ? null : tree, bound);
+        }
+    }
+
+    /** Value of a node that only binds: nothing goes to the Map tree. */
+    private static final Object SKIPPED = new Object();
+
+    private static Object read(ObjectMapper mapper, JsonParser parser, Node node, boolean inWhole,
+                               List<String> keys, Map<String, Object> bound) throws IOException {
+        boolean whole = inWhole || node.whole;
+        if (node.type != null) {
+            return readBound(mapper, parser, node, whole, keys, bound);
+        }
+        JsonToken token = parser.currentToken();
+        if (token.isScalarValue() || (whole && !node.binds)) {
+            if (!whole && !node.keepsMap) return SKIPPED; // a scalar where only a bound section was expected
+            return mapper.readValue(parser, Object.class);
+        }
+        if (token == JsonToken.START_ARRAY) {
+            List<Object> list = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                Object element = read(mapper, parser, node, inWhole, keys, bound);
+                if (element != SKIPPED) list.add(element);
+            }
+            return whole || node.keepsMap ? list : SKIPPED;
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            Node child = node.children.get(field);
+            if (child == null) {
+                if (whole) map.put(field, mapper.readValue(parser, Object.class));
+                else parser.skipChildren();
+                continue;
+            }
+            keys.add(field);
+            Object value = read(mapper, parser, child, whole, keys, bound);
+            keys.remove(keys.size() - 1);
+            if (value != SKIPPED) map.put(field, value);
+        }
+        return whole || node.keepsMap ? map : SKIPPED;
+    }
+
+    /**
+     * Buffers the tokens of a bound section, binds the model from them and builds the Map form of the parts the
+     * read paths cover from the same buffer (the body itself is read once).
+     */
+    private static Object readBound(ObjectMapper mapper, JsonParser parser, Node node, boolean whole,
+                                    List<String> keys, Map<String, Object> bound) throws IOException {
+        TokenBuffer tokens = new TokenBuffer(parser);
+        tokens.copyCurrentStructure(parser);
+
+        String key = boundKey(keys, node.type);
+        if (!bound.containsKey(key)) {
+            try (JsonParser typed = tokens.asParser(mapper)) {
+                typed.nextToken();
+                bound.put(key, mapper.readValue(typed, node.type));
+            }
+        }
+        Node unbound = node.unbound();
+        if (!whole && !unbound.keepsMap && !unbound.binds) return SKIPPED;
+        try (JsonParser tree = tokens.asParser(mapper)) {
+            tree.nextToken();
+            return read(mapper, tree, unbound, whole, keys, bound);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package Utils.Response;
+
+import java.util.*;
+
+/**
+ * Finds null-like values (null, blank string, empty array, empty object) anywhere in a parsed JSON tree.
+ * <p>
+ * The tree is walked iteratively with a reusable stack of frames, and the JSON path of a value is only
+ * built when that value is reported, so a clean 10 MB response costs no strings at all. Fields that are
+ * allowed to be empty (e.g. {@code departureTerminal}) are matched against an {@link Allowlist}, a suffix
+ * trie over key names compiled once, instead of a chain of {@code endsWith} checks on the path string.
+ * A scan can be capped at a number of failures (values not on the allowlist): it stops walking at the first one
+ * past the cap, without building its path, so a broken response costs no more than the failures reported.
+ * <pre>
+ *     List&lt;NullLikeScanner.Issue&gt; issues = NullLikeScanner.scan(root, allowlist);
+ *     NullLikeScanner.Scan capped = NullLikeScanner.scan(root, allowlist, 100);
+ * </pre>
+ */
+public final class NullLikeScanner {
+
+    private NullLikeScanner() {
+    }
+
+    /** Kind of null-like value, in report order. */
+    public enum Kind {
+        NULL("NULL"),
+        EMPTY_STRING("EMPTY STRING"),
+        EMPTY_LIST("EMPTY LIST"),
+        EMPTY_OBJECT("EMPTY OBJECT");
+
+        private final String label;
+
+        Kind(String label) {
+            this.label = label;
+        }
+
+        /** e.g. "EMPTY STRING" */
+        public String label() {
+            return label;
+        }
+    }
+
+    /**
+     * One null-like value.
+     *
+     * @param kind    what was found
+     * @param path    JSON path, e.g. {@code $.flightSegments.SEG1.departureTerminal}
+     * @param allowed whether the field is on the allowlist (report as a warning only)
+     */
+    public record Issue(Kind kind, String path, boolean allowed) {
+
+        /** Report order: by kind, then by path. */
+        public static final Comparator<Issue> REPORT_ORDER =
+                Comparator.comparing(Issue::kind).thenComparing(Issue::path);
+
+        /** e.g. {@code [TC.18] ❌ NULL found at path: $.offers[0].x} */
+        public String message() {
+            return "[TC.18] ❌ " + kind.label() + " found at path: " + path;
+        }
+
+        @Override
+        public String toString() {
+            return message();
+        }
+    }
+
+    /**
+     * Result of a capped scan.
+     *
+     * @param issues  null-like values found, in document order
+     * @param stopped whether a failure past the cap was found: the scan stopped there and the rest of the tree
+     *                was not walked
+     */
+    public record Scan(List<Issue> issues, boolean stopped) {
+    }
+
+    /**
+     * Scans a tree and returns every null-like value, in document order.
+     *
+     * @param root      parsed JSON (Map/List/scalar), reported as "$"
+     * @param allowlist fields reported as allowed
+     */
+    public static List<Issue> scan(Object root, Allowlist allowlist) {
+        return scan(root, allowlist, 0).issues();
+    }
+
+    /**
+     * Scans a tree until more than {@code maxFailures} values not on the allowlist are found.
+     *
+     * @param root        parsed JSON (Map/List/scalar), reported as "$"
+     * @param allowlist   fields reported as allowed
+     * @param maxFailures failures kept; 0 or less scans the whole tree
+     * @return the issues up to the cap (allowed ones included), and whether the scan stopped at it
+     */
+    public static Scan scan(Object root, Allowlist allowlist, int maxFailures) {
+        List<Issue> issues = new ArrayList<>();
+        Walk walk = new Walk(allowlist, issues, maxFailures);
+        walk.run(root);
+        return new Scan(issues, walk.stopped);
+    }
+
+    /**
+     * Suffix trie of dotted key paths, matched against the end of a value's path. List indexes are skipped,
+     * so {@code segmentDetails.fareBasisCode} matches {@code $.offers[3].passengerFareBreakdown[0].segmentDetails[1].fareBasisCode}.
+     * A single key such as {@code discount} matches that key at any depth.
+     */
+    public static final class Allowlist {
+
+        /** Matches nothing. */
+        public static final Allowlist EMPTY = compile(List.of());
+
+        private static final class Node {
+            final Map<String, Node> children = new HashMap<>(4);
+            boolean terminal;
+        }
+
+        private final Node root;
+        private final List<String> entries;
+
+        private Allowlist(Node root, List<String> entries) {
+            this.root = root;
+            this.entries = entries;
+        }
+
+        /**
+         * @param entries dotted key suffixes, e.g. "departureTerminal" or "priceDetails.discount"
+         */
+        public static Allowlist compile(Collection<String> entries) {
+            Node root = new Node();
+            List<String> kept = new ArrayList<>(entries.size());
+            for (String entry : entries) {
+                if (entry == null || entry.isBlank()) continue;
+                String[] keys = entry.trim().split("\\.");
+                Node node = root;
+                for (int i = keys.length - 1; i >= 0; i--) {
+                    node = node.children.computeIfAbsent(keys[i], k -> new Node());
+                }
+                node.terminal = true;
+                kept.add(entry.trim());
+            }
+            return new Allowlist(root, List.copyOf(kept));
+        }
+
+        /** This allowlist plus more entries. */
+        public Allowlist with(Collection<String> more) {
+            if (more.isEmpty()) return this;
+            List<String> all = new ArrayList<>(entries);
+            all.addAll(more);
+            return compile(all);
+        }
+
+        public List<String> entries() {
+            return entries;
+        }
+
+        /**
+         * Whether the path ending with {@code keys[0..depth)} (null entries are list indexes) is allowed.
+         * The last step must be a key.
+         */
+        boolean matches(String[] keys, int depth) {
+            if (depth == 0 || keys[depth - 1] == null) return false;
+            Node node = root;
+            for (int i = depth - 1; i >= 0; i--) {
+                if (keys[i] == null) continue;
+                node = node.children.get(keys[i]);
+                if (node == null) return false;
+                if (node.terminal) return true;
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return entries.toString();
+        }
+    }
+
+    /**
+     * Iterative depth-first walk. Frame {@code d} holds the container at depth {@code d} and how far it has
+     * been visited; {@code keys[d]}/{@code indexes[d]} hold the step from it to the child being visited.
+     */
+    private static final class Walk {
+        private final Allowlist allowlist;
+        private final List<Issue> issues;
+        private final int maxFailures;
+        private int failures;
+        private boolean stopped;
+
+        private Object[] containers = new Object[16];
+        private Iterator<?>[] iterators = new Iterator<?>[16];
+        private String[] keys = new String[16];
+        private int[] indexes = new int[16];
+        private int depth;
+
+        Walk(Allowlist allowlist, List<Issue> issues, int maxFailures) {
+            this.allowlist = allowlist;
+            this.issues = issues;
+            this.maxFailures = maxFailures;
+        }
+
+        void run(Object root) {
+            if (visit(root)) push(root);
+
+            while (depth > 0 && !stopped) {
+                int top = depth - 1;
+                Object container = containers[top];
+                Object child;
+                if (container instanceof Map) {
+                    Iterator<?> entries = iterators[top];
+                    if (!entries.hasNext()) {
+                        pop();
+                        continue;
+                    }
+                    Map.Entry<?, ?> entry = (Map.Entry<?, ?>) entries.next();
+                    keys[top] = String.valueOf(entry.getKey());
+                    child = entry.getValue();
+                } else {
+                    List<?> list = (List<?>) container;
+                    int next = indexes[top] + 1;
+                    if (next >= list.size()) {
+                        pop();
+                        continue;
+                    }
+                    indexes[top] = next;
+                    child = list.get(next);
+                }
+
+                if (visit(child)) push(child);
+            }
+        }
+
+        /** Reports the node if null-like; returns true when it is a non-empty container to descend into. */
+        private boolean visit(Object node) {
+            if (node == null) {
+                report(Kind.NULL);
+            } else if (node instanceof String text) {
+                if (isBlank(text)) report(Kind.EMPTY_STRING);
+            } else if (node instanceof List<?> list) {
+                if (list.isEmpty()) report(Kind.EMPTY_LIST);
+                else return true;
+            } else if (node instanceof Map<?, ?> map) {
+                if (map.isEmpty()) report(Kind.EMPTY_OBJECT);
+                else return true;
+            }
+            return false;
+        }
+
+        /** Same as {@code text.trim().isEmpty()}, without the copy. */
+        private static boolean isBlank(String text) {
+            for (int i = 0; i < text.length(); i++) {
+                if (text.charAt(i) > ' ') return false;
+            }
+            return true;
+        }
+
+        private void push(Object container) {
+            if (depth == containers.length) {
+                int size = depth * 2;
+                containers = Arrays.copyOf(containers, size);
+                iterators = Arrays.copyOf(iterators, size);
+                keys = Arrays.copyOf(keys, size);
+                indexes = Arrays.copyOf(indexes, size);
+            }
+            containers[depth] = container;
+            if (container instanceof Map<?, ?> map) {
+                iterators[depth] = map.entrySet().iterator();
+            } else {
+                iterators[depth] = null;
+                indexes[depth] = -1;
+            }
+            keys[depth] = null;
+            depth++;
+        }
+
+        private void pop() {
+            depth--;
+            containers[depth] = null;
+            iterators[depth] = null;
+        }
+
+        private void report(Kind kind) {
+            boolean allowed = allowlist.matches(keys, depth);
+            if (!allowed && maxFailures > 0 && failures == maxFailures) {
+                stopped = true;
+                return;
+            }
+            if (!allowed) failures++;
+            issues.add(new Issue(kind, path(), allowed));
+        }
+
+        /** Path of the node currently being visited, e.g. $.offers[0].offerId */
+        private String path() {
+            StringBuilder sb = new StringBuilder(64).append('$');
+            for (int d = 0; d < depth; d++) {
+                if (containers[d] instanceof Map) {
+                    sb.append('.').append(keys[d]);
+                } else {
+                    sb.append('[').append(indexes[d]).append(']');
+                }
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package Utils.Response;
+
+import Utils.Model.Amount;
+import Utils.Model.BreakdownTotals;
+import Utils.Model.Money;
+import Utils.Model.Offer;
+import Utils.Model.PassengerFareBreakdown;
+import Utils.Model.PriceDetails;
+import Utils.Model.SegmentDetail;
+
+import java.util.*;
+
+/**
+ * Compact summary of the offer a flow is booking, computed once per stage (Search → FareConfirm → Book → Retrieve).
+ * <p>
+ * Each stage used to keep the whole previous payload (the Search offer map, the FareConfirm response saved to
+ * disk, the saved Book map) only to compare a few values against it. The fingerprint keeps just those values:
+ * the price totals, the amounts per passenger type, the segment/RBD/price class/baggage tuples of every
+ * passenger type, and structural hashes of the journeys, segments and baggageDetails sections. Its size depends
+ * on the number of passenger types and segments, not on the size of the response.
+ * <p>
+ * A Search offer has no top-level sections of its own, so its hashes are null and are not compared. The other
+ * stages only hash the sections, and record the passenger type codes, when a later check compares them.
+ *
+ * @param totalAmount        priceDetails.totalAmount, null when absent
+ * @param totalBaseAmount    priceDetails.totalBaseAmount (Book: baseAmount), null when absent
+ * @param totalTaxAmount     priceDetails.totalTaxAmount (Book: taxesAmount), null when absent
+ * @param breakdown          one entry per passenger type, in passengerFareBreakdown order
+ * @param journeysHash       hash of {@code journeys} without bundleReferenceIds, null when not available
+ * @param segmentsHash       hash of {@code segments}, null when not available
+ * @param baggageDetailsHash hash of {@code baggageDetails}, null when not available
+ * @param passengerTypeCodes {@code Passengers} key → PassengerTypeCode, empty when the response has none
+ */
+public record OfferFingerprint(Money totalAmount,
+                               Money totalBaseAmount,
+                               Money totalTaxAmount,
+                               List<PassengerFingerprint> breakdown,
+                               StructuralHash journeysHash,
+                               StructuralHash segmentsHash,
+                               StructuralHash baggageDetailsHash,
+                               Map<String, String> passengerTypeCodes) {
+
+    /**
+     * Amounts and segments of one passenger type.
+     *
+     * @param passengerTypeCode e.g. "ADT"
+     * @param count             number of breakdown entries of the type (Search/FareConfirm: 1, Book: one per passenger)
+     * @param baseAmount        sum of the base amounts of those entries (pax* or passenger* names)
+     * @param taxAmount         sum of the tax amounts of those entries
+     * @param segments          segment tuples of the first entry of the type, in segmentDetails order
+     */
+    public record PassengerFingerprint(String passengerTypeCode, int count,
+                                       Money baseAmount, Money taxAmount,
+                                       List<SegmentKey> segments) {
+    }
+
+    /**
+     * What a passenger type is sold on one segment.
+     */
+    public record SegmentKey(String segmentRefId, String rbd, String priceClassRefId, String baggageDetailsRefId) {
+
+        /** e.g. SEG1/Y/PC1/BAG1 */
+        @Override
+        public String toString() {
+            return segmentRefId + "/" + rbd + "/" + priceClassRefId + "/" + baggageDetailsRefId;
+        }
+    }
+
+    /**
+     * Fingerprint of a Search offer (no top-level sections).
+     *
+     * @param offer bound offer, may be null (empty fingerprint)
+     */
+    public static OfferFingerprint of(Offer offer) {
+        return of(offer, null, null, null, Map.of());
+    }
+
+    /**
+     * Fingerprint of the offer at {@code offerPath} of a FareConfirm ("selectedOffer"), Book or Retrieve ("order")
+     * response. The sections and Passengers are only read when asked for, and must then be in the projection
+     * ({@link #project}).
+     *
+     * @param sections   hash the journeys, segments and baggageDetails sections of the response (else null hashes)
+     * @param passengers record the PassengerTypeCode of each {@code Passengers} entry (else empty)
+     * @return the fingerprint, or null when the response has no offer at that path
+     */
+    public static OfferFingerprint of(ResponseView view, String offerPath, boolean sections, boolean passengers) {
+        Offer offer = view.offer(offerPath);
+        if (offer == null) return null;
+        if (!sections) {
+            return of(offer, null, null, null, passengers ? passengerTypeCodes(view.getMap("Passengers")) : Map.of());
+        }
+
+        Map<String, Object> journeys = view.getMap("journeys");
+        Object segments = view.read("segments");
+        Object baggageDetails = view.read("baggageDetails");
+        return of(offer,
+                journeys != null ? StructuralHash.of(withoutBundleReferenceIds(journeys)) : null,
+                segments != null ? StructuralHash.of(segments) : null,
+                baggageDetails != null ? StructuralHash.of(baggageDetails) : null,
+                passengers ? passengerTypeCodes(view.getMap("Passengers")) : Map.of());
+    }
+
+    /**
+     * Declares what {@link #of(ResponseView, String, boolean, boolean)} reads in a projection: the offer at
+     * {@code offerPath}, bound to {@link Offer} (it is not added to the Map tree for the fingerprint), and the
+     * sections and Passengers when the fingerprint records them.
+     *
+     * @param fields     projection of the response
+     * @param offerPath  "selectedOffer" (FareConfirm) or "order" (Book, Retrieve)
+     * @param sections   read journeys, segments and baggageDetails for their hashes
+     * @param passengers read Passengers for the type codes
+     * @return {@code fields}
+     */
+    public static FieldProjection.Builder project(FieldProjection.Builder fields, String offerPath,
+                                                  boolean sections, boolean passengers) {
+        fields.bind(offerPath, Offer.class);
+        if (sections) fields.read("journeys", "segments", "baggageDetails");
+        if (passengers) fields.read("Passengers");
+        return fields;
+    }
+
+    private static OfferFingerprint of(Offer offer, StructuralHash journeysHash, StructuralHash segmentsHash,
+                                       StructuralHash baggageDetailsHash, Map<String, String> passengerTypeCodes) {
+        PriceDetails price = offer != null ? offer.priceDetails() : null;
+        List<PassengerFareBreakdown> paxList = offer != null && offer.passengerFareBreakdown() != null
+                ? offer.passengerFareBreakdown() : List.of();
+
+        return new OfferFingerprint(
+                price != null ? money(price.totalAmount()) : null,
+                price != null ? money(firstPresent(price.totalBaseAmount(), price.baseAmount())) : null,
+                price != null ? money(firstPresent(price.totalTaxAmount(), price.taxesAmount())) : null,
+                breakdown(paxList),
+                journeysHash, segmentsHash, baggageDetailsHash,
+                passengerTypeCodes);
+    }
+
+    /** Passenger fingerprint of a type code, or null. */
+    public PassengerFingerprint passenger(String passengerTypeCode) {
+        for (PassengerFingerprint pax : breakdown) {
+            if (Objects.equals(pax.passengerTypeCode(), passengerTypeCode)) return pax;
+        }
+        return null;
+    }
+
+    private static List<PassengerFingerprint> breakdown(List<PassengerFareBreakdown> paxList) {
+        // Entries of the same type are summed (the Book order has one entry per passenger)
+        BreakdownTotals totals = BreakdownTotals.of(paxList);
+        List<PassengerFingerprint> breakdown = new ArrayList<>(totals.firstEntries().size());
+        for (PassengerFareBreakdown first : totals.firstEntries()) {
+            String code = first.passengerTypeCode();
+            breakdown.add(new PassengerFingerprint(code, totals.count(code),
+                    totals.baseAmount(code), totals.taxAmount(code), segments(first.segmentDetails())));
+        }
+        return List.copyOf(breakdown);
+    }
+
+    private static List<SegmentKey> segments(List<SegmentDetail> details) {
+        if (details == null) return List.of();
+        List<SegmentKey> keys = new ArrayList<>(details.size());
+        for (SegmentDetail detail : details) {
+            if (detail == null) continue;
+            keys.add(new SegmentKey(detail.segmentRefId(), detail.rbd(),
+                    detail.priceClassRefId(), detail.baggageDetailsRefId()));
+        }
+        return List.copyOf(keys);
+    }
+
+    private static Map<String, Object> withoutBundleReferenceIds(Map<String, Object> journeys) {
+        Map<String, Object> cleaned = new HashMap<>(journeys.size() * 2);
+        for (Map.Entry<String, Object> entry : journeys.entrySet()) {
+            if (entry.getValue() instanceof Map<?, ?> journey && journey.containsKey("bundleReferenceIds")) {
+                Map<Object, Object> copy = new HashMap<>(journey);
+                copy.remove("bundleReferenceIds");
+                cleaned.put(entry.getKey(), copy);
+            } else {
+                cleaned.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return cleaned;
+    }
+
+    private static Map<String, String> passengerTypeCodes(Map<String, Object> passengers) {
+        if (passengers == null) return Map.of();
+        Map<String, String> codes = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : passengers.entrySet()) {
+            Object code = entry.getValue() instanceof Map<?, ?> passenger ? passenger.get("PassengerTypeCode") : null;
+            codes.put(entry.getKey(), code != null ? code.toString() : null);
+        }
+        return Collections.unmodifiableMap(codes);
+    }
+
+    private static Amount firstPresent(Amount first, Amount second) {
+        return first != null ? first : second;
+    }
+
+    private static Money money(Amount amount) {
+        return amount != null ? amount.amount() : null;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("OfferFingerprint[total=").append(totalAmount);
+        for (PassengerFingerprint pax : breakdown) {
+            sb.append(", ").append(pax.passengerTypeCode()).append('×').append(pax.count())
+                    .append(" base=").append(pax.baseAmount())
+                    .append(" tax=").append(pax.taxAmount())
+                    .append(' ').append(pax.segments());
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,299 @@
+package Utils.Response;
+
+import Utils.Model.Offer;
+import Utils.Model.SearchResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Read-only view over an API response whose body is parsed exactly once.
+ * <p>
+ * {@code response.jsonPath()} re-parses the whole body on every call, and the search
+ * assertions used to call it 20+ times per response. The view parses the body once with
+ * Jackson into a plain Map/List tree and every check reads from that shared tree. Short string values
+ * (codes, reference ids) are shared through the {@link SymbolTable} while parsing. A view can also be parsed
+ * with a {@link FieldProjection}, keeping only the fields the enabled checks read.
+ * The original RestAssured {@link Response} is kept for status code and printing.
+ * <p>
+ * Paths use the same dotted/indexed syntax the assertions already use with JsonPath,
+ * e.g. {@code offers[0].priceDetails.totalAmount}. A key applied to a list is projected over
+ * its elements (GPath style), so {@code offers.offerId} returns the list of offer ids.
+ * Paths are compiled once into {@link CompiledPath} accessors; code reading inside loops should hold
+ * a {@link CompiledPath} template with [?] slots instead of building a path string per element.
+ * <p>
+ * Sections can also be bound to the typed records in {@code Utils.Model} ({@link #offer(String)}). They are declared in the projection ({@link FieldProjection.Builder#bind}) and bound
+ * while the body is parsed, from the buffered tokens of their section: the body is read once, whatever is bound.
+ * A bound section is kept in the Map tree only as far as the read paths of the projection cover it, so the
+ * FareConfirm and Book offers are held as Maps only for the checks that walk them generically (currencies, rules).
+ * A Search view is a plain parse: the null scan, offer uniqueness, the currency scan and the rules walk every field
+ * of the response, so offers[] is parsed once, as Maps. {@link #search()} binds the small dictionaries from that tree
+ * and converts each offer to its record on first read, once; every typed caller shares that record.
+ * Search responses also expose their reference indexes through {@link #index()} and their parsed
+ * segment times through {@link #timeline()}.
+ */
+public class ResponseView {
+
+    private static final ObjectMapper MAPPER = SymbolTable.canonicalizingMapper();
+
+    private final Response response;
+    private final FieldProjection projection;
+    private final Object root;
+    private final Map<String, Object> boundModels;
+    private final SearchResponse search;
+    private volatile SearchIndex searchIndex;
+    private volatile SegmentTimeline segmentTimeline;
+
+    private ResponseView(Response response, FieldProjection projection, FieldProjection.Parsed parsed,
+                         SearchResponse search) {
+        this.response = response;
+        this.projection = projection;
+        this.root = parsed.root();
+        this.boundModels = parsed.bound();
+        this.search = search;
+    }
+
+    /**
+     * Parses the response body once and wraps it in a view.
+     *
+     * @param response RestAssured response
+     * @return view sharing a single parsed tree
+     */
+    public static ResponseView of(Response response) {
+        return of(response, FieldProjection.ALL);
+    }
+
+    /**
+     * Parses only the projected fields of the response body, and binds the sections the projection declares;
+     * every other field reads as missing.
+     *
+     * @param response   RestAssured response
+     * @param projection fields the checks of this response read and sections they read typed
+     * @return view over the projected tree
+     */
+    public static ResponseView of(Response response, FieldProjection projection) {
+        return new ResponseView(response, projection, parse(response.asByteArray(), projection), null);
+    }
+
+    /**
+     * Parses a Search response: the whole tree, for the whole-response checks, from which {@link #search()} reads
+     * the typed records the offer checks use.
+     *
+     * @param response RestAssured response
+     * @return view over the whole tree, with {@link #search()} available
+     */
+    public static ResponseView ofSearch(Response response) {
+        FieldProjection.Parsed parsed = parse(response.asByteArray(), FieldProjection.ALL);
+        return new ResponseView(response, FieldProjection.ALL, parsed, searchOf(parsed.root()));
+    }
+
+    /**
+     * The typed Search response over a parsed tree: everything but offers[] is bound now, each offer is converted
+     * from its Map on first read ({@link TypedOffers}).
+     */
+    private static SearchResponse searchOf(Object root) {
+        Map<String, Object> withoutOffers = new LinkedHashMap<>();
+        if (root instanceof Map<?, ?> map) map.forEach((key, value) -> withoutOffers.put(String.valueOf(key), value));
+        Object offers = withoutOffers.remove("offers");
+        SearchResponse search = MAPPER.convertValue(withoutOffers, SearchResponse.class);
+        return new SearchResponse(search.responseId(), search.supplier(),
+                offers instanceof List<?> list ? new TypedOffers(list) : null,
+                search.flightSegments(), search.journeys());
+    }
+
+    /**
+     * offers[] of a Search tree read as {@link Offer} records. An offer is converted on its first {@link #get} and
+     * the record is kept, so the index, the engine's walks and the helpers share one record per offer.
+     */
+    private static final class TypedOffers extends AbstractList<Offer> implements RandomAccess {
+        private final List<?> offers;
+        private final AtomicReferenceArray<Offer> records;
+
+        TypedOffers(List<?> offers) {
+            this.offers = offers;
+            this.records = new AtomicReferenceArray<>(offers.size());
+        }
+
+        @Override
+        public Offer get(int index) {
+            Offer offer = records.get(index);
+            if (offer == null) {
+                offer = convert(offers.get(index), Offer.class);
+                if (!records.compareAndSet(index, null, offer)) offer = records.get(index);
+            }
+            return offer;
+        }
+
+        @Override
+        public int size() {
+            return records.length();
+        }
+    }
+
+    private static FieldProjection.Parsed parse(byte[] body, FieldProjection projection) {
+        if (body == null || body.length == 0) return new FieldProjection.Parsed(null, Map.of());
+        try {
+            return projection.parse(MAPPER, body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Response body is not valid JSON: " + e.getMessage(), e);
+        }
+    }
+
+    /** The underlying RestAssured response. */
+    public Response response() {
+        return response;
+    }
+
+    /** The whole parsed body as a map (empty map if the body is not a JSON object). */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> root() {
+        return root instanceof Map ? (Map<String, Object>) root : Collections.emptyMap();
+    }
+
+    /**
+     * Reads the value at the given path.
+     *
+     * @param path dotted path with optional [index] steps; "$" or "" returns the root
+     * @return the value, or null when any step is missing
+     */
+    public Object read(String path) {
+        return CompiledPath.of(path).read(root);
+    }
+
+    /**
+     * Reads the value at a compiled path, filling its [?] slots with {@code indexes}.
+     *
+     * @param path    compiled path template
+     * @param indexes values of the [?] slots, in template order
+     * @return the value, or null when any step is missing
+     */
+    public Object read(CompiledPath path, int... indexes) {
+        return path.read(root, indexes);
+    }
+
+    public String getString(CompiledPath path, int... indexes) {
+        return path.readString(root, indexes);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getList(String path) {
+        Object value = read(path);
+        return value instanceof List ? (List<T>) value : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <K, V> Map<K, V> getMap(String path) {
+        Object value = read(path);
+        return value instanceof Map ? (Map<K, V>) value : null;
+    }
+
+    public String getString(String path) {
+        Object value = read(path);
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * The typed model the section at {@code path} was bound to while parsing.
+     *
+     * @param path dotted path ("$" for the whole body), as declared in the projection
+     * @param type record type it was bound to
+     * @return the bound model, or null when the section is missing
+     * @throws IllegalStateException when the projection of this view does not bind the section to {@code type}
+     */
+    public <T> T bind(String path, Class<T> type) {
+        if (!projection.binds(path, type)) {
+            throw new IllegalStateException("Response section '" + path + "' is not bound to " + type.getSimpleName()
+                    + " by the projection of this view");
+        }
+        return type.cast(boundModels.get(FieldProjection.boundKey(path, type)));
+    }
+
+    /**
+     * Typed Search response (offers, flightSegments, journeys), for views parsed with {@link #ofSearch}.
+     *
+     * @throws IllegalStateException when the view was not parsed with {@link #ofSearch}
+     */
+    public SearchResponse search() {
+        if (search == null) {
+            throw new IllegalStateException("Response view was not parsed with ResponseView.ofSearch");
+        }
+        return search;
+    }
+
+    /**
+     * Typed offer at the given path, e.g. "selectedOffer" (FareConfirm) or "order" (Book), for views whose
+     * projection binds it ({@link OfferFingerprint#project}).
+     */
+    public Offer offer(String path) {
+        return bind(path, Offer.class);
+    }
+
+    /** Reference indexes of a Search response, built on first use. */
+    public SearchIndex index() {
+        SearchIndex index = searchIndex;
+        if (index == null) {
+            synchronized (this) {
+                if (searchIndex == null) {
+                    searchIndex = SearchIndex.of(this);
+                }
+                index = searchIndex;
+            }
+        }
+        return index;
+    }
+
+    /** Segment times and per-journey segment order of a Search response, built on first use. */
+    public SegmentTimeline timeline() {
+        SegmentTimeline timeline = segmentTimeline;
+        if (timeline == null) {
+            synchronized (this) {
+                if (segmentTimeline == null) {
+                    segmentTimeline = SegmentTimeline.of(this);
+                }
+                timeline = segmentTimeline;
+            }
+        }
+        return timeline;
+    }
+
+    /**
+     * Binds an arbitrary parsed node (e.g. a saved FareConfirm map) to a typed model.
+     */
+    public static <T> T convert(Object node, Class<T> type) {
+        return node != null ? MAPPER.convertValue(node, type) : null;
+    }
+
+    // ---- Shortcuts for the top-level sections every search check reads ----
+
+    public List<Map<String, Object>> offers() {
+        return getList("offers");
+    }
+
+    public Map<String, Map<String, Object>> flightSegments() {
+        return getMap("flightSegments");
+    }
+
+    public Map<String, Map<String, Object>> journeys() {
+        return getMap("journeys");
+    }
+
+    public Map<String, Object> priceClasses() {
+        return getMap("priceClasses");
+    }
+
+    public Map<String, Map<String, String>> baggageDetails() {
+        return getMap("baggageDetails");
+    }
+
+    public Map<String, Object> selectedOffer() {
+        return getMap("selectedOffer");
+    }
+}
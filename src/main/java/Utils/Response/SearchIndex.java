@@ -0,0 +1,153 @@
+package Utils.Response;
+
+import Utils.Model.*;
+
+import java.util.*;
+
+/**
+ * Reference indexes over a Search response, built once per {@link ResponseView}.
+ * <p>
+ * Offers point at the root dictionaries through ids (segmentRefId, priceClassRefId, baggageDetailsRefId,
+ * offerJourneys). Looking an offer up by carrier used to scan every segment × offer × passenger ×
+ * segment detail; with the index each lookup is a map get.
+ * <p>
+ * Offers are identified by their position in {@code offers[]}; every list is in response order.
+ */
+public class SearchIndex {
+
+    private final List<Offer> offers;
+    private final Map<String, FlightSegment> segments;
+    private final Map<String, Journey> journeys;
+    private final Set<String> priceClassIds;
+    private final Set<String> baggageIds;
+
+    private final Map<String, List<Integer>> offersBySegment = new HashMap<>();
+    private final Map<String, List<Integer>> offersByPriceClass = new HashMap<>();
+    private final Map<String, List<Integer>> offersByBaggage = new HashMap<>();
+    private final Map<String, List<String>> segmentsByCarrier = new HashMap<>();
+    private final Map<String, List<String>> segmentsByJourney = new HashMap<>();
+
+    private SearchIndex(SearchResponse search, Set<String> priceClassIds, Set<String> baggageIds) {
+        this.offers = search.offers() != null ? search.offers() : List.of();
+        this.segments = search.flightSegments() != null ? search.flightSegments() : Map.of();
+        this.journeys = search.journeys() != null ? search.journeys() : Map.of();
+        this.priceClassIds = priceClassIds;
+        this.baggageIds = baggageIds;
+
+        for (int i = 0; i < offers.size(); i++) {
+            List<PassengerFareBreakdown> breakdowns = offers.get(i).passengerFareBreakdown();
+            if (breakdowns == null) continue;
+
+            for (PassengerFareBreakdown breakdown : breakdowns) {
+                if (breakdown.segmentDetails() == null) continue;
+
+                for (SegmentDetail detail : breakdown.segmentDetails()) {
+                    addOffer(offersBySegment, detail.segmentRefId(), i);
+                    addOffer(offersByPriceClass, detail.priceClassRefId(), i);
+                    addOffer(offersByBaggage, detail.baggageDetailsRefId(), i);
+                }
+            }
+        }
+
+        for (Map.Entry<String, FlightSegment> entry : segments.entrySet()) {
+            FlightSegment segment = entry.getValue();
+            if (segment == null) continue;
+
+            addSegment(segmentsByCarrier, segment.marketingCarrierCode(), entry.getKey());
+            if (!Objects.equals(segment.marketingCarrierCode(), segment.operatingCarrierCode())) {
+                addSegment(segmentsByCarrier, segment.operatingCarrierCode(), entry.getKey());
+            }
+        }
+
+        for (Map.Entry<String, Journey> entry : journeys.entrySet()) {
+            Journey journey = entry.getValue();
+            segmentsByJourney.put(entry.getKey(),
+                    journey != null && journey.segmentRefIds() != null ? journey.segmentRefIds() : List.of());
+        }
+    }
+
+    /**
+     * Builds the index of a parsed Search response.
+     */
+    public static SearchIndex of(ResponseView view) {
+        Map<String, Object> priceClasses = view.priceClasses();
+        Map<String, Map<String, String>> baggageDetails = view.baggageDetails();
+        return new SearchIndex(view.search(),
+                priceClasses != null ? priceClasses.keySet() : Set.of(),
+                baggageDetails != null ? baggageDetails.keySet() : Set.of());
+    }
+
+    private static void addOffer(Map<String, List<Integer>> index, String key, int offerIndex) {
+        if (key == null) return;
+        List<Integer> list = index.computeIfAbsent(key, k -> new ArrayList<>());
+        // an offer references the same id once per passenger type; keep it once
+        if (list.isEmpty() || list.get(list.size() - 1) != offerIndex) {
+            list.add(offerIndex);
+        }
+    }
+
+    private static void addSegment(Map<String, List<String>> index, String carrier, String segmentRefId) {
+        if (carrier == null) return;
+        index.computeIfAbsent(carrier, k -> new ArrayList<>()).add(segmentRefId);
+    }
+
+    // ---- Offer lookups ----
+
+    /** Indexes of the offers whose segment details reference the segment. */
+    public List<Integer> offersReferencingSegment(String segmentRefId) {
+        return offersBySegment.getOrDefault(segmentRefId, List.of());
+    }
+
+    /** Indexes of the offers whose segment details reference the price class. */
+    public List<Integer> offersWithPriceClass(String priceClassRefId) {
+        return offersByPriceClass.getOrDefault(priceClassRefId, List.of());
+    }
+
+    /** Indexes of the offers whose segment details reference the baggage details entry. */
+    public List<Integer> offersWithBaggage(String baggageDetailsRefId) {
+        return offersByBaggage.getOrDefault(baggageDetailsRefId, List.of());
+    }
+
+    public Offer offer(int index) {
+        return offers.get(index);
+    }
+
+    public int offerCount() {
+        return offers.size();
+    }
+
+    // ---- Segment lookups ----
+
+    /** Segment ids where the carrier is the marketing or the operating carrier. */
+    public List<String> segmentsForCarrier(String carrierCode) {
+        return segmentsByCarrier.getOrDefault(carrierCode, List.of());
+    }
+
+    /** Segment ids of a journey in the order the journey lists them (empty if the journey is unknown). */
+    public List<String> segmentsOfJourney(String journeyId) {
+        return segmentsByJourney.getOrDefault(journeyId, List.of());
+    }
+
+    /** The segment, or null when the id is not in {@code flightSegments}. */
+    public FlightSegment segment(String segmentRefId) {
+        return segmentRefId != null ? segments.get(segmentRefId) : null;
+    }
+
+    // ---- Reference integrity ----
+
+    public boolean hasSegment(String segmentRefId) {
+        return segmentRefId != null && segments.containsKey(segmentRefId);
+    }
+
+    public boolean hasJourney(String journeyId) {
+        return journeyId != null && journeys.containsKey(journeyId);
+    }
+
+    public boolean hasPriceClass(String priceClassRefId) {
+        return priceClassRefId != null && priceClassIds.contains(priceClassRefId);
+    }
+
+    public boolean hasBaggage(String baggageDetailsRefId) {
+        return baggageDetailsRefId != null && baggageIds.contains(baggageDetailsRefId);
+    }
+}
@@ -0,0 +1,182 @@
+package Utils.Response;
+
+import Utils.Model.FlightSegment;
+import Utils.Model.Journey;
+import Utils.Model.SearchResponse;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * Departure/arrival times of a Search response, parsed once per {@link ResponseView}.
+ * <p>
+ * Many offers reference the same {@code flightSegments} entries, so parsing the ISO local date-times per
+ * offer repeats the same work thousands of times on multi-city searches. The timeline parses every
+ * segment's times once into epoch seconds (the times are local to each airport and are compared as
+ * written, without a zone) and keeps the parse error of a malformed value so checks can still report it.
+ * <p>
+ * Every journey also gets its segments ordered by departure, with the connection gap between consecutive
+ * segments precomputed.
+ */
+public class SegmentTimeline {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    /** Gap value when either side of a connection has no usable time. */
+    public static final long UNKNOWN_GAP = Long.MIN_VALUE;
+
+    /**
+     * Parsed times of one segment. A time is usable when its raw value is present and its error is null.
+     *
+     * @param departure        raw departureDateTime, may be null
+     * @param arrival          raw arrivalDateTime, may be null
+     * @param departureEpoch   departure in seconds since 1970-01-01T00:00 (as written), 0 when not usable
+     * @param arrivalEpoch     arrival in seconds since 1970-01-01T00:00 (as written), 0 when not usable
+     * @param departureError   parse error message of the departure, or null
+     * @param arrivalError     parse error message of the arrival, or null
+     */
+    public record SegmentTimes(String departure, String arrival,
+                               long departureEpoch, long arrivalEpoch,
+                               String departureError, String arrivalError) {
+
+        public boolean hasDeparture() {
+            return departure != null && departureError == null;
+        }
+
+        public boolean hasArrival() {
+            return arrival != null && arrivalError == null;
+        }
+    }
+
+    /**
+     * Segments of one journey, ordered by departure (segments without a usable departure last, in journey order).
+     *
+     * @param journeyId       key in {@code journeys}
+     * @param segmentIds      ordered segment ids found in {@code flightSegments}
+     * @param segments        the segments, same order
+     * @param connectionGaps  seconds between arrival of segment i and departure of segment i + 1
+     *                        ({@link #UNKNOWN_GAP} when either time is not usable); length = segments - 1
+     * @param missingSegmentIds ids listed by the journey but absent from {@code flightSegments}, in journey order
+     */
+    public record JourneyTimeline(String journeyId,
+                                  String[] segmentIds,
+                                  FlightSegment[] segments,
+                                  long[] connectionGaps,
+                                  List<String> missingSegmentIds) {
+
+        public int size() {
+            return segments.length;
+        }
+    }
+
+    private final Map<String, SegmentTimes> times;
+    private final Map<String, JourneyTimeline> journeys;
+
+    private SegmentTimeline(SearchResponse search) {
+        Map<String, FlightSegment> segments = search.flightSegments() != null ? search.flightSegments() : Map.of();
+        Map<String, Journey> journeyMap = search.journeys() != null ? search.journeys() : Map.of();
+
+        times = new HashMap<>(segments.size() * 2);
+        for (Map.Entry<String, FlightSegment> entry : segments.entrySet()) {
+            if (entry.getValue() != null) {
+                times.put(entry.getKey(), parseTimes(entry.getValue()));
+            }
+        }
+
+        journeys = new LinkedHashMap<>(journeyMap.size() * 2);
+        for (Map.Entry<String, Journey> entry : journeyMap.entrySet()) {
+            Journey journey = entry.getValue();
+            List<String> refs = journey != null && journey.segmentRefIds() != null ? journey.segmentRefIds() : List.of();
+            journeys.put(entry.getKey(), buildJourney(entry.getKey(), refs, segments));
+        }
+    }
+
+    /**
+     * Builds the timeline of a parsed Search response.
+     */
+    public static SegmentTimeline of(ResponseView view) {
+        return new SegmentTimeline(view.search());
+    }
+
+    private static SegmentTimes parseTimes(FlightSegment segment) {
+        String departure = segment.departureDateTime();
+        String arrival = segment.arrivalDateTime();
+        long departureEpoch = 0;
+        long arrivalEpoch = 0;
+        String departureError = null;
+        String arrivalError = null;
+
+        if (departure != null) {
+            try {
+                departureEpoch = toEpoch(departure);
+            } catch (RuntimeException e) {
+                departureError = e.getMessage();
+            }
+        }
+        if (arrival != null) {
+            try {
+                arrivalEpoch = toEpoch(arrival);
+            } catch (RuntimeException e) {
+                arrivalError = e.getMessage();
+            }
+        }
+        return new SegmentTimes(departure, arrival, departureEpoch, arrivalEpoch, departureError, arrivalError);
+    }
+
+    private static long toEpoch(String dateTime) {
+        return LocalDateTime.parse(dateTime, FORMATTER).toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private JourneyTimeline buildJourney(String journeyId, List<String> refs, Map<String, FlightSegment> segments) {
+        List<String> found = new ArrayList<>(refs.size());
+        List<String> missing = new ArrayList<>(0);
+        for (String segmentId : refs) {
+            if (segments.get(segmentId) != null) {
+                found.add(segmentId);
+            } else {
+                missing.add(segmentId);
+            }
+        }
+
+        // Stable sort: equal or unusable departures keep the journey order
+        found.sort(Comparator.comparingLong(this::departureSortKey));
+
+        String[] ids = found.toArray(new String[0]);
+        FlightSegment[] ordered = new FlightSegment[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            ordered[i] = segments.get(ids[i]);
+        }
+
+        long[] gaps = new long[Math.max(0, ids.length - 1)];
+        for (int i = 0; i < gaps.length; i++) {
+            SegmentTimes current = times.get(ids[i]);
+            SegmentTimes next = times.get(ids[i + 1]);
+            gaps[i] = current.hasArrival() && next.hasDeparture()
+                    ? next.departureEpoch() - current.arrivalEpoch()
+                    : UNKNOWN_GAP;
+        }
+        return new JourneyTimeline(journeyId, ids, ordered, gaps, List.copyOf(missing));
+    }
+
+    private long departureSortKey(String segmentId) {
+        SegmentTimes segmentTimes = times.get(segmentId);
+        return segmentTimes.hasDeparture() ? segmentTimes.departureEpoch() : Long.MAX_VALUE;
+    }
+
+    /** Times of a segment, or null when the id is not in {@code flightSegments}. */
+    public SegmentTimes times(String segmentRefId) {
+        return segmentRefId != null ? times.get(segmentRefId) : null;
+    }
+
+    /** Timeline of a journey, or null when the id is not in {@code journeys}. */
+    public JourneyTimeline journey(String journeyId) {
+        return journeys.get(journeyId);
+    }
+
+    /** All journey timelines, in {@code journeys} order. */
+    public Collection<JourneyTimeline> journeys() {
+        return journeys.values();
+    }
+}
@@ -0,0 +1,210 @@
+package Utils.Response;
+
+import Utils.Model.Offer;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Token-level reader for very large Search responses.
+ * <p>
+ * {@link ResponseView} materializes the whole body as a tree, which for wide-date or multi-city
+ * searches means thousands of offers on the heap at once. This reader walks the body with a Jackson
+ * {@link JsonParser} and hands every element of {@code offers[]} to a listener as soon as it has been
+ * read, as its buffered tokens ({@link StreamedOffer}); the offer is dropped afterwards. Only the top-level scalars and the small dictionaries
+ * ({@code flightSegments}, {@code journeys}, {@code priceClasses}, {@code baggageDetails}) are kept,
+ * together with the first offer, which the flow reuses as the selected offer.
+ */
+public class StreamingSearchReader {
+
+    private static final ObjectMapper MAPPER = SymbolTable.canonicalizingMapper();
+    private static final JsonFactory FACTORY = MAPPER.getFactory();
+
+    /**
+     * Receives each offer while the body is being read.
+     */
+    @FunctionalInterface
+    public interface OfferListener {
+        /**
+         * @param index position of the offer in {@code offers[]}
+         * @param offer the offer's tokens, only valid for the duration of the call
+         */
+        void onOffer(int index, StreamedOffer offer);
+    }
+
+    /**
+     * One element of {@code offers[]}, kept as its parsed tokens. The Map form and the typed {@link Offer} are each
+     * bound straight from those tokens, and only when asked for, so an offer a listener only reads the id of is
+     * never materialized.
+     */
+    public static final class StreamedOffer {
+        private final TokenBuffer tokens;
+        private Map<String, Object> map;
+        private Offer typed;
+
+        private StreamedOffer(TokenBuffer tokens) {
+            this.tokens = tokens;
+        }
+
+        /** The offer as a Map tree (bound once). */
+        @SuppressWarnings("unchecked")
+        public Map<String, Object> map() {
+            if (map == null) map = bind(LinkedHashMap.class);
+            return map;
+        }
+
+        /** The offer bound to the typed model (bound once). */
+        public Offer typed() {
+            if (typed == null) typed = bind(Offer.class);
+            return typed;
+        }
+
+        private <T> T bind(Class<T> type) {
+            try {
+                return MAPPER.readValue(tokens.asParser(MAPPER), type);
+            } catch (IOException e) {
+                throw new IllegalStateException("Offer cannot be read as " + type.getSimpleName() + ": " + e.getMessage(), e);
+            }
+        }
+
+        /** Structural hash of the offer ({@link StructuralHash#of(JsonParser)}), read from the tokens without binding it. */
+        public StructuralHash hash() {
+            try (JsonParser parser = tokens.asParser(MAPPER)) {
+                return StructuralHash.of(parser);
+            } catch (IOException e) {
+                throw new IllegalStateException("Offer tokens cannot be read: " + e.getMessage(), e);
+            }
+        }
+
+        /** The top-level "offerId" as text, read from the tokens without binding the offer. */
+        public String offerId() {
+            try (JsonParser parser = tokens.asParser(MAPPER)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) return null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if ("offerId".equals(field)) return value.isScalarValue() ? parser.getValueAsString() : null;
+                    parser.skipChildren();
+                }
+                return null;
+            } catch (IOException e) {
+                throw new IllegalStateException("Offer tokens cannot be read: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * What is left of the response once every offer has gone past.
+     *
+     * @param firstOffer      the first offer as a Map (the selected offer the flow passes on)
+     * @param firstOfferTyped the first offer bound to the typed model, null when it is not an object
+     */
+    public record StreamedSearch(
+            String responseId,
+            String supplier,
+            int offerCount,
+            Map<String, Object> firstOffer,
+            Offer firstOfferTyped,
+            Map<String, Object> flightSegments,
+            Map<String, Object> journeys,
+            Map<String, Object> priceClasses,
+            Map<String, Object> baggageDetails
+    ) {
+    }
+
+    /**
+     * Reads the Search body from the stream, calling the listener once per offer.
+     *
+     * @param body     Search response body
+     * @param listener per-offer callback (may be null to only collect the summary)
+     * @return the dictionaries, identifiers and first offer of the response
+     */
+    @SuppressWarnings("unchecked")
+    public static StreamedSearch read(InputStream body, OfferListener listener) {
+        String responseId = null;
+        String supplier = null;
+        int offerCount = 0;
+        Map<String, Object> firstOffer = null;
+        Offer firstOfferTyped = null;
+        Map<String, Object> flightSegments = null;
+        Map<String, Object> journeys = null;
+        Map<String, Object> priceClasses = null;
+        Map<String, Object> baggageDetails = null;
+
+        try (JsonParser parser = FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("Search response body is not a JSON object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                switch (field) {
+                    case "responseId" -> responseId = value.isScalarValue() ? parser.getValueAsString() : null;
+                    case "supplier" -> supplier = value.isScalarValue() ? parser.getValueAsString() : null;
+                    case "offers" -> {
+                        if (value != JsonToken.START_ARRAY) {
+                            parser.skipChildren();
+                            continue;
+                        }
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                                if (offerCount == 0) firstOffer = readAndDiscard(parser);
+                                else parser.skipChildren();
+                                offerCount++;
+                                continue;
+                            }
+                            StreamedOffer offer = new StreamedOffer(buffer(parser));
+                            if (offerCount == 0) {
+                                firstOffer = offer.map();
+                                firstOfferTyped = offer.typed();
+                            }
+                            if (listener != null) listener.onOffer(offerCount, offer);
+                            offerCount++;
+                        }
+                    }
+                    case "flightSegments" -> flightSegments = readDictionary(parser);
+                    case "journeys" -> journeys = readDictionary(parser);
+                    case "priceClasses" -> priceClasses = readDictionary(parser);
+                    case "baggageDetails" -> baggageDetails = readDictionary(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Search response body is not valid JSON: " + e.getMessage(), e);
+        }
+
+        return new StreamedSearch(responseId, supplier, offerCount, firstOffer, firstOfferTyped,
+                flightSegments, journeys, priceClasses, baggageDetails);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> readDictionary(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        return MAPPER.readValue(parser, LinkedHashMap.class);
+    }
+
+    /** Copies the object the parser is on into a buffer and leaves the parser on its END_OBJECT. */
+    private static TokenBuffer buffer(JsonParser parser) throws IOException {
+        TokenBuffer tokens = new TokenBuffer(parser);
+        tokens.copyCurrentStructure(parser);
+        return tokens;
+    }
+
+    private static Map<String, Object> readAndDiscard(JsonParser parser) throws IOException {
+        parser.skipChildren();
+        return Collections.emptyMap();
+    }
+}
@@ -0,0 +1,333 @@
+package Utils.Response;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 128-bit structural fingerprint of a JSON value.
+ * <p>
+ * The value is hashed while it is walked, either as a parsed Map/List tree ({@link #of(Object)}) or
+ * straight from a {@link JsonParser} ({@link #of(JsonParser)}), without serializing it to a string.
+ * Both produce the same fingerprint for the same JSON.
+ * <ul>
+ *     <li>Objects are hashed independently of key order: {@code {"a":1,"b":2}} and {@code {"b":2,"a":1}} match.</li>
+ *     <li>Arrays are hashed in order.</li>
+ *     <li>Numbers are hashed by value: {@code 100}, {@code 100L} and {@code 100.0} match.</li>
+ * </ul>
+ * Equal values always have equal fingerprints. Different values almost never do, but callers that need
+ * certainty confirm a match with {@link #deepEquals(Object, Object)}, which uses the same rules.
+ */
+public record StructuralHash(long high, long low) {
+
+    private static final long SEED_HIGH = 0x9E3779B97F4A7C15L;
+    private static final long SEED_LOW = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME_HIGH = 0x100000001B3L;
+    private static final long PRIME_LOW = 0xFF51AFD7ED558CCDL;
+
+    private static final long TAG_NULL = 0x6E756C6CL;
+    private static final long TAG_TRUE = 0x74727565L;
+    private static final long TAG_FALSE = 0x66616C73L;
+    private static final long TAG_STRING = 0x73747269L;
+    private static final long TAG_INTEGER = 0x696E7465L;
+    private static final long TAG_DECIMAL = 0x64656369L;
+    private static final long TAG_LIST = 0x6C697374L;
+    private static final long TAG_MAP = 0x6D617073L;
+
+    /**
+     * Fingerprint of a parsed JSON tree (Map, List, String, Number, Boolean or null).
+     * Any other object is hashed by its {@code toString()}.
+     */
+    public static StructuralHash of(Object node) {
+        return of(node, null);
+    }
+
+    /**
+     * Fingerprint of a parsed JSON tree that also records the fingerprint of every object and array
+     * below it in {@code subtreeCache} (and reuses the ones already there), so that nested subtrees of
+     * the same tree can be looked up afterwards without hashing them again.
+     *
+     * @param node         root of the tree
+     * @param subtreeCache identity map from Map/List node to its fingerprint, or null for no caching;
+     *                     only valid while the tree is not modified
+     */
+    public static StructuralHash of(Object node, Map<Object, StructuralHash> subtreeCache) {
+        Walker walker = new Walker(subtreeCache);
+        walker.value(node);
+        return new StructuralHash(walker.high, walker.low);
+    }
+
+    /**
+     * Fingerprint of the value starting at the parser's current token (advancing first when there is none).
+     * The whole value is consumed; the parser is left on its last token (END_OBJECT/END_ARRAY for containers).
+     */
+    public static StructuralHash of(JsonParser parser) throws IOException {
+        if (!parser.hasCurrentToken()) parser.nextToken();
+        Walker walker = new Walker(null);
+        walker.token(parser);
+        return new StructuralHash(walker.high, walker.low);
+    }
+
+    /**
+     * Structural equality with the same rules as the fingerprint: object key order is ignored,
+     * array order is not, and numbers compare by value.
+     */
+    public static boolean deepEquals(Object a, Object b) {
+        if (a == b) return true;
+        if (a == null || b == null) return false;
+
+        if (a instanceof Map<?, ?> mapA && b instanceof Map<?, ?> mapB) {
+            if (mapA.size() != mapB.size()) return false;
+            for (Map.Entry<?, ?> entry : mapA.entrySet()) {
+                Object other = mapB.get(entry.getKey());
+                if (other == null && !mapB.containsKey(entry.getKey())) return false;
+                if (!deepEquals(entry.getValue(), other)) return false;
+            }
+            return true;
+        }
+        if (a instanceof List<?> listA && b instanceof List<?> listB) {
+            if (listA.size() != listB.size()) return false;
+            Iterator<?> itA = listA.iterator();
+            Iterator<?> itB = listB.iterator();
+            while (itA.hasNext()) {
+                if (!deepEquals(itA.next(), itB.next())) return false;
+            }
+            return true;
+        }
+        if (a instanceof Number numberA && b instanceof Number numberB) {
+            return numbersEqual(numberA, numberB);
+        }
+        return a.equals(b);
+    }
+
+    /**
+     * Whether two JSON numbers have the same value, whatever their Java type.
+     */
+    public static boolean numbersEqual(Number a, Number b) {
+        Long integerA = integralValue(a);
+        Long integerB = integralValue(b);
+        if (integerA != null || integerB != null) {
+            return integerA != null && integerA.equals(integerB);
+        }
+        return Double.compare(a.doubleValue(), b.doubleValue()) == 0;
+    }
+
+    /** 32 hex digits. */
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", high, low);
+    }
+
+    /** The value as a long when it is a whole number in long range, otherwise null. */
+    private static Long integralValue(Number number) {
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            return number.longValue();
+        }
+        if (number instanceof BigInteger integer) {
+            return integer.bitLength() < 64 ? integer.longValue() : null;
+        }
+        if (number instanceof BigDecimal decimal) {
+            try {
+                return decimal.longValueExact();
+            } catch (ArithmeticException e) {
+                return null;
+            }
+        }
+        double value = number.doubleValue();
+        if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 0x1p63) {
+            return (long) value;
+        }
+        return null;
+    }
+
+    /** murmur3 64-bit finalizer. */
+    private static long mix(long z) {
+        z ^= z >>> 33;
+        z *= 0xFF51AFD7ED558CCDL;
+        z ^= z >>> 33;
+        z *= 0xC4CEB9FE1A85EC53L;
+        z ^= z >>> 33;
+        return z;
+    }
+
+    /**
+     * Hashes one value into {@link #high}/{@link #low}; containers keep their running state in locals,
+     * so the walk allocates nothing per node.
+     */
+    private static final class Walker {
+        private final Map<Object, StructuralHash> subtreeCache;
+        long high;
+        long low;
+
+        Walker(Map<Object, StructuralHash> subtreeCache) {
+            this.subtreeCache = subtreeCache;
+        }
+
+        void value(Object node) {
+            if (subtreeCache != null && (node instanceof Map || node instanceof List)) {
+                StructuralHash cached = subtreeCache.get(node);
+                if (cached != null) {
+                    high = cached.high();
+                    low = cached.low();
+                    return;
+                }
+                hashNode(node);
+                subtreeCache.put(node, new StructuralHash(high, low));
+            } else {
+                hashNode(node);
+            }
+        }
+
+        private void hashNode(Object node) {
+            if (node == null) {
+                scalar(TAG_NULL, 0);
+            } else if (node instanceof Map<?, ?> map) {
+                long sumHigh = 0;
+                long sumLow = 0;
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    string(String.valueOf(entry.getKey()));
+                    long keyHigh = high;
+                    long keyLow = low;
+                    value(entry.getValue());
+                    sumHigh += entryHigh(keyHigh, high);
+                    sumLow += entryLow(keyLow, low);
+                }
+                endMap(sumHigh, sumLow, map.size());
+            } else if (node instanceof List<?> list) {
+                long accHigh = SEED_HIGH ^ TAG_LIST;
+                long accLow = SEED_LOW ^ TAG_LIST;
+                for (Object element : list) {
+                    value(element);
+                    accHigh = (accHigh ^ high) * PRIME_HIGH;
+                    accLow = (accLow + low) * PRIME_LOW;
+                }
+                endList(accHigh, accLow, list.size());
+            } else if (node instanceof CharSequence text) {
+                string(text);
+            } else if (node instanceof Number number) {
+                number(number);
+            } else if (node instanceof Boolean bool) {
+                scalar(bool ? TAG_TRUE : TAG_FALSE, 0);
+            } else {
+                string(node.toString());
+            }
+        }
+
+        void token(JsonParser parser) throws IOException {
+            JsonToken token = parser.currentToken();
+            if (token == null) throw new IOException("No JSON value to hash");
+            switch (token) {
+                case START_OBJECT -> {
+                    long sumHigh = 0;
+                    long sumLow = 0;
+                    int size = 0;
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        string(parser.currentName());
+                        long keyHigh = high;
+                        long keyLow = low;
+                        parser.nextToken();
+                        token(parser);
+                        sumHigh += entryHigh(keyHigh, high);
+                        sumLow += entryLow(keyLow, low);
+                        size++;
+                    }
+                    endMap(sumHigh, sumLow, size);
+                }
+                case START_ARRAY -> {
+                    long accHigh = SEED_HIGH ^ TAG_LIST;
+                    long accLow = SEED_LOW ^ TAG_LIST;
+                    int size = 0;
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        token(parser);
+                        accHigh = (accHigh ^ high) * PRIME_HIGH;
+                        accLow = (accLow + low) * PRIME_LOW;
+                        size++;
+                    }
+                    endList(accHigh, accLow, size);
+                }
+                case VALUE_STRING -> chars(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                case VALUE_NUMBER_INT -> {
+                    JsonParser.NumberType type = parser.getNumberType();
+                    if (type == JsonParser.NumberType.INT || type == JsonParser.NumberType.LONG) {
+                        scalar(TAG_INTEGER, parser.getLongValue());
+                    } else {
+                        number(parser.getNumberValue());
+                    }
+                }
+                case VALUE_NUMBER_FLOAT -> number(parser.getDoubleValue());
+                case VALUE_TRUE -> scalar(TAG_TRUE, 0);
+                case VALUE_FALSE -> scalar(TAG_FALSE, 0);
+                case VALUE_NULL -> scalar(TAG_NULL, 0);
+                default -> throw new IOException("Unexpected token while hashing: " + token);
+            }
+        }
+
+        private void number(Number number) {
+            Long integral = integralValue(number);
+            if (integral != null) {
+                scalar(TAG_INTEGER, integral);
+            } else {
+                double value = number.doubleValue();
+                scalar(TAG_DECIMAL, Double.doubleToLongBits(value == 0.0 ? 0.0 : value));
+            }
+        }
+
+        private void scalar(long tag, long bits) {
+            high = mix(SEED_HIGH ^ tag ^ mix(bits));
+            low = mix(SEED_LOW + tag * PRIME_LOW + bits);
+        }
+
+        private void string(CharSequence text) {
+            long h = SEED_HIGH ^ TAG_STRING;
+            long l = SEED_LOW ^ TAG_STRING;
+            int length = text.length();
+            for (int i = 0; i < length; i++) {
+                char c = text.charAt(i);
+                h = (h ^ c) * PRIME_HIGH;
+                l = (l + c) * PRIME_LOW;
+            }
+            endString(h, l, length);
+        }
+
+        private void chars(char[] text, int offset, int length) {
+            long h = SEED_HIGH ^ TAG_STRING;
+            long l = SEED_LOW ^ TAG_STRING;
+            for (int i = offset, end = offset + length; i < end; i++) {
+                char c = text[i];
+                h = (h ^ c) * PRIME_HIGH;
+                l = (l + c) * PRIME_LOW;
+            }
+            endString(h, l, length);
+        }
+
+        private void endString(long h, long l, int length) {
+            high = mix(h ^ length);
+            low = mix(l + (long) length * SEED_HIGH);
+        }
+
+        private void endList(long accHigh, long accLow, int size) {
+            high = mix(accHigh ^ size);
+            low = mix(accLow + (long) size * SEED_HIGH);
+        }
+
+        private void endMap(long sumHigh, long sumLow, int size) {
+            high = mix(sumHigh ^ TAG_MAP ^ size);
+            low = mix(sumLow + TAG_MAP * PRIME_LOW + size);
+        }
+
+        /** Entries are mixed before summing, so the sum does not depend on iteration order. */
+        private static long entryHigh(long keyHigh, long valueHigh) {
+            return mix(keyHigh * PRIME_HIGH + valueHigh);
+        }
+
+        private static long entryLow(long keyLow, long valueLow) {
+            return mix(keyLow ^ Long.rotateLeft(valueLow, 29));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package Utils.Response;
+
+import Utils.Helper.HelperTestData;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded table of canonical instances for the short strings NDC responses repeat thousands of times
+ * (passenger type, currency, carrier and airport codes, RBDs, tax codes, segment / journey reference ids).
+ * <p>
+ * Jackson already shares field names, but every string value becomes its own {@link String}: a 3000-offer
+ * Search response holds some 80 000 of them for about 3 000 distinct values. Mappers built with
+ * {@link #canonicalizingMapper()} look each short value up here while parsing, so the parsed Map tree and the
+ * typed models bound from it ({@link ResponseView#bind}) share one instance per value.
+ * Canonical instances are the interned strings, the ones Jackson uses for field names, so a reference id
+ * ({@code segmentRefId: "SEG1"}) is also the very key of its dictionary entry ({@code flightSegments.SEG1}).
+ * Equal canonical strings are then the same object and {@link String#equals} returns on its identity check;
+ * checks still compare with {@code equals}, since long or late values are not canonical.
+ * <p>
+ * Only code-like values are kept: up to {@value #MAX_LENGTH} letters, digits or underscores, starting with a
+ * letter ({@code ADT}, {@code EUR}, {@code YQ}, {@code SEG12}). Date-times, amounts, flight numbers and free text
+ * are returned as parsed. Once {@link HelperTestData#SymbolTableSize} values are stored the table is cleared and
+ * refilled, so one-off values (offer ids) do not hold its slots for the rest of the run.
+ */
+public final class SymbolTable {
+
+    /** Longer strings (offer ids, free text) are rarely repeated and never canonicalized. */
+    public static final int MAX_LENGTH = 8;
+
+    private static final Map<String, String> SYMBOLS = new ConcurrentHashMap<>();
+
+    private SymbolTable() {
+    }
+
+    /**
+     * Returns the canonical instance of {@code value}, adding it while the table has room.
+     *
+     * @param value parsed string, may be null
+     * @return the shared instance, or {@code value} itself when it is not code-like
+     */
+    public static String canonical(String value) {
+        if (value == null || HelperTestData.SymbolTableSize <= 0 || !isCode(value)) return value;
+        String symbol = SYMBOLS.get(value);
+        if (symbol != null) return symbol;
+        if (SYMBOLS.size() >= HelperTestData.SymbolTableSize) SYMBOLS.clear();
+        String interned = value.intern();
+        symbol = SYMBOLS.putIfAbsent(interned, interned);
+        return symbol != null ? symbol : interned;
+    }
+
+    /** Whether a value looks like a code or reference id: a letter, then letters, digits or underscores. */
+    static boolean isCode(String value) {
+        int length = value.length();
+        if (length == 0 || length > MAX_LENGTH || !isAsciiLetter(value.charAt(0))) return false;
+        for (int i = 1; i < length; i++) {
+            char c = value.charAt(i);
+            if (!isAsciiLetter(c) && (c < '0' || c > '9') && c != '_') return false;
+        }
+        return true;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    /** Number of canonical strings stored. */
+    public static int size() {
+        return SYMBOLS.size();
+    }
+
+    /**
+     * A mapper whose string values (in untyped Map/List trees and in typed models) go through the table.
+     */
+    public static ObjectMapper canonicalizingMapper() {
+        return new ObjectMapper().registerModule(new SimpleModule("SymbolTable")
+                .addDeserializer(String.class, new Deserializer()));
+    }
+
+    /**
+     * String deserializer returning canonical instances; non-scalar tokens are left to Jackson's own handling.
+     */
+    private static final class Deserializer extends StdScalarDeserializer<String> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        Deserializer() {
+            super(String.class);
+        }
+
+        @Override
+        public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.currentToken() == JsonToken.VALUE_STRING) {
+                return canonical(p.getText());
+            }
+            return canonical(StringDeserializer.instance.deserialize(p, ctxt));
+        }
+    }
+}
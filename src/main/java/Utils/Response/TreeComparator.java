@@ -0,0 +1,176 @@
+package Utils.Response;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compares two parsed JSON trees (Map/List/scalar) node by node and reports where they differ.
+ * <p>
+ * Both trees are walked in parallel. Before descending into an object or array the comparator checks the
+ * {@link StructuralHash} of both subtrees and skips the subtree when they match, so equal parts are never
+ * walked twice. Subtree hashes are cached per node for the lifetime of the comparator, so one comparator
+ * can be reused for several comparisons of the same two responses. The trees must not be modified in the
+ * meantime.
+ * <p>
+ * The comparison uses the same rules as the fingerprint:
+ * <ul>
+ *     <li>object key order is ignored;</li>
+ *     <li>array order matters;</li>
+ *     <li>numbers are compared by value, so {@code 120.5} equals {@code 120.50} and {@code 1} equals {@code 1L}.</li>
+ * </ul>
+ * Only the first {@code maxDifferences} differing paths are collected, in document order of the expected tree.
+ * <pre>
+ *     TreeComparator.Result result = new TreeComparator(10).compare("order", bookOrder, retrieveOrder);
+ *     if (!result.matches()) softAssert.fail("Mismatch in order object → " + result);
+ * </pre>
+ */
+public final class TreeComparator {
+
+    /**
+     * One differing path, e.g. {@code order.priceDetails.totalAmount.amount: expected 120.5 but was 121.0}.
+     */
+    public record Difference(String path, String description) {
+        @Override
+        public String toString() {
+            return path + ": " + description;
+        }
+    }
+
+    /**
+     * Outcome of one comparison.
+     *
+     * @param differences first differing paths, empty when the trees match
+     * @param truncated   whether more differences were found than were collected
+     */
+    public record Result(List<Difference> differences, boolean truncated) {
+
+        public boolean matches() {
+            return differences.isEmpty();
+        }
+
+        /** Differences separated by "; ", ending with "..." when truncated. */
+        @Override
+        public String toString() {
+            if (differences.isEmpty()) return "no differences";
+            StringBuilder sb = new StringBuilder();
+            for (Difference difference : differences) {
+                if (!sb.isEmpty()) sb.append("; ");
+                sb.append(difference);
+            }
+            if (truncated) sb.append("; ...");
+            return sb.toString();
+        }
+    }
+
+    private final int maxDifferences;
+    private final Map<Object, StructuralHash> hashes = new IdentityHashMap<>();
+
+    /**
+     * @param maxDifferences number of differing paths to collect per comparison (at least 1)
+     */
+    public TreeComparator(int maxDifferences) {
+        if (maxDifferences < 1) throw new IllegalArgumentException("maxDifferences must be at least 1: " + maxDifferences);
+        this.maxDifferences = maxDifferences;
+    }
+
+    /**
+     * Compares {@code actual} against {@code expected}.
+     *
+     * @param rootPath name used as the first path segment in reported differences (e.g. "journeys" or "$")
+     * @param expected expected tree
+     * @param actual   actual tree
+     * @return differences, in document order of the expected tree
+     */
+    public Result compare(String rootPath, Object expected, Object actual) {
+        Walk walk = new Walk();
+        walk.node(new StringBuilder(rootPath), expected, actual);
+        return new Result(Collections.unmodifiableList(walk.differences), walk.truncated);
+    }
+
+    private final class Walk {
+        final List<Difference> differences = new ArrayList<>();
+        boolean truncated;
+
+        /** @return false once the difference limit has been passed and the walk should stop */
+        boolean node(StringBuilder path, Object expected, Object actual) {
+            if (expected == actual) return true;
+
+            if (expected instanceof Map<?, ?> expectedMap && actual instanceof Map<?, ?> actualMap) {
+                return sameHash(expected, actual) || map(path, expectedMap, actualMap);
+            }
+            if (expected instanceof List<?> expectedList && actual instanceof List<?> actualList) {
+                return sameHash(expected, actual) || list(path, expectedList, actualList);
+            }
+
+            boolean equal = expected instanceof Number expectedNumber && actual instanceof Number actualNumber
+                    ? StructuralHash.numbersEqual(expectedNumber, actualNumber)
+                    : Objects.equals(expected, actual);
+            return equal || report(path, "expected " + describe(expected) + " but was " + describe(actual));
+        }
+
+        private boolean map(StringBuilder path, Map<?, ?> expected, Map<?, ?> actual) {
+            int length = path.length();
+            for (Map.Entry<?, ?> entry : expected.entrySet()) {
+                path.append('.').append(entry.getKey());
+                Object actualValue = actual.get(entry.getKey());
+                boolean more = actualValue != null || actual.containsKey(entry.getKey())
+                        ? node(path, entry.getValue(), actualValue)
+                        : report(path, "missing (expected " + describe(entry.getValue()) + ")");
+                path.setLength(length);
+                if (!more) return false;
+            }
+            for (Map.Entry<?, ?> entry : actual.entrySet()) {
+                if (expected.containsKey(entry.getKey())) continue;
+                path.append('.').append(entry.getKey());
+                boolean more = report(path, "unexpected " + describe(entry.getValue()));
+                path.setLength(length);
+                if (!more) return false;
+            }
+            return true;
+        }
+
+        private boolean list(StringBuilder path, List<?> expected, List<?> actual) {
+            int length = path.length();
+            int common = Math.min(expected.size(), actual.size());
+            for (int i = 0; i < Math.max(expected.size(), actual.size()); i++) {
+                path.append('[').append(i).append(']');
+                boolean more;
+                if (i < common) {
+                    more = node(path, expected.get(i), actual.get(i));
+                } else if (i < expected.size()) {
+                    more = report(path, "missing (expected " + describe(expected.get(i)) + ")");
+                } else {
+                    more = report(path, "unexpected " + describe(actual.get(i)));
+                }
+                path.setLength(length);
+                if (!more) return false;
+            }
+            return true;
+        }
+
+        private boolean sameHash(Object expected, Object actual) {
+            return StructuralHash.of(expected, hashes).equals(StructuralHash.of(actual, hashes));
+        }
+
+        private boolean report(StringBuilder path, String description) {
+            if (differences.size() == maxDifferences) {
+                truncated = true;
+                return false;
+            }
+            differences.add(new Difference(path.toString(), description));
+            return true;
+        }
+    }
+
+    /** Scalars as written, strings quoted, containers by size only. */
+    private static String describe(Object value) {
+        if (value instanceof Map<?, ?> map) return "{" + map.size() + " fields}";
+        if (value instanceof List<?> list) return "[" + list.size() + " items]";
+        if (value instanceof CharSequence) return "'" + value + "'";
+        return String.valueOf(value);
+    }
+}
@@ -0,0 +1,99 @@
+package Utils.Runner;
+
+import org.testng.SkipException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs independent end-to-end flows (Search → FareConfirm → Book/Hold → Retrieve),
+ * each on its own virtual thread.
+ * <p>
+ * Why:
+ * - Almost all the time of a flow is spent waiting on remote suppliers,
+ *   so a blocked virtual thread costs next to nothing.
+ * - Thousands of flows can be started without sizing a platform thread pool.
+ * - A semaphore caps how many flows talk to the staging host at the same time.
+ */
+public class VirtualThreadRunner {
+
+    /**
+     * Result of one flow.
+     *
+     * @param name      Flow name (e.g. "AirCairo | TC_01")
+     * @param failure   Error thrown by the flow, or null if it passed
+     * @param skipped   True when the flow was skipped (SkipException)
+     * @param elapsedMs Wall time of the flow in milliseconds (excluding time waiting for a permit)
+     */
+    public record FlowOutcome(String name, Throwable failure, boolean skipped, long elapsedMs) {
+        public boolean passed() {
+            return failure == null && !skipped;
+        }
+    }
+
+    /**
+     * Runs all flows on virtual threads with at most {@code maxConcurrent} of them running at once,
+     * and waits for all of them to finish.
+     *
+     * @param flows         Flow name → flow body (insertion order is kept in the returned outcomes)
+     * @param maxConcurrent Maximum number of flows running at the same time
+     * @return One outcome per flow, in the same order as the input map
+     */
+    public static List<FlowOutcome> runAll(LinkedHashMap<String, Runnable> flows, int maxConcurrent) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("❌ maxConcurrent must be at least 1 but was: " + maxConcurrent);
+        }
+
+        Semaphore permits = new Semaphore(maxConcurrent);
+        List<Future<FlowOutcome>> futures = new ArrayList<>();
+
+        System.out.printf("%n🧵 Starting %d flows on virtual threads (max %d at once)%n", flows.size(), maxConcurrent);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Map.Entry<String, Runnable> flow : flows.entrySet()) {
+                futures.add(executor.submit(() -> runWithPermit(flow.getKey(), flow.getValue(), permits)));
+            }
+        } // close() waits for every submitted flow
+
+        List<FlowOutcome> outcomes = new ArrayList<>();
+        for (Future<FlowOutcome> future : futures) {
+            try {
+                outcomes.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("❌ Interrupted while collecting flow outcomes", e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException("❌ Unexpected runner failure", e.getCause());
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * Runs a single flow once a permit is available and turns its result into a {@link FlowOutcome}.
+     */
+    private static FlowOutcome runWithPermit(String name, Runnable flow, Semaphore permits) throws InterruptedException {
+        permits.acquire();
+        long start = System.nanoTime();
+        try {
+            flow.run();
+            return new FlowOutcome(name, null, false, elapsedMs(start));
+        } catch (SkipException e) {
+            return new FlowOutcome(name, e, true, elapsedMs(start));
+        } catch (Throwable t) {
+            return new FlowOutcome(name, t, false, elapsedMs(start));
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,66 @@
+package Utils.Transport;
+
+import io.restassured.response.Response;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Pluggable HTTP backend used by {@link Utils.Assertions.PerformAssertions} to send
+ * every step of the booking flow (Search, FareConfirm, Book, BookAfterHold, Retrieve).
+ * <p>
+ * Every implementation returns a RestAssured {@link Response}, so the assertion layer
+ * keeps working on the same type whichever backend actually performed the call.
+ * <p>
+ * Available backends:
+ * - {@link PooledHttpTransport}    → shared keep-alive client (HTTP/2 when the server supports it) — default
+ * - {@link RestAssuredTransport}   → the original RestAssured {@code given()} chain
+ */
+public interface HttpTransport {
+
+    /**
+     * Sends a JSON POST request.
+     *
+     * @param fullUrl        Endpoint URL
+     * @param requestPayload Object serialized as the JSON body
+     * @param headers        Request headers to send
+     * @return Response from the API
+     */
+    Response post(String fullUrl, Object requestPayload, Map<String, String> headers);
+
+    /**
+     * Sends a JSON POST request without blocking the calling thread.
+     * The returned future completes with the response, or exceptionally if the call fails.
+     *
+     * @param fullUrl        Endpoint URL
+     * @param requestPayload Object serialized as the JSON body
+     * @param headers        Request headers to send
+     * @return Future of the response from the API
+     */
+    CompletableFuture<Response> postAsync(String fullUrl, Object requestPayload, Map<String, String> headers);
+
+    /**
+     * Sends a JSON POST request and returns once the status line and headers have arrived,
+     * leaving the body to be read from {@link StreamedResponse#body()}.
+     *
+     * @param fullUrl        Endpoint URL
+     * @param requestPayload Object serialized as the JSON body
+     * @param headers        Request headers to send
+     * @return Response whose body is still to be read
+     */
+    StreamedResponse postStreamed(String fullUrl, Object requestPayload, Map<String, String> headers);
+
+    /**
+     * Non-blocking variant of {@link #postStreamed}: the future completes once the headers have arrived.
+     *
+     * @param fullUrl        Endpoint URL
+     * @param requestPayload Object serialized as the JSON body
+     * @param headers        Request headers to send
+     * @return Future of the response whose body is still to be read
+     */
+    CompletableFuture<StreamedResponse> postStreamedAsync(String fullUrl, Object requestPayload, Map<String, String> headers);
+
+    /**
+     * Short backend name used in logs (e.g. to compare timings of both backends in one run).
+     */
+    String name();
+}
@@ -0,0 +1,215 @@
+package Utils.Transport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Default backend built on a single shared {@link HttpClient}.
+ * <p>
+ * Why:
+ * - The JDK client keeps a connection pool with keep-alive, so consecutive
+ *   Search / FareConfirm / Book calls to the staging host reuse the same
+ *   TCP + TLS connection instead of paying the handshake on every step.
+ * - HTTP/2 is negotiated through ALPN and falls back to HTTP/1.1 automatically.
+ * - Bodies are requested gzip-compressed, which matters for large search responses.
+ * <p>
+ * The raw reply is converted into a RestAssured {@link Response} so all
+ * existing assertions (jsonPath, then().statusCode, prettyPrint...) keep working.
+ */
+public class PooledHttpTransport implements HttpTransport {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    /** Shared client → one connection pool for the whole run (thread-safe by design). */
+    private static final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(Duration.ofSeconds(30))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    private final Duration requestTimeout;
+
+    public PooledHttpTransport(Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+    }
+
+    @Override
+    public Response post(String fullUrl, Object requestPayload, Map<String, String> headers) {
+        HttpRequest request = buildRequest(fullUrl, requestPayload, headers);
+        System.out.println("Request method:\tPOST");
+
+        try {
+            HttpResponse<byte[]> httpResponse = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            Response response = toRestAssuredResponse(httpResponse);
+            System.out.println(response.getStatusLine());
+            return response;
+        } catch (IOException e) {
+            throw new RuntimeException("❌ POST failed for: " + fullUrl, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("❌ POST interrupted for: " + fullUrl, e);
+        }
+    }
+
+    /**
+     * Non-blocking variant: the request is handed to the shared client and no
+     * thread waits while the supplier is working on the response.
+     */
+    @Override
+    public CompletableFuture<Response> postAsync(String fullUrl, Object requestPayload, Map<String, String> headers) {
+        HttpRequest request = buildRequest(fullUrl, requestPayload, headers);
+        System.out.println("Request method:\tPOST");
+
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(httpResponse -> {
+                    try {
+                        Response response = toRestAssuredResponse(httpResponse);
+                        System.out.println(response.getStatusLine());
+                        return response;
+                    } catch (IOException e) {
+                        throw new CompletionException(new RuntimeException("❌ POST failed for: " + fullUrl, e));
+                    }
+                });
+    }
+
+    /**
+     * Same request, with the body handed over as an {@link InputStream} (decompressed on the fly):
+     * the call returns once the headers have arrived.
+     */
+    @Override
+    public StreamedResponse postStreamed(String fullUrl, Object requestPayload, Map<String, String> headers) {
+        HttpRequest request = buildRequest(fullUrl, requestPayload, headers);
+        System.out.println("Request method:\tPOST");
+
+        try {
+            HttpResponse<InputStream> httpResponse = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            StreamedResponse response = toStreamedResponse(httpResponse);
+            System.out.println(response.head().getStatusLine());
+            return response;
+        } catch (IOException e) {
+            throw new RuntimeException("❌ POST failed for: " + fullUrl, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("❌ POST interrupted for: " + fullUrl, e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<StreamedResponse> postStreamedAsync(String fullUrl, Object requestPayload, Map<String, String> headers) {
+        HttpRequest request = buildRequest(fullUrl, requestPayload, headers);
+        System.out.println("Request method:\tPOST");
+
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                .thenApply(httpResponse -> {
+                    try {
+                        StreamedResponse response = toStreamedResponse(httpResponse);
+                        System.out.println(response.head().getStatusLine());
+                        return response;
+                    } catch (IOException e) {
+                        throw new CompletionException(new RuntimeException("❌ POST failed for: " + fullUrl, e));
+                    }
+                });
+    }
+
+    @Override
+    public String name() {
+        return "pooled-http2";
+    }
+
+    /**
+     * Builds a JSON POST request with the given headers and gzip support.
+     */
+    private HttpRequest buildRequest(String fullUrl, Object requestPayload, Map<String, String> headers) {
+        byte[] body;
+        try {
+            body = mapper.writeValueAsBytes(requestPayload);
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to serialize request payload for: " + fullUrl, e);
+        }
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(fullUrl))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json; charset=UTF-8")
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+
+        headers.forEach(builder::header);
+        return builder.build();
+    }
+
+    /**
+     * Converts the JDK response into a RestAssured {@link Response},
+     * transparently decompressing gzip bodies.
+     */
+    private static Response toRestAssuredResponse(HttpResponse<byte[]> httpResponse) throws IOException {
+        byte[] body = httpResponse.body();
+        if (isGzipped(httpResponse)) {
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                body = in.readAllBytes();
+            }
+        }
+
+        return new ResponseBuilder()
+                .setStatusCode(httpResponse.statusCode())
+                .setStatusLine(statusLine(httpResponse))
+                .setHeaders(headers(httpResponse))
+                .setContentType(contentType(httpResponse))
+                .setBody(new String(body, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    /**
+     * Wraps a JDK response whose body is still being received, decompressing gzip bodies as they are read.
+     * The Content-Length of a gzip body is not the length of the decoded body, so it is only passed on for
+     * plain bodies.
+     */
+    private static StreamedResponse toStreamedResponse(HttpResponse<InputStream> httpResponse) throws IOException {
+        boolean gzipped = isGzipped(httpResponse);
+        InputStream body = gzipped ? new GZIPInputStream(httpResponse.body()) : httpResponse.body();
+        long contentLength = gzipped ? -1 : httpResponse.headers().firstValueAsLong("Content-Length").orElse(-1);
+
+        return new StreamedResponse(httpResponse.statusCode(), statusLine(httpResponse), headers(httpResponse),
+                contentType(httpResponse), contentLength, body);
+    }
+
+    private static boolean isGzipped(HttpResponse<?> httpResponse) {
+        return httpResponse.headers().firstValue("Content-Encoding")
+                .map(value -> value.equalsIgnoreCase("gzip"))
+                .orElse(false);
+    }
+
+    private static Headers headers(HttpResponse<?> httpResponse) {
+        List<Header> headerList = new ArrayList<>();
+        httpResponse.headers().map().forEach((name, values) ->
+                values.forEach(value -> headerList.add(new Header(name, value))));
+        return new Headers(headerList);
+    }
+
+    private static String statusLine(HttpResponse<?> httpResponse) {
+        String protocol = httpResponse.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        return protocol + " " + httpResponse.statusCode();
+    }
+
+    private static String contentType(HttpResponse<?> httpResponse) {
+        return httpResponse.headers().firstValue("Content-Type").orElse("application/json");
+    }
+}
@@ -0,0 +1,81 @@
+package Utils.Transport;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Original backend: a fresh RestAssured {@code given()} chain per request.
+ * Kept as an optional backend so it can be compared with {@link PooledHttpTransport}.
+ */
+public class RestAssuredTransport implements HttpTransport {
+
+    /**
+     * RestAssured is blocking, so async calls each park one daemon thread for the round trip.
+     */
+    private static final ExecutorService blockingCalls = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "restassured-call");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Override
+    public Response post(String fullUrl, Object requestPayload, Map<String, String> headers) {
+        return RestAssured
+                .given()
+                    .body(requestPayload)
+                    .contentType(ContentType.JSON)
+                    .headers(headers)
+                    .log().method()
+                .when()
+                    .post(fullUrl)
+                .then()
+                    .log().status()
+                    .extract()
+                    .response();
+    }
+
+    @Override
+    public CompletableFuture<Response> postAsync(String fullUrl, Object requestPayload, Map<String, String> headers) {
+        return CompletableFuture.supplyAsync(() -> post(fullUrl, requestPayload, headers), blockingCalls);
+    }
+
+    /**
+     * RestAssured only returns once it has received the response, so this backend returns later than the pooled
+     * one; the body is handed over through {@link Response#asInputStream()}, without copying it into a String.
+     */
+    @Override
+    public StreamedResponse postStreamed(String fullUrl, Object requestPayload, Map<String, String> headers) {
+        Response response = post(fullUrl, requestPayload, headers);
+        long contentLength = contentLength(response);
+        return new StreamedResponse(response.getStatusCode(), response.getStatusLine(), response.getHeaders(),
+                response.getContentType(), contentLength, response.asInputStream());
+    }
+
+    @Override
+    public CompletableFuture<StreamedResponse> postStreamedAsync(String fullUrl, Object requestPayload, Map<String, String> headers) {
+        return CompletableFuture.supplyAsync(() -> postStreamed(fullUrl, requestPayload, headers), blockingCalls);
+    }
+
+    @Override
+    public String name() {
+        return "restassured";
+    }
+
+    /**
+     * Content-Length of the decoded body, -1 when it is missing or the body was content-encoded (gzip).
+     */
+    private static long contentLength(Response response) {
+        String value = response.getHeader("Content-Length");
+        if (value == null || response.getHeader("Content-Encoding") != null) return -1;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package Utils.Transport;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+
+/**
+ * A response returned as soon as its status line and headers have arrived, with the body still on the wire.
+ * <p>
+ * Lets the Search step decide, before the body is read, whether to validate it as a tree or while it is
+ * streamed ({@link #bufferUpTo}). A body above the limit is never held in full: at most the limit is read
+ * ahead, and only when the size is not known from {@code Content-Length}.
+ */
+public final class StreamedResponse implements Closeable {
+
+    private final Response head;
+    private final long contentLength;
+    private InputStream body;
+
+    /**
+     * @param statusCode    HTTP status code
+     * @param statusLine    status line, as printed in the logs
+     * @param headers       response headers
+     * @param contentType   Content-Type of the body
+     * @param contentLength Content-Length of the body, -1 when it is not known or the body is gzip-encoded
+     * @param body          the decoded body, read as it arrives
+     */
+    StreamedResponse(int statusCode, String statusLine, Headers headers, String contentType,
+                     long contentLength, InputStream body) {
+        this.head = new ResponseBuilder()
+                .setStatusCode(statusCode)
+                .setStatusLine(statusLine)
+                .setHeaders(headers)
+                .setContentType(contentType)
+                .setBody("")
+                .build();
+        this.contentLength = contentLength;
+        this.body = body;
+    }
+
+    /** Status line and headers as a RestAssured {@link Response} with an empty body. */
+    public Response head() {
+        return head;
+    }
+
+    /** Length of the decoded body, -1 when it is not known before reading it. */
+    public long contentLength() {
+        return contentLength;
+    }
+
+    /**
+     * Reads the whole body into a RestAssured {@link Response} when it is at most {@code maxBytes} long.
+     * Returns null when it is longer; {@link #body()} then still returns the whole body, the bytes read ahead
+     * followed by the rest of the stream.
+     *
+     * @param maxBytes largest body to buffer
+     * @return the buffered response, or null to stream the body
+     */
+    public Response bufferUpTo(long maxBytes) throws IOException {
+        if (contentLength > maxBytes) return null;
+
+        int limit = (int) Math.min(maxBytes, Integer.MAX_VALUE - 16);
+        byte[] readAhead = body.readNBytes(limit + 1);
+        if (readAhead.length > limit) {
+            body = new SequenceInputStream(new ByteArrayInputStream(readAhead), body);
+            return null;
+        }
+        body.close();
+        return new ResponseBuilder()
+                .clone(head)
+                .setBody(readAhead)
+                .build();
+    }
+
+    /** The decoded body, read as it arrives. */
+    public InputStream body() {
+        return body;
+    }
+
+    @Override
+    public void close() throws IOException {
+        body.close();
+    }
+}
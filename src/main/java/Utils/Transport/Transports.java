@@ -0,0 +1,43 @@
+package Utils.Transport;
+
+import java.time.Duration;
+
+import static Utils.Helper.HelperTestData.RequestTimeoutSeconds;
+import static Utils.Helper.HelperTestData.TransportBackend;
+
+/**
+ * Holds the transport used by the booking flow.
+ * <p>
+ * The backend is chosen once from {@code -Dndc.transport=pooled|restassured}
+ * (default: pooled) and can be swapped at runtime with {@link #use(HttpTransport)},
+ * e.g. to run the same cases through both backends in one run and compare timings.
+ */
+public class Transports {
+
+    private static volatile HttpTransport current = create(TransportBackend);
+
+    /**
+     * Creates a transport by its backend name.
+     *
+     * @param backend "pooled" or "restassured"
+     * @return new transport instance
+     */
+    public static HttpTransport create(String backend) {
+        return switch (backend.toLowerCase()) {
+            case "restassured" -> new RestAssuredTransport();
+            case "pooled" -> new PooledHttpTransport(Duration.ofSeconds(RequestTimeoutSeconds));
+            default -> throw new IllegalArgumentException("❌ Unknown transport backend: " + backend
+                    + " (expected 'pooled' or 'restassured')");
+        };
+    }
+
+    /** Returns the transport currently used by the booking flow. */
+    public static HttpTransport get() {
+        return current;
+    }
+
+    /** Replaces the transport used by the booking flow. */
+    public static void use(HttpTransport transport) {
+        current = transport;
+    }
+}
@@ -69,6 +69,8 @@ public class AllSuppliersTest extends BaseAirlineTest {
         Map<String, Object> selectedOffer = result.offerResponseMap();
         selectedOffer.put("searchPayload", payload);
         selectedOffer.put("bookingFlow", data.getOrDefault("bookingFlow", "book")); // default = "book"
+        selectedOffer.put("agencyCurrency", headers.get("AgencyCurrency")); // currency checks in FareConfirm / Book
+        selectedOffer.put("agencyName", headers.get("AgencyName")); // agency rules in FareConfirm / Book
 
         System.out.println("✅ Selected Offer ID: " + selectedOfferID);
         ReportManager.getTest().info("✅ Selected Offer ID: " + selectedOfferID);
@@ -64,6 +64,8 @@ public class NegativeScenarioWTTest extends BaseAirlineTest {
         // Save context for later test phases
         selectedOffer.put("searchPayload", payload);
         selectedOffer.put("bookingFlow", data.getOrDefault("bookingFlow", "book")); // default = book
+        selectedOffer.put("agencyCurrency", headers.get("AgencyCurrency")); // currency checks in FareConfirm / Book
+        selectedOffer.put("agencyName", headers.get("AgencyName")); // agency rules in FareConfirm / Book
         selectedOffer.put("addPaxFlow", data.getOrDefault("addPaxFlow", "pass"));  // default = pass
 
         System.out.println("✅ Selected Offer ID: " + selectedOfferID);
@@ -40,6 +40,8 @@ public class OneSupplierTests extends BaseAirlineTest {
         // Save context for downstream flows
         selectedOffer.put("searchPayload", payload);
         selectedOffer.put("bookingFlow", data.getOrDefault("bookingFlow", "book")); // book or holdbook
+        selectedOffer.put("agencyCurrency", headers.get("AgencyCurrency")); // currency checks in FareConfirm / Book
+        selectedOffer.put("agencyName", headers.get("AgencyName")); // agency rules in FareConfirm / Book
         selectedOffer.put("searchResponseId", result.responseId());
         selectedOffer.put("supplier", result.supplier());
         selectedOffer.put("credentialsSelector", data.get("credentialsSelector"));
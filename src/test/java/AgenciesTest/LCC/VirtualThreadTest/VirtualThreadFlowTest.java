@@ -0,0 +1,106 @@
+package AgenciesTest.LCC.VirtualThreadTest;
+
+import AgenciesTest.Shared.BaseAirlineTest;
+import Utils.Runner.VirtualThreadRunner;
+import Utils.Runner.VirtualThreadRunner.FlowOutcome;
+import org.testng.annotations.Test;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import static Utils.Helper.HelperTestData.MaxConcurrentFlows;
+import static Utils.Loader.HeaderLoader.getAgencyNames;
+import static Utils.Loader.PayloadLoader.getSearchPayloadFromJSON;
+
+/**
+ * 🔹 VirtualThreadFlowTest
+ * Runner mode that executes the full Search → FareConfirm → Book/Hold → Retrieve chain
+ * of every Search test case of every agency, each chain on its own virtual thread.
+ * At most {@code -Dndc.maxConcurrentFlows} chains (default 64) run at the same time.
+ * Every chain gets its own ExtentTest entry; this test fails if any chain failed, or if an agency of
+ * agencyClaims.json and the TestData agency folders do not match one to one (so no test case is left out silently).
+ */
+public class VirtualThreadFlowTest extends BaseAirlineTest {
+
+    private static final String TEST_DATA = "src/test/resources/TestData";
+
+    @Test
+    public void testAllFlowsOnVirtualThreads() {
+        LinkedHashMap<String, Runnable> flows = new LinkedHashMap<>();
+
+        // Agency folders with Search test cases, matched to the claims keys ignoring case (SabreNdc → SabreNDC)
+        Map<String, File> searchFolders = searchFolders();
+        List<String> missingFolders = new ArrayList<>();
+
+        // One flow per Search JSON file per agency
+        for (String agencyName : getAgencyNames()) {
+            File folder = searchFolders.remove(agencyName);
+            if (folder == null) {
+                missingFolders.add(agencyName);
+                continue;
+            }
+            for (Object[] row : getSearchPayloadFromJSON(folder.getPath())) {
+                String testCaseId = (String) row[0];
+                String description = (String) row[1];
+                @SuppressWarnings("unchecked")
+                Map<String, Object> data = (Map<String, Object>) row[2];
+
+                flows.put(agencyName + " | " + testCaseId,
+                        () -> runEndToEndFlow(agencyName, testCaseId, description, data));
+            }
+        }
+
+        List<FlowOutcome> outcomes = VirtualThreadRunner.runAll(flows, MaxConcurrentFlows);
+
+        // Summary
+        long passed = outcomes.stream().filter(FlowOutcome::passed).count();
+        long skipped = outcomes.stream().filter(FlowOutcome::skipped).count();
+        List<FlowOutcome> failed = outcomes.stream().filter(o -> !o.passed() && !o.skipped()).toList();
+
+        System.out.printf("%n🧵 Virtual-thread run finished → Passed: %d | Skipped: %d | Failed: %d%n",
+                passed, skipped, failed.size());
+        for (FlowOutcome outcome : outcomes) {
+            String status = outcome.passed() ? "✅" : outcome.skipped() ? "⏭" : "❌";
+            System.out.printf("\t%s %s (%d ms)%n", status, outcome.name(), outcome.elapsedMs());
+        }
+
+        StringBuilder message = new StringBuilder();
+        if (!failed.isEmpty()) {
+            message.append("❌ ").append(failed.size()).append(" flow(s) failed:");
+            for (FlowOutcome outcome : failed) {
+                message.append("\n\t").append(outcome.name()).append(" → ").append(outcome.failure());
+            }
+        }
+        if (!missingFolders.isEmpty()) {
+            message.append("\n❌ No ").append(TEST_DATA).append("/<agency>/Search folder for: ").append(missingFolders);
+        }
+        if (!searchFolders.isEmpty()) {
+            message.append("\n❌ Search folders of agencies missing from agencyClaims.json: ")
+                    .append(searchFolders.values().stream().map(File::getParentFile).map(File::getName).toList());
+        }
+        if (!message.isEmpty()) {
+            throw new AssertionError(message.toString().strip());
+        }
+    }
+
+    /**
+     * Agency folders of TestData that have a Search folder, keyed by folder name ignoring case.
+     * The negative and shared data folders belong to other tests.
+     */
+    private static Map<String, File> searchFolders() {
+        Map<String, File> folders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        File[] agencies = new File(TEST_DATA).listFiles(File::isDirectory);
+        if (agencies == null) {
+            throw new IllegalStateException("❌ TestData folder not found: " + TEST_DATA);
+        }
+        for (File agency : agencies) {
+            File search = new File(agency, "Search");
+            if (search.isDirectory() && !agency.getName().startsWith("Negative") && !agency.getName().startsWith("Shared")) {
+                folders.put(agency.getName(), search);
+            }
+        }
+        return folders;
+    }
+}
@@ -1,5 +1,6 @@
 package AgenciesTest.Shared;
 
+import Utils.Helper.SearchResult;
 import Utils.ReportManager.ReportManager;
 import com.aventstack.extentreports.ExtentTest;
 import org.testng.ITestResult;
@@ -11,16 +12,17 @@ import static Utils.Assertions.PerformAssertions.*;
 import static Utils.Helper.HelperGeneralMethods.skipIfBookingFlowNotIn;
 import static Utils.Helper.HelperTestData.*;
 import static Utils.Helper.HelperTestData.BookAfterHoldEndPoint;
+import static Utils.Helper.SavedBookResponses.getBookResponses;
 import static Utils.Helper.SavedBookResponses.putBookResponses;
-import static Utils.Loader.FareConfirmFileManager.deleteFareConfirmResponsesFolder;
+import static Utils.Loader.HeaderLoader.getHeaders;
 import static Utils.Loader.PayloadLoader.*;
 
 public abstract class BaseAirlineTest {
 
-    // ✅ Lists for each flow stage
-    public static final List<Map<String, Object>> validOfferIds = new ArrayList<>();
-    public static final List<Map<String, Object>> validFareConfirmOffers = new ArrayList<>();
-    public static final List<Map<String, Object>> validRetrieveOffers = new ArrayList<>();
+    // ✅ Lists for each flow stage (synchronized: flows may run on parallel virtual threads)
+    public static final List<Map<String, Object>> validOfferIds = Collections.synchronizedList(new ArrayList<>());
+    public static final List<Map<String, Object>> validFareConfirmOffers = Collections.synchronizedList(new ArrayList<>());
+    public static final List<Map<String, Object>> validRetrieveOffers = Collections.synchronizedList(new ArrayList<>());
 
     // 🔁 Shared method for adding valid entries
     public static void addValidEntry(List<Map<String, Object>> list, String testCaseId, String description, String offerId, Map<String, Object> offerMap) {
@@ -75,7 +77,7 @@ public abstract class BaseAirlineTest {
                 skipIfBookingFlowNotIn(selectedOfferFromSearch, Set.of("book"), testCaseId, "Booking");
 
                 Map<String, Object> bookPayload = buildBookPayload(searchPayload, fareConfirmId, selectedOfferId);
-                bookingInfo = PerformBook(BookEndPoint, bookPayload, 200, selectedOfferFromSearch, searchPayload, fareConfirmId);
+                bookingInfo = PerformBook(BookEndPoint, bookPayload, 200, selectedOfferFromSearch);
                 break;
 
             case "holdbook":
@@ -85,7 +87,7 @@ public abstract class BaseAirlineTest {
                 skipIfBookingFlowNotIn(selectedOfferFromSearch, Set.of("holdbook"), testCaseId, "Hold");
 
                 Map<String, Object> holdPayload = buildBookPayload(searchPayload, fareConfirmId, selectedOfferId);
-                bookingInfo = PerformBook(HoldEndPoint, holdPayload, 200, selectedOfferFromSearch, searchPayload, fareConfirmId);
+                bookingInfo = PerformBook(HoldEndPoint, holdPayload, 200, selectedOfferFromSearch);
 
                 selectedOfferFromSearch.putAll(bookingInfo);
 
@@ -110,6 +112,71 @@ public abstract class BaseAirlineTest {
         ReportManager.getTest().info("✅ Booking Flow [" + bookingFlow + "] Success — Booking Info: " + bookingInfo);
     }
 
+    /**
+     * 🔹 End-to-End Flow for a single test case
+     * Runs Search → FareConfirm → Book/Hold → Retrieve in the calling thread.
+     * Used by the virtual-thread runner, where each test case gets its own thread
+     * and its own ExtentTest entry.
+     *
+     * @param agencyName  Agency whose headers are sent
+     * @param testCaseId  Test case identifier from the Search JSON file
+     * @param description Test case description
+     * @param data        Full Search JSON payload of the test case
+     */
+    public static void runEndToEndFlow(String agencyName, String testCaseId, String description, Map<String, Object> data) {
+        ExtentTest test = ReportManager.createTest(agencyName + " | " + testCaseId, description);
+
+        // testCaseIds repeat across agencies → qualify them for the shared booking store
+        String flowId = agencyName + "_" + testCaseId;
+
+        try {
+            // Step 1: Search
+            Map<String, Object> payload = SearchPayload(data);
+            Map<String, String> headers = getHeaders(agencyName);
+            int expectedStatusCode = (int) data.getOrDefault("expectedStatusCode", 200);
+            String scenarioType = expectedStatusCode == 200 ? "pass" : (String) data.get("invalidScenarioType");
+
+            SearchResult result = PerformSearch(SearchEndPoint, headers, payload, expectedStatusCode, scenarioType);
+            if (expectedStatusCode != 200) {
+                test.pass("Negative search validated for scenario: " + scenarioType);
+                return; // invalid search → nothing to confirm
+            }
+            if (result == null) {
+                throw new AssertionError("❌ SearchResult is null for testCaseId: " + flowId);
+            }
+
+            Map<String, Object> selectedOffer = result.offerResponseMap();
+            selectedOffer.put("searchPayload", payload);
+            selectedOffer.put("bookingFlow", data.getOrDefault("bookingFlow", "book"));
+            selectedOffer.put("agencyCurrency", headers.get("AgencyCurrency")); // currency checks in FareConfirm / Book
+            selectedOffer.put("agencyName", headers.get("AgencyName")); // agency rules in FareConfirm / Book
+            selectedOffer.put("searchResponseId", result.responseId());
+            selectedOffer.put("supplier", result.supplier());
+            selectedOffer.put("credentialsSelector", data.get("credentialsSelector"));
+
+            // Step 2: FareConfirm
+            Map<String, Object> fareConfirmPayload = FareConfirmPayload(selectedOffer);
+            PerformFareConfirm(FareConfirmOfferEndPoint, fareConfirmPayload, selectedOffer, 200, "pass");
+
+            // Step 3: Book / Hold → BookAfterHold
+            runUnifiedBookingFlow((String) selectedOffer.get("bookingFlow"), flowId, description, selectedOffer, agencyName);
+
+            // Step 4: Retrieve
+            Map<String, Object> retrievePayload = RetrievePayload(selectedOffer);
+            PerformRetrieve(RetrieveEndPoint, retrievePayload, 200, getBookResponses(flowId));
+
+            test.pass("End-to-end flow passed");
+        } catch (SkipException e) {
+            test.skip(e);
+            throw e;
+        } catch (Throwable t) {
+            test.fail(t);
+            throw t;
+        } finally {
+            ReportManager.setTest(null);
+        }
+    }
+
     // 📊 Data Providers
 
     @DataProvider
@@ -137,7 +204,6 @@ public abstract class BaseAirlineTest {
     @BeforeSuite
     public void setUp() {
         ReportManager.getInstance();
-        deleteFareConfirmResponsesFolder();
     }
 
     @BeforeMethod
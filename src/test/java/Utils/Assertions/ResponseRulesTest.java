@@ -0,0 +1,170 @@
+package Utils.Assertions;
+
+import Utils.Loader.ValidationRulesLoader;
+import Utils.Response.FieldProjection;
+import Utils.Response.ResponseView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Runs each rule type of {@link ResponseRule} over a small response and checks the failures it reports, on the
+ * whole tree and on the tree projected to the rules' {@link ResponseRules#reads()}. not-null and sorted-by are not
+ * used in rules.json yet, so they are only covered here.
+ */
+public class ResponseRulesTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String RESPONSE = """
+            {"selectedOffer":{
+               "priceDetails":{"totalAmount":{"amount":120.50,"currency":"EUR"},
+                               "totalBaseAmount":{"amount":100,"currency":"EUR"},
+                               "totalTaxAmount":{"amount":20.47,"currency":"EUR"}},
+               "passengerFareBreakdown":[
+                 {"segmentDetails":[{"segmentRefId":"SEG1","fareBasisCode":"YOW"},{"segmentRefId":"SEG1","fareBasisCode":" "}]},
+                 {"segmentDetails":[{"segmentRefId":"SEG1"},{"segmentRefId":"SEG9","fareBasisCode":null}]}]},
+             "segments":{"SEG1":{},"SEG2":{}},
+             "offers":[{"offerId":"A","price":10},{"offerId":"B","price":30},{"offerId":"C","price":20}]}""";
+
+    private static final String DETAILS = "selectedOffer.passengerFareBreakdown[%d].segmentDetails[%d]";
+
+    @DataProvider
+    public Object[][] rules() {
+        return new Object[][]{
+                {"""
+                        {"id":"T.NN","type":"not-null","path":"selectedOffer.passengerFareBreakdown[].segmentDetails[].fareBasisCode"}""",
+                        List.of("❌ [T.NN] fareBasisCode is empty at " + details(0, 1) + ".fareBasisCode",
+                                "❌ [T.NN] fareBasisCode is null at " + details(1, 0) + ".fareBasisCode",
+                                "❌ [T.NN] fareBasisCode is null at " + details(1, 1) + ".fareBasisCode")},
+                {"""
+                        {"id":"T.REF","type":"reference-exists","path":"selectedOffer.passengerFareBreakdown[].segmentDetails[].segmentRefId","target":"segments"}""",
+                        List.of("❌ [T.REF] segmentRefId 'SEG9' not found in segments at " + details(1, 1) + ".segmentRefId")},
+                {"""
+                        {"id":"T.REF","type":"reference-exists","path":"selectedOffer.passengerFareBreakdown[].segmentDetails[].segmentRefId","target":"priceClasses"}""",
+                        List.of("❌ [T.REF] priceClasses is missing at $")},
+                {"""
+                        {"id":"T.SUM","type":"sum-equals-with-tolerance","scope":"selectedOffer.priceDetails","total":"totalAmount","parts":["totalBaseAmount","totalTaxAmount"]}""",
+                        List.of("❌ [T.SUM] totalAmount != totalBaseAmount + totalTaxAmount: expected 120.47, found 120.5 at selectedOffer.priceDetails")},
+                {"""
+                        {"id":"T.SUM","type":"sum-equals-with-tolerance","scope":"selectedOffer.priceDetails","total":"totalBaseAmount","parts":["totalAmount","-totalTaxAmount"],"tolerance":0.05}""",
+                        List.of()},
+                {"""
+                        {"id":"T.UQ","type":"unique-within","scope":"selectedOffer.passengerFareBreakdown[].segmentDetails[]","key":"segmentRefId","within":"selectedOffer.passengerFareBreakdown[]","message":"Segment listed twice for the same passenger"}""",
+                        List.of("❌ [T.UQ] Segment listed twice for the same passenger at " + details(0, 1))},
+                {"""
+                        {"id":"T.UQ","type":"unique-within","scope":"selectedOffer.passengerFareBreakdown[].segmentDetails[]","key":"segmentRefId"}""",
+                        List.of("❌ [T.UQ] Duplicate segmentRefId 'SEG1' at " + details(0, 1),
+                                "❌ [T.UQ] Duplicate segmentRefId 'SEG1' at " + details(1, 0))},
+                {"""
+                        {"id":"T.SORT","type":"sorted-by","scope":"offers[]","key":"price"}""",
+                        List.of("❌ [T.SORT] Not sorted by price (ascending): 20 after 30 at offers[2]")},
+                {"""
+                        {"id":"T.SORT","type":"sorted-by","scope":"offers[]","key":"offerId","order":"descending"}""",
+                        List.of("❌ [T.SORT] Not sorted by offerId (descending): B after A at offers[1]",
+                                "❌ [T.SORT] Not sorted by offerId (descending): C after B at offers[2]")}
+        };
+    }
+
+    @Test(dataProvider = "rules")
+    public void ruleReportsItsFailures(String definition, List<String> expected) throws IOException {
+        ResponseRules rules = new ResponseRules("test", List.of(rule(definition)));
+
+        assertEquals(failures(rules, FieldProjection.ALL), expected, definition);
+        assertEquals(failures(rules, FieldProjection.builder().read(rules.reads()).build()), expected,
+                "projected to " + rules.reads());
+    }
+
+    @Test
+    public void rulesRunTogetherInOneWalk() throws IOException {
+        List<ResponseRule> all = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (Object[] row : rules()) {
+            all.add(rule((String) row[0]));
+            @SuppressWarnings("unchecked")
+            List<String> messages = (List<String>) row[1];
+            expected.addAll(messages);
+        }
+
+        List<String> failures = failures(new ResponseRules("test", all), FieldProjection.ALL);
+        assertEquals(failures.size(), expected.size());
+        assertEquals(Set.copyOf(failures), Set.copyOf(expected));
+    }
+
+    @Test
+    public void agencyRuleReplacesTheDefaultWithTheSameId() throws IOException {
+        List<ResponseRule> defaults = List.of(
+                rule("""
+                        {"id":"FC.R4","type":"sum-equals-with-tolerance","scope":"selectedOffer.priceDetails","total":"totalAmount","parts":["totalBaseAmount","totalTaxAmount"],"tolerance":0.01}"""),
+                rule("""
+                        {"id":"FC.R5","type":"unique-within","scope":"selectedOffer.passengerFareBreakdown[].segmentDetails[]","key":"segmentRefId","within":"selectedOffer.passengerFareBreakdown[]"}"""),
+                rule("""
+                        {"id":"FC.R9","type":"sorted-by","scope":"offers[]","key":"price"}"""));
+        List<ResponseRule> agency = List.of(rule("""
+                {"id":"FC.R4","type":"sum-equals-with-tolerance","scope":"selectedOffer.priceDetails","total":"totalAmount","parts":["totalBaseAmount","totalTaxAmount"],"tolerance":0.05}"""));
+
+        assertEquals(failures(new ResponseRules("fareConfirm", defaults), FieldProjection.ALL).size(), 3);
+
+        ResponseRules merged = merge(defaults, Set.of("FC.R9"), agency);
+        assertEquals(merged.rules().stream().map(ResponseRule::id).toList(), List.of("FC.R4", "FC.R5"));
+        assertEquals(failures(merged, FieldProjection.ALL),
+                List.of("❌ [FC.R5] Duplicate segmentRefId 'SEG1' at " + details(0, 1)));
+    }
+
+    @Test
+    public void unknownAgencyGetsTheDefaultRules() {
+        assertEquals(ValidationRulesLoader.forStage("fareConfirm", "NoSuchAgency").rules(),
+                ValidationRulesLoader.forStage("fareConfirm", null).rules());
+        assertEquals(ValidationRulesLoader.forStage("fareConfirm", null).rules().stream().map(ResponseRule::id).toList(),
+                List.of("FC.R1", "FC.R2", "FC.R3", "FC.R4", "FC.R5"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void unknownTypeIsRejected() throws IOException {
+        rule("{\"id\":\"T.X\",\"type\":\"greater-than\",\"path\":\"offers[].price\"}");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void sortedByNeedsAListScope() throws IOException {
+        rule("{\"id\":\"T.SORT\",\"type\":\"sorted-by\",\"scope\":\"selectedOffer\",\"key\":\"price\"}");
+    }
+
+    /** Defaults without the disabled ids, then the agency's rules, replacing defaults with the same id. */
+    private static ResponseRules merge(List<ResponseRule> defaults, Set<String> disabled, List<ResponseRule> agency) {
+        Map<String, ResponseRule> merged = new LinkedHashMap<>();
+        for (ResponseRule rule : defaults) merged.put(rule.id(), rule);
+        disabled.forEach(merged::remove);
+        for (ResponseRule rule : agency) merged.put(rule.id(), rule);
+        return new ResponseRules("fareConfirm", new ArrayList<>(merged.values()));
+    }
+
+    private static List<String> failures(ResponseRules rules, FieldProjection projection) {
+        Response response = new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(RESPONSE)
+                .build();
+        CollectingSoftAssert softAssert = new CollectingSoftAssert();
+        rules.run(ResponseView.of(response, projection), softAssert);
+        return softAssert.failures().stream().map(AssertionError::getMessage).toList();
+    }
+
+    private static ResponseRule rule(String definition) throws IOException {
+        return ResponseRule.compile(MAPPER.readValue(definition, ResponseRule.Definition.class));
+    }
+
+    private static String details(int passenger, int segment) {
+        return String.format(DETAILS, passenger, segment);
+    }
+}
@@ -0,0 +1,205 @@
+package Utils.Assertions;
+
+import Utils.Model.Offer;
+import Utils.Model.PassengerFareBreakdown;
+import Utils.Model.SegmentDetail;
+import Utils.Model.TaxFee;
+import Utils.ReportManager.ReportManager;
+import Utils.Response.ResponseView;
+import com.aventstack.extentreports.ExtentReports;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Runs the Search checks over a generated response with known defects, once through
+ * {@link SearchValidationEngine} and once one check after another, each walking every offer on its own (the way
+ * the per-check methods ran before the engine). Both must collect the same failure messages in the same order.
+ */
+public class SearchValidationEngineTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** More offers than ndc.fullCheckOfferCount, so the smoke and standard profiles sample. */
+    private static final int OFFERS = 150;
+
+    private static final Map<String, Object> PAYLOAD = Map.of(
+            "searchCriteria", List.of(
+                    Map.of("origin", "FCO", "destination", "ATH", "offsetDays", 20),
+                    Map.of("origin", "ATH", "destination", "CAI", "offsetDays", 22)),
+            "passengers", List.of(Map.of("passengerTypeCode", "ADT", "count", 1)));
+
+    private static final Map<String, String> HEADERS = Map.of("AgencyCurrency", "EUR");
+
+    /** The checks log to the current ExtentTest; this one is kept in memory only. */
+    @BeforeMethod
+    public void bindReportTest() {
+        ReportManager.setTest(new ExtentReports().createTest("SearchValidationEngineTest"));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void unbindReportTest() {
+        ReportManager.setTest(null);
+    }
+
+    @DataProvider
+    public Object[][] profiles() {
+        return new Object[][]{{ValidationProfile.DEEP}, {ValidationProfile.STANDARD}, {ValidationProfile.SMOKE}};
+    }
+
+    @Test(dataProvider = "profiles")
+    public void engineReportsTheSameFailuresAsOneCheckAfterAnother(ValidationProfile profile) throws JsonProcessingException {
+        ResponseView view = ResponseView.ofSearch(response());
+
+        CollectingSoftAssert engine = new CollectingSoftAssert();
+        SearchValidationEngine.run(view, PositiveSearchAssertions.searchChecks(PAYLOAD, HEADERS), profile, engine);
+
+        CollectingSoftAssert oneByOne = new CollectingSoftAssert();
+        OfferSample sample = OfferSample.of(profile, OFFERS);
+        for (SearchCheck check : PositiveSearchAssertions.searchChecks(PAYLOAD, HEADERS)) {
+            runAlone(check, view, sample, oneByOne);
+        }
+
+        List<String> expected = messages(oneByOne);
+        assertTrue(expected.size() > 10, "the fixture should fail several checks, got " + expected);
+        assertEquals(messages(engine), expected, profile.name());
+    }
+
+    /** One check over the whole response, walking offers[] on its own. */
+    private static void runAlone(SearchCheck check, ResponseView view, OfferSample sample, CollectingSoftAssert softAssert) {
+        check.view = view;
+        check.onStart(softAssert);
+        if (check.isSkipped()) return;
+
+        if (check.walksOffers()) {
+            List<Offer> offers = view.search().offers();
+            for (int offerIndex = 0; offerIndex < offers.size(); offerIndex++) {
+                if (check.sampled() && !sample.includes(offerIndex)) continue;
+                Offer offer = offers.get(offerIndex);
+                check.onOffer(offerIndex, offer, softAssert);
+                List<PassengerFareBreakdown> breakdowns = offer.passengerFareBreakdown();
+                if (breakdowns == null) continue;
+                for (int paxIndex = 0; paxIndex < breakdowns.size(); paxIndex++) {
+                    PassengerFareBreakdown pax = breakdowns.get(paxIndex);
+                    check.onPassengerBreakdown(offerIndex, paxIndex, pax, softAssert);
+                    List<SegmentDetail> segments = pax.segmentDetails();
+                    for (int s = 0; segments != null && s < segments.size(); s++) {
+                        check.onSegmentDetail(offerIndex, paxIndex, s, segments.get(s), softAssert);
+                    }
+                    List<TaxFee> taxes = pax.taxesAndFees();
+                    for (int t = 0; taxes != null && t < taxes.size(); t++) {
+                        check.onTaxFee(offerIndex, paxIndex, t, taxes.get(t), softAssert);
+                    }
+                }
+            }
+        }
+        check.onEnd(softAssert);
+    }
+
+    private static List<String> messages(CollectingSoftAssert softAssert) {
+        return softAssert.failures().stream().map(AssertionError::getMessage).toList();
+    }
+
+    /**
+     * FCO → ATH → CAI round trip with {@value #OFFERS} one-passenger offers sorted by price. Every 7th offer has a
+     * null rbd, every 11th a duplicate tax code, every 13th an unknown price class, every 17th a total that does not
+     * add up, every 19th breaks the sort order, and offers 40 and 41 repeat the id and content of offer 39.
+     */
+    private static Response response() throws JsonProcessingException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("responseId", "R1");
+        body.put("supplier", "AegeanV21");
+        body.put("flightSegments", Map.of(
+                "SEG1", segment("FCO", "ATH", "2026-11-05T08:00:00", "2026-11-05T10:30:00", "101"),
+                "SEG2", segment("ATH", "CAI", "2026-11-07T12:00:00", "2026-11-07T13:45:00", "202")));
+        body.put("journeys", Map.of(
+                "J1", Map.of("segmentRefIds", List.of("SEG1"), "numberOfStops", 0),
+                "J2", Map.of("segmentRefIds", List.of("SEG2"), "numberOfStops", 0)));
+        body.put("priceClasses", Map.of("PC1", Map.of("name", "Economy")));
+        body.put("baggageDetails", Map.of("BG1", Map.of("weight", "23", "unit", "KG")));
+
+        List<Object> offers = new ArrayList<>();
+        for (int i = 0; i < OFFERS; i++) {
+            int copyOf = i == 40 || i == 41 ? 39 : i;
+            offers.add(offer(copyOf, i % 7 == 3, i % 11 == 5, i % 13 == 6, i % 17 == 8, i % 19 == 9));
+        }
+        body.put("offers", offers);
+
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(MAPPER.writeValueAsString(body))
+                .build();
+    }
+
+    private static Map<String, Object> offer(int i, boolean nullRbd, boolean duplicateTax, boolean unknownPriceClass,
+                                             boolean wrongTotal, boolean outOfOrder) {
+        double base = 100 + i;
+        double tax = 20.5;
+        double total = outOfOrder ? base - 50 + tax : base + tax;
+
+        List<Object> taxes = new ArrayList<>();
+        taxes.add(Map.of("code", "YQ", "amount", amount(12.5)));
+        taxes.add(Map.of("code", duplicateTax ? "YQ" : "GR", "amount", amount(8)));
+
+        List<Object> segments = new ArrayList<>();
+        for (String segmentRefId : List.of("SEG1", "SEG2")) {
+            Map<String, Object> detail = new LinkedHashMap<>();
+            detail.put("segmentRefId", segmentRefId);
+            detail.put("rbd", nullRbd && segmentRefId.equals("SEG2") ? null : "Y");
+            detail.put("priceClassRefId", unknownPriceClass ? "PC9" : "PC1");
+            detail.put("baggageDetailsRefId", "BG1");
+            detail.put("fareBasisCode", "YOW");
+            segments.add(detail);
+        }
+
+        Map<String, Object> pax = new LinkedHashMap<>();
+        pax.put("passengerTypeCode", "ADT");
+        pax.put("paxBaseAmount", amount(outOfOrder ? base - 50 : base));
+        pax.put("paxTotalTaxAmount", amount(tax));
+        pax.put("taxesAndFees", taxes);
+        pax.put("segmentDetails", segments);
+
+        Map<String, Object> priceDetails = new LinkedHashMap<>();
+        priceDetails.put("totalAmount", amount(wrongTotal ? total + 1 : total));
+        priceDetails.put("totalBaseAmount", amount(outOfOrder ? base - 50 : base));
+        priceDetails.put("totalTaxAmount", amount(tax));
+
+        Map<String, Object> offer = new LinkedHashMap<>();
+        offer.put("offerId", "OF" + i);
+        offer.put("offerJourneys", List.of("J1", "J2"));
+        offer.put("passengerFareBreakdown", List.of(pax));
+        offer.put("priceDetails", priceDetails);
+        return offer;
+    }
+
+    private static Map<String, Object> segment(String origin, String destination, String departure, String arrival,
+                                               String flightNumber) {
+        Map<String, Object> segment = new LinkedHashMap<>();
+        segment.put("origin", origin);
+        segment.put("destination", destination);
+        segment.put("departureDateTime", departure);
+        segment.put("arrivalDateTime", arrival);
+        segment.put("marketingCarrierCode", "A3");
+        segment.put("operatingCarrierCode", "A3");
+        segment.put("flightNumber", flightNumber);
+        return segment;
+    }
+
+    private static Map<String, Object> amount(double value) {
+        return Map.of("amount", value, "currency", "EUR");
+    }
+}
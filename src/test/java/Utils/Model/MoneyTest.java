@@ -0,0 +1,79 @@
+package Utils.Model;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Checks {@link Money#parse} against {@link BigDecimal}, which the price checks used before Money:
+ * the value rounded HALF_UP to {@value Money#SCALE} decimals, and the printed scale.
+ */
+public class MoneyTest {
+
+    @DataProvider
+    public Object[][] amounts() {
+        return new Object[][]{
+                // plain amounts and scales
+                {"0"}, {"-0"}, {"100"}, {"120.50"}, {"120.5"}, {"0.01"}, {"-3"}, {"-0.10"}, {"+7.25"},
+                {"123456789.123456"}, {"1.000000"},
+                // HALF_UP on the 7th decimal, away from zero for negatives
+                {"0.0000005"}, {"0.0000004"}, {"-0.0000005"}, {"-0.0000004"}, {"2.4999995"}, {"9.9999995"},
+                {"-9.9999995"},
+                // more than 7 decimals
+                {"0.00000049999"}, {"0.00000050001"}, {"1.23456789123"}, {"-1.23456749999"},
+                {"0.000000000000000001"}, {"99.999999999999"},
+                // exponents
+                {"1.5E2"}, {"1.5e2"}, {"1E+3"}, {"12E-2"}, {"-12E-2"}, {"1.25E-5"}, {"5E-7"}, {"4E-7"},
+                {"1.234567E3"}, {"123456789E-9"}, {"0E5"}
+        };
+    }
+
+    @Test(dataProvider = "amounts")
+    public void parseMatchesBigDecimal(String text) {
+        assertMatchesBigDecimal(text);
+    }
+
+    @Test
+    public void parseMatchesBigDecimalOnRandomAmounts() {
+        Random random = new Random(20_261_016L);
+        for (int i = 0; i < 10_000; i++) {
+            BigDecimal amount = BigDecimal.valueOf(random.nextLong() % 1_000_000_000_000L, random.nextInt(10));
+            String text = random.nextBoolean() ? amount.toPlainString() : amount.toString();
+            assertMatchesBigDecimal(text);
+        }
+    }
+
+    @Test
+    public void parseOfCharRangeMatchesParseOfText() {
+        char[] buffer = "[120.505,3]".toCharArray();
+        assertEquals(Money.parse(buffer, 1, 7).toString(), Money.parse("120.505").toString());
+    }
+
+    @Test(expectedExceptions = NumberFormatException.class)
+    public void parseRejectsText() {
+        Money.parse("12a");
+    }
+
+    @Test(expectedExceptions = NumberFormatException.class)
+    public void parseRejectsEmptyExponent() {
+        Money.parse("1E");
+    }
+
+    private static void assertMatchesBigDecimal(String text) {
+        BigDecimal expected = new BigDecimal(text);
+        Money money = Money.parse(text);
+        int scale = Math.max(0, Math.min(Money.SCALE, expected.scale()));
+
+        assertEquals(money.units(), expected.setScale(Money.SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact(),
+                "units of " + text);
+        assertEquals(money.scale(), scale, "scale of " + text);
+        assertEquals(money.toBigDecimal(), expected.setScale(scale, RoundingMode.HALF_UP), "value of " + text);
+        assertEquals(money.toString(), expected.setScale(scale, RoundingMode.HALF_UP).toPlainString(), "text of " + text);
+        assertEquals(money, Money.of(expected), "Money.of of " + text);
+    }
+}
@@ -0,0 +1,180 @@
+package Utils.Response;
+
+import Utils.Model.Amount;
+import Utils.Model.Offer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Parses one body through several projections and checks each result against {@link FieldProjection#ALL}: the
+ * projected tree equals the plain parse of the fields it keeps, and a bound section equals the same section of the
+ * plain parse converted to its type.
+ */
+public class FieldProjectionTest {
+
+    private static final ObjectMapper MAPPER = SymbolTable.canonicalizingMapper();
+
+    private static final String BODY = """
+            {"responseId":"R1",
+             "selectedOffer":{"offerId":"O1",
+                              "totalAmount":{"amount":120.50,"currency":"EUR"},
+                              "segments":[{"rbd":"Y","cabin":"M"},{"rbd":"B","cabin":"M"}]},
+             "offers":[{"offerId":"A","price":1},{"offerId":"B","price":2}],
+             "legs":[{"fare":{"amount":10,"currency":"EUR"}},{"fare":{"amount":20,"currency":"EUR"}}],
+             "extra":{"x":[1,2]}}""";
+
+    @DataProvider
+    public Object[][] readPaths() {
+        return new Object[][]{
+                {new String[]{"responseId"}, "{\"responseId\":\"R1\"}"},
+                {new String[]{"selectedOffer.offerId", "offers[].offerId"},
+                        "{\"selectedOffer\":{\"offerId\":\"O1\"},\"offers\":[{\"offerId\":\"A\"},{\"offerId\":\"B\"}]}"},
+                // list steps apply to every element
+                {new String[]{"selectedOffer.segments[0].rbd"},
+                        "{\"selectedOffer\":{\"segments\":[{\"rbd\":\"Y\"},{\"rbd\":\"B\"}]}}"},
+                // a path keeps the whole subtree, "*" keeps the whole map, either order
+                {new String[]{"extra"}, "{\"extra\":{\"x\":[1,2]}}"},
+                {new String[]{"extra.*"}, "{\"extra\":{\"x\":[1,2]}}"},
+                {new String[]{"extra", "extra.x"}, "{\"extra\":{\"x\":[1,2]}}"},
+                {new String[]{"extra.x", "extra"}, "{\"extra\":{\"x\":[1,2]}}"},
+                // a path below a scalar keeps the scalar, a missing path keeps nothing
+                {new String[]{"responseId.code"}, "{\"responseId\":\"R1\"}"},
+                {new String[]{"missing.path"}, "{}"}
+        };
+    }
+
+    @Test(dataProvider = "readPaths")
+    public void readPathsKeepTheirFieldsOfThePlainParse(String[] paths, String expected) throws IOException {
+        FieldProjection projection = FieldProjection.builder().read(paths).build();
+
+        assertFalse(projection.keepsAll(), String.join(",", paths));
+        FieldProjection.Parsed parsed = parse(projection, BODY);
+        assertEquals(parsed.root(), parse(FieldProjection.ALL, expected).root(), String.join(",", paths));
+        assertTrue(parsed.bound().isEmpty());
+    }
+
+    @Test
+    public void allAndRootPathKeepEverything() throws IOException {
+        FieldProjection root = FieldProjection.builder().read("$").build();
+
+        assertTrue(FieldProjection.ALL.keepsAll());
+        assertTrue(root.keepsAll());
+        assertEquals(parse(root, BODY).root(), parse(FieldProjection.ALL, BODY).root());
+        assertFalse(FieldProjection.builder().read("$").bind("selectedOffer", Offer.class).build().keepsAll());
+    }
+
+    @Test
+    public void boundOnlySectionIsSkippedFromTheTree() throws IOException {
+        FieldProjection projection = FieldProjection.builder().bind("selectedOffer.totalAmount", Amount.class).build();
+
+        FieldProjection.Parsed parsed = parse(projection, BODY);
+        assertNull(parsed.root(), "nothing is read, so the tree is empty");
+        assertEquals(parsed.bound().get(FieldProjection.boundKey("selectedOffer.totalAmount", Amount.class)),
+                plainSection("selectedOffer", "totalAmount", Amount.class));
+    }
+
+    @Test
+    public void boundSectionKeepsOnlyItsReadPaths() throws IOException {
+        FieldProjection projection = FieldProjection.builder()
+                .read("responseId", "selectedOffer.totalAmount.currency")
+                .bind("selectedOffer.totalAmount", Amount.class)
+                .build();
+
+        FieldProjection.Parsed parsed = parse(projection, BODY);
+        assertEquals(parsed.root(), parse(FieldProjection.ALL,
+                "{\"responseId\":\"R1\",\"selectedOffer\":{\"totalAmount\":{\"currency\":\"EUR\"}}}").root());
+        assertEquals(parsed.bound().get(FieldProjection.boundKey("selectedOffer.totalAmount", Amount.class)),
+                plainSection("selectedOffer", "totalAmount", Amount.class));
+    }
+
+    @Test
+    public void boundSectionInsideAWholePathIsKeptWhole() throws IOException {
+        FieldProjection projection = FieldProjection.builder()
+                .bind("selectedOffer.totalAmount", Amount.class)
+                .read("selectedOffer")
+                .build();
+
+        FieldProjection.Parsed parsed = parse(projection, BODY);
+        Map<?, ?> all = (Map<?, ?>) parse(FieldProjection.ALL, BODY).root();
+        assertEquals(parsed.root(), Map.of("selectedOffer", all.get("selectedOffer")));
+        assertEquals(parsed.bound().get(FieldProjection.boundKey("selectedOffer.totalAmount", Amount.class)),
+                plainSection("selectedOffer", "totalAmount", Amount.class));
+    }
+
+    @Test
+    public void firstSectionMetIsBound() throws IOException {
+        FieldProjection projection = FieldProjection.builder().bind("legs[].fare", Amount.class).build();
+
+        Object first = ((Map<?, ?>) ((List<?>) ((Map<?, ?>) parse(FieldProjection.ALL, BODY).root())
+                .get("legs")).get(0)).get("fare");
+        assertEquals(parse(projection, BODY).bound().get(FieldProjection.boundKey("legs.fare", Amount.class)),
+                ResponseView.convert(first, Amount.class));
+    }
+
+    @Test
+    public void missingBoundSectionHasNoEntry() throws IOException {
+        FieldProjection projection = FieldProjection.builder()
+                .read("responseId")
+                .bind("fareConfirm.totalAmount", Amount.class)
+                .build();
+
+        FieldProjection.Parsed parsed = parse(projection, BODY);
+        assertEquals(parsed.root(), Map.of("responseId", "R1"));
+        assertTrue(parsed.bound().isEmpty());
+    }
+
+    @Test
+    public void bindsReportsPathAndType() {
+        FieldProjection projection = FieldProjection.builder().bind("selectedOffer.totalAmount", Amount.class).build();
+
+        assertTrue(projection.binds("selectedOffer.totalAmount", Amount.class));
+        assertTrue(projection.binds("selectedOffer[0].totalAmount", Amount.class), "list steps are ignored");
+        assertFalse(projection.binds("selectedOffer.totalAmount", Offer.class));
+        assertFalse(projection.binds("selectedOffer", Amount.class));
+        assertFalse(projection.binds("offers.totalAmount", Amount.class));
+        assertFalse(FieldProjection.ALL.binds("selectedOffer.totalAmount", Amount.class));
+    }
+
+    @Test
+    public void parsingLeavesTheProjectionUnchanged() throws IOException {
+        FieldProjection projection = FieldProjection.builder()
+                .read("selectedOffer.totalAmount.currency")
+                .bind("selectedOffer.totalAmount", Amount.class)
+                .build();
+
+        FieldProjection.Parsed first = parse(projection, BODY);
+        FieldProjection.Parsed second = parse(projection, BODY);
+        assertEquals(second.root(), first.root());
+        assertEquals(second.bound(), first.bound());
+        assertTrue(projection.binds("selectedOffer.totalAmount", Amount.class), "unbound() works on a copy");
+    }
+
+    @Test
+    public void keysDropListStepsAndStopAtStar() {
+        assertEquals(FieldProjection.keys("offers[].segmentDetails[0].rbd"), List.of("offers", "segmentDetails", "rbd"));
+        assertEquals(FieldProjection.keys("$.selectedOffer.*.amount"), List.of("selectedOffer"));
+        assertTrue(FieldProjection.keys("$").isEmpty());
+        assertTrue(FieldProjection.keys("").isEmpty());
+    }
+
+    private static FieldProjection.Parsed parse(FieldProjection projection, String json) throws IOException {
+        return projection.parse(MAPPER, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** A section of the plain parse converted to {@code type}, as the projection should have bound it. */
+    private static <T> T plainSection(String parent, String field, Class<T> type) throws IOException {
+        Map<?, ?> all = (Map<?, ?>) parse(FieldProjection.ALL, BODY).root();
+        return ResponseView.convert(((Map<?, ?>) all.get(parent)).get(field), type);
+    }
+}
@@ -0,0 +1,116 @@
+package Utils.Response;
+
+import Utils.Loader.NullAllowlistLoader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Checks the {@link NullLikeScanner.Allowlist} trie against the {@code endsWith} chain TC.17 used before it
+ * (departureTerminal, arrivalTerminal, fareBasisCode, appliedDealCode, discount), and a supplier's own fields
+ * added on top of the defaults the way {@link NullAllowlistLoader#forSupplier} adds them.
+ */
+public class NullLikeScannerTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** Supplier fields added on top of the defaults, as a "suppliers" entry of nullAllowlist.json. */
+    private static final List<String> SUPPLIER_FIELDS = List.of("segmentDetails.rbd", "equipment");
+
+    @DataProvider
+    public Object[][] responses() {
+        return new Object[][]{
+                {"{\"flightSegments\":{\"SEG1\":{\"departureTerminal\":null,\"arrivalTerminal\":\"\",\"equipment\":null}}}"},
+                {"{\"offers\":[{\"passengerFareBreakdown\":[{\"segmentDetails\":[{\"fareBasisCode\":\" \",\"rbd\":null}]}]}]}"},
+                {"{\"offers\":[{\"priceDetails\":{\"discount\":{},\"appliedDealCode\":[]},\"offerId\":\"\"}]}"},
+                // the key must be the last step and match whole
+                {"{\"departureTerminal\":[null],\"discounts\":null,\"preDiscount\":\"\",\"x\":{\"discount\":{\"amount\":null}}}"},
+                {"{\"rbd\":null,\"details\":{\"rbd\":null},\"segmentDetails\":{\"rbd\":\"\"}}"},
+                {"[null,\"\",[],{}]"},
+                {"null"}
+        };
+    }
+
+    @Test(dataProvider = "responses")
+    public void defaultAllowlistMatchesTheEndsWithChain(String json) throws IOException {
+        for (NullLikeScanner.Issue issue : NullLikeScanner.scan(tree(json), NullAllowlistLoader.forSupplier(null))) {
+            assertEquals(issue.allowed(), baselineAllowed(issue.path()), issue.path());
+        }
+    }
+
+    @Test(dataProvider = "responses")
+    public void supplierFieldsAreAllowedOnTopOfTheDefaults(String json) throws IOException {
+        NullLikeScanner.Allowlist supplier = NullAllowlistLoader.forSupplier(null).with(SUPPLIER_FIELDS);
+
+        for (NullLikeScanner.Issue issue : NullLikeScanner.scan(tree(json), supplier)) {
+            boolean expected = baselineAllowed(issue.path())
+                    || issue.path().matches(".*\\.segmentDetails(\\[\\d+])*\\.rbd")
+                    || issue.path().endsWith(".equipment");
+            assertEquals(issue.allowed(), expected, issue.path());
+        }
+    }
+
+    @Test
+    public void unknownSupplierGetsTheDefaults() {
+        NullLikeScanner.Allowlist defaults = NullAllowlistLoader.forSupplier(null);
+
+        assertEquals(defaults.entries(),
+                List.of("departureTerminal", "arrivalTerminal", "fareBasisCode", "appliedDealCode", "discount"));
+        assertEquals(NullAllowlistLoader.forSupplier("NoSuchSupplier").entries(), defaults.entries());
+        assertEquals(defaults.with(List.of()), defaults);
+    }
+
+    @Test
+    public void supplierFieldsDoNotChangeTheDefaults() throws IOException {
+        NullLikeScanner.Allowlist defaults = NullAllowlistLoader.forSupplier(null);
+        NullLikeScanner.Allowlist supplier = defaults.with(SUPPLIER_FIELDS);
+        Object root = tree("{\"segmentDetails\":[{\"rbd\":null}],\"equipment\":\"\"}");
+
+        assertEquals(NullLikeScanner.scan(root, supplier).size(), 2);
+        assertTrue(NullLikeScanner.scan(root, supplier).stream().allMatch(NullLikeScanner.Issue::allowed));
+        assertTrue(NullLikeScanner.scan(root, defaults).stream().noneMatch(NullLikeScanner.Issue::allowed));
+    }
+
+    @Test
+    public void blankEntriesAreIgnored() {
+        NullLikeScanner.Allowlist allowlist = NullLikeScanner.Allowlist.compile(Arrays.asList(" discount ", "", null, "  "));
+
+        assertEquals(allowlist.entries(), List.of("discount"));
+    }
+
+    @Test
+    public void cappedScanStopsAtTheFirstFailurePastTheCap() throws IOException {
+        Object root = tree("{\"a\":null,\"departureTerminal\":null,\"b\":\"\",\"c\":[]}");
+        NullLikeScanner.Allowlist defaults = NullAllowlistLoader.forSupplier(null);
+
+        NullLikeScanner.Scan capped = NullLikeScanner.scan(root, defaults, 1);
+        assertTrue(capped.stopped());
+        assertEquals(capped.issues().stream().map(NullLikeScanner.Issue::path).toList(),
+                List.of("$.a", "$.departureTerminal"), "allowed values do not count towards the cap");
+
+        NullLikeScanner.Scan exact = NullLikeScanner.scan(root, defaults, 3);
+        assertFalse(exact.stopped(), "exactly 3 failures do not stop a scan capped at 3");
+        assertEquals(exact.issues(), NullLikeScanner.scan(root, defaults));
+    }
+
+    /** The check TC.17 ran on every null-like path before the allowlist. */
+    private static boolean baselineAllowed(String path) {
+        return path.endsWith(".departureTerminal") ||
+                path.endsWith(".arrivalTerminal") ||
+                path.endsWith(".fareBasisCode") ||
+                path.endsWith(".appliedDealCode") ||
+                path.endsWith(".discount");
+    }
+
+    private static Object tree(String json) throws IOException {
+        return MAPPER.readValue(json, Object.class);
+    }
+}
@@ -0,0 +1,134 @@
+package Utils.Response;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Checks that {@link StructuralHash#of(Object)} on the parsed tree and {@link StructuralHash#of(JsonParser)} on
+ * the tokens agree for the same JSON, and that {@link StructuralHash#deepEquals} follows the same rules:
+ * object key order ignored, array order kept, numbers compared by value.
+ */
+public class StructuralHashTest {
+
+    private static final ObjectMapper MAPPER = SymbolTable.canonicalizingMapper();
+
+    @DataProvider
+    public Object[][] sameValue() {
+        return new Object[][]{
+                // key order
+                {"{\"a\":1,\"b\":2}", "{\"b\":2,\"a\":1}"},
+                {"{\"x\":{\"a\":[1,2],\"b\":null},\"y\":\"ADT\"}", "{\"y\":\"ADT\",\"x\":{\"b\":null,\"a\":[1,2]}}"},
+                // numbers by value
+                {"100", "100.0"},
+                {"100", "1E2"},
+                {"0", "-0.0"},
+                {"120.5", "120.50"},
+                {"{\"amount\":250}", "{\"amount\":250.00}"},
+                {"12345678901234567890", "12345678901234567890"},
+                // scalars and empties
+                {"\"\"", "\"\""},
+                {"[]", "[]"},
+                {"{}", "{}"},
+                {"true", "true"},
+                {"null", "null"}
+        };
+    }
+
+    @DataProvider
+    public Object[][] differentValues() {
+        return new Object[][]{
+                // array order
+                {"[1,2]", "[2,1]"},
+                {"[[1],[2]]", "[[2],[1]]"},
+                // types
+                {"1", "\"1\""},
+                {"true", "\"true\""},
+                {"[]", "{}"},
+                {"null", "\"null\""},
+                {"0", "false"},
+                // values
+                {"120.5", "120.55"},
+                {"1", "1.0000001"},
+                {"{\"a\":1}", "{\"a\":2}"},
+                {"{\"a\":1}", "{\"b\":1}"},
+                // null value is not a missing key
+                {"{\"a\":null}", "{}"},
+                {"{\"a\":null,\"b\":1}", "{\"b\":1,\"c\":null}"},
+                // an entry moved between nested objects
+                {"{\"x\":{\"a\":1},\"y\":{}}", "{\"x\":{},\"y\":{\"a\":1}}"},
+                {"\"ab\"", "\"ba\""}
+        };
+    }
+
+    @Test(dataProvider = "sameValue")
+    public void sameValueHasSameFingerprint(String a, String b) throws IOException {
+        assertTreeMatchesParser(a);
+        assertTreeMatchesParser(b);
+
+        assertEquals(StructuralHash.of(tree(a)), StructuralHash.of(tree(b)), a + " vs " + b);
+        assertEquals(ofParser(a), ofParser(b), a + " vs " + b);
+        assertTrue(StructuralHash.deepEquals(tree(a), tree(b)), a + " deepEquals " + b);
+    }
+
+    @Test(dataProvider = "differentValues")
+    public void differentValuesDiffer(String a, String b) throws IOException {
+        assertTreeMatchesParser(a);
+        assertTreeMatchesParser(b);
+
+        assertNotEquals(StructuralHash.of(tree(a)), StructuralHash.of(tree(b)), a + " vs " + b);
+        assertFalse(StructuralHash.deepEquals(tree(a), tree(b)), a + " deepEquals " + b);
+    }
+
+    @Test
+    public void subtreeCacheGivesSameFingerprints() throws IOException {
+        Object offers = tree("[{\"offerId\":\"O1\",\"price\":{\"amount\":10}},{\"offerId\":\"O2\",\"price\":{\"amount\":10}}]");
+        Map<Object, StructuralHash> cache = new IdentityHashMap<>();
+
+        assertEquals(StructuralHash.of(offers, cache), StructuralHash.of(offers));
+        for (Object offer : (List<?>) offers) {
+            assertEquals(cache.get(offer), StructuralHash.of(offer));
+            assertEquals(StructuralHash.of(offer, cache), StructuralHash.of(offer));
+        }
+    }
+
+    @Test
+    public void parserIsLeftOnTheLastTokenOfTheValue() throws IOException {
+        try (JsonParser parser = MAPPER.getFactory().createParser("[{\"a\":[1,2]},\"next\"]")) {
+            parser.nextToken();
+            parser.nextToken();
+            StructuralHash hash = StructuralHash.of(parser);
+
+            assertEquals(hash, StructuralHash.of(tree("{\"a\":[1,2]}")));
+            assertEquals(parser.currentToken(), JsonToken.END_OBJECT);
+            assertEquals(parser.nextToken(), JsonToken.VALUE_STRING);
+            assertEquals(parser.getText(), "next");
+        }
+    }
+
+    private static void assertTreeMatchesParser(String json) throws IOException {
+        assertEquals(StructuralHash.of(tree(json)), ofParser(json), "tree vs parser of " + json);
+    }
+
+    private static Object tree(String json) throws IOException {
+        return MAPPER.readValue(json, Object.class);
+    }
+
+    private static StructuralHash ofParser(String json) throws IOException {
+        try (JsonParser parser = MAPPER.getFactory().createParser(json)) {
+            return StructuralHash.of(parser);
+        }
+    }
+}